@@ -0,0 +1,137 @@
+package jchrest.architecture;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import jchrest.lib.ChrestStatus;
+import jchrest.lib.ListPattern;
+import jchrest.lib.Modality;
+import jchrest.lib.ReinforcementLearning.Theory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the learning, recognition and production functions of a {@link
+ * jchrest.architecture.Chrest} model whose visual long-term memory contains
+ * {@link #ltmSize} {@link jchrest.architecture.Node Nodes} (see {@link
+ * jchrest.architecture.SyntheticLtm}).
+ * <p>
+ * Learning benchmarks modify the model so long-term memory grows slightly
+ * over the course of a trial.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-Xss64m"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ChrestBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int ltmSize;
+
+  private static final int NUMBER_ACTION_NODES = 100;
+  private static final int NUMBER_PATTERNS = 1024;
+
+  //Must not exceed the capacity of visual or action STM.
+  private static final int NUMBER_PRODUCTIONS = 2;
+
+  private Chrest _model;
+  private ListPattern[] _visualPatterns;
+  private ListPattern[] _actionPatterns;
+  private ListPattern[] _newVisualPatterns;
+  private int _pattern = 0;
+  private int _time;
+
+  @Setup(Level.Trial)
+  public void setUp(){
+    Random random = new Random(this.ltmSize);
+    this._model = new Chrest(0, false);
+    this._model.setReinforcementLearningTheory(Theory.PROFIT_SHARING_WITH_DISCOUNT_RATE);
+
+    List<Node> visualNodes = SyntheticLtm.grow(this._model, Modality.VISUAL, this.ltmSize, SyntheticLtm.GENERIC_ITEMS, 0, 7, random, 1);
+    List<Node> actionNodes = SyntheticLtm.grow(this._model, Modality.ACTION, NUMBER_ACTION_NODES, SyntheticLtm.GENERIC_ITEMS, 0, 7, random, this.ltmSize + 1);
+    this._time = this.ltmSize + NUMBER_ACTION_NODES + 1;
+
+    this._visualPatterns = SyntheticLtm.recognisablePatterns(visualNodes, NUMBER_PATTERNS, random);
+    this._actionPatterns = SyntheticLtm.recognisablePatterns(actionNodes, NUMBER_PATTERNS, random);
+    this._newVisualPatterns = new ListPattern[NUMBER_PATTERNS];
+    for(int i = 0; i < NUMBER_PATTERNS; i++){
+      this._newVisualPatterns[i] = SyntheticLtm.randomPattern(random, Modality.VISUAL, SyntheticLtm.GENERIC_ITEMS, 0, 7, random.nextInt(5) + 1);
+    }
+
+    //Productions can only be learned and reinforced between Nodes in STM so
+    //place the Nodes recognised for the production patterns in STM and learn
+    //productions between them so that there are productions to reinforce.
+    for(int i = 0; i < NUMBER_PRODUCTIONS; i++){
+      this._model.recognise(this._visualPatterns[i], this.nextTime(), true);
+      this._model.recognise(this._actionPatterns[i], this.nextTime(), true);
+    }
+    for(int i = 0; i < NUMBER_PRODUCTIONS; i++){
+      this._model.learnProduction(this._visualPatterns[i], this._actionPatterns[i], this.nextTime());
+    }
+  }
+
+  /**
+   * @return A time when all of the model's resources are free.
+   */
+  private int nextTime(){
+    this._time = Math.max(this._time, Math.max(this._model.getCognitionClock(), this._model.getAttentionClock())) + 1;
+    return this._time;
+  }
+
+  private int nextPattern(){
+    this._pattern = (this._pattern + 1) % NUMBER_PATTERNS;
+    return this._pattern;
+  }
+
+  private int nextProduction(){
+    this._pattern = (this._pattern + 1) % NUMBER_PRODUCTIONS;
+    return this._pattern;
+  }
+
+  @Benchmark
+  public Node recognise(){
+    return this._model.recognise(this._visualPatterns[this.nextPattern()], this._time, false);
+  }
+
+  @Benchmark
+  public ChrestStatus recogniseAndLearn(){
+    return this._model.recogniseAndLearn(this._newVisualPatterns[this.nextPattern()], this.nextTime());
+  }
+
+  @Benchmark
+  public ChrestStatus learnProduction(){
+    int pattern = this.nextProduction();
+    return this._model.learnProduction(this._visualPatterns[pattern], this._actionPatterns[pattern], this.nextTime());
+  }
+
+  @Benchmark
+  public ChrestStatus reinforceProduction(){
+    int pattern = this.nextProduction();
+    int time = this.nextTime();
+    return this._model.reinforceProduction(
+      this._visualPatterns[pattern],
+      this._actionPatterns[pattern],
+      new Double[]{1.0, 0.5, (double)time, (double)time},
+      time
+    );
+  }
+
+  @Benchmark
+  public Integer getLtmSize(){
+    return this._model.getLtmSize(this._time);
+  }
+}
@@ -0,0 +1,120 @@
+package jchrest.architecture;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import jchrest.domainSpecifics.Scene;
+import jchrest.domainSpecifics.SceneObject;
+import jchrest.domainSpecifics.chess.ChessDomain;
+import jchrest.domainSpecifics.tileworld.TileworldDomain;
+import jchrest.lib.ChrestStatus;
+import jchrest.lib.Modality;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks making a complete set of {@link jchrest.domainSpecifics.Fixation
+ * Fixations} on a {@link jchrest.domainSpecifics.chess.ChessDomain} or {@link
+ * jchrest.domainSpecifics.tileworld.TileworldDomain} {@link
+ * jchrest.domainSpecifics.Scene} using {@link
+ * jchrest.architecture.Chrest#scheduleOrMakeNextFixation(
+ * jchrest.domainSpecifics.Scene, boolean, boolean, int)}.  The visual
+ * long-term memory of the model contains {@link #ltmSize} {@link
+ * jchrest.architecture.Node Nodes} whose contents are {@link
+ * jchrest.lib.ItemSquarePattern ItemSquarePatterns} from the domain (see
+ * {@link jchrest.architecture.SyntheticLtm}).
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-Xss64m"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FixationBenchmark {
+
+  @Param({"chess", "tileworld"})
+  public String domain;
+
+  @Param({"1000", "10000", "100000"})
+  public int ltmSize;
+
+  private Chrest _model;
+  private Scene _scene;
+  private int _time;
+
+  @Setup(Level.Trial)
+  public void setUp(){
+    Random random = new Random(this.ltmSize);
+
+    if(this.domain.equals("chess")){
+      this._model = new Chrest(0, false);
+      this._model.setDomain(new ChessDomain(this._model, 4, 3, 10, 150, 150));
+      SyntheticLtm.grow(this._model, Modality.VISUAL, this.ltmSize, SyntheticLtm.CHESS_ITEMS, 0, 7, random, 1);
+      this._scene = ChessDomain.constructBoard(
+        "r...kb.r/pp.b.ppp/..n.pn../q..p..B./...P..../..NB.N../PPP..PPP/R..QK..R"
+      );
+    }
+    else{
+      this._model = new Chrest(0, true);
+      this._model.setDomain(new TileworldDomain(this._model, 10, 4, 3, 50, 50));
+      SyntheticLtm.grow(this._model, Modality.VISUAL, this.ltmSize, SyntheticLtm.TILEWORLD_ITEMS, -2, 2, random, 1);
+      this._scene = FixationBenchmark.constructTileworldScene(random);
+    }
+
+    this._time = this.ltmSize + 1;
+  }
+
+  /**
+   * @param random
+   * @return A 5 x 5 {@link jchrest.domainSpecifics.Scene} with the agent
+   * making {@link jchrest.domainSpecifics.Fixation Fixations} at its centre and
+   * tiles, holes and opponents placed randomly on a third of the remaining
+   * squares.
+   */
+  private static Scene constructTileworldScene(Random random){
+    Scene scene = new Scene("tileworld", 5, 5, 0, 0, null);
+    String[] objectTypes = {
+      TileworldDomain.TILE_SCENE_OBJECT_TYPE_TOKEN,
+      TileworldDomain.HOLE_SCENE_OBJECT_TYPE_TOKEN,
+      TileworldDomain.OPPONENT_SCENE_OBJECT_TYPE_TOKEN
+    };
+
+    int identifier = 0;
+    for(int col = 0; col < 5; col++){
+      for(int row = 0; row < 5; row++){
+        String objectType = Scene.EMPTY_SQUARE_TOKEN;
+        if(col == 2 && row == 2){
+          objectType = Scene.CREATOR_TOKEN;
+        }
+        else if(random.nextInt(3) == 0){
+          objectType = objectTypes[random.nextInt(objectTypes.length)];
+        }
+        scene.addObjectToSquare(col, row, new SceneObject(String.valueOf(identifier++), objectType));
+      }
+    }
+
+    return scene;
+  }
+
+  @Benchmark
+  public int makeFixationSet(){
+    int fixationsScheduledOrMade = 0;
+    while(this._model.scheduleOrMakeNextFixation(this._scene, true, false, this._time) != ChrestStatus.FIXATION_SET_COMPLETE){
+      fixationsScheduledOrMade++;
+      this._time++;
+    }
+    this._time++;
+    return fixationsScheduledOrMade;
+  }
+}
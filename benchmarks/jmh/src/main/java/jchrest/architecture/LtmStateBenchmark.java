@@ -0,0 +1,73 @@
+package jchrest.architecture;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import jchrest.lib.Modality;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks saving the long-term memory of a {@link
+ * jchrest.architecture.Chrest} model containing {@link #ltmSize} {@link
+ * jchrest.architecture.Node Nodes} (see {@link
+ * jchrest.architecture.SyntheticLtm}) using {@link
+ * jchrest.architecture.Chrest#saveLtmState(java.lang.String, int)} and
+ * restoring it using {@link jchrest.architecture.Chrest#Chrest(
+ * java.lang.String, int)}.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-Xss64m"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class LtmStateBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int ltmSize;
+
+  private Chrest _model;
+  private File _saveFile;
+  private int _time;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException{
+    this._model = new Chrest(0, false);
+    SyntheticLtm.grow(this._model, Modality.VISUAL, this.ltmSize, SyntheticLtm.GENERIC_ITEMS, 0, 7, new Random(this.ltmSize), 1);
+    this._time = this.ltmSize + 1;
+
+    this._saveFile = File.createTempFile("chrest-ltm-benchmark", ".ltm");
+    this._model.saveLtmState(this._saveFile.getAbsolutePath(), this._time);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown(){
+    this._saveFile.delete();
+  }
+
+  @Benchmark
+  public long save(){
+    this._model.saveLtmState(this._saveFile.getAbsolutePath(), this._time);
+    return this._saveFile.length();
+  }
+
+  @Benchmark
+  public Chrest restore(){
+    return new Chrest(this._saveFile.getAbsolutePath(), 0);
+  }
+}
@@ -0,0 +1,59 @@
+package jchrest.architecture;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import jchrest.lib.Modality;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks adding {@link jchrest.architecture.Node Nodes} to a visual {@link
+ * jchrest.architecture.Stm} with a capacity of {@link #capacity} using {@link
+ * jchrest.architecture.Stm#add(jchrest.architecture.Node, int)}.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StmBenchmark {
+
+  @Param({"2", "4", "8"})
+  public int capacity;
+
+  private static final int NUMBER_NODES = 1000;
+
+  private Stm _stm;
+  private Node[] _nodes;
+  private int _node = 0;
+  private int _time;
+
+  @Setup(Level.Iteration)
+  public void setUp(){
+    Chrest model = new Chrest(0, false);
+    List<Node> nodes = SyntheticLtm.grow(model, Modality.VISUAL, NUMBER_NODES, SyntheticLtm.GENERIC_ITEMS, 0, 7, new Random(NUMBER_NODES), 1);
+    this._nodes = nodes.toArray(new Node[NUMBER_NODES]);
+    this._time = NUMBER_NODES + 1;
+    this._stm = new Stm(model, Modality.VISUAL, this.capacity, this._time);
+  }
+
+  @Benchmark
+  public boolean add(){
+    this._node = (this._node + 1) % NUMBER_NODES;
+    return this._stm.add(this._nodes[this._node], ++this._time);
+  }
+}
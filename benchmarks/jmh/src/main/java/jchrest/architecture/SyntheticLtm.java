@@ -0,0 +1,145 @@
+package jchrest.architecture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import jchrest.lib.ItemSquarePattern;
+import jchrest.lib.ListPattern;
+import jchrest.lib.Modality;
+
+/**
+ * Generates synthetic long-term memory and input for the CHREST benchmarks so
+ * that the amount of data benchmarked can be varied without having to run a
+ * {@link jchrest.architecture.Chrest} model through an experiment first.
+ * <p>
+ * All data is generated using the {@link java.util.Random} specified so that
+ * benchmarks are repeatable.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public final class SyntheticLtm {
+
+  /**
+   * Item types that can be used when generating {@link
+   * jchrest.lib.ItemSquarePattern ItemSquarePatterns} for the {@link
+   * jchrest.domainSpecifics.generic.GenericDomain}.
+   */
+  public static final String[] GENERIC_ITEMS = {"A", "B", "C", "D", "E", "F", "G", "H"};
+
+  /**
+   * Item types that can be used when generating {@link
+   * jchrest.lib.ItemSquarePattern ItemSquarePatterns} for the {@link
+   * jchrest.domainSpecifics.chess.ChessDomain}.
+   */
+  public static final String[] CHESS_ITEMS = {"p", "n", "b", "r", "q", "k", "P", "N", "B", "R", "Q", "K"};
+
+  /**
+   * Item types that can be used when generating {@link
+   * jchrest.lib.ItemSquarePattern ItemSquarePatterns} for the {@link
+   * jchrest.domainSpecifics.tileworld.TileworldDomain}.
+   */
+  public static final String[] TILEWORLD_ITEMS = {"T", "H", "O"};
+
+  private SyntheticLtm(){}
+
+  /**
+   * @param random
+   * @param modality
+   * @param items The item types that can be used.
+   * @param minCoordinate The smallest column/row that can be used.
+   * @param maxCoordinate The largest column/row that can be used.
+   * @param size
+   *
+   * @return A {@link jchrest.lib.ListPattern} with the {@code modality}
+   * specified containing {@code size} {@link jchrest.lib.ItemSquarePattern
+   * ItemSquarePatterns} generated randomly.
+   */
+  public static ListPattern randomPattern(Random random, Modality modality, String[] items, int minCoordinate, int maxCoordinate, int size){
+    ListPattern pattern = new ListPattern(modality);
+    for(int i = 0; i < size; i++){
+      pattern.add(new ItemSquarePattern(
+        items[random.nextInt(items.length)],
+        minCoordinate + random.nextInt(maxCoordinate - minCoordinate + 1),
+        minCoordinate + random.nextInt(maxCoordinate - minCoordinate + 1)
+      ));
+    }
+    return pattern;
+  }
+
+  /**
+   * Adds {@code numberNodes} {@link jchrest.architecture.Node Nodes} to the
+   * long-term memory {@code modality} specified of the {@code model}
+   * specified.  Each {@link jchrest.architecture.Node} is added as a child of
+   * a {@link jchrest.architecture.Node} already in long-term memory, selected
+   * randomly, using a test containing one {@link
+   * jchrest.lib.ItemSquarePattern} generated randomly.  The depth of the
+   * network generated therefore grows logarithmically with {@code
+   * numberNodes}.
+   * <p>
+   * {@link jchrest.architecture.Node Nodes} are added directly, i.e. the
+   * cognition clock of the {@code model} is not consumed.  Each {@link
+   * jchrest.architecture.Node} is added 1 millisecond after the previous one
+   * since the history of a {@link jchrest.architecture.Node} can not be
+   * rewritten.
+   *
+   * @param model
+   * @param modality
+   * @param numberNodes
+   * @param items See {@link #randomPattern(java.util.Random,
+   * jchrest.lib.Modality, java.lang.String[], int, int, int)}.
+   * @param minCoordinate See {@link #randomPattern(java.util.Random,
+   * jchrest.lib.Modality, java.lang.String[], int, int, int)}.
+   * @param maxCoordinate See {@link #randomPattern(java.util.Random,
+   * jchrest.lib.Modality, java.lang.String[], int, int, int)}.
+   * @param random
+   * @param time The time the first {@link jchrest.architecture.Node} should be
+   * added.
+   *
+   * @return The {@link jchrest.architecture.Node Nodes} added, in the order
+   * they were added.  The time that the last {@link
+   * jchrest.architecture.Node} was added is the {@code time} specified plus
+   * the number of {@link jchrest.architecture.Node Nodes} returned minus 1.
+   */
+  public static List<Node> grow(Chrest model, Modality modality, int numberNodes, String[] items, int minCoordinate, int maxCoordinate, Random random, int time){
+    List<Node> ltm = new ArrayList<>();
+    ltm.add(model.getLtmModalityRootNode(modality));
+
+    List<Node> nodesAdded = new ArrayList<>();
+    while(nodesAdded.size() < numberNodes){
+      Node parent = ltm.get(random.nextInt(ltm.size()));
+      ListPattern test = SyntheticLtm.randomPattern(random, modality, items, minCoordinate, maxCoordinate, 1);
+
+      //Node.addChild(ListPattern, int) is not used since it only omits the
+      //contents of a modality root Node from the contents of a new child for
+      //visual LTM.
+      ListPattern contents = parent.isRootNode() ? test : parent.getContents().append(test);
+      Node child = new Node(model, contents, contents, time);
+      if(parent.addChild(test, child, time, "")){
+        ltm.add(child);
+        nodesAdded.add(child);
+        time++;
+      }
+    }
+
+    return nodesAdded;
+  }
+
+  /**
+   * @param nodes
+   * @param numberPatterns
+   * @param random
+   *
+   * @return {@code numberPatterns} {@link jchrest.lib.ListPattern
+   * ListPatterns}, each the contents of one of the {@code nodes} specified,
+   * selected randomly, so that recognising a {@link jchrest.lib.ListPattern}
+   * returned traverses long-term memory to the depth of the {@link
+   * jchrest.architecture.Node} selected.
+   */
+  public static ListPattern[] recognisablePatterns(List<Node> nodes, int numberPatterns, Random random){
+    ListPattern[] patterns = new ListPattern[numberPatterns];
+    for(int i = 0; i < numberPatterns; i++){
+      patterns[i] = nodes.get(random.nextInt(nodes.size())).getContents().clone();
+    }
+    return patterns;
+  }
+}
@@ -0,0 +1,95 @@
+package jchrest.lib;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import jchrest.architecture.SyntheticLtm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link jchrest.lib.ListPattern#matches(jchrest.lib.Pattern)},
+ * {@link jchrest.lib.ListPattern#remove(jchrest.lib.ListPattern)} and {@link
+ * jchrest.lib.ListPattern#isSimilarTo(jchrest.lib.ListPattern, int)} using
+ * {@link jchrest.lib.ListPattern ListPatterns} containing {@link #size} {@link
+ * jchrest.lib.ItemSquarePattern ItemSquarePatterns}.
+ * <p>
+ * Each {@link jchrest.lib.ListPattern} is compared against a {@link
+ * jchrest.lib.ListPattern} that it is a prefix of, i.e. the case encountered
+ * when long-term memory is traversed, and against a {@link
+ * jchrest.lib.ListPattern} generated independently.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ListPatternBenchmark {
+
+  @Param({"4", "16", "64"})
+  public int size;
+
+  private static final int NUMBER_PATTERNS = 1024;
+
+  private ListPattern[] _patterns;
+  private ListPattern[] _extendedPatterns;
+  private ListPattern[] _otherPatterns;
+  private int _pattern = 0;
+
+  @Setup(Level.Trial)
+  public void setUp(){
+    Random random = new Random(this.size);
+    this._patterns = new ListPattern[NUMBER_PATTERNS];
+    this._extendedPatterns = new ListPattern[NUMBER_PATTERNS];
+    this._otherPatterns = new ListPattern[NUMBER_PATTERNS];
+
+    for(int i = 0; i < NUMBER_PATTERNS; i++){
+      this._patterns[i] = SyntheticLtm.randomPattern(random, Modality.VISUAL, SyntheticLtm.GENERIC_ITEMS, 0, 7, this.size);
+      this._extendedPatterns[i] = this._patterns[i].append(
+        SyntheticLtm.randomPattern(random, Modality.VISUAL, SyntheticLtm.GENERIC_ITEMS, 0, 7, this.size)
+      );
+      this._otherPatterns[i] = SyntheticLtm.randomPattern(random, Modality.VISUAL, SyntheticLtm.GENERIC_ITEMS, 0, 7, this.size);
+    }
+  }
+
+  private int nextPattern(){
+    this._pattern = (this._pattern + 1) % NUMBER_PATTERNS;
+    return this._pattern;
+  }
+
+  @Benchmark
+  public boolean matchesPrefix(){
+    int pattern = this.nextPattern();
+    return this._patterns[pattern].matches(this._extendedPatterns[pattern]);
+  }
+
+  @Benchmark
+  public boolean matchesOther(){
+    int pattern = this.nextPattern();
+    return this._patterns[pattern].matches(this._otherPatterns[pattern]);
+  }
+
+  @Benchmark
+  public ListPattern removePrefix(){
+    int pattern = this.nextPattern();
+    return this._extendedPatterns[pattern].remove(this._patterns[pattern]);
+  }
+
+  @Benchmark
+  public boolean isSimilarTo(){
+    int pattern = this.nextPattern();
+    return this._patterns[pattern].isSimilarTo(this._otherPatterns[pattern], this.size / 2);
+  }
+}
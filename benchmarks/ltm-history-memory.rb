@@ -0,0 +1,111 @@
+# Measures the memory used by the child and semantic link histories of the 
+# Nodes in a large LTM network.
+#
+# 1. Learn a large number of random visual patterns so that LTM contains Nodes
+#    with many children and semantic links.
+# 2. Measure the heap used with the structurally-shared histories that Nodes 
+#    maintain (each new history entry only stores the Link/Node prepended).
+# 3. Replace every entry in these histories with a full copy of its List (the
+#    representation used previously) and measure the heap used again.
+#
+# Run from this directory using "jruby -J-Xmx4g -J-cp ../target/chrest-<version>.jar 
+# ltm-history-memory.rb [number of patterns to learn]" or "buildr benchmarks".
+
+require "java"
+
+java_import "java.lang.Runtime"
+java_import "java.lang.System"
+java_import "java.util.ArrayList"
+java_import "jchrest.architecture.Chrest"
+java_import "jchrest.architecture.Node"
+java_import "jchrest.lib.HistoryTreeMap"
+java_import "jchrest.lib.ItemSquarePattern"
+java_import "jchrest.lib.ListPattern"
+java_import "jchrest.lib.Modality"
+
+NUMBER_PATTERNS = (ARGV[0] || 30_000).to_i
+ITEMS = ("A".."H").to_a
+
+def heap_used
+  runtime = Runtime.getRuntime()
+  5.times do
+    System.gc()
+    java.lang.Thread.sleep(100)
+  end
+  runtime.totalMemory() - runtime.freeMemory()
+end
+
+def ltm_nodes(model, time)
+  nodes = []
+  to_visit = Modality.values().map{|modality| model.getLtmModalityRootNode(modality)}
+  until to_visit.empty?
+    node = to_visit.shift
+    nodes << node
+    children = node.getChildren(time)
+    children.each{|child| to_visit << child.getChildNode()} if children != nil
+  end
+  nodes
+end
+
+################################
+##### 1. LEARN LTM NETWORK #####
+################################
+
+srand(1)
+model = Chrest.new(0, false)
+time = 1
+NUMBER_PATTERNS.times do
+  pattern = ListPattern.new(Modality::VISUAL)
+  rand(2..7).times do
+    pattern.add(ItemSquarePattern.new(ITEMS.sample, rand(8), rand(8)))
+  end
+  model.recogniseAndLearn(pattern, time)
+  time += 20_000
+end
+
+nodes = ltm_nodes(model, time)
+history_fields = ["_childHistory", "_semanticLinksHistory"].map do |field_name|
+  field = Node.java_class.declared_field(field_name)
+  field.accessible = true
+  field
+end
+
+number_entries = 0
+number_elements = 0
+nodes.each do |node|
+  history_fields.each do |field|
+    field.value(node).values().each do |entry|
+      number_entries += 1
+      number_elements += entry.size()
+    end
+  end
+end
+
+puts "LTM Nodes: #{nodes.size}"
+puts "Child and semantic link history entries: #{number_entries}"
+puts "Elements stored across all entries: #{number_elements}"
+
+##########################################
+##### 2. MEASURE SHARED HISTORY SIZE #####
+##########################################
+
+shared_histories_heap = heap_used
+puts "Heap used with structurally-shared histories: #{shared_histories_heap / 1024} KB"
+
+##########################################
+##### 3. MEASURE COPIED HISTORY SIZE #####
+##########################################
+
+nodes.each do |node|
+  history_fields.each do |field|
+    copied_history = HistoryTreeMap.new()
+    field.value(node).entrySet().each do |entry|
+      copied_history.put(entry.getKey(), ArrayList.new(entry.getValue()))
+    end
+    field.set_value(node, copied_history)
+  end
+end
+
+copied_histories_heap = heap_used
+puts "Heap used with copied histories: #{copied_histories_heap / 1024} KB"
+puts "Reduction: #{(copied_histories_heap - shared_histories_heap) / 1024} KB"
@@ -0,0 +1,54 @@
+# Measures the time taken to retrieve the number of Nodes in each LTM modality
+# and in LTM as a whole, since these counts are read whenever a model learns
+# and whenever the GUI displays a model's LTM.
+#
+# 1. Learn a number of random visual patterns so that the Node counts have a
+#    history to search.
+# 2. Invoke Chrest.getLtmModalitySize() and Chrest.getLtmSize() repeatedly at
+#    random times, after a warm-up, and report the mean time per invocation.
+#
+# Run from this directory using "jruby -J-Xmx4g -J-cp ../target/chrest-<version>.jar
+# ltm-modality-size.rb [number of patterns to learn] [number of invocations]" or
+# "buildr benchmarks".
+
+require "java"
+
+java_import "java.lang.System"
+java_import "jchrest.architecture.Chrest"
+java_import "jchrest.lib.ItemSquarePattern"
+java_import "jchrest.lib.ListPattern"
+java_import "jchrest.lib.Modality"
+
+NUMBER_PATTERNS = (ARGV[0] || 10_000).to_i
+NUMBER_INVOCATIONS = (ARGV[1] || 1_000_000).to_i
+ITEMS = ("A".."H").to_a
+
+def time_invocations(number_invocations, times)
+  start = System.nanoTime()
+  number_invocations.times do |i|
+    yield times[i % times.size]
+  end
+  (System.nanoTime() - start).to_f / number_invocations
+end
+
+time = 0
+model = Chrest.new(time, true)
+model.setExecutionHistoryRecording(true)
+time += 1
+
+NUMBER_PATTERNS.times do
+  pattern = ListPattern.new(Modality::VISUAL)
+  (rand(4) + 1).times{ pattern.add(ItemSquarePattern.new(ITEMS.sample, rand(5), rand(5))) }
+  model.recogniseAndLearn(pattern, time)
+  time = model.getCognitionClock() + 1
+end
+
+times = Array.new(1024){ rand(time) }
+modalities = Modality.values().to_a
+
+[["Chrest.getLtmModalitySize()", lambda{|t| model.getLtmModalitySize(modalities[t % modalities.size], t)}],
+ ["Chrest.getLtmSize()", lambda{|t| model.getLtmSize(t)}]].each do |description, invocation|
+  time_invocations(NUMBER_INVOCATIONS / 10, times){|t| invocation.call(t)}
+  mean = time_invocations(NUMBER_INVOCATIONS, times){|t| invocation.call(t)}
+  puts "#{description}: #{'%.1f' % mean} ns per invocation (#{model.getLtmSize(time)} Nodes in LTM)"
+end
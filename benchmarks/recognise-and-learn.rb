@@ -0,0 +1,69 @@
+# Measures the throughput of Chrest.recogniseAndLearn() on a large training set
+# of random visual patterns, since debug statements are printed (or not) by the
+# functions it invokes most often: recognise(), discriminate(), familiarise(),
+# addToStm() and Node.addChild().
+#
+# 1. Create a model with debugging turned off and learn the training set,
+#    reporting the number of invocations per second.
+# 2. Repeat using a new model with debugging turned on and statements printed
+#    to a stream that discards them.  The difference between the two is the
+#    cost of constructing debug statements that models which are not being
+#    debugged no longer pay.
+#
+# Each model learns the training set a number of times after a warm-up so that
+# the JIT compiler has optimised the functions measured.
+#
+# Run from this directory using "jruby -J-Xmx4g -J-cp ../target/chrest-<version>.jar
+# recognise-and-learn.rb [number of patterns] [number of runs]" or "buildr
+# benchmarks".
+
+require "java"
+
+java_import "java.io.OutputStream"
+java_import "java.io.PrintStream"
+java_import "java.lang.System"
+java_import "jchrest.architecture.Chrest"
+java_import "jchrest.lib.ItemSquarePattern"
+java_import "jchrest.lib.ListPattern"
+java_import "jchrest.lib.Modality"
+
+NUMBER_PATTERNS = (ARGV[0] || 30_000).to_i
+NUMBER_RUNS = (ARGV[1] || 3).to_i
+ITEMS = ("A".."H").to_a
+
+class DiscardingOutputStream < OutputStream
+  def write(*arguments); end
+end
+
+srand(0)
+training_set = Array.new(NUMBER_PATTERNS) do
+  pattern = ListPattern.new(Modality::VISUAL)
+  (rand(6) + 2).times{ pattern.add(ItemSquarePattern.new(ITEMS.sample, rand(5), rand(5))) }
+  pattern
+end
+
+# Returns the number of invocations of recogniseAndLearn() per second and the
+# number of Nodes in LTM after learning the training set.
+def learn(training_set, debug)
+  time = 0
+  model = Chrest.new(time, false)
+  model.setCanCreateSemanticLinks(false)
+  if debug
+    model.setDebugPrintStream(PrintStream.new(DiscardingOutputStream.new))
+    model.turnOnDebugging()
+  end
+
+  start = System.nanoTime()
+  training_set.each do |pattern|
+    model.recogniseAndLearn(pattern, time)
+    time = model.getCognitionClock() + 1
+  end
+
+  [training_set.size / ((System.nanoTime() - start) / 1e9), model.getLtmSize(time)]
+end
+
+[["debugging off", false], ["debugging on (output discarded)", true]].each do |description, debug|
+  learn(training_set.first(NUMBER_PATTERNS / 10), debug)
+  results = Array.new(NUMBER_RUNS){ learn(training_set, debug) }
+  puts "Chrest.recogniseAndLearn(), #{description}: #{'%.0f' % results.map(&:first).max} invocations per second (#{NUMBER_PATTERNS} patterns, #{results.last.last} Nodes in LTM)"
+end
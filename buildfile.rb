@@ -16,6 +16,11 @@ STATISTICS = 'org.apache.commons:commons-math:jar:2.2'
 # pattern recognition.
 WATCHMAKER_FRAMEWORK = 'org.uncommons.watchmaker:watchmaker-framework:jar:0.7.1' 
 
+# Used by the "jmh" sub-project only.  The annotation processor generates the
+# code that runs the benchmarks when the sub-project is compiled.
+JMH_CORE = transitive('org.openjdk.jmh:jmh-core:jar:1.37')
+JMH_GENERATOR = 'org.openjdk.jmh:jmh-generator-annprocess:jar:1.37'
+
 define 'chrest' do
   puts "\n\e[33mThe current CHREST version is set to: '" + version + "' would you like to update this? (y/n)\e[0m"
   decision = STDIN.gets.chomp
@@ -40,6 +45,18 @@ define 'chrest' do
   )
 
   run.with(H2DATABASE, JCOMMON, JFREECHART).using :main => "jchrest.gui.Shell"
+
+  # JMH benchmarks for the CHREST architecture.  Benchmarks are placed in the
+  # same packages as the classes they benchmark so that package-private 
+  # functions can be benchmarked.
+  define 'jmh', :base_dir => 'benchmarks/jmh' do
+    compile.with(project('chrest'), project('chrest').compile.dependencies, JMH_CORE, JMH_GENERATOR)
+    package(:jar).with(
+      :manifest=>{'Main-Class'=>'org.openjdk.jmh.Main'}
+    ).merge(
+      compile.dependencies
+    )
+  end
 end
 
 desc 'build the user guide'
@@ -72,6 +89,21 @@ task :tests => :compile do
   end
 end
 
+desc 'run all Chrest benchmarks'
+task :benchmarks => :compile do
+  Dir.chdir('benchmarks') do
+    Rake::Task["package"].invoke #Create a new JAR so that the classpath set below uses the most up-to-date version of CHREST
+    Dir.glob('*.rb').sort.each do |benchmark|
+      sh "jruby -J-Xmx4g -J-cp ../target/chrest-#{version}.jar #{benchmark}"
+    end
+  end
+end
+
+desc 'run all Chrest JMH benchmarks (JMH options can be specified using JMH_ARGS, e.g. JMH_ARGS="ChrestBenchmark -p ltmSize=1000")'
+task :jmh => 'chrest:jmh:package' do
+  sh "java -jar benchmarks/jmh/target/chrest-jmh-#{version}.jar #{ENV['JMH_ARGS']}"
+end
+
 directory 'release/chrest'
 desc 'bundle for release'
 task :bundle => [:guide, :manual, :package, :doc, 'release/chrest'] do
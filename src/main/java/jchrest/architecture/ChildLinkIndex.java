@@ -0,0 +1,158 @@
+package jchrest.architecture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import jchrest.lib.ListPattern;
+import jchrest.lib.PrimitivePattern;
+
+/**
+ * Indexes the test {@link jchrest.architecture.Link Links} of one version of a
+ * {@link jchrest.architecture.Node}'s children (see {@link
+ * jchrest.architecture.Node#getChildren(int)}) by the first {@link
+ * jchrest.lib.PrimitivePattern} of their tests.
+ * <p>
+ * A {@link jchrest.lib.ListPattern} can only pass a non-empty test if the first
+ * {@link jchrest.lib.PrimitivePattern} of the test and the {@link
+ * jchrest.lib.ListPattern} are equal so, when sorting a {@link
+ * jchrest.lib.ListPattern} through long-term memory, only the {@link
+ * jchrest.architecture.Link Links} in one bucket (plus any {@link
+ * jchrest.architecture.Link Links} with empty tests) need to be checked rather
+ * than every child of the {@link jchrest.architecture.Node}.
+ * <p>
+ * Instances describe one {@link java.util.List} of {@link 
+ * jchrest.architecture.Link Links} at a time, i.e. one entry in a {@link 
+ * jchrest.architecture.Node}'s child history.  Since entries in a {@link
+ * jchrest.lib.HistoryTreeMap} are never modified, an index can be reused for as
+ * long as the same entry is returned for the time requested and, since new 
+ * entries are created by prepending a {@link jchrest.architecture.Link} to the
+ * most recent entry, an index can be moved forward to a new entry without 
+ * being rebuilt.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+class ChildLinkIndex {
+
+  //The List of Links this index currently describes.
+  private List<Link> _children;
+
+  //Links are stored in the reverse of the order they occur in the children 
+  //List, i.e. the Link that would be checked first during a linear scan is 
+  //stored last.  This is the order that Links are added to a Node in (see 
+  //Node.addChild()) so a new Link can be indexed without reindexing existing 
+  //Links.  The rank of each Link (its distance from the end of the children
+  //List) is stored alongside it so that the Link that would be passed first by
+  //a linear scan can be determined when candidates are present in both a 
+  //bucket and the empty test list.
+  private final HashMap<PrimitivePattern, ArrayList<IndexedLink>> _linksByFirstTestItem = new HashMap<>();
+  private final ArrayList<IndexedLink> _linksWithEmptyTests = new ArrayList<>();
+
+  /**
+   * @param children The {@link jchrest.architecture.Link Links} to index, in
+   * the order returned by {@link jchrest.architecture.Node#getChildren(int)}.
+   */
+  ChildLinkIndex(List<Link> children){
+    this._children = children;
+
+    for(int rank = 0; rank < children.size(); rank++){
+      this.index(children.get(children.size() - 1 - rank), rank);
+    }
+  }
+  
+  private void index(Link link, int rank){
+    ListPattern test = link.getTest();
+    IndexedLink indexedLink = new IndexedLink(link, rank);
+
+    if(test.isEmpty()){
+      this._linksWithEmptyTests.add(indexedLink);
+    }
+    else{
+      PrimitivePattern firstTestItem = test.getItem(0);
+      ArrayList<IndexedLink> bucket = this._linksByFirstTestItem.get(firstTestItem);
+      if(bucket == null){
+        bucket = new ArrayList<>();
+        this._linksByFirstTestItem.put(firstTestItem, bucket);
+      }
+      bucket.add(indexedLink);
+    }
+  }
+  
+  /**
+   * Makes {@link #this} describe the {@code children} specified rather than 
+   * the {@link java.util.List} it currently describes.  After invocation, 
+   * {@link #this} no longer describes the {@link java.util.List} it previously 
+   * described.
+   * 
+   * @param children Should contain the {@code linkAdded} followed by the 
+   * {@link jchrest.architecture.Link Links} currently described by {@link 
+   * #this}, in the same order (see {@link 
+   * jchrest.architecture.Node#addChild(jchrest.lib.ListPattern, 
+   * jchrest.architecture.Node, int, java.lang.String)}).
+   * @param linkAdded 
+   */
+  void update(List<Link> children, Link linkAdded){
+    this.index(linkAdded, this._children.size());
+    this._children = children;
+  }
+
+  /**
+   * @param children
+   * @return Whether {@link #this} was built from the {@code children}
+   * specified.
+   */
+  boolean isIndexOf(List<Link> children){
+    return this._children == children;
+  }
+
+  /**
+   * @param pattern
+   *
+   * @return The first {@link jchrest.architecture.Link} indexed whose test the
+   * {@code pattern} specified passes (see {@link
+   * jchrest.architecture.Link#passes(jchrest.lib.ListPattern)}).  This is the
+   * same {@link jchrest.architecture.Link} that would be returned by checking
+   * each {@link jchrest.architecture.Link} indexed in the order they were
+   * specified when {@link #this} was constructed.  If no {@link
+   * jchrest.architecture.Link} is passed, {@code null} is returned.
+   */
+  Link getFirstLinkPassed(ListPattern pattern){
+    IndexedLink linkPassed = null;
+
+    if(!pattern.isEmpty()){
+      linkPassed = this.getFirstLinkPassed(this._linksByFirstTestItem.get(pattern.getItem(0)), pattern);
+    }
+
+    IndexedLink emptyTestLinkPassed = this.getFirstLinkPassed(this._linksWithEmptyTests, pattern);
+    if(
+      emptyTestLinkPassed != null &&
+      (linkPassed == null || emptyTestLinkPassed._rank > linkPassed._rank)
+    ){
+      linkPassed = emptyTestLinkPassed;
+    }
+
+    return linkPassed == null ? null : linkPassed._link;
+  }
+
+  private IndexedLink getFirstLinkPassed(List<IndexedLink> candidates, ListPattern pattern){
+    if(candidates != null){
+      for(int i = candidates.size() - 1; i >= 0; i--){
+        IndexedLink candidate = candidates.get(i);
+        if(candidate._link.passes(pattern)){
+          return candidate;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  private static class IndexedLink {
+    private final Link _link;
+    private final int _rank;
+
+    IndexedLink(Link link, int rank){
+      this._link = link;
+      this._rank = rank;
+    }
+  }
+}
@@ -4,6 +4,7 @@
 
 package jchrest.architecture;
 
+import java.io.BufferedInputStream;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
@@ -14,17 +15,21 @@ import jchrest.domainSpecifics.Scene;
 import jchrest.domainSpecifics.generic.GenericDomain;
 import jchrest.domainSpecifics.DomainSpecifics;
 import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.PrintStream;
 import java.io.Serializable;
 import java.io.Writer;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -32,7 +37,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Observable;
 import java.util.Random;
-import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.TreeMap;
@@ -63,6 +68,11 @@ public class Chrest extends Observable implements Serializable {
   /****************************************************************************/
   /****************************************************************************/
   
+  //Files saved using Java serialization by versions of CHREST prior to 
+  //LtmSnapshot must still be restorable (see Chrest(String, int)) so the 
+  //serialVersionUID of those versions is declared explicitly.
+  private static final long serialVersionUID = 6576313720622051162L;
+  
   /**************************/
   /**** Simple variables ****/
   /**************************/
@@ -142,11 +152,31 @@ public class Chrest extends Observable implements Serializable {
   private transient Node _verbalLtm;
   private transient Node _actionLtm;
   
-  private TreeMap _totalNumberVisualLtmNodes = new TreeMap();
-  private TreeMap _totalNumberVerbalLtmNodes = new TreeMap();
-  private TreeMap _totalNumberActionLtmNodes = new TreeMap();
+  //The number of Nodes in each LTM modality, excluding modality root Nodes.
+  private EnumMap<Modality, CountHistory> _ltmModalityNodeCounts = new EnumMap<>(Modality.class);
+  {
+    for(Modality modality : Modality.values()){
+      this._ltmModalityNodeCounts.put(modality, new CountHistory());
+    }
+  }
   private int _nextLtmNodeReference = 0;
   
+  //Metrics concerning long-term memory that are maintained as long-term memory
+  //is modified rather than calculated by traversing long-term memory.
+  private transient LtmStatistics _ltmStatistics = new LtmStatistics(this);
+  
+  //Set if long-term memory is a frozen, memory-mapped image (see 
+  //Chrest(MappedLtm, int)).  The Nodes in the image that have been returned by
+  //recognise() are stored against their index in the image so that the same 
+  //Node instance is always returned for the same index.
+  private transient MappedLtm _mappedLtm = null;
+  private transient HashMap<Integer, Node> _mappedLtmNodes = null;
+  
+  //The Nodes of the model that this model was forked from (see fork()) mapped
+  //to the Nodes of this model that copy them.  Null if this model was not 
+  //forked.
+  private transient IdentityHashMap<Node, Node> _forkedNodes = null;
+  
   /**
    * When declaring a new short-term memory modality, please ensure that its
    * instance variable name adheres to the following pattern: "_modalityStm". 
@@ -183,6 +213,16 @@ public class Chrest extends Observable implements Serializable {
   private transient boolean _performingFixations = false;
   private transient int _fixationsAttemptedInCurrentSet = 0;
   
+  //The source of every random choice made by the model (see getRandom()) and
+  //an adapter of it for libraries that require a java.util.Random.
+  private transient SplittableRandom _random = new SplittableRandom();
+  private transient final Random _randomAdapter = new Random(0){
+    @Override
+    protected int next(int bits){
+      return Chrest.this._random.nextInt() >>> (32 - bits);
+    }
+  };
+  
   /****************************/
   /**** Learning variables ****/
   /****************************/
@@ -194,6 +234,17 @@ public class Chrest extends Observable implements Serializable {
   private transient boolean _canCreateSemanticLinks = true;
   private transient int _nodeImageSimilarityThreshold = 4;
   private transient int _maximumSemanticLinkSearchDistance = 1;
+  private transient int _maximumSemanticLinkSearchNodesVisited = Integer.MAX_VALUE;
+  
+  //Set if Node images are indexed (see Chrest.setIndexNodeImages()).
+  private transient ImageIndex _imageIndex = null;
+  
+  //The image of the Node that associations were last created from and its 
+  //items counted (see Chrest.associateNodes()).  Whilst the STM hypothesis is 
+  //unchanged, Node images are compared with it without counting its items 
+  //again.
+  private transient ListPattern _associationImage = null;
+  private transient PatternSimilarity _associationImageSimilarity = null;
   
   private transient boolean _canCreateTemplates = true;
   private transient int _minNodeDepthInNetworkToBeTemplate = 3;
@@ -237,6 +288,12 @@ public class Chrest extends Observable implements Serializable {
   //slow down its operation significantly.
   private transient boolean _executionHistoryRecordingEnabled = false;
   
+  //The model should record the history of its state by default so that its
+  //state at any time can be inspected (in the GUI, for example).  Disabling
+  //this is useful for long training runs where past states are never queried 
+  //since it significantly reduces the memory used by the model.
+  private transient boolean _stateHistoryRecordingEnabled = true;
+  
   /*************************/
   /***** GUI variables *****/
   /*************************/
@@ -328,6 +385,9 @@ public class Chrest extends Observable implements Serializable {
     _visualLtm = new Node (this, Modality.VISUAL, time);
     _verbalLtm = new Node (this, Modality.VERBAL, time);
     _actionLtm = new Node (this, Modality.ACTION, time);
+    this._ltmStatistics.addModalityRootNode(_visualLtm, time);
+    this._ltmStatistics.addModalityRootNode(_verbalLtm, time);
+    this._ltmStatistics.addModalityRootNode(_actionLtm, time);
     
     //Setup short-term memory
     _visualStm = new Stm (this, Modality.VISUAL, 4, time);
@@ -344,15 +404,7 @@ public class Chrest extends Observable implements Serializable {
     
     //Initialise total node counters to 0 for all modalities. 
     for(Modality modality : Modality.values()){
-      String modalityString = modality.toString();
-      modalityString = modalityString.substring(0, 1).toUpperCase() + modalityString.substring(1).toLowerCase();
-      
-      try {
-        TreeMap modalityNodeCountVariable = (TreeMap)Chrest.class.getDeclaredField("_totalNumber" + modalityString + "LtmNodes").get(this);
-        modalityNodeCountVariable.put(time, 0);
-      } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException ex) {
-        Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
-      }
+      this._ltmModalityNodeCounts.get(modality).set(time, 0);
     }
   }
   
@@ -384,6 +436,11 @@ public class Chrest extends Observable implements Serializable {
    * The history of every deserialized {@link jchrest.architecture.Node} will 
    * not be complete; their history will be set to the most recent version of 
    * its serialized counterpart.
+   * <p>
+   * Both {@link jchrest.architecture.LtmSnapshot} files and files created 
+   * using Java serialization by previous versions of CHREST (see {@link 
+   * #saveLtmStateUsingJavaSerialization(java.lang.String, int)}) can be 
+   * restored; the format of the file specified is determined automatically.
    * 
    * @param absolutePathToSaveFile
    * @param time The time that the new {@link jchrest.architecture.Chrest} model
@@ -391,7 +448,23 @@ public class Chrest extends Observable implements Serializable {
    * will be set according to this time).
    */
   public Chrest(String absolutePathToSaveFile, int time){
+    this(time);
     
+    try {
+      this.restoreLtm(absolutePathToSaveFile, time);
+    } catch (IOException | IllegalArgumentException | SecurityException ex) {
+      Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
+    }
+  }
+  
+  /**
+   * Constructs a {@link jchrest.architecture.Chrest} model without a long-term
+   * memory so that its long-term memory can be restored using {@link 
+   * #restoreLtm(java.lang.String, int)}.
+   * 
+   * @param time 
+   */
+  private Chrest(int time){
     this._creationTime = time;
     this.setClocks(time - 1);
     this._visualStm = new Stm (this, Modality.VISUAL, 4, time);
@@ -405,96 +478,442 @@ public class Chrest extends Observable implements Serializable {
     //will be overwritten during deserialization.
     this._domainSpecifics = new GenericDomain(this, 10, 3);
     this._learnObjectLocationsRelativeToAgent = false;
-    
+  }
+  
+  /**
+   * Equivalent to {@link #Chrest(java.lang.String, int)} except that, if the 
+   * long-term memory in the file specified can not be restored, an exception is 
+   * thrown rather than logged.
+   * 
+   * @param absolutePathToSaveFile
+   * @param time
+   * 
+   * @return The {@link jchrest.architecture.Chrest} model restored.
+   * 
+   * @throws IOException If the file specified can not be read or does not 
+   * contain a long-term memory saved by any version of CHREST.
+   */
+  static Chrest restore(String absolutePathToSaveFile, int time) throws IOException{
+    Chrest model = new Chrest(time);
+    model.restoreLtm(absolutePathToSaveFile, time);
+    return model;
+  }
+  
+  /**
+   * Restores the long-term memory of {@link #this} from the file specified, 
+   * whose format is determined automatically (see {@link 
+   * #Chrest(java.lang.String, int)}).
+   * 
+   * @param absolutePathToSaveFile
+   * @param time
+   * 
+   * @throws IOException 
+   */
+  private void restoreLtm(String absolutePathToSaveFile, int time) throws IOException{
     try {
+      if(LtmSnapshot.isLtmSnapshot(absolutePathToSaveFile)){
+        this.restoreLtmSnapshot(absolutePathToSaveFile, time);
+      }
+      else{
+        this.restoreSerializedLtm(absolutePathToSaveFile, time);
+      }
+    } catch (ClassNotFoundException | NoSuchFieldException | IllegalAccessException ex) {
+      throw new IOException("Long-term memory could not be restored from " + absolutePathToSaveFile, ex);
+    }
+    
+    for(Modality modality : Modality.values()){
+      Node modalityRootNode = this.getLtmModalityRootNode(modality);
+      if(modalityRootNode != null) this._ltmStatistics.addModalityRootNode(modalityRootNode, time);
+    }
+  }
+  
+  /**
+   * Constructs a {@link jchrest.architecture.Chrest} model whose long-term 
+   * memory is the frozen, memory-mapped {@code mappedLtm} specified.
+   * <p>
+   * The long-term memory of the model constructed is traversed in the {@code 
+   * mappedLtm} specified when {@link #recognise(jchrest.lib.ListPattern, 
+   * java.lang.Integer, java.lang.Boolean)} is invoked so long-term memory does
+   * not need to be deserialized when the model is constructed.  Only the 
+   * {@link jchrest.architecture.Node Nodes} returned by recognition, and those 
+   * reached from them using the {@link jchrest.architecture.Node} API (e.g. 
+   * {@link jchrest.architecture.Node#getChildren(int)}), are materialised.  
+   * Consequently, the model constructed can not learn, i.e. {@link 
+   * #recogniseAndLearn(jchrest.lib.ListPattern, int)} will never discriminate 
+   * or familiarise, {@link #learnProduction(jchrest.lib.ListPattern, 
+   * jchrest.lib.ListPattern, int)} and {@link 
+   * #reinforceProduction(jchrest.lib.ListPattern, jchrest.lib.ListPattern, 
+   * java.lang.Double[], int)} will always fail and {@link #makeTemplates(int)}
+   * will never make a template.  All other parameters are set to their 
+   * defaults.
+   * <p>
+   * The same {@code mappedLtm} may be used to construct any number of models.
+   * 
+   * @param mappedLtm
+   * @param time The time that the new {@link jchrest.architecture.Chrest} model
+   * will be created.
+   */
+  public Chrest(MappedLtm mappedLtm, int time){
+    this(time, mappedLtm.isLearningObjectLocationsRelativeToAgent());
+    
+    this._mappedLtm = mappedLtm;
+    this._mappedLtmNodes = new HashMap<>();
+    this._nextLtmNodeReference = mappedLtm.getNextLtmNodeReference();
+    for(Modality modality : Modality.values()){
+      this._ltmModalityNodeCounts.get(modality).set(time, mappedLtm.getLtmModalitySize(modality));
+    }
+    
+    if(mappedLtm.getRootNode(Modality.ACTION) != -1) this._actionLtm = this.getMappedLtmNode(mappedLtm.getRootNode(Modality.ACTION));
+    if(mappedLtm.getRootNode(Modality.VERBAL) != -1) this._verbalLtm = this.getMappedLtmNode(mappedLtm.getRootNode(Modality.VERBAL));
+    if(mappedLtm.getRootNode(Modality.VISUAL) != -1) this._visualLtm = this.getMappedLtmNode(mappedLtm.getRootNode(Modality.VISUAL));
+    
+    //Calculate long-term memory metrics using the image since Nodes are only
+    //materialised when accessed.
+    this._ltmStatistics = new LtmStatistics(this);
+    for(int node = 0; node < mappedLtm.getNodeCount(); node++){
+      this._ltmStatistics.addNode(
+        mappedLtm.getModality(node),
+        mappedLtm.getDepth(node),
+        mappedLtm.getChildCount(node) == 0,
+        mappedLtm.getContents(node).size(),
+        mappedLtm.getImage(node).size(),
+        mappedLtm.getSemanticLinkCount(node),
+        mappedLtm.getProductionCount(node),
+        false,
+        time
+      );
+    }
+  }
+  
+  /**
+   * @param node The index of a {@link jchrest.architecture.Node} in the {@link
+   * jchrest.architecture.MappedLtm} that is the long-term memory of {@link 
+   * #this}.
+   * 
+   * @return The {@link jchrest.architecture.Node} materialised for the {@code 
+   * node} specified.  The {@link jchrest.architecture.Node} is materialised 
+   * when this function is first invoked for the {@code node} specified.
+   */
+  private Node getMappedLtmNode(int node){
+    Node materialisedNode = this._mappedLtmNodes.get(node);
+    
+    if(materialisedNode == null){
+      materialisedNode = this._mappedLtm.createNode(this, node, this._creationTime);
+      materialisedNode.setLtmDepth(this._mappedLtm.getDepth(node));
+      materialisedNode.restoreAssociationsWhenAccessed(node);
+      this._mappedLtmNodes.put(node, materialisedNode);
+    }
+    
+    return materialisedNode;
+  }
+  
+  /**
+   * Restores the children, productions, naming link and semantic links of the
+   * {@code materialisedNode} specified from the {@link 
+   * jchrest.architecture.MappedLtm} that is the long-term memory of {@link 
+   * #this}.  The {@link jchrest.architecture.Node Nodes} they refer to are 
+   * materialised but their own associations are not restored until they are 
+   * accessed.
+   * 
+   * @param materialisedNode
+   * @param node The index of the {@code materialisedNode} specified in the 
+   * {@link jchrest.architecture.MappedLtm}.
+   */
+  void restoreMappedLtmAssociations(Node materialisedNode, int node){
+    this._mappedLtm.restoreAssociations(materialisedNode, node, this::getMappedLtmNode);
+  }
+  
+  /**
+   * Restores the long-term memory of {@link #this} from the {@link 
+   * jchrest.architecture.LtmSnapshot} file specified (see {@link 
+   * #Chrest(java.lang.String, int)}).
+   * 
+   * @param absolutePathToSaveFile
+   * @param time 
+   */
+  private void restoreLtmSnapshot(String absolutePathToSaveFile, int time) throws IOException, NoSuchFieldException, IllegalAccessException{
+    LtmSnapshot snapshot = LtmSnapshot.read(this, absolutePathToSaveFile, time);
+    
+    //Set _learnObjectLocationsRelativeToAgent using reflection since this 
+    //field is "final" and will have been set when the Chrest constructor is 
+    //used to instantiate the new model.
+    Field learnObjectLocationsRelativeToAgentField = Chrest.class.getDeclaredField("_learnObjectLocationsRelativeToAgent");
+    learnObjectLocationsRelativeToAgentField.setAccessible(true);
+    learnObjectLocationsRelativeToAgentField.set(this, snapshot.isLearningObjectLocationsRelativeToAgent());
+    
+    //Set Node metrics.
+    this._nextLtmNodeReference = snapshot.getNextLtmNodeReference();
+    for(Modality modality : Modality.values()){
+      this._ltmModalityNodeCounts.get(modality).set(time, snapshot.getLtmModalitySize(modality));
+    }
+    
+    this._actionLtm = snapshot.getLtmModalityRootNode(Modality.ACTION);
+    this._verbalLtm = snapshot.getLtmModalityRootNode(Modality.VERBAL);
+    this._visualLtm = snapshot.getLtmModalityRootNode(Modality.VISUAL);
+  }
+  
+  /**
+   * Restores the long-term memory of {@link #this} from a file created using
+   * Java serialization (see {@link 
+   * #saveLtmStateUsingJavaSerialization(java.lang.String, int)}).
+   * 
+   * @param absolutePathToSaveFile
+   * @param time 
+   */
+  private void restoreSerializedLtm(String absolutePathToSaveFile, int time) throws IOException, ClassNotFoundException, NoSuchFieldException, IllegalAccessException{
 
-      //Instantiate lists containing the deserialized Node and Link objects.
-      //These are required since deserialized Links will point to the original
-      //versions of Nodes.  Consequently, these pointers need to be updated to
-      //point to the Nodes deserialized from the file specified.
-      ArrayList<Node> restoredNodes = new ArrayList();
-      ArrayList<Link> restoredLinks = new ArrayList();
+
+    //Instantiate lists containing the deserialized Node and Link objects.
+    //These are required since deserialized Links will point to the original
+    //versions of Nodes.  Consequently, these pointers need to be updated to
+    //point to the Nodes deserialized from the file specified.
+    ArrayList<Node> restoredNodes = new ArrayList<>();
+    ArrayList<Link> restoredLinks = new ArrayList<>();
+    boolean modelRestored = false;
+    
+    try (ObjectInputStream input = new ObjectInputStream( new BufferedInputStream(new FileInputStream(absolutePathToSaveFile)) )) {
       
-      try (ObjectInputStream input = new ObjectInputStream( new FileInputStream(absolutePathToSaveFile) )) {
-        
-        while(true){
-          Object readObject = input.readObject();
-          Class<? extends Object> objectReadClass = readObject.getClass();
-
-          ///// DESERIALIZE MODEL /////
-          if(objectReadClass.equals(Chrest.class)){
-            Chrest savedModel = (Chrest)readObject;
-
-            //Set newModel._learnObjectLocationsRelativeToAgent using reflection
-            //since this field is "final" and will have been set when the Chrest
-            //constructor is used to instantiate the new model above.
-            Field learnObjectLocationsRelativeToAgentField = Chrest.class.getDeclaredField("_learnObjectLocationsRelativeToAgent");
-            learnObjectLocationsRelativeToAgentField.setAccessible(true);
-            learnObjectLocationsRelativeToAgentField.set(this, savedModel._learnObjectLocationsRelativeToAgent);
-
-            //Set Node metrics.
-            this._nextLtmNodeReference = savedModel._nextLtmNodeReference;
-            this._totalNumberActionLtmNodes.put(time, savedModel._totalNumberActionLtmNodes.lastEntry().getValue());
-            this._totalNumberVerbalLtmNodes.put(time, savedModel._totalNumberVerbalLtmNodes.lastEntry().getValue());
-            this._totalNumberVisualLtmNodes.put(time, savedModel._totalNumberVisualLtmNodes.lastEntry().getValue());
+      while(true){
+        Object readObject = input.readObject();
+        Class<? extends Object> objectReadClass = readObject.getClass();
+
+        ///// DESERIALIZE MODEL /////
+        if(objectReadClass.equals(Chrest.class)){
+          Chrest savedModel = (Chrest)readObject;
+          modelRestored = true;
+
+          //Set newModel._learnObjectLocationsRelativeToAgent using reflection
+          //since this field is "final" and will have been set when the Chrest
+          //constructor is used to instantiate the new model above.
+          Field learnObjectLocationsRelativeToAgentField = Chrest.class.getDeclaredField("_learnObjectLocationsRelativeToAgent");
+          learnObjectLocationsRelativeToAgentField.setAccessible(true);
+          learnObjectLocationsRelativeToAgentField.set(this, savedModel._learnObjectLocationsRelativeToAgent);
+
+          //Set Node metrics.
+          this._nextLtmNodeReference = savedModel._nextLtmNodeReference;
+          for(Modality modality : Modality.values()){
+            this._ltmModalityNodeCounts.get(modality).set(time, savedModel._ltmModalityNodeCounts.get(modality).getLatest());
           }
-          ///// DESERIALIZE NODE /////
-          else if(objectReadClass.equals(Node.class)){
-            Node node = new Node(this, (Node)readObject, time);
-            restoredNodes.add(node);
-
-            //Set Node as root of a Modality, if applicable.
-            if(node.isRootNode()){
-              Modality nodeModality = node.getModality();
-              if(nodeModality == Modality.ACTION){
-                this._actionLtm = node;
-              }
-              else if(nodeModality == Modality.VERBAL){
-                this._verbalLtm = node;
-              }
-              else if(nodeModality == Modality.VISUAL){
-                this._visualLtm = node;
-              }
+        }
+        ///// DESERIALIZE NODE /////
+        else if(objectReadClass.equals(Node.class)){
+          Node node = new Node(this, (Node)readObject, time);
+          restoredNodes.add(node);
+
+          //Set Node as root of a Modality, if applicable.
+          if(node.isRootNode()){
+            Modality nodeModality = node.getModality();
+            if(nodeModality == Modality.ACTION){
+              this._actionLtm = node;
+            }
+            else if(nodeModality == Modality.VERBAL){
+              this._verbalLtm = node;
+            }
+            else if(nodeModality == Modality.VISUAL){
+              this._visualLtm = node;
             }
           }
-          ///// DESERIALIZE LINK /////
-          else if(objectReadClass.equals(Link.class)){
-            Link link = (Link)readObject;
-            restoredLinks.add(link);
-
-            Field linkCreationTimeField = Link.class.getDeclaredField("_creationTime");
-            linkCreationTimeField.setAccessible(true);
-            linkCreationTimeField.set(link, time);
-          }
-        } 
-      } catch (EOFException ex){
-        //This exception is expected and doesn't need to be logged so it can be
-        //swallowed with no record of its occurrence.  When the exception is
-        //thrown, the input from the serialized model file will be closed and 
-        //the read-in while loop above will be terminated. 
-      }
-      
-      //Correct Nodes pointed to by Links (see comment above).
-      Field linkChildField = Link.class.getDeclaredField("_child");
-      linkChildField.setAccessible(true);
-      for(Link restoredLink : restoredLinks){
-        int reference = restoredLink.getChildNode().getReference();
-        for(Node restoredNode : restoredNodes){
-          if(restoredNode.getReference() == reference){
-            linkChildField.set(restoredLink, restoredNode);
-            break;
-          }
+        }
+        ///// DESERIALIZE LINK /////
+        else if(objectReadClass.equals(Link.class)){
+          Link link = (Link)readObject;
+          restoredLinks.add(link);
+
+          Field linkCreationTimeField = Link.class.getDeclaredField("_creationTime");
+          linkCreationTimeField.setAccessible(true);
+          linkCreationTimeField.set(link, time);
+        }
+      } 
+    } catch (EOFException ex){
+      //This exception is expected and doesn't need to be logged so it can be
+      //swallowed with no record of its occurrence.  When the exception is
+      //thrown, the input from the serialized model file will be closed and 
+      //the read-in while loop above will be terminated. 
+    }
+    
+    if(!modelRestored){
+      throw new InvalidObjectException("No CHREST model was saved in " + absolutePathToSaveFile);
+    }
+    
+    //Correct Nodes pointed to by Links (see comment above).  Node references
+    //are smaller than the next LTM Node reference so restored Nodes can be
+    //indexed by their reference rather than searched for.
+    Node[] restoredNodesByReference = new Node[this._nextLtmNodeReference];
+    for(Node restoredNode : restoredNodes){
+      restoredNodesByReference[restoredNode.getReference()] = restoredNode;
+    }
+    
+    Field linkChildField = Link.class.getDeclaredField("_child");
+    linkChildField.setAccessible(true);
+    for(Link restoredLink : restoredLinks){
+      linkChildField.set(restoredLink, restoredNodesByReference[restoredLink.getChildNode().getReference()]);
+    }
+  }
+  
+  /**
+   * Creates a copy of {@link #this} whose long-term memory has the state of 
+   * {@link #this}'s long-term memory at the {@code time} specified, e.g. so 
+   * that different experiments can be run from the same point of learning.
+   * The copy and {@link #this} are independent: learning in one does not 
+   * affect the other.
+   * <p>
+   * Forking is cheap regardless of the size of long-term memory since {@link 
+   * jchrest.architecture.Node Nodes} are copied lazily: a {@link 
+   * jchrest.architecture.Node} in the copy only copies the state of its 
+   * counterpart in {@link #this} when it is first accessed, e.g. when 
+   * recognition traverses it.  History entries are never modified so the 
+   * images, contents, tests and template slots of {@link 
+   * jchrest.architecture.Node Nodes} in the copy are shared with {@link #this}
+   * rather than copied.  Consequently, {@link #this} must continue to record 
+   * its state history (see {@link #setStateHistoryRecording(boolean)}) whilst the
+   * copy is used unless it does not record its state history when forked, in 
+   * which case every {@link jchrest.architecture.Node} is copied when {@link 
+   * #this} is forked.  Similarly, every {@link jchrest.architecture.Node} is 
+   * copied if {@link jchrest.architecture.Node} images are indexed (see {@link 
+   * #setIndexNodeImages(boolean)}) since the copy must index its own {@link 
+   * jchrest.architecture.Node Nodes}.
+   * <p>
+   * The copy has the same parameters as {@link #this}, e.g. learning times and
+   * short-term memory capacities, but all other cognitive structures (short-term
+   * memory, the {@link jchrest.architecture.Perceiver}, visual-spatial fields 
+   * etc.) and the domain specifics of the copy are set to their defaults, as 
+   * when a model is restored from a file (see {@link 
+   * #Chrest(java.lang.String, int)}).  The source of random choices of the 
+   * copy is split from that of {@link #this} (see {@link #getRandom()}) so 
+   * the copies forked from a seeded model are reproducible.
+   * <p>
+   * The {@code time} specified should be no earlier than the time any learning 
+   * {@link #this} is performing completes (see {@link #getCognitionClock()})
+   * since {@link #this} must not modify its long-term memory at or before the 
+   * {@code time} specified after it has been forked.  A model and the copies
+   * forked from it may be used on different threads so long as the model is
+   * not modified whilst its copies are used.
+   * 
+   * @param time The time that the copy will be created.
+   * 
+   * @return The copy.
+   * 
+   * @throws IllegalArgumentException If the {@code time} specified is earlier
+   * than the creation time of {@link #this}.
+   * @throws IllegalStateException If the long-term memory of {@link #this} is 
+   * memory-mapped (see {@link #Chrest(jchrest.architecture.MappedLtm, int)}).
+   */
+  public Chrest fork(int time){
+    if(time < this._creationTime){
+      throw new IllegalArgumentException(
+        "The time specified (" + time + ") is earlier than the creation time " +
+        "of the model to fork (" + this._creationTime + ")"
+      );
+    }
+    
+    if(this._mappedLtm != null){
+      throw new IllegalStateException("A model whose long-term memory is memory-mapped can not be forked");
+    }
+    
+    Chrest fork = new Chrest(time, this._learnObjectLocationsRelativeToAgent);
+    
+    //Copy parameters, i.e. every primitive instance variable that isn't a 
+    //clock, the state of an activity in progress or a GUI/debugging setting.
+    try{
+      for(Field field : Chrest.class.getDeclaredFields()){
+        int modifiers = field.getModifiers();
+        if(
+          field.getType().isPrimitive() &&
+          !Modifier.isStatic(modifiers) &&
+          !Modifier.isFinal(modifiers) &&
+          !field.getName().matches("_.*Clock|_debug|_frozen|_performingFixations|_fixationsAttemptedInCurrentSet|_loadedIntoExperiment|_engagedInExperiment")
+        ){
+          field.set(fork, field.get(this));
         }
       }
-    } catch (IOException | ClassNotFoundException | IllegalArgumentException | IllegalAccessException | NoSuchFieldException | SecurityException ex) {
+    } catch (IllegalArgumentException | IllegalAccessException ex) {
       Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
     }
+    fork._reinforcementLearningTheory = this._reinforcementLearningTheory;
+    fork._random = this._random.split();
+    for(Modality modality : Modality.values()){
+      fork.getStm(modality).setCapacity(this.getStm(modality).getCapacity(time), time);
+      fork._ltmModalityNodeCounts.get(modality).set(time, this._ltmModalityNodeCounts.get(modality).get(time));
+    }
+    
+    //Replace the modality root Nodes created by the constructor with copies 
+    //of those in this model.
+    fork._forkedNodes = new IdentityHashMap<>();
+    fork._actionLtm = this._actionLtm == null ? null : fork.getForkedNode(this._actionLtm);
+    fork._verbalLtm = this._verbalLtm == null ? null : fork.getForkedNode(this._verbalLtm);
+    fork._visualLtm = this._visualLtm == null ? null : fork.getForkedNode(this._visualLtm);
+    fork._ltmStatistics = new LtmStatistics(fork, this._ltmStatistics, time);
+    
+    if(!this.canRecordStateHistory()){
+      fork.materialiseLtm();
+    }
+    if(this._imageIndex != null){
+      fork.setIndexNodeImages(true);
+    }
+    
+    return fork;
+  }
+  
+  /**
+   * @param node A {@link jchrest.architecture.Node} in the long-term memory of
+   * the model that {@link #this} was forked from (see {@link #fork(int)}).
+   * 
+   * @return The {@link jchrest.architecture.Node} in the long-term memory of 
+   * {@link #this} that copies the {@code node} specified.  The {@link 
+   * jchrest.architecture.Node} is created when this function is first invoked
+   * for the {@code node} specified but its state is not copied until it is 
+   * accessed.
+   */
+  Node getForkedNode(Node node){
+    Node forkedNode = this._forkedNodes.get(node);
+    
+    if(forkedNode == null){
+      forkedNode = Node.fork(this, node, this._creationTime);
+      this._forkedNodes.put(node, forkedNode);
+    }
+    
+    return forkedNode;
+  }
+  
+  /**
+   * Copies the state of every {@link jchrest.architecture.Node} in the 
+   * long-term memory of {@link #this} from the model {@link #this} was forked 
+   * from (see {@link #fork(int)}) now rather than when the {@link 
+   * jchrest.architecture.Node} is first accessed.
+   */
+  private void materialiseLtm(){
+    ArrayList<Node> nodesToMaterialise = new ArrayList<>();
+    for(Modality modality : Modality.values()){
+      Node modalityRootNode = this.getLtmModalityRootNode(modality);
+      if(modalityRootNode != null) nodesToMaterialise.add(modalityRootNode);
+    }
+    
+    //Getting the children of a Node materialises it.
+    while(!nodesToMaterialise.isEmpty()){
+      List<Link> children = nodesToMaterialise.remove(nodesToMaterialise.size() - 1).getChildren(this._creationTime);
+      if(children != null){
+        for(Link child : children) nodesToMaterialise.add(child.getChildNode());
+      }
+    }
   }
   
   /***************************/
   /**** DEBUGGING METHODS ****/
   /***************************/
   
+  /**
+   * Prints the {@code statement} specified if debugging is enabled (see {@link 
+   * #this#turnOnDebugging()}).
+   * <p>
+   * If the {@code statement} must be constructed, e.g. by concatenating the 
+   * result of {@link jchrest.lib.ListPattern#toString()}, the invocation should
+   * be guarded by {@link #this#isDebuggingEnabled()} so that the {@code 
+   * statement} is only constructed if it is to be printed.  Consequently, debug 
+   * statements placed in frequently invoked functions will not slow down 
+   * models that are not being debugged.
+   * 
+   * @param statement 
+   */
   public void printDebugStatement(String statement){
     if(this._debug) this._debugOutput.println(statement);
   }
@@ -528,6 +947,10 @@ public class Chrest extends Observable implements Serializable {
     return _canCreateSemanticLinks;
   }
   
+  public boolean isIndexingNodeImages(){
+    return this._imageIndex != null;
+  }
+  
   public boolean canCreateTemplates(){
     return _canCreateTemplates;
   }
@@ -568,6 +991,10 @@ public class Chrest extends Observable implements Serializable {
     return this._maximumSemanticLinkSearchDistance;
   }
   
+  public int getMaximumSemanticLinkSearchNodesVisited(){
+    return this._maximumSemanticLinkSearchNodesVisited;
+  }
+  
   public int getMinItemOrPositionOccurrencesToBeSlotValue(){
     return this._minItemOrPositionOccurrencesInNodeImagesToBeSlotValue;
   }
@@ -608,6 +1035,18 @@ public class Chrest extends Observable implements Serializable {
     return _rho;
   }
   
+  /**
+   * @return The source of every random choice made by {@link #this}, e.g. 
+   * whether to learn (see {@link #setRho(float)}), which {@link 
+   * jchrest.domainSpecifics.Fixation} to make or the order stimuli are 
+   * presented in by experiments run on {@link #this}.  Use {@link 
+   * java.util.SplittableRandom#split()} to create independent sources for 
+   * work done in parallel.
+   */
+  public SplittableRandom getRandom(){
+    return this._random;
+  }
+  
   public int getTimeTakenToDecideUponAheadOfAgentFixations(){
     return this._timeTakenToDecideUponAheadOfAgentFixations;
   }
@@ -738,6 +1177,52 @@ public class Chrest extends Observable implements Serializable {
     this._canCreateSemanticLinks = value;
   }
   
+  /**
+   * Sets whether the images of the {@link jchrest.architecture.Node Nodes} in
+   * the long-term memory of {@link #this} are indexed by the {@link 
+   * jchrest.lib.PrimitivePattern PrimitivePatterns} they contain.  When they
+   * are indexed:
+   * <ul>
+   *  <li>
+   *    {@link #getNodesWithSimilarImages(jchrest.lib.ListPattern, int)} and 
+   *    {@link #getNodeWithMostSimilarImage(jchrest.lib.ListPattern, int)} can 
+   *    be used.
+   *  </li>
+   *  <li>
+   *    If {@link #this} can create semantic links (see {@link 
+   *    #setCanCreateSemanticLinks(boolean)}), semantic links are created 
+   *    between a {@link jchrest.architecture.Node} and every {@link 
+   *    jchrest.architecture.Node} in long-term memory with a similar image 
+   *    (see {@link #setNodeImageSimilarityThreshold(int)}) when the {@link 
+   *    jchrest.architecture.Node} is added to long-term memory or its image 
+   *    changes, rather than only between {@link jchrest.architecture.Node 
+   *    Nodes} that meet in {@link jchrest.architecture.Stm}.  Such semantic 
+   *    links are created at the time the {@link jchrest.architecture.Node} is 
+   *    added or its image changes and do not consume the cognition resource.
+   *  </li>
+   * </ul>
+   * When indexing is turned on, the most recent state of long-term memory is 
+   * indexed.  Indexing can not be turned on if long-term memory is 
+   * memory-mapped (see {@link #Chrest(jchrest.architecture.MappedLtm, int)}) 
+   * since semantic links can not be created in such long-term memory.
+   * <p>
+   * Set to {@link java.lang.Boolean#FALSE} by default.
+   * 
+   * @param value 
+   */
+  public void setIndexNodeImages(boolean value){
+    if(!value){
+      this._imageIndex = null;
+    }
+    else if(this._imageIndex == null && this._mappedLtm == null){
+      this._imageIndex = new ImageIndex();
+      for(Modality modality : Modality.values()){
+        Node modalityRootNode = this.getLtmModalityRootNode(modality);
+        if(modalityRootNode != null) this._imageIndex.addNodes(modalityRootNode, Integer.MAX_VALUE);
+      }
+    }
+  }
+  
   /**
    * Sets whether this {@link jchrest.architecture.Chrest} model can convert 
    * {@link jchrest.architecture.Node Nodes} into templates.
@@ -832,6 +1317,33 @@ public class Chrest extends Observable implements Serializable {
     }
   }
   
+  /**
+   * Sets the maximum number of {@link jchrest.architecture.Node Nodes} whose 
+   * information is considered, including the {@link jchrest.architecture.Node}
+   * the search starts from, when semantic links are searched for a more 
+   * informative {@link jchrest.architecture.Node} (see {@link 
+   * #setMaximumSemanticLinkSearchDistance(int)}).  Semantic links are searched
+   * best-first so, if the limit is reached, the most informative {@link 
+   * jchrest.architecture.Node} found among the {@link 
+   * jchrest.architecture.Node Nodes} searched is retrieved.  This bounds the 
+   * cost of recognition when the maximum semantic link search distance is 
+   * large.
+   * 
+   * Set to {@link java.lang.Integer#MAX_VALUE} (no limit) by default.
+   * 
+   * @param maximumSemanticLinkSearchNodesVisited Should be >= 1.
+   */
+  public void setMaximumSemanticLinkSearchNodesVisited(int maximumSemanticLinkSearchNodesVisited){
+    if(maximumSemanticLinkSearchNodesVisited < 1){
+      throw new IllegalArgumentException(
+        "The maximum number of nodes visited during a semantic link search specified is < 1 (" + maximumSemanticLinkSearchNodesVisited + ")."
+      );
+    }
+    else{
+      this._maximumSemanticLinkSearchNodesVisited = maximumSemanticLinkSearchNodesVisited;
+    }
+  }
+  
   /**
    * Sets the time taken to compare two {@link jchrest.architecture.Node Nodes}
    * during short/long-term memory operations.
@@ -917,6 +1429,20 @@ public class Chrest extends Observable implements Serializable {
     this._rho = rho;
   }
   
+  /**
+   * Seeds the source of random choices made by {@link #this} (see {@link 
+   * #getRandom()}) so that, given the same parameters and input, {@link #this}
+   * makes the same choices regardless of the thread it runs on or how many 
+   * other models are run concurrently.
+   * <p>
+   * Unseeded by default, i.e. choices differ each time {@link #this} is run.
+   * 
+   * @param seed 
+   */
+  public void setRandomSeed(long seed){
+    this._random = new SplittableRandom(seed);
+  }
+  
   /**
    * Sets the length of time a recognised {@link 
    * jchrest.lib.VisualSpatialFieldObject} will exist on a {@link 
@@ -1334,22 +1860,12 @@ public class Chrest extends Observable implements Serializable {
    */
   public Integer getLtmModalitySize (Modality modality, int time) {
     if(this._creationTime <= time){
-      
-      String modalityString = modality.toString();
-      modalityString = modalityString.substring(0, 1).toUpperCase() + modalityString.substring(1).toLowerCase();
-      
-      try {
-        TreeMap modalityNodeCountVariable = (TreeMap)Chrest.class.getDeclaredField("_totalNumber" + modalityString + "LtmNodes").get(this);
-        Entry<Integer, Object> entry = this._executionHistoryRecordingEnabled ? 
-          modalityNodeCountVariable.floorEntry(time) :
-          modalityNodeCountVariable.lastEntry()
-          ;
-        
-        if(entry != null){
-          return (Integer)entry.getValue();
-        }
-      } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException ex) {
-        Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
+      CountHistory modalityNodeCount = this._ltmModalityNodeCounts.get(modality);
+      if(this._executionHistoryRecordingEnabled){
+        if(modalityNodeCount.isSet(time)) return modalityNodeCount.get(time);
+      }
+      else if(!modalityNodeCount.isEmpty()){
+        return modalityNodeCount.getLatest();
       }
     }
     
@@ -1368,12 +1884,127 @@ public class Chrest extends Observable implements Serializable {
     int size = 0;
     
     for(Modality modality : Modality.values()){
-      size += this.getLtmModalitySize(modality, time);
+      Integer ltmModalitySize = this.getLtmModalitySize(modality, time);
+      if(ltmModalitySize == null) return null;
+      size += ltmModalitySize;
     }
     
     return size;
   }
   
+  /**
+   * @return The metrics concerning the long-term memory of {@link #this} that 
+   * are maintained as long-term memory is modified.
+   */
+  LtmStatistics getLtmStatistics(){
+    return this._ltmStatistics;
+  }
+  
+  /**
+   * Should be invoked after the {@code node} specified is added to the 
+   * long-term memory of {@link #this} at the {@code time} specified.  If 
+   * {@link jchrest.architecture.Node} images are indexed (see {@link 
+   * #setIndexNodeImages(boolean)}), the {@code node} and the {@link 
+   * jchrest.architecture.Node Nodes} below it are indexed and semantically 
+   * linked to {@link jchrest.architecture.Node Nodes} with similar images.
+   * 
+   * @param node
+   * @param time 
+   */
+  void ltmNodeAdded(Node node, int time){
+    if(this._imageIndex != null && node.getLtmDepth() >= 0){
+      this.createSemanticLinksToNodesWithSimilarImages(this._imageIndex.addNodes(node, time), time);
+    }
+  }
+  
+  /**
+   * Should be invoked after the image of the {@code node} specified changes 
+   * from the {@code previousImage} to the {@code image} specified at the 
+   * {@code time} specified.  If {@link jchrest.architecture.Node} images are 
+   * indexed (see {@link #setIndexNodeImages(boolean)}) and the {@code node} is
+   * in long-term memory, the {@code node} is reindexed and semantically linked
+   * to {@link jchrest.architecture.Node Nodes} with similar images.
+   * 
+   * @param node
+   * @param previousImage
+   * @param image
+   * @param time 
+   */
+  void ltmNodeImageChanged(Node node, ListPattern previousImage, ListPattern image, int time){
+    if(this._imageIndex != null && node.getLtmDepth() >= 0){
+      this._imageIndex.imageChanged(node, previousImage, image);
+      this.createSemanticLinksToNodesWithSimilarImages(Arrays.asList(node), time);
+    }
+  }
+  
+  /**
+   * Creates bi-directional semantic links between each of the {@code nodes} 
+   * specified and the {@link jchrest.architecture.Node Nodes} in long-term 
+   * memory with similar images at the {@code time} specified.  All semantic 
+   * links to be added to a {@link jchrest.architecture.Node} are added 
+   * together since a {@link jchrest.architecture.Node}'s semantic link history
+   * can only be modified once at any time.  Two {@link 
+   * jchrest.architecture.Node Nodes} are only linked if semantic links can be
+   * added to both (see {@link 
+   * jchrest.architecture.Node#canAddSemanticLinks(int)}) so that no 
+   * uni-directional semantic links are created.
+   * 
+   * @param nodes
+   * @param time 
+   */
+  private void createSemanticLinksToNodesWithSimilarImages(List<Node> nodes, int time){
+    if(this._canCreateSemanticLinks){
+      LinkedHashMap<Node, List<Node>> semanticLinksToAdd = new LinkedHashMap<>();
+      for(Node node : nodes){
+        ListPattern image = node.getImage(time);
+        if(image != null && node.canAddSemanticLinks(time)){
+          for(Node similarNode : this._imageIndex.getSimilarNodes(image, this._nodeImageSimilarityThreshold, time, node)){
+            if(similarNode.canAddSemanticLinks(time)){
+              semanticLinksToAdd.computeIfAbsent(node, k -> new ArrayList<>()).add(similarNode);
+              semanticLinksToAdd.computeIfAbsent(similarNode, k -> new ArrayList<>()).add(node);
+            }
+          }
+        }
+      }
+      
+      for(Entry<Node, List<Node>> nodeSemanticLinksToAdd : semanticLinksToAdd.entrySet()){
+        nodeSemanticLinksToAdd.getKey().addSemanticLinks(nodeSemanticLinksToAdd.getValue(), time);
+      }
+    }
+  }
+  
+  /**
+   * @param pattern
+   * @param time
+   * 
+   * @return The {@link jchrest.architecture.Node Nodes} in the long-term 
+   * memory of {@link #this} with the same {@link jchrest.lib.Modality} as the 
+   * {@code pattern} specified whose images at the {@code time} specified share
+   * at least 1 and at least {@link #getNodeImageSimilarityThreshold()} 
+   * {@link jchrest.lib.PrimitivePattern PrimitivePatterns} with the {@code 
+   * pattern} specified.  If {@link jchrest.architecture.Node} images are not 
+   * indexed (see {@link #setIndexNodeImages(boolean)}), null is returned.
+   */
+  public List<Node> getNodesWithSimilarImages(ListPattern pattern, int time){
+    return this._imageIndex == null ? null : this._imageIndex.getSimilarNodes(pattern, this._nodeImageSimilarityThreshold, time, null);
+  }
+  
+  /**
+   * @param pattern
+   * @param time
+   * 
+   * @return The {@link jchrest.architecture.Node} in the long-term memory of 
+   * {@link #this} with the same {@link jchrest.lib.Modality} as the {@code 
+   * pattern} specified whose image at the {@code time} specified shares the 
+   * most {@link jchrest.lib.PrimitivePattern PrimitivePatterns} with the 
+   * {@code pattern} specified.  If no such {@link jchrest.architecture.Node} 
+   * exists or {@link jchrest.architecture.Node} images are not indexed (see 
+   * {@link #setIndexNodeImages(boolean)}), null is returned.
+   */
+  public Node getNodeWithMostSimilarImage(ListPattern pattern, int time){
+    return this._imageIndex == null ? null : this._imageIndex.getMostSimilarNode(pattern, time, null);
+  }
+  
   /**
    * @param modality
    * @return The {@link jchrest.architecture.Stm} associated with this {@link 
@@ -1392,44 +2023,23 @@ public class Chrest extends Observable implements Serializable {
   }
   
   void decrementLtmModalityNodeCount(Modality modality, int time){
-    try {
-      String modalityString = modality.toString();
-      modalityString = modalityString.substring(0, 1).toUpperCase() + modalityString.substring(1).toLowerCase();
-      
-      TreeMap modalityNodeCountVariable = (TreeMap)Chrest.class.getDeclaredField("_totalNumber" + modalityString + "LtmNodes").get(this);
-      Entry<Integer, Object> entry = modalityNodeCountVariable.floorEntry(time);
-      if(entry != null){
-        Integer currentCount = (Integer)entry.getValue();
-        
-        if(!this._executionHistoryRecordingEnabled){
-          modalityNodeCountVariable.clear();
-        }
-        
-        modalityNodeCountVariable.put(time, currentCount - 1);
-      }
-    } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException ex) {
-      Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
-    }
+    this.updateLtmModalityNodeCount(modality, -1, time);
   }
   
   void incrementLtmModalityNodeCount(Modality modality, int time){
-    try {
-      String modalityString = modality.toString();
-      modalityString = modalityString.substring(0, 1).toUpperCase() + modalityString.substring(1).toLowerCase();
+    this.updateLtmModalityNodeCount(modality, 1, time);
+  }
+  
+  private void updateLtmModalityNodeCount(Modality modality, int delta, int time){
+    CountHistory modalityNodeCount = this._ltmModalityNodeCounts.get(modality);
+    if(modalityNodeCount.isSet(time)){
+      int currentCount = modalityNodeCount.get(time);
       
-      TreeMap modalityNodeCountVariable = (TreeMap)Chrest.class.getDeclaredField("_totalNumber" + modalityString + "LtmNodes").get(this);
-      Entry<Integer, Object> entry= modalityNodeCountVariable.floorEntry(time);
-      if(entry != null){
-        Integer currentCount = (Integer)entry.getValue();
-        
-        if(!this._executionHistoryRecordingEnabled){
-          modalityNodeCountVariable.clear();
-        }
-        
-        modalityNodeCountVariable.put(time, currentCount + 1);
+      if(!this._executionHistoryRecordingEnabled){
+        modalityNodeCount.clear();
       }
-    } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException ex) {
-      Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
+      
+      modalityNodeCount.set(time, currentCount + delta);
     }
   }
   
@@ -1459,7 +2069,7 @@ public class Chrest extends Observable implements Serializable {
    */
   public Double getLtmAverageDepth (Modality modality, int time) {
     if(this._creationTime <= time){
-      return this.averageDepthBelowNode(this.getLtmModalityRootNode(modality), time);
+      return this._ltmStatistics.getAverageDepth(modality, time);
     }
     
     return null;
@@ -1474,6 +2084,10 @@ public class Chrest extends Observable implements Serializable {
    */
   public Double averageDepthBelowNode(Node node, int time) {
     if(this._creationTime <= time){
+      if(node == this.getLtmModalityRootNode(node.getModality())){
+        return this._ltmStatistics.getAverageDepth(node.getModality(), time);
+      }
+      
       List<Integer> depths = new ArrayList ();
 
       // -- find every depth
@@ -1538,7 +2152,7 @@ public class Chrest extends Observable implements Serializable {
    */
   private boolean learnPrimitive (ListPattern pattern, int time) {
     this.printDebugStatement("===== Chrest.learnPrimitive() =====");
-    this.printDebugStatement("- Attemtping to learn " + pattern.toString() + " as a primitive at time " + time);
+    if(this._debug) this.printDebugStatement("- Attemtping to learn " + pattern.toString() + " as a primitive at time " + time);
     
     assert(pattern.isFinished () && pattern.size () == 1);
 
@@ -1547,7 +2161,7 @@ public class Chrest extends Observable implements Serializable {
 
     Node primitive = new Node(this, contents, new ListPattern(pattern.getModality()), time);
 
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Attempting to append new child Node with ref: " + primitive.getReference() + 
       " and image '" + primitive.getImage(time) + "' to the " + pattern.getModalityString() + 
       " root node by a link containing test: " + contents.toString() + "."
@@ -1555,7 +2169,7 @@ public class Chrest extends Observable implements Serializable {
 
     boolean result = this.getLtmModalityRootNode(pattern).addChild(contents, primitive, time, this.getCurrentExperimentName());
     
-    this.printDebugStatement("Returning " + result);
+    if(this._debug) this.printDebugStatement("Returning " + result);
     this.printDebugStatement("===== RETURN Chrest.learnPrimitive() =====");
     return result;
   }
@@ -1567,27 +2181,7 @@ public class Chrest extends Observable implements Serializable {
    * the {@code time} specified.
    */
   public int countTemplatesInVisualLtm(int time) {
-    return this.countTemplatesBelowNode(this.getLtmModalityRootNode(Modality.VISUAL), time);
-  }
-  
-  /**
-   * @param node
-   * @param count
-   * @param time
-   * @return
-   */
-  private int countTemplatesBelowNode (Node node, int time) {
-    int count = 0;
-    if(node.isTemplate (time)) count = 1;
-
-    List<Link> children = node.getChildren(time);
-    if(children != null){
-      for (Link link : children) {
-        count += this.countTemplatesBelowNode(link.getChildNode(), time);
-      }
-    }
-
-    return count;
+    return this._ltmStatistics.getVisualTemplateCount(time);
   }
   
   /**
@@ -1616,37 +2210,7 @@ public class Chrest extends Observable implements Serializable {
    * </pre>
    */ 
   public Map<Integer, Integer> getContentSizeCounts(int time) {
-    Map<Integer, Integer> size = new HashMap();
-
-    for(Modality modality : Modality.values()){
-      this.getContentSizeCounts(this.getLtmModalityRootNode(modality), size, time);
-    }
-
-    return size;
-  }
-  
-  /**
-   * Should be used as a recursive function.
-   * 
-   * @param node
-   * @param contentSizeCountsAndFrequencies
-   * @param time
-   */
-  private void getContentSizeCounts (Node node, Map<Integer, Integer> contentSizeCountsAndFrequencies, int time) {
-    int contentsSize = node.getContents().size ();
-    
-    if (contentSizeCountsAndFrequencies.containsKey (contentsSize)) {
-      contentSizeCountsAndFrequencies.put (contentsSize, contentSizeCountsAndFrequencies.get(contentsSize) + 1);
-    } else {
-      contentSizeCountsAndFrequencies.put (contentsSize, 1);
-    }
-
-    List<Link> children = node.getChildren(time);
-    if(children != null){
-      for (Link child : children) {
-        this.getContentSizeCounts(child.getChildNode(), contentSizeCountsAndFrequencies, time);
-      }
-    }
+    return this._ltmStatistics.getContentSizeCounts(time);
   }
 
   /**
@@ -1675,40 +2239,7 @@ public class Chrest extends Observable implements Serializable {
    * </pre>
    */ 
   public Map<Integer, Integer> getImageSizeCounts(int time) {
-    Map<Integer, Integer> sizesToFrequencies = new HashMap();
-
-    for(Modality modality : Modality.values()){
-      this.getImageSizeCounts(this.getLtmModalityRootNode(modality), sizesToFrequencies, time);
-    }
-
-    return sizesToFrequencies;
-  }
-  
-  /**
-   * Should be used as a recursive function.
-   * 
-   * @param node
-   * @param sizesToFrequencies
-   * @param time
-   */
-  private void getImageSizeCounts (Node node, Map<Integer, Integer> sizesToFrequencies, int time) {
-    ListPattern image = node.getImage(time);
-    if(image != null){
-      int size = image.size();
-    
-      if (sizesToFrequencies.containsKey (size)) {
-        sizesToFrequencies.put (size, sizesToFrequencies.get(size) + 1);
-      } else {
-        sizesToFrequencies.put (size, 1);
-      }
-    }
-
-    List<Link> children = node.getChildren(time);
-    if(children != null){
-      for (Link child : children) {
-        this.getImageSizeCounts(child.getChildNode(), sizesToFrequencies, time);
-      }
-    }
+    return this._ltmStatistics.getImageSizeCounts(time);
   }
   
   /**
@@ -1742,6 +2273,9 @@ public class Chrest extends Observable implements Serializable {
    * node} specified at {@code time}.
    */
   public double averageImageSize (Node node, int time) {
+    if(node == this.getLtmModalityRootNode(node.getModality())){
+      return (double)this._ltmStatistics.getImageSizeSum(node.getModality(), time) / node.size(time);
+    }
     return (double)this.totalImageSize(node, time) / node.size(time);
   }
   
@@ -1781,7 +2315,7 @@ public class Chrest extends Observable implements Serializable {
    * {@link jchrest.lib.Modality#VISUAL} LTM at the time specified.
    */
   public int getProductionCount(int time){
-    return this.getProductionCount(_visualLtm, true, time);
+    return this._ltmStatistics.getVisualProductionCount(time);
   }
   
   /**
@@ -1836,46 +2370,8 @@ public class Chrest extends Observable implements Serializable {
    * @return A map of the number of semantic links to frequencies for this 
    * {@link #this} model's LTM at the time specified.
    */ 
-  public Map<Integer, Integer> getSemanticLinkCountsAndFrequencies(int time) {
-    Map<Integer, Integer> semanticLinkCountsAndFrequencies = new HashMap();
-
-    for(Modality modality : Modality.values()){
-      this.getSemanticLinkCountsAndFrequencies(this.getLtmModalityRootNode(modality), semanticLinkCountsAndFrequencies, time);
-    }
-
-    return semanticLinkCountsAndFrequencies;
-  }
-  
-  /**
-   * Add to a map from number of semantic links to frequency, for this {@link 
-   * #this} and its children.
-   * 
-   * @param node The {@link to start counting frequencies from.
-   * @param semanticLinkCountsAndFrequencies 
-   * @param time
-   */
-  private void getSemanticLinkCountsAndFrequencies (Node node, Map<Integer, Integer> semanticLinkCountsAndFrequencies, int time) {
-    int semanticLinkCount = 0;
-    
-    List<Node> semanticLinks = node.getSemanticLinks(time);
-    if(semanticLinks != null){
-      semanticLinkCount = semanticLinks.size ();
-    }
-    
-    if (semanticLinkCount > 0) { // do not count nodes with no semantic links
-      if (semanticLinkCountsAndFrequencies.containsKey (semanticLinkCount)) {
-        semanticLinkCountsAndFrequencies.put (semanticLinkCount, semanticLinkCountsAndFrequencies.get(semanticLinkCount) + 1);
-      } else {
-        semanticLinkCountsAndFrequencies.put (semanticLinkCount, 1);
-      }
-    }
-
-    List<Link> children = node.getChildren(time);
-    if(children != null){
-      for (Link child : children) {
-        this.getSemanticLinkCountsAndFrequencies(child.getChildNode(), semanticLinkCountsAndFrequencies, time);
-      }
-    }
+  public Map<Integer, Integer> getSemanticLinkCountsAndFrequencies(int time) {
+    return this._ltmStatistics.getSemanticLinkCountsAndFrequencies(time);
   }
   
   public void setExecutionHistoryRecording(boolean value){
@@ -1886,6 +2382,35 @@ public class Chrest extends Observable implements Serializable {
     return this._executionHistoryRecordingEnabled;
   }
   
+  /**
+   * Sets whether {@link #this} records the history of its state.
+   * <p>
+   * If set to {@link java.lang.Boolean#FALSE}, the histories maintained by the
+   * {@link jchrest.architecture.Node Nodes} in long-term memory, {@link 
+   * jchrest.architecture.Stm}, {@link jchrest.architecture.Perceiver}, {@link 
+   * jchrest.architecture.VisualSpatialField VisualSpatialFields} and the 
+   * {@link jchrest.domainSpecifics.Fixation Fixations} scheduled by {@link 
+   * #this} only retain their latest state (and the state it replaced) when 
+   * they are next modified (see {@link 
+   * jchrest.lib.HistoryTreeMap#discardHistory()}).  Consequently, the state of
+   * {@link #this} can only be retrieved at times after its penultimate 
+   * modification.  Setting this to {@link java.lang.Boolean#TRUE} again will 
+   * not restore any history discarded.
+   * 
+   * @param value 
+   */
+  public void setStateHistoryRecording(boolean value){
+    this._stateHistoryRecordingEnabled = value;
+  }
+  
+  /**
+   * @return Whether {@link #this} records the history of its state (see 
+   * {@link #setStateHistoryRecording(boolean)}).
+   */
+  public boolean canRecordStateHistory(){
+    return this._stateHistoryRecordingEnabled;
+  }
+  
   /**
    * @param experiment
    * @return The maximum time set for the specified experiment, if one is set.  
@@ -2127,7 +2652,8 @@ public class Chrest extends Observable implements Serializable {
    *    refuses to learn even if the {@code pattern} retrieves a {@link 
    *    jchrest.architecture.Node} from long-term memory that doesn't return 
    *    {@code pattern} when {@link jchrest.architecture.Node#getImage(int)} is 
-   *    invoked on it.
+   *    invoked on it or if the long-term memory of {@link #this} is a {@link 
+   *    jchrest.architecture.MappedLtm}.
    *  </li>
    *  <li>
    *    {@link jchrest.lib.Status#DISCRIMINATION_SUCCESSFUL} if discrimination 
@@ -2149,14 +2675,14 @@ public class Chrest extends Observable implements Serializable {
    */
   public ChrestStatus recogniseAndLearn (ListPattern pattern, int time) { 
     this.printDebugStatement("===== Chrest.recogniseAndLearn() =====");
-    this.printDebugStatement("- Recognising and learning " + pattern.toString() + " at time " + time);
+    if(this._debug) this.printDebugStatement("- Recognising and learning " + pattern.toString() + " at time " + time);
     ChrestStatus result;
     
     //Try to recognise the pattern specified; will return null if the cognition
     //resource is not free.
     Node nodeRecognised = recognise(pattern, time, true);
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Recognition returned " + (nodeRecognised == null ? 
         "null" : 
         "node with reference " + nodeRecognised.getReference()
@@ -2169,7 +2695,7 @@ public class Chrest extends Observable implements Serializable {
       
       //Set current time to be equal to the cognitive clock since lerning should 
       //only continue after a node has been retrieved from LTM.
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- A Node has been recognised, the current time will be " +
         "set to the current value of the cognition clock (" + 
         this._cognitionClock + ") since learning can only continue after LTM " +
@@ -2183,25 +2709,29 @@ public class Chrest extends Observable implements Serializable {
       ListPattern recognisedNodeImage = nodeRecognised.getImage(time);
       
       if(recognisedNodeImage.equals(pattern)){
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- The image of the recognised Node (" + recognisedNodeImage.toString() + ") " +
           "matches the input pattern so the input has been learned therefore, " +
           "no learning will occur, exiting"
         );
         result = ChrestStatus.INPUT_ALREADY_LEARNED;
       }
-      else if(Math.random() >= _rho){
+      else if(this._mappedLtm != null){
+        this.printDebugStatement("- Long-term memory is memory-mapped so can not be modified, exiting");
+        result = ChrestStatus.LEARNING_REFUSED;
+      }
+      else if(this._random.nextDouble() >= _rho){
         this.printDebugStatement("- The model randomly refused to learn, exiting");
         result = ChrestStatus.LEARNING_REFUSED;
       }
       else {
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- The image of the recognised Node (" + recognisedNodeImage.toString() + ") " +
           "does not match the input pattern so the input has not been fully learned " +
           "and the model did not randomly refuse to learn, determining if discrimination " +
           "or familiarisation should occur."
         );
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- If any of the following statements evaluate to true, discrimination " +
           "will occur.  Otherwise, familiarisation will occur." +
           "\n  ~ Is the Node recognised a root LTM Node: " + nodeRecognised.isRootNode() +
@@ -2230,7 +2760,7 @@ public class Chrest extends Observable implements Serializable {
       );
     }
     
-    this.printDebugStatement("Returning " + result.name());
+    if(this._debug) this.printDebugStatement("Returning " + result.name());
     this.printDebugStatement("===== RETURN Chrest.recogniseAndLearn() =====");
     return result;
   }
@@ -2268,7 +2798,7 @@ public class Chrest extends Observable implements Serializable {
    */
   public Node recognise (ListPattern pattern, Integer time, Boolean considerTimeAndAddRecognisedNodeToStm) {
     this.printDebugStatement("===== Chrest.recognise() =====");
-    this.printDebugStatement("- Time " + (considerTimeAndAddRecognisedNodeToStm ? 
+    if(this._debug) this.printDebugStatement("- Time " + (considerTimeAndAddRecognisedNodeToStm ? 
       "will" : "will not") + " be considered and the node returned by the " +
       "recognition process performed to ascertain if learning should occur " + 
       (considerTimeAndAddRecognisedNodeToStm ? "will" : "will not") + " be " +
@@ -2280,7 +2810,7 @@ public class Chrest extends Observable implements Serializable {
     ////////////////////////////////////////////////////
     
     if(considerTimeAndAddRecognisedNodeToStm){
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Checking if cognition resource free (is the current value " + 
         "of the cognition clock (" + this._cognitionClock + ") <= the time " + 
         "this function was invoked (" + time + ")?"
@@ -2290,7 +2820,7 @@ public class Chrest extends Observable implements Serializable {
     if(this.isCognitionFree(time) || !considerTimeAndAddRecognisedNodeToStm){
       
       if(considerTimeAndAddRecognisedNodeToStm) this.printDebugStatement("- Cognition resource free.");
-      this.printDebugStatement("- Attempting to recognise " + pattern.toString() + ".");
+      if(this._debug) this.printDebugStatement("- Attempting to recognise " + pattern.toString() + ".");
       
       ////////////////////////////////////////
       ///// DETERMINE MODALITY TO SEARCH /////
@@ -2298,13 +2828,13 @@ public class Chrest extends Observable implements Serializable {
       
       Node currentNode = this.getLtmModalityRootNode(pattern);
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "  ~ Retrieved " + currentNode.getImage(time).getModalityString() + 
         " modality root node"
       );
       
       if(considerTimeAndAddRecognisedNodeToStm){
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- Incrementing current time (" + time + ") by the time taken " +
           "to traverse a LTM link (" + this._ltmLinkTraversalTime + ")"
         );
@@ -2316,52 +2846,62 @@ public class Chrest extends Observable implements Serializable {
       ///// TRAVERSE LTM VERTICALLY /////
       ///////////////////////////////////
       
-      List<Link> currentNodeTestLinks = currentNode.getChildren(time);
       ListPattern sortedPattern = pattern;
-      int linkToCheck = 0;
-
-      while(currentNodeTestLinks != null && linkToCheck < currentNodeTestLinks.size()) {
-        Link currentNodeTestLink = currentNodeTestLinks.get(linkToCheck);
+      
+      //If long-term memory is memory-mapped, traverse the image instead and 
+      //skip the traversal of materialised Nodes below.
+      int mappedLtmNodeReached = -1;
+      if(this._mappedLtm != null){
+        mappedLtmNodeReached = this._mappedLtm.getNodeReached(sortedPattern);
+        currentNode = this.getMappedLtmNode(mappedLtmNodeReached);
         
-        this.printDebugStatement(
-          "- Checking if " + pattern.toString() + " passes test (" + 
-          currentNodeTestLink.getTest().toString() + ") on link " + 
-          linkToCheck + " from node " + currentNode.getReference() + "."
-        );
+        if(considerTimeAndAddRecognisedNodeToStm){
+          time += this._ltmLinkTraversalTime * this._mappedLtm.getDepth(mappedLtmNodeReached);
+        }
         
-        if (currentNodeTestLink.passes (sortedPattern)) { // descend a test link in network
-          this.printDebugStatement("  ~ Test passed, descending the link to its child node");
-          
-          if(considerTimeAndAddRecognisedNodeToStm){
-            this.printDebugStatement(
-              "  ~ Incrementing the current time (" + time + ") by the time " +
-              "taken to traverse a LTM link (" + this._ltmLinkTraversalTime + ")."
-            );
-            
-            time += this._ltmLinkTraversalTime;
-          }
-          
-          // reset the current node, list of children and link index
-          currentNode = currentNodeTestLink.getChildNode ();
-          currentNodeTestLinks = currentNode.getChildren(time);
-          linkToCheck = 0;
-          
-          // remove the matched test from the sorted pattern
-          sortedPattern = sortedPattern.remove (currentNodeTestLink.getTest ());
-        } 
-        else { // move on to the next link on same level
-          
-          this.printDebugStatement(
-           "  ~ Test not passed, checking the next test link of node " +
-            currentNode.getReference() + "."
+        if(this._debug) this.printDebugStatement(
+          "- Traversed memory-mapped long-term memory to node " + 
+          currentNode.getReference() + "."
+        );
+      }
+      
+      if(this._debug) this.printDebugStatement(
+        "- Checking if " + sortedPattern.toString() + " passes a test on a " +
+        "link from node " + currentNode.getReference() + "."
+      );
+      Link currentNodeTestLinkPassed = (mappedLtmNodeReached == -1 ? currentNode.getChildPassedBy(sortedPattern, time) : null);
+
+      while(currentNodeTestLinkPassed != null) {
+        if(this._debug) this.printDebugStatement(
+          "  ~ Test (" + currentNodeTestLinkPassed.getTest().toString() + ") " +
+          "passed, descending the link to its child node"
+        );
+
+        if(considerTimeAndAddRecognisedNodeToStm){
+          if(this._debug) this.printDebugStatement(
+            "  ~ Incrementing the current time (" + time + ") by the time " +
+            "taken to traverse a LTM link (" + this._ltmLinkTraversalTime + ")."
           );
-          
-          linkToCheck += 1;
+
+          time += this._ltmLinkTraversalTime;
         }
+
+        // reset the current node and remove the matched test from the sorted 
+        // pattern
+        currentNode = currentNodeTestLinkPassed.getChildNode ();
+        sortedPattern = sortedPattern.remove (currentNodeTestLinkPassed.getTest ());
+        
+        if(this._debug) this.printDebugStatement(
+          "- Checking if " + sortedPattern.toString() + " passes a test on a " +
+          "link from node " + currentNode.getReference() + "."
+        );
+        currentNodeTestLinkPassed = currentNode.getChildPassedBy(sortedPattern, time);
       }
       
+      this.printDebugStatement("  ~ No test passed.");
+      
       if(considerTimeAndAddRecognisedNodeToStm){
-        this.printDebugStatement("- Cognition clock will be set to the current time (" + time + ").");
+        if(this._debug) this.printDebugStatement("- Cognition clock will be set to the current time (" + time + ").");
         this._cognitionClock = time;
       }
       
@@ -2378,7 +2918,7 @@ public class Chrest extends Observable implements Serializable {
       if(!currentNode.isRootNode()){
       
         this.printDebugStatement("- A non-root Node has been retrieved.");
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "-Searching horizontally through long-term memory for a more " +
           "informative node by searching the semantic links of node " + 
           currentNode.getReference()
@@ -2389,8 +2929,13 @@ public class Chrest extends Observable implements Serializable {
         /////////////////////////////////////
       
         // try to retrieve a more informative node in semantic links
-        currentNode = this.searchSemanticLinks(currentNode, this._maximumSemanticLinkSearchDistance, time, false);
-        this.printDebugStatement(
+        if(this._mappedLtm != null){
+          currentNode = this.getMappedLtmNode(this._mappedLtm.searchSemanticLinks(mappedLtmNodeReached, this._maximumSemanticLinkSearchDistance, this._maximumSemanticLinkSearchNodesVisited));
+        }
+        else{
+          currentNode = this.searchSemanticLinks(currentNode, time);
+        }
+        if(this._debug) this.printDebugStatement(
           "- Semantic link search retrieved node with reference " + 
           currentNode.getReference() + "."
         );
@@ -2401,7 +2946,7 @@ public class Chrest extends Observable implements Serializable {
         
         if(considerTimeAndAddRecognisedNodeToStm){
 
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "- Current time will now be set to the value of the cognition " +
             "clock, i.e. the time semantic link search completed: " + 
             this._cognitionClock + ".  Adding node " + currentNode.getReference() + 
@@ -2417,7 +2962,7 @@ public class Chrest extends Observable implements Serializable {
       }
       
       // return retrieved node
-      this.printDebugStatement("- Returning node " + currentNode.getReference());
+      if(this._debug) this.printDebugStatement("- Returning node " + currentNode.getReference());
       this.printDebugStatement("===== RETURN =====");
       return currentNode;
     }
@@ -2434,132 +2979,32 @@ public class Chrest extends Observable implements Serializable {
   
   /**
    * Retrieves the {@link jchrest.architecture.Node} with the greatest 
-   * information rating (see {@link jchrest.architecture.Node#information(int)} 
-   * by following the semantic links from the {@link jchrest.architecture.Node}
-   * specified.  If a semantic link is traversed, this {@link #this} model's
-   * attention clock is incremented by the time taken to traverse a {@link 
-   * jchrest.architecture.Link} in long-term memory.
-   * 
-   * Modifies the cognition clock only.
+   * information rating (see {@link jchrest.architecture.Node#information(int)})
+   * at the {@code time} specified that is within {@link 
+   * #getMaximumSemanticLinkSearchDistance()} semantic links of the {@link 
+   * jchrest.architecture.Node} specified.  At most {@link 
+   * #getMaximumSemanticLinkSearchNodesVisited()} {@link 
+   * jchrest.architecture.Node Nodes} are visited (see {@link 
+   * jchrest.architecture.SemanticLinkSearch}).
    * 
    * @param node The {@link jchrest.architecture.Node} to start the search from.
-   * @param semanticSearchDistanceRemaining
    * @param time
    * 
    * @return 
    */
-  private Node searchSemanticLinks (Node node, int semanticSearchDistanceRemaining, int time, boolean considerTime) {
-    String func = "- searchSemanticLinks: ";
-    
-    this.printDebugStatement(func + "START");
-    this.printDebugStatement(
-      func + "Time " + (considerTime ? "will" : "will not") + " be considered."
+  private Node searchSemanticLinks (Node node, int time) {
+    Node mostInformativeNode = new SemanticLinkSearch<Node>(
+      nodeToSearch -> nodeToSearch.getSemanticLinks(time), 
+      nodeToSearch -> nodeToSearch.information(time)
+    ).search(node, this._maximumSemanticLinkSearchDistance, this._maximumSemanticLinkSearchNodesVisited);
+    
+    if(this._debug) this.printDebugStatement(
+      "- searchSemanticLinks: most informative node within " + 
+      this._maximumSemanticLinkSearchDistance + " semantic links of node " + 
+      node.getReference() + " is node " + mostInformativeNode.getReference()
     );
-      
-    String debugStatement = func + "Checking if the maximum semantic search " +
-      "distance has been reached";
-      
-    if(considerTime){
-      debugStatement += "or if the cognition resource is busy at the time this " +
-        "function is invoked (cognition clock = " + this._cognitionClock + ", " +
-        "time function invoked = " + time + ")";
-    }
-
-    debugStatement += ".";
-    this.printDebugStatement(debugStatement);
     
-    //If time costs are to be incurred and the cognition resource is busy or the 
-    //limit of semantic search has been reached, return the current node.
-    if(
-      (considerTime && !this.isCognitionFree(time)) ||
-      semanticSearchDistanceRemaining <= 0
-    ){
-      debugStatement = func + "Maximum semantic search distance has been reached (" + 
-        (semanticSearchDistanceRemaining <= 0) + ")";
-        
-      if(considerTime){
-        debugStatement += "or cognitive resource is not free (" + !this.isCognitionFree(time) + ")";
-      }
-        
-      debugStatement += ". Returning current node (ref: " + node.getReference() + ").";
-      this.printDebugStatement(debugStatement);
-      this.printDebugStatement(func + "RETURN");
-      
-      return node;
-    }
-    else{
-      
-      this.printDebugStatement(
-        func + "Checks passed.  Comparing information count of nodes " + 
-        "semantically linked to current node " + node.getReference() + "."
-      );
-      
-      Node bestNode = node;
-      List<Node> semanticLinks = node.getSemanticLinks(time);
-      if(semanticLinks != null){
-        for (Node comparisonNode : semanticLinks) {
-
-          this.printDebugStatement(
-            func + "Checking semantically linked to node (ref: " + 
-            comparisonNode.getReference() + ")."
-          );
-
-          if(considerTime){
-            this.printDebugStatement(
-              "Incrementing current time (" + time + ") by the time taken to " +
-              "traverse a long-term memory link (" + this._ltmLinkTraversalTime + 
-              ") and setting the cognition clock to this value."
-            );
-
-            this._cognitionClock = time + this._ltmLinkTraversalTime;
-          }
-
-          this.printDebugStatement(
-            "Searching semantic links of node semantically linked to node " +
-            "with ref: " + comparisonNode.getReference() + "."
-          );
-
-          Node bestChild = this.searchSemanticLinks(comparisonNode, semanticSearchDistanceRemaining - 1, this._cognitionClock, considerTime);
-
-          this.printDebugStatement(
-            func + "Checking if most informative semantic child node (" + 
-            bestChild.getReference() + ") is more informative than this node (" + 
-            bestNode.getReference() + ")."
-          );
-
-          if(considerTime){
-
-            this.printDebugStatement(
-              "Since a node comparison is occurring, the current time will be " +
-              "incremented by the time taken to perform a node comparison (" + 
-              this._nodeComparisonTime + ") and the cognition clock will be set " +
-              "to this value."
-            );
-
-            this._cognitionClock += this._nodeComparisonTime;
-          }
-
-          if(
-            bestChild.information(considerTime ? this._cognitionClock : time) > 
-            bestNode.information (considerTime ? this._cognitionClock : time)
-          ) {
-
-            this.printDebugStatement(
-              func + "Most informative semantic child node (" + bestChild.getReference() + 
-              ") is more informative than this node " + bestNode.getReference() + 
-              " so node " + bestChild.getReference() + " will be returned"
-            );
-
-            bestNode = bestChild;
-          }
-        }
-      }
-
-      this.printDebugStatement(func + "Returning node " + bestNode.getReference());
-      this.printDebugStatement(func + "RETURN");
-
-      return bestNode;
-    }
+    return mostInformativeNode;
   }
   
   /********************************/
@@ -2688,7 +3133,7 @@ public class Chrest extends Observable implements Serializable {
    */
   public ChrestStatus learnProduction(ListPattern vision, ListPattern action, int time){
     this.printDebugStatement("===== Chrest.learnProduction() =====");
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Attempting to learn a production between the vision (" + vision.toString() + 
       ") and action (" + action.toString() + ") specified at time " + time
     );
@@ -2698,19 +3143,21 @@ public class Chrest extends Observable implements Serializable {
     ///// PRELIMINARY CHECKS /////
     //////////////////////////////
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Checking if the following statements all evaluate to true: " +
       "\n  ~ This CHREST model exists at the time this method is requested: " + (this._creationTime <= time) + 
       "\n  ~ Attention is free at the time this method is requested: " + (this.isAttentionFree(time)) +
       "\n  ~ Vision specified has Visual modality: " + (vision.getModality() == Modality.VISUAL) +
-      "\n  ~ Action specified has Action modality: " + (action.getModality() == Modality.ACTION)
+      "\n  ~ Action specified has Action modality: " + (action.getModality() == Modality.ACTION) +
+      "\n  ~ Long-term memory is not memory-mapped: " + (this._mappedLtm == null)
     );
     
     if(
       this._creationTime <= time && 
       this.isAttentionFree(time) &&
       vision.getModality() == Modality.VISUAL &&
-      action.getModality() == Modality.ACTION
+      action.getModality() == Modality.ACTION &&
+      this._mappedLtm == null
     ){
       this.printDebugStatement("    + All OK");
       
@@ -2720,7 +3167,7 @@ public class Chrest extends Observable implements Serializable {
 
       ///// GET MATCHING VISUAL NODES /////
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Checking if visual STM is empty (" + 
         this.getStm(Modality.VISUAL).getContents(time).isEmpty() + "), if it " +
         "is, it will not be searched for Nodes matching the vision input."
@@ -2742,7 +3189,7 @@ public class Chrest extends Observable implements Serializable {
         //performing the visual STM searcg.
         matchingVisualNodes = this.searchStm(vision, time);
         time = this._attentionClock;
-        this.printDebugStatement("- Visual STM search complete, current time set to time search completes (" + time + ")");
+        if(this._debug) this.printDebugStatement("- Visual STM search complete, current time set to time search completes (" + time + ")");
       }
       else{
         this.printDebugStatement("  ~ Visual STM is empty"); 
@@ -2750,7 +3197,7 @@ public class Chrest extends Observable implements Serializable {
       
       ///// GET MATCHING ACTION NODES /////
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Checking if action STM is empty (" + 
         this.getStm(Modality.VISUAL).getContents(time).isEmpty() + "), if it " +
         "is, it will not be searched for Nodes matching the action input."
@@ -2766,24 +3213,24 @@ public class Chrest extends Observable implements Serializable {
         //visual and action STM searches.
         matchingActionNodes = this.searchStm(action, time);
         time = Math.max(time, this._attentionClock);
-        this.printDebugStatement("- Action STM search complete, current time set to time search completes (" + time + ")");
+        if(this._debug) this.printDebugStatement("- Action STM search complete, current time set to time search completes (" + time + ")");
       }
       else{
         this.printDebugStatement("  ~ Action STM is empty"); 
       }
       
-      this.printDebugStatement("- Time after searches complete: " + time);
+      if(this._debug) this.printDebugStatement("- Time after searches complete: " + time);
       
       ArrayList<List<Node>> matchingVisualAndActionNodes = new ArrayList();
       matchingVisualAndActionNodes.add(matchingVisualNodes);
       matchingVisualAndActionNodes.add(matchingActionNodes);
       this.printDebugStatement("- Matching Nodes: \n  ~ Visual:");
       for(Node node : matchingVisualAndActionNodes.get(0)){
-        this.printDebugStatement("    + Ref: " + node.getReference() + ", contents: " + node.getContents().toString());
+        if(this._debug) this.printDebugStatement("    + Ref: " + node.getReference() + ", contents: " + node.getContents().toString());
       }
       this.printDebugStatement("  ~ Action:");
       for(Node node : matchingVisualAndActionNodes.get(1)){
-        this.printDebugStatement("    + Ref: " + node.getReference() + ", contents: " + node.getContents().toString());
+        if(this._debug) this.printDebugStatement("    + Ref: " + node.getReference() + ", contents: " + node.getContents().toString());
       }
       
       ////////////////////////////////////////////////////
@@ -2798,7 +3245,7 @@ public class Chrest extends Observable implements Serializable {
         ListPattern input = (i == 0 ? vision : action);
         String inputType = (i == 0 ? "vision" : "action");
         String modality = (i == 0 ? "visual" : "action");
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
             "- Setting the " + modality + " Node to use in the production to " +
             "either the first Node returned whose contents equals the " + inputType +
             " or, if no such Node has been returned, the Node returned whose " +
@@ -2808,19 +3255,19 @@ public class Chrest extends Observable implements Serializable {
       
         List<Node> matchingNodes = matchingVisualAndActionNodes.get(i);
         for(Node node : matchingNodes){
-          this.printDebugStatement("  ~ Processing Node " + node.getReference());
+          if(this._debug) this.printDebugStatement("  ~ Processing Node " + node.getReference());
         
           ListPattern nodeContents = node.getContents();
           ListPattern nodeImage = node.getImage(time);
-          this.printDebugStatement("    + Contents: " + nodeContents);
-          this.printDebugStatement("    + Image: " + nodeImage);
+          if(this._debug) this.printDebugStatement("    + Contents: " + nodeContents);
+          if(this._debug) this.printDebugStatement("    + Image: " + nodeImage);
           
           ///////////////////////////////////////
           ///// CHECK IF IMAGE EQUALS INPUT /////
           ///////////////////////////////////////
           
           if(nodeImage.equals(input)){
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "      = Image equals " + inputType + ", setting this Node to " +
               "be the " + modality + " Node to use in the production and ending " +
               "search for " + modality + " Node to use in production"
@@ -2840,7 +3287,7 @@ public class Chrest extends Observable implements Serializable {
               nodesToBeUsed[i].getImage(time).size() < nodeImage.size()
             )
           ){
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "      = Image matches " + inputType + ", setting this Node to " +
               "be the " + modality + " Node to use in the production, for the " +
               "moment"
@@ -2857,7 +3304,7 @@ public class Chrest extends Observable implements Serializable {
             nodesToBeUsed[i].getContents().size() < nodeContents.size()
           ){
           
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "    + Either no " + modality + " STM Node has been set to use " + 
               "in the production yet (" + (nodesToBeUsed[i] == null) + ") or the " + 
               modality + " STM Node to use in the production has been set " +
@@ -2870,7 +3317,7 @@ public class Chrest extends Observable implements Serializable {
             nodesToBeUsed[i] = node;
           }
           else{
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "    + The contents of this node does not equal the " + inputType + 
               " and is not bigger than the contents of the current Node to " +
               "use in the production"
@@ -2892,7 +3339,7 @@ public class Chrest extends Observable implements Serializable {
       Node actionNode = nodesToBeUsed[1];
       
       if(visualNode != null && actionNode != null){
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "  ~ Visual and action Nodes specified, attempting to add " +
           "production between Nodes " + visualNode.getReference() + " and " + 
           actionNode.getReference() + " at current time (" + time + ") plus " +
@@ -2902,7 +3349,7 @@ public class Chrest extends Observable implements Serializable {
         result = visualNode.addProduction(actionNode, time);
         
         if(result == ChrestStatus.LEARN_PRODUCTION_SUCCESSFUL){
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "    + Production added successfully, setting cognition clock to " +
             "the time the production was added (" + time + ")"
           );
@@ -2949,7 +3396,7 @@ public class Chrest extends Observable implements Serializable {
       }
     }
     
-    this.printDebugStatement("- Returning " + result.name());
+    if(this._debug) this.printDebugStatement("- Returning " + result.name());
     this.printDebugStatement("===== RETURN Chrest.learnProduction() =====");
     return result;
   }
@@ -2978,6 +3425,10 @@ public class Chrest extends Observable implements Serializable {
    *    The association to create doesn't already exist between {@code 
    *    nodeToAssociateFrom} and {@code nodeToAssociateTo}.
    *  </li>
+   *  <li>
+   *    The long-term memory of {@link #this} is not a {@link 
+   *    jchrest.architecture.MappedLtm}.
+   *  </li>
    * </ol>
    * 
    * The types of association created are as follows:
@@ -3059,17 +3510,17 @@ public class Chrest extends Observable implements Serializable {
     this.printDebugStatement("===== Chrest.associatedNodes() =====");
     boolean associationCreated = false;
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Checking if cognition is free at time function invoked (" + time + ") " + 
       "and the nodes to associate aren't root nodes"
     );
-    if(this.isCognitionFree(time) && !nodeToAssociateFrom.isRootNode() && !nodeToAssociateTo.isRootNode()){
+    if(this.isCognitionFree(time) && !nodeToAssociateFrom.isRootNode() && !nodeToAssociateTo.isRootNode() && this._mappedLtm == null){
       
       this.printDebugStatement("  ~ All OK");
       Modality nodeToAssociateFromModality = nodeToAssociateFrom.getModality();
       Modality nodeToAssociateToModality = nodeToAssociateTo.getModality();
     
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Checking modality of nodes to associate (node to associate from modality: '" +
         nodeToAssociateFromModality.toString() + "', node to associate to modality: '" +
         nodeToAssociateToModality.toString() + "'  If these are equal and the model " +
@@ -3098,12 +3549,18 @@ public class Chrest extends Observable implements Serializable {
           );
           
           time += this._nodeComparisonTime;
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "  ~ Time incremented by node comparison time specified (" + 
             this._nodeComparisonTime + ") to " + time
           );
           
-          if(nodeToAssociateTo.getImage(time).isSimilarTo(nodeToAssociateFrom.getImage(time), this._nodeImageSimilarityThreshold)){
+          ListPattern nodeToAssociateFromImage = nodeToAssociateFrom.getImage(time);
+          if(this._associationImage != nodeToAssociateFromImage){
+            this._associationImage = nodeToAssociateFromImage;
+            this._associationImageSimilarity = new PatternSimilarity(nodeToAssociateFromImage);
+          }
+          
+          if(this._associationImageSimilarity.isSimilarTo(nodeToAssociateTo.getImage(time), this._nodeImageSimilarityThreshold)){
             this.printDebugStatement("  ~ Node images similar enough to create semantic link between them");
             
             this.printDebugStatement("- Determining if a uni/bi-directional semantic link needs to be created");
@@ -3117,7 +3574,7 @@ public class Chrest extends Observable implements Serializable {
                 "association from to node to add association to."
               );
               time += this._semanticLinkCreationTime;
-              this.printDebugStatement(
+              if(this._debug) this.printDebugStatement(
                 "  ~ Time incremented by semantic link creation time specified (" + 
                 this._semanticLinkCreationTime + ") to " + time
               );
@@ -3131,7 +3588,7 @@ public class Chrest extends Observable implements Serializable {
                 "association to to node to add association from."
               );
               time += this._semanticLinkCreationTime;
-              this.printDebugStatement(
+              if(this._debug) this.printDebugStatement(
                 "  ~ Time incremented by semantic link creation time specified (" + 
                 this._semanticLinkCreationTime + ") to " + time
               );
@@ -3162,7 +3619,7 @@ public class Chrest extends Observable implements Serializable {
         if(namedBy == null || !namedBy.equals(nodeToAssociateTo)){
           
           time += this._namingLinkCreationTime;
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "  ~ Nodes do not have a naming link between them already, " +
             "creating naming link and incrementing time by naming link creation time " +
             "specified (" + this._namingLinkCreationTime + ") to " + time
@@ -3172,7 +3629,7 @@ public class Chrest extends Observable implements Serializable {
       }
     }
     else{
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Either cognition is not free (" + !this.isCognitionFree(time) + ") " + 
         ", the node to associate from is a root node (" + 
         nodeToAssociateFrom.isRootNode() + ") or the node to associate to is " +
@@ -3183,13 +3640,13 @@ public class Chrest extends Observable implements Serializable {
     this.printDebugStatement("- Checking if an association was created, if so, the cognition clock will be modified");
     if(associationCreated){
       this._cognitionClock = time;
-      this.printDebugStatement("  ~ An association was created, cognition clock set to " + time);
+      if(this._debug) this.printDebugStatement("  ~ An association was created, cognition clock set to " + time);
     }
     else{
       this.printDebugStatement("  ~ No association was created, cognition clock will not be modified");
     }
     
-    this.printDebugStatement("- Returning " + associationCreated);
+    if(this._debug) this.printDebugStatement("- Returning " + associationCreated);
     this.printDebugStatement("===== RETURN =====");
     return associationCreated;
   }
@@ -3244,7 +3701,7 @@ public class Chrest extends Observable implements Serializable {
     //delimiter so that the model can check if it is recognised.
     if(newInformation.isEmpty()) newInformation.setFinished();
 
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Node to discriminate from reference: " + 
       nodeToDiscriminateFrom.getReference() + ", pattern that triggered " + 
       "discrimination: " + pattern.toString() + ", time discrimination " +
@@ -3263,7 +3720,7 @@ public class Chrest extends Observable implements Serializable {
     //because its assumed to occur in human-beings.
     this.printDebugStatement("- Attempting to recognise new information");
     Node nodeRetrievedAfterRecognisingNewInformation = this.recognise(newInformation, time, false);
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Reference of Node retrieved after recognising new information: " + 
         nodeRetrievedAfterRecognisingNewInformation.getReference()
     );
@@ -3272,7 +3729,7 @@ public class Chrest extends Observable implements Serializable {
     ///// DISCRIMINATE /////
     ////////////////////////
     
-    this.printDebugStatement("- Discrimination will now occur at time " + (time + this._discriminationTime));
+    if(this._debug) this.printDebugStatement("- Discrimination will now occur at time " + (time + this._discriminationTime));
     time += this._discriminationTime;
 
     //If the new information is empty it must be handled differently to the way
@@ -3281,7 +3738,7 @@ public class Chrest extends Observable implements Serializable {
     //to LTM.
     if(newInformation.isEmpty()){
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- New information is empty, checking if " + newInformation.toString() + 
         " has been recognised/learned."
       );
@@ -3291,7 +3748,7 @@ public class Chrest extends Observable implements Serializable {
       //1. < $ > known, use as test
       if(endChunkDelimiterKnown){
 
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "  ~ " +  newInformation.toString() + " has been learned so it will " +
           "be added as a test on a new link from " + 
           nodeToDiscriminateFrom.getReference() + "."
@@ -3303,7 +3760,7 @@ public class Chrest extends Observable implements Serializable {
       //    Chrest.learnPrimtive since that function sets the pattern passed to 
       //    not finished so the end chunk delimiter would be lost.
       else {
-        this.printDebugStatement("  ~ " + newInformation.toString() + " has not been learned so it will be learned as a primitive.");
+        if(this._debug) this.printDebugStatement("  ~ " + newInformation.toString() + " has not been learned so it will be learned as a primitive.");
 
         Node child = new Node (this, newInformation, newInformation, time);
         discriminationSuccessful = this.getLtmModalityRootNode(newInformation)
@@ -3313,14 +3770,14 @@ public class Chrest extends Observable implements Serializable {
     //New information isn't empty.
     else{
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- New information is not empty so the model will now check if " +
         newInformation.toString() + " has been learned."
       );
       
       //3. New information unrecognised, learn first item as a primitive
       if (nodeRetrievedAfterRecognisingNewInformation.isRootNode()) {
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "  ~ " + newInformation.toString() + " has not been learned so it will " +
           "be learned as a primitive."
         );
@@ -3333,7 +3790,7 @@ public class Chrest extends Observable implements Serializable {
       else if (nodeRetrievedAfterRecognisingNewInformation.getContents().matches (newInformation)) {
         ListPattern testPattern = nodeRetrievedAfterRecognisingNewInformation.getContents().clone ();
         
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "  ~ " + newInformation.toString() + " has been learned and " +
           testPattern.toString() + " will be used as a test on a new link " +
           "from node " + nodeToDiscriminateFrom.getReference() + "."
@@ -3348,7 +3805,7 @@ public class Chrest extends Observable implements Serializable {
         ListPattern firstItem = newInformation.getFirstItem();
         firstItem.setNotFinished();
         
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "  ~ " + newInformation.toString() + " has been learned but only " +
           "the first item from the new information (" + firstItem.toString() + 
           ") will be used on a new link from node " + 
@@ -3359,7 +3816,7 @@ public class Chrest extends Observable implements Serializable {
       }
     }
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Discrimination " + (discriminationSuccessful ? "was" : "was not") + 
       " successful so the cognition clock " + (discriminationSuccessful ? 
       "will be set to the time discrimination ends (" + time + ")" :
@@ -3375,7 +3832,7 @@ public class Chrest extends Observable implements Serializable {
     }
     
     ChrestStatus discriminationResult = (discriminationSuccessful ? ChrestStatus.DISCRIMINATION_SUCCESSFUL : ChrestStatus.DISCRIMINATION_FAILED);
-    this.printDebugStatement("- Returning " + discriminationResult.name());
+    if(this._debug) this.printDebugStatement("- Returning " + discriminationResult.name());
     this.printDebugStatement("===== RETURN Chrest.discriminate() =====");
     return discriminationResult;
   }
@@ -3406,7 +3863,7 @@ public class Chrest extends Observable implements Serializable {
     ListPattern newInformation = pattern.remove(nodeToFamiliarise.getImage(time)).getFirstItem();
     newInformation.setNotFinished();
 
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Reference of node to attempt familiarisation on: " + 
       nodeToFamiliarise.getReference() + ", pattern that triggered " + 
       "familiarisation: " + pattern.toString() + ", time familiarisation " +
@@ -3414,7 +3871,7 @@ public class Chrest extends Observable implements Serializable {
       "familiarisation: " + newInformation + "."
     );
 
-    this.printDebugStatement("- Checking if there is any new information to learn (" + !newInformation.isEmpty() + ")");
+    if(this._debug) this.printDebugStatement("- Checking if there is any new information to learn (" + !newInformation.isEmpty() + ")");
     if(!newInformation.isEmpty()) {  
       this.printDebugStatement("  ~ There is new information to learn.");
 
@@ -3430,7 +3887,7 @@ public class Chrest extends Observable implements Serializable {
         return this.discriminate(recognisedNode, newInformation, time);
       } 
       else {
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "  ~ New information recognised, attempting to add new information " +
           "to image of node " +  nodeToFamiliarise.getReference() + " at current " + 
           "time (" + time + ") plus the time taken to familiarise (" +
@@ -3441,7 +3898,7 @@ public class Chrest extends Observable implements Serializable {
         familiarisationSuccessful = nodeToFamiliarise.extendImage(newInformation, time);
       
         if(familiarisationSuccessful){
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "- Familiarisation successful, setting cognition clock to the " +
             "time node " + nodeToFamiliarise.getReference() + " is familiarised (" + 
             time + ")."
@@ -3459,7 +3916,7 @@ public class Chrest extends Observable implements Serializable {
     }
     
     ChrestStatus result = (familiarisationSuccessful ? ChrestStatus.FAMILIARISATION_SUCCESSFUL : ChrestStatus.FAMILIARISATION_FAILED);
-    this.printDebugStatement("Returning " + result.name());
+    if(this._debug) this.printDebugStatement("Returning " + result.name());
     this.printDebugStatement("===== RETURN Chrest.familiarise() =====");
     return result;
   }
@@ -3676,6 +4133,11 @@ public class Chrest extends Observable implements Serializable {
    *    jchrest.lib.ChrestStatus#ATTENTION_BUSY} is returned.
    *  </li>
    *  <li>
+   *    If the long-term memory of {@link #this} is memory-mapped (see {@link 
+   *    #Chrest(jchrest.architecture.MappedLtm, int)}), {@link 
+   *    jchrest.lib.ChrestStatus#PRODUCTION_REINFORCEMENT_FAILED} is returned.
+   *  </li>
+   *  <li>
    *    If <i>V*</i> or <i>A*</i> are not identified, {@link 
    *    jchrest.lib.ChrestStatus#NO_PRODUCTION_IDENTIFIED} is returned.
    *  </li>
@@ -3711,16 +4173,18 @@ public class Chrest extends Observable implements Serializable {
     //////////////////////////////
     
     this.printDebugStatement("- Checking if the following all evaluate to true:");
-    this.printDebugStatement("  ~ Does this CHREST model exist at the time this method is invoked? " + (this.getCreationTime() <= time));
-    this.printDebugStatement("  ~ Is attention free at the time this method is invoked (" + time + ")? " + (this.isAttentionFree(time)));
-    this.printDebugStatement("  ~ Does the action specified have action modality? " + (action.getModality().equals(Modality.ACTION)));
-    this.printDebugStatement("  ~ Does the vision specified have visual modality? " + (vision.getModality().equals(Modality.VISUAL)));
+    if(this._debug) this.printDebugStatement("  ~ Does this CHREST model exist at the time this method is invoked? " + (this.getCreationTime() <= time));
+    if(this._debug) this.printDebugStatement("  ~ Is attention free at the time this method is invoked (" + time + ")? " + (this.isAttentionFree(time)));
+    if(this._debug) this.printDebugStatement("  ~ Does the action specified have action modality? " + (action.getModality().equals(Modality.ACTION)));
+    if(this._debug) this.printDebugStatement("  ~ Does the vision specified have visual modality? " + (vision.getModality().equals(Modality.VISUAL)));
+    if(this._debug) this.printDebugStatement("  ~ Is long-term memory not memory-mapped? " + (this._mappedLtm == null));
     
     if(
       this.getCreationTime() <= time &&
       this.isAttentionFree(time) &&
       vision.getModality().equals(Modality.VISUAL) &&
-      action.getModality().equals(Modality.ACTION)
+      action.getModality().equals(Modality.ACTION) &&
+      this._mappedLtm == null
     ){
       this.printDebugStatement("- All OK");
       
@@ -3731,14 +4195,14 @@ public class Chrest extends Observable implements Serializable {
       ///// GET MATCHING VISUAL NODES FROM VISUAL STM /////
       /////////////////////////////////////////////////////
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Checking if visual STM is empty (" + 
         this.getStm(Modality.VISUAL).getContents(time).isEmpty() + "), if it " +
         "is, it will not be searched for Nodes matching the vision input."
       );
       
       if(!this.getStm(Modality.VISUAL).getContents(time).isEmpty()){
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "  ~ Visual STM is not empty, searching for Nodes whose contents " +
           "match vision (" + vision.toString() + ")"
         ); 
@@ -3755,7 +4219,7 @@ public class Chrest extends Observable implements Serializable {
         //performing the visual STM search.
         List<Node> matchingVisualNodes = this.searchStm(vision, time);
         time = this._attentionClock;
-        this.printDebugStatement("- Visual STM search complete at time " + time);
+        if(this._debug) this.printDebugStatement("- Visual STM search complete at time " + time);
       
         ///////////////////////////////////////////////////////////////////////
         ///// GET VISUAL NODES THAT EQUAL/MATCH VISION & HAVE PRODUCTIONS /////
@@ -3778,14 +4242,14 @@ public class Chrest extends Observable implements Serializable {
         for(Node node : matchingVisualNodes){
           LinkedHashMap<Node, Double> productions = node.getProductions(time);
           
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "  ~ Checking if Node with reference " + node.getReference() + " and " +
             "contents " + node.getContents().toString() + " contains productions (" +
             !productions.isEmpty() + ")"
           );
 
           if(!productions.isEmpty()){
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "    + Node contains productions, checking if its image at the " +
               "current time equals/matches the vision (" + vision.toString() + ")"
             );
@@ -3824,7 +4288,7 @@ public class Chrest extends Observable implements Serializable {
         //parameter is set to false for all "this.isNodeInStm()" method calls in 
         //the block below.
 
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- Identifying action Node to use as the terminus of the production " +
           "to reinforce (thereby identifying the entire production to reinforce). " +
           "This should only be done if action STM is not empty at time " + time + 
@@ -3845,7 +4309,7 @@ public class Chrest extends Observable implements Serializable {
           this.printDebugStatement("  ~ Action STM is not empty");
           this.printDebugStatement("- Action STM contents:");
           for(Node node : actionStmContents){
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "  ~ Node reference: " + node.getReference() + ", contents: " + 
               node.getContents().toString()
             );
@@ -3854,17 +4318,17 @@ public class Chrest extends Observable implements Serializable {
           //Check for exact match.  There should only be 1 of these during 
           //normal model operation but, just in case, the break statement 
           //enforces that it should be the first one found that is used.
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "- Checking for an exact production match, i.e. a visual Node whose " +
             "image equals the vision and contains a production to an action " +
             "Node whose image equals the action (" + action.toString() + ")"
           );
           
           for(Node v : visualNodesWithProductionsAndWhoseImageEqualsVision){
-            this.printDebugStatement("  ~ Checking visual Node with reference: " + v.getReference());
+            if(this._debug) this.printDebugStatement("  ~ Checking visual Node with reference: " + v.getReference());
             
             for(Node a : v.getProductions(time).keySet()){
-              this.printDebugStatement("    + Checking action Node linked to: " + a.getReference());
+              if(this._debug) this.printDebugStatement("    + Checking action Node linked to: " + a.getReference());
               
               if(a.getImage(time).equals(action) && this.isNodeInStm(a, time, false)){
                 this.printDebugStatement("      = Action Node image equals action input and action Node is in STM");
@@ -3883,7 +4347,7 @@ public class Chrest extends Observable implements Serializable {
           //Check for a high match
           if(visualNode == null && actionNode == null){
 
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "- An exact production match hasn't been found, checking for a " +
               "high match, i.e. a visual Node whose image equals the vision " +
               "and contains a production to an action Node whose image matches " +
@@ -3892,17 +4356,17 @@ public class Chrest extends Observable implements Serializable {
             );
 
             for(Node v : visualNodesWithProductionsAndWhoseImageEqualsVision){
-              this.printDebugStatement("  ~ Checking visual Node with reference: " + v.getReference());
+              if(this._debug) this.printDebugStatement("  ~ Checking visual Node with reference: " + v.getReference());
               
               for(Node a : v.getProductions(time).keySet()){
-                this.printDebugStatement("    + Checking action Node linked to: " + a.getReference());
+                if(this._debug) this.printDebugStatement("    + Checking action Node linked to: " + a.getReference());
                 
                 if(
                   a.getImage(time).matches(action) && 
                   this.isNodeInStm(a, time, false) &&
                   (actionNode == null || actionNode.getImage(time).size() < a.getImage(time).size())
                 ){
-                  this.printDebugStatement(
+                  if(this._debug) this.printDebugStatement(
                     "      = Action Node image matches action input, action " +
                     "Node is in STM and either, the production terminus hasn't " +
                     "been set yet (" + (actionNode == null)  + ") or, it has " +
@@ -3923,7 +4387,7 @@ public class Chrest extends Observable implements Serializable {
           //Check for a moderate match
           if(visualNode == null && actionNode == null){
 
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "- A high production match hasn't been found, checking for a " +
               "moderate match, i.e. a visual Node whose image matches the vision " +
               "and contains a production to an action Node whose image equals " +
@@ -3932,17 +4396,17 @@ public class Chrest extends Observable implements Serializable {
             );
 
             for(Node v : visualNodesWithProductionsAndWhoseImageMatchesVision){
-              this.printDebugStatement("  ~ Checking visual Node with reference: " + v.getReference());
+              if(this._debug) this.printDebugStatement("  ~ Checking visual Node with reference: " + v.getReference());
               
               if(visualNode == null || visualNode.getImage(time).size() < v.getImage(time).size()){
-                this.printDebugStatement(
+                if(this._debug) this.printDebugStatement(
                   "      = Visual Node image matches visual input and either, " +
                   "the production source hasn't been set yet (" + (visualNode == null) + 
                   ") or, it has but this visual Node's image matches more"
                 );
                 
                 for(Node a : v.getProductions(time).keySet()){
-                  this.printDebugStatement("    + Checking action Node linked to: " + a.getReference());
+                  if(this._debug) this.printDebugStatement("    + Checking action Node linked to: " + a.getReference());
                   
                   if(
                     a.getImage(time).equals(action) && 
@@ -3964,7 +4428,7 @@ public class Chrest extends Observable implements Serializable {
           //Check for a low match
           if(visualNode == null && actionNode == null){
 
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "- A moderate production match hasn't been found, checking for a " +
               "low match, i.e. a visual Node whose image matches the vision " +
               "and contains a production to an action Node whose image matches " +
@@ -3973,24 +4437,24 @@ public class Chrest extends Observable implements Serializable {
             );
 
             for(Node v : visualNodesWithProductionsAndWhoseImageMatchesVision){
-              this.printDebugStatement("  ~ Checking visual Node with reference: " + v.getReference());
+              if(this._debug) this.printDebugStatement("  ~ Checking visual Node with reference: " + v.getReference());
               
               if(visualNode == null || visualNode.getImage(time).size() < v.getImage(time).size()){
-                this.printDebugStatement(
+                if(this._debug) this.printDebugStatement(
                   "      = Visual Node image matches visual input and either, " +
                   "the production source hasn't been set yet (" + (visualNode == null) + 
                   ") or, it has but this visual Node's image matches more"
                 );
                 
                 for(Node a : v.getProductions(time).keySet()){
-                  this.printDebugStatement("    + Checking action Node linked to: " + a.getReference());
+                  if(this._debug) this.printDebugStatement("    + Checking action Node linked to: " + a.getReference());
                   
                   if(
                     a.getImage(time).matches(action) && 
                     this.isNodeInStm(a, time, false) &&
                     (actionNode == null || actionNode.getImage(time).size() < a.getImage(time).size())
                   ){
-                    this.printDebugStatement(
+                    if(this._debug) this.printDebugStatement(
                       "      = Action Node image matches action input, action " +
                       "Node is in STM and either, the production terminus hasn't " +
                       "been set yet (" + (actionNode == null)  + ") or, it has " +
@@ -4004,7 +4468,7 @@ public class Chrest extends Observable implements Serializable {
             }
           }
           
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "- The visual and action Node whose production should be reinforced are as follows:" +
             "\n  ~ Visual Node = " + (visualNode == null ?
               "null" :
@@ -4036,7 +4500,7 @@ public class Chrest extends Observable implements Serializable {
       ///////////////////////////////////////////
       
       int timeReinforcementShouldOccur = time + this._reinforceProductionTime;
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Checking if the following all evaluate to true:" +
         "\n  ~ Visual Node found: " + (visualNode != null) +
         "\n  ~ Action Node found: " + (actionNode != null) +
@@ -4047,7 +4511,7 @@ public class Chrest extends Observable implements Serializable {
       );
       if(visualNode != null && actionNode != null && this.isCognitionFree(timeReinforcementShouldOccur)){
         
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- All checks evaluate to true, attempting to reinforce production " +
           "between visual Node with reference " + visualNode.getReference() + 
           "and action Node with reference " + actionNode.getReference() + 
@@ -4056,7 +4520,7 @@ public class Chrest extends Observable implements Serializable {
         
         if(visualNode.reinforceProduction(actionNode, variables, timeReinforcementShouldOccur)){
           this._cognitionClock = timeReinforcementShouldOccur;
-          this.printDebugStatement("  ~ Production reinforcement successful, consuming cognition until " + this._cognitionClock);
+          if(this._debug) this.printDebugStatement("  ~ Production reinforcement successful, consuming cognition until " + this._cognitionClock);
           
           this.setChanged();
           if (!_frozen) notifyObservers ();
@@ -4091,6 +4555,9 @@ public class Chrest extends Observable implements Serializable {
       else if(!this.isAttentionFree(time)){ 
         result = ChrestStatus.ATTENTION_BUSY; 
       }
+      else if(this._mappedLtm != null && vision.getModality().equals(Modality.VISUAL) && action.getModality().equals(Modality.ACTION)){
+        result = ChrestStatus.PRODUCTION_REINFORCEMENT_FAILED;
+      }
       else{
         throw new IllegalArgumentException(
           "Either the vision specified (" + vision.toString() + ") doesn't " +
@@ -4101,9 +4568,9 @@ public class Chrest extends Observable implements Serializable {
       }
     }
     
-    this.printDebugStatement("- Returning " + result);
-    this.printDebugStatement("- Attention clock set to: " + this._attentionClock);
-    this.printDebugStatement("- Cognition clock set to: " + this._cognitionClock);    
+    if(this._debug) this.printDebugStatement("- Returning " + result);
+    if(this._debug) this.printDebugStatement("- Attention clock set to: " + this._attentionClock);
+    if(this._debug) this.printDebugStatement("- Cognition clock set to: " + this._cognitionClock);    
     this.printDebugStatement("===== RETURN =====");
     return result;
   }
@@ -4220,7 +4687,7 @@ public class Chrest extends Observable implements Serializable {
    */
   public Node getStmItem(Modality stmModality, int index, int time){
     this.printDebugStatement("===== Chrest.getStmItem() =====");
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Attempting to get the Node in position " + index + " from " + 
       stmModality.toString() + " at time " + time
     );
@@ -4228,7 +4695,7 @@ public class Chrest extends Observable implements Serializable {
     Node stmItem = null;
     List<Node> stmContents = this.getStm(stmModality).getContents(time);
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Checking if the following statements all evaluate to true: " +
       "\n  ~ This model exists at the time specified: " + (this.getCreationTime() <= time) +
       "\n  ~ The attention of this model is free at the time specified: " + this.isAttentionFree(time) +
@@ -4242,7 +4709,7 @@ public class Chrest extends Observable implements Serializable {
       this.printDebugStatement("- All OK");
       
       this._attentionClock = time + (this._timeToRetrieveItemFromStm * index); 
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Attention clock is set to " + this._attentionClock + ", i.e the " +
         "time specified (" + time + ") plus the product of the time taken to " +
         "retrieve an item from STM (" + this._timeToRetrieveItemFromStm + ") " +
@@ -4255,7 +4722,7 @@ public class Chrest extends Observable implements Serializable {
       this.printDebugStatement("- A statement evaluated to false, exiting");
     }
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Returning " + (stmItem == null ? 
         "null" : 
         "Node with reference " + stmItem.getReference() + ", contents " + 
@@ -4308,7 +4775,7 @@ public class Chrest extends Observable implements Serializable {
     ///// CHECK IF ATTENTION IS FREE /////
     //////////////////////////////////////
     
-    this.printDebugStatement("- Checking if attention is free at time method invoked " + time);
+    if(this._debug) this.printDebugStatement("- Checking if attention is free at time method invoked " + time);
     if(this.isAttentionFree(time)){
       this.printDebugStatement("  ~ Attention is free");
       
@@ -4316,14 +4783,14 @@ public class Chrest extends Observable implements Serializable {
       ///// GET STM CONTENTS /////
       ////////////////////////////
       
-      this.printDebugStatement("- Getting contents of " + pattern.getModality().toString() + " at time " + time);
+      if(this._debug) this.printDebugStatement("- Getting contents of " + pattern.getModality().toString() + " at time " + time);
       matchingNodes = new ArrayList();
       List<Node> stmContents = this.getStm(pattern.getModality()).getContents(time);
 
       if(stmContents != null && !stmContents.isEmpty()){
         this.printDebugStatement("  ~ STM contents are not null or empty");
         
-        this.printDebugStatement("- Checking STM contents for any Nodes whose contents matches " + pattern.toString());
+        if(this._debug) this.printDebugStatement("- Checking STM contents for any Nodes whose contents matches " + pattern.toString());
         
         ////////////////////////////////
         ///// PROCESS STM CONTENTS /////
@@ -4331,19 +4798,19 @@ public class Chrest extends Observable implements Serializable {
         
         for(Node stmNode : stmContents){
           time += this._timeToRetrieveItemFromStm + this._nodeComparisonTime;
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "  ~ Processing Node with reference " + stmNode.getReference() + ". " +
             "Incremented time by time taken to retrieve a Node from STM (" + 
             this._timeToRetrieveItemFromStm + ") plus the time taken to compare " +
             "a Node (" + this._nodeComparisonTime + "). Time now equals " + time
           );
 
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "    + Checking if STM Node contents (" + stmNode.getContents().toString() +
             ") is a pre-sequence (matches) " + pattern.toString()
           );
           if(stmNode.getContents().matches(pattern)){
-            this.printDebugStatement("      = Match, adding Node " + stmNode.getReference() + " to the list to be returned");
+            if(this._debug) this.printDebugStatement("      = Match, adding Node " + stmNode.getReference() + " to the list to be returned");
             matchingNodes.add(stmNode);
           }
           else{
@@ -4358,7 +4825,7 @@ public class Chrest extends Observable implements Serializable {
         this._attentionClock = time;
       }
       else{
-        this.printDebugStatement("  ~ STM contents are null (" + (stmContents == null) + ") or empty, exiting");
+        if(this._debug) this.printDebugStatement("  ~ STM contents are null (" + (stmContents == null) + ") or empty, exiting");
       }
     }
     else{
@@ -4377,7 +4844,7 @@ public class Chrest extends Observable implements Serializable {
     }
     else{
       this.printDebugStatement("- Returning Nodes with references: ");
-      for(Node node : matchingNodes) this.printDebugStatement("  ~ " + node.getReference());
+      for(Node node : matchingNodes) if(this._debug) this.printDebugStatement("  ~ " + node.getReference());
     }
     this.printDebugStatement("===== RETURN Chrest.searchStm() =====");
     return matchingNodes;
@@ -4424,7 +4891,7 @@ public class Chrest extends Observable implements Serializable {
   private boolean addToStm (Node nodeToAdd, int time) {
     this.printDebugStatement("===== Chrest.addToStm() =====");
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Attempting to add node " + nodeToAdd.getReference() + " to " +
       nodeToAdd.getModality() + " STM.  Checking if " + 
       "attention resource is free at time function invoked i.e. is the " +
@@ -4434,7 +4901,7 @@ public class Chrest extends Observable implements Serializable {
     
     if(this.isAttentionFree(time)){
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "  ~ Attention resource is free so node " + nodeToAdd.getReference() + 
         " will be added to STM at time " + (time + this._timeToUpdateStm) + 
         " (the current time, " + time + ", plus the time it takes to update STM (" + 
@@ -4451,7 +4918,7 @@ public class Chrest extends Observable implements Serializable {
       
       if(stm.add(nodeToAdd, time + this._timeToUpdateStm)){
         
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- STM addition successful, setting the current time to the " +
           "time node " + nodeToAdd.getReference() + " was added to STM (" + 
           (time + this._timeToUpdateStm) + ") and setting the attention clock " +
@@ -4467,7 +4934,7 @@ public class Chrest extends Observable implements Serializable {
           List<Node> visualStmContents = this.getStm(Modality.VISUAL).getContents(time);
           if(visualStmContents != null && !visualStmContents.isEmpty()){
             Node visualStmHypothesis = visualStmContents.get(0);
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "- The Node to add has " + Modality.VERBAL.toString() + " " +
               "modality and visual STM has Node " + 
               visualStmHypothesis.getReference() + " as its hypothesis.  " +
@@ -4482,7 +4949,7 @@ public class Chrest extends Observable implements Serializable {
           if(stmContents != null && !stmContents.isEmpty()){
             Node stmHypothesis = stmContents.get(0);
             
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "- The Node to add has " + nodeToAdd.getModality().toString() + " " +
               "modality and " + nodeToAdd.getModality().toString() + " STM has Node " + 
               stmHypothesis.getReference() + " as its hypothesis.  " +
@@ -4529,14 +4996,14 @@ public class Chrest extends Observable implements Serializable {
    */
   public void replaceStmHypothesis(Node replacement, int time){
     this.printDebugStatement("===== Chrest.replaceStmHypothesis() =====");
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Attempting to replace the " + replacement.getModality().toString() + 
       " hypothesis with Node " + replacement.getReference() + " at time " + time
     );
     
     this.printDebugStatement("- Hypothesis can be replaced if attention is free at this time");
     if(this.isAttentionFree(time)){
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "  ~ Attention is free at time " + time + " so the relevant " +
         "STM hypothesis will be replaced at " + time + " plus the time taken " +
         "to update STM (" + this._timeToUpdateStm  + "), i.e. at time " + (time + 
@@ -4549,7 +5016,7 @@ public class Chrest extends Observable implements Serializable {
       }
     }
     else{
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "  ~ Attention is not free at time " + time + " so the relevant " +
         "STM hypothesis will not be replaced"
       );
@@ -4602,13 +5069,13 @@ public class Chrest extends Observable implements Serializable {
    */
   public Node[] generateActionUsingVisualPatternRecognition(int time){
     this.printDebugStatement("===== Chrest.generateActionUsingVisualPatternRecognition() =====");
-    this.printDebugStatement("- Invoked at time " + time);
+    if(this._debug) this.printDebugStatement("- Invoked at time " + time);
     Node visualNodeSelected = null;
     Node actionNodeSelected = null;
     Node[] visualAndActionNodesSelected = new Node[2];
     RouletteWheelSelection rws = new RouletteWheelSelection();
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Checking if the following statements are both true:" +
       "\n  ~ This model exists at the time specified: " + (this.getCreationTime() <= time) +
       "\n  ~ The attention of this model is free at the time specified: " + this.isAttentionFree(time)
@@ -4635,7 +5102,7 @@ public class Chrest extends Observable implements Serializable {
         ArrayList<EvaluatedCandidate<Node>> visualNodesToSelectFrom = new ArrayList();
         for(Node visualStmNode : visualStmContents){
           time += this._timeToRetrieveItemFromStm;
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "  ~ Retrieved visual Node with ref " + visualStmNode.getReference() +
             ", contents: " + visualStmNode.getContents().toString() + " and " +
             "image: " + visualStmNode.getImage(time).toString() + ".  Incremented " +
@@ -4645,7 +5112,7 @@ public class Chrest extends Observable implements Serializable {
           
           if(!visualStmNode.getProductions(time).isEmpty()){
             this.printDebugStatement("    + Node has productions");
-            visualNodesToSelectFrom.add(new EvaluatedCandidate(visualStmNode, visualStmNode.getAllInformation(time).size()));
+            visualNodesToSelectFrom.add(new EvaluatedCandidate(visualStmNode, visualStmNode.getAllInformationSize(time)));
           }
           else{
             this.printDebugStatement("    + Node has no productions, checking next visual STM Node");
@@ -4653,7 +5120,7 @@ public class Chrest extends Observable implements Serializable {
           
           this._attentionClock = time;
         }
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- Attention clock set to " + this._attentionClock + " after " +
           "identifying visual STM Nodes with produtions"
         );
@@ -4663,11 +5130,11 @@ public class Chrest extends Observable implements Serializable {
         //////////////////////////////////////////////////////
         
         if(!visualNodesToSelectFrom.isEmpty()){
-          this.printDebugStatement("- Selecting a visual Node for pattern-recognition from the following: " + visualNodesToSelectFrom.toString());
-          List<Node> visualNodesSelected = rws.select(visualNodesToSelectFrom, true, 1, new Random());
+          if(this._debug) this.printDebugStatement("- Selecting a visual Node for pattern-recognition from the following: " + visualNodesToSelectFrom.toString());
+          List<Node> visualNodesSelected = rws.select(visualNodesToSelectFrom, true, 1, this._randomAdapter);
           if(!visualNodesSelected.isEmpty()){
             visualNodeSelected = visualNodesSelected.get(0);
-            this.printDebugStatement("  ~ Visual Node with reference " + visualNodeSelected.getReference() + " was selected");
+            if(this._debug) this.printDebugStatement("  ~ Visual Node with reference " + visualNodeSelected.getReference() + " was selected");
           }
           else{
             this.printDebugStatement("  ~ No visual Node was selected, exiting");
@@ -4687,15 +5154,15 @@ public class Chrest extends Observable implements Serializable {
             productionsToSelectFrom.add(new EvaluatedCandidate(productions.getKey(), productions.getValue()));
           }
           
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "- Selecting an action from Node " + visualNodeSelected.getReference() + 
             "'s productions at time " + time + ", i.e." + productionsToSelectFrom.toString()
           );
-          List<Node> actionNodesSelected = rws.select(productionsToSelectFrom, true, 1, new Random());
+          List<Node> actionNodesSelected = rws.select(productionsToSelectFrom, true, 1, this._randomAdapter);
           
           if(!actionNodesSelected.isEmpty()){
             actionNodeSelected = actionNodesSelected.get(0);
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "  ~ Action Node with ref " + actionNodeSelected.getReference() +
               ", contents " + actionNodeSelected.getContents().toString() + 
               "and image " + actionNodeSelected.getImage(time).toString() + 
@@ -4724,7 +5191,7 @@ public class Chrest extends Observable implements Serializable {
       visualAndActionNodesSelected[1] = actionNodeSelected;
     }
     
-    this.printDebugStatement("- Returning " + Arrays.toString(visualAndActionNodesSelected));
+    if(this._debug) this.printDebugStatement("- Returning " + Arrays.toString(visualAndActionNodesSelected));
     this.printDebugStatement("===== RETURN Chrest.generateActionUsingVisualPatternRecognition() =====");
     return visualAndActionNodesSelected;
   }
@@ -4745,6 +5212,10 @@ public class Chrest extends Observable implements Serializable {
    *  <li>
    *    The cognition resource of {@link #this} is free at the time specified.
    *  </li>
+   *  <li>
+   *    The long-term memory of {@link #this} is not memory-mapped (see {@link
+   *    #Chrest(jchrest.architecture.MappedLtm, int)}).
+   *  </li>
    * </ul>
    * 
    * This function is usually called at the end of a training session that 
@@ -4765,7 +5236,8 @@ public class Chrest extends Observable implements Serializable {
     if(
       this._creationTime <= time && 
       this._canCreateTemplates &&
-      this._cognitionClock < time
+      this._cognitionClock < time &&
+      this._mappedLtm == null
     ){
       numberTemplatesMade = this.makeTemplates (this._visualLtm, time);
     }
@@ -4952,7 +5424,7 @@ public class Chrest extends Observable implements Serializable {
     this.printDebugStatement("===== Chrest.scheduleOrMakeNextFixation() =====");
     ChrestStatus result;
     
-    this.printDebugStatement("- Checking if model exists at the time the function is requested (" + time + ")");
+    if(this._debug) this.printDebugStatement("- Checking if model exists at the time the function is requested (" + time + ")");
     if(this._creationTime <= time){
       this.printDebugStatement("   ~ Model exists at the time the function is requested");
       
@@ -4972,7 +5444,7 @@ public class Chrest extends Observable implements Serializable {
         fixationsScheduled.add(initialFixation);
         
         if(clearVisualStmIfNewFixationSetStarts){
-          this.printDebugStatement("- Visual STM should be cleared at the current time (" + time + ") since a new Fixation set has started");
+          if(this._debug) this.printDebugStatement("- Visual STM should be cleared at the current time (" + time + ") since a new Fixation set has started");
           this._visualStm.clear(time);
         }
         
@@ -5013,8 +5485,8 @@ public class Chrest extends Observable implements Serializable {
           }
         }
       
-        this.printDebugStatement("- Fixations scheduled to be performed now: " + fixationsScheduled.toString());
-        this.printDebugStatement("- Fixations that were performed: " + fixationsPerformed.toString());
+        if(this._debug) this.printDebugStatement("- Fixations scheduled to be performed now: " + fixationsScheduled.toString());
+        if(this._debug) this.printDebugStatement("- Fixations that were performed: " + fixationsPerformed.toString());
         this.printDebugStatement("- Attempting to tag any VisualSpatialFieldObjects that may have been fixated on when fixation was performed");
         for(Fixation fixationPerformed : fixationsPerformed){
           this.tagVisualSpatialFieldObjectsFixatedOnAsRecognised(fixationPerformed);
@@ -5027,7 +5499,7 @@ public class Chrest extends Observable implements Serializable {
         //this.performScheduledFixations() will have updated the Fixations 
         //attempted data structure of the Perceiver associated with this CHREST
         //model so fixation set completion can now be checked.
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- Checking if Fixation set complete: have the maximum number " +
           "of Fixations been attempted (Fixations attempted: " + 
           perceiver.getFixations(time).size() + ", maximum # Fixations that " + 
@@ -5062,7 +5534,7 @@ public class Chrest extends Observable implements Serializable {
           ///// CONSTRUCT VisualSpatialField ///// 
           this.printDebugStatement("- Constructing VisualSpatialField using Fixations if requested");
           if(constructVisualSpatialField){
-            this.printDebugStatement("  ~ VisualSpatialField should be constructed at time when attention is free (" + this._attentionClock + ")");
+            if(this._debug) this.printDebugStatement("  ~ VisualSpatialField should be constructed at time when attention is free (" + this._attentionClock + ")");
             this.constructVisualSpatialField(this._attentionClock);
           }
           else{
@@ -5092,6 +5564,7 @@ public class Chrest extends Observable implements Serializable {
           result = ChrestStatus.FIXATION_SET_BEING_PERFORMED;
         }
 
+        if(!this._stateHistoryRecordingEnabled) this._fixationsScheduled.discardHistory();
         this._fixationsScheduled.put(time, fixationsScheduled);
       }
       else {
@@ -5104,7 +5577,7 @@ public class Chrest extends Observable implements Serializable {
       result = ChrestStatus.MODEL_DOES_NOT_EXIST_AT_TIME;
     }
 
-    this.printDebugStatement("- Returning " + result.name());
+    if(this._debug) this.printDebugStatement("- Returning " + result.name());
     this.printDebugStatement("===== RETURN =====");
     return result;
   }
@@ -5258,8 +5731,8 @@ public class Chrest extends Observable implements Serializable {
       this._attentionClock = nonInitialFixation.getTimeDecidedUpon();
     }
     
-    this.printDebugStatement("- Non-initial Fixation to return: " + (nonInitialFixation == null ? "null" : nonInitialFixation.toString()));
-    this.printDebugStatement("- Attention clock set to: " + this._attentionClock);
+    if(this._debug) this.printDebugStatement("- Non-initial Fixation to return: " + (nonInitialFixation == null ? "null" : nonInitialFixation.toString()));
+    if(this._debug) this.printDebugStatement("- Attention clock set to: " + this._attentionClock);
     this.printDebugStatement("===== RETURN =====");
     return nonInitialFixation;
   }
@@ -5340,13 +5813,13 @@ public class Chrest extends Observable implements Serializable {
    */
   private List<Fixation> performScheduledFixations(List<Fixation> fixationsScheduled, Scene scene, int time){
     this.printDebugStatement("===== Chrest.performScheduledFixations() =====");
-    this.printDebugStatement("- Fixations to process: " + fixationsScheduled.toString());
+    if(this._debug) this.printDebugStatement("- Fixations to process: " + fixationsScheduled.toString());
     boolean functionHasAttemptedToPerformFixation = false;
     
     ArrayList<Fixation> fixationsWithPerformanceTimeEqualToTimeMethodInvoked = new ArrayList();
     for(Fixation fixation : fixationsScheduled){
       
-      this.printDebugStatement("- Checking if the following Fixation is to be performed now (" + time + "): " + fixation.toString());
+      if(this._debug) this.printDebugStatement("- Checking if the following Fixation is to be performed now (" + time + "): " + fixation.toString());
 
       Integer performanceTime = fixation.getPerformanceTime();
       if(performanceTime != null){
@@ -5360,7 +5833,7 @@ public class Chrest extends Observable implements Serializable {
           );
           fixationsWithPerformanceTimeEqualToTimeMethodInvoked.add(fixation);
  
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "- Checking if this function has not already performed a Fixation (" +
             !functionHasAttemptedToPerformFixation + ").  If not, an attempt " +
             "will be made to perform this Fixation"
@@ -5404,15 +5877,15 @@ public class Chrest extends Observable implements Serializable {
               String identifierForObjectJustFixatedOn = objectFixatedOn.getIdentifier();
               int fixationJustPerformedDomainSpecificCol = sceneFixatedOn.getDomainSpecificColFromSceneSpecificCol(sceneSpecificColFixatedOn);
               int fixationJustPerformedDomainSpecificRow = sceneFixatedOn.getDomainSpecificRowFromSceneSpecificRow(sceneSpecificRowFixatedOn);
-              this.printDebugStatement("  ~ Identifier for SceneObject fixated on: " + identifierForObjectJustFixatedOn);
-              this.printDebugStatement("  ~ Square fixated on (domain-specific coordinates): (" + fixationJustPerformedDomainSpecificCol + ", " + fixationJustPerformedDomainSpecificRow + ")");
+              if(this._debug) this.printDebugStatement("  ~ Identifier for SceneObject fixated on: " + identifierForObjectJustFixatedOn);
+              if(this._debug) this.printDebugStatement("  ~ Square fixated on (domain-specific coordinates): (" + fixationJustPerformedDomainSpecificCol + ", " + fixationJustPerformedDomainSpecificRow + ")");
 
               List<Fixation> mostRecentFixations = this.getPerceiver().getFixations(time);
               for(int j = this.getPerceiver().getFixationToLearnFrom(); j < mostRecentFixations.size(); j++){
                 Fixation f = mostRecentFixations.get(j);
 
                 if(f.hasBeenPerformed()){
-                  this.printDebugStatement("    + Checking SceneObject and Square fixated on by Fixation " + f.toString());
+                  if(this._debug) this.printDebugStatement("    + Checking SceneObject and Square fixated on by Fixation " + f.toString());
                   String identifierForObjectFixatedOn = f.getObjectSeen().getIdentifier();
                   int fixationDomainSpecificCol = f.getScene().getDomainSpecificColFromSceneSpecificCol(f.getColFixatedOn());
                   int fixationDomainSpecificRow = f.getScene().getDomainSpecificRowFromSceneSpecificRow(f.getRowFixatedOn());
@@ -5444,7 +5917,7 @@ public class Chrest extends Observable implements Serializable {
               }
               
               boolean shouldLearnFromNewFixations = this.getDomainSpecifics().shouldLearnFromNewFixations(time);
-              this.printDebugStatement(
+              if(this._debug) this.printDebugStatement(
                 "- Checking if the domain (" + this.getDomainSpecifics().getClass().getCanonicalName() + 
                 ") stipulates that Fixations should be learned from after " +
                 "Fixation performance (" + shouldLearnFromNewFixations + ") or " +
@@ -5502,7 +5975,7 @@ public class Chrest extends Observable implements Serializable {
       }
     }
     
-    this.printDebugStatement("- The following Fixations were attempted: " + fixationsWithPerformanceTimeEqualToTimeMethodInvoked);
+    if(this._debug) this.printDebugStatement("- The following Fixations were attempted: " + fixationsWithPerformanceTimeEqualToTimeMethodInvoked);
     
     this.printDebugStatement("Returning the Fixations attempted");
     this.printDebugStatement("===== RETURN Chrest.performScheduledFixations() =====");
@@ -5541,7 +6014,7 @@ public class Chrest extends Observable implements Serializable {
    */
   private void tagVisualSpatialFieldObjectsFixatedOnAsRecognised(Fixation fixation){
     this.printDebugStatement("===== Chrest.tagVisualSpatialFieldObjectsFixatedOnAsRecognised() =====");
-    this.printDebugStatement("- Processing Fixation: " + fixation.toString());
+    if(this._debug) this.printDebugStatement("- Processing Fixation: " + fixation.toString());
     
     if(fixation.hasBeenPerformed()){
               
@@ -5598,10 +6071,10 @@ public class Chrest extends Observable implements Serializable {
 
         //Process each Node recognised.  
         for(Node nodeRecognised : newNodesRecognised){
-          this.printDebugStatement("- Processing VisualSpatialFieldObjects in Node " + nodeRecognised.getReference());
+          if(this._debug) this.printDebugStatement("- Processing VisualSpatialFieldObjects in Node " + nodeRecognised.getReference());
 
           ListPattern objectsRecognised = nodeRecognised.getAllInformation(this._attentionClock);
-          this.printDebugStatement("  ~ Objects recognised: " + objectsRecognised.toString());
+          if(this._debug) this.printDebugStatement("  ~ Objects recognised: " + objectsRecognised.toString());
 
           //Determining if this CHREST model is learning object locations 
           //relative to the agent equipped with this model.  If this is 
@@ -5613,7 +6086,7 @@ public class Chrest extends Observable implements Serializable {
             ItemSquarePattern objectRec = (ItemSquarePattern)objectRecognised;
             int col = objectRec.getColumn();
             int row = objectRec.getRow();
-            this.printDebugStatement("- Processing " + objectRec.toString());
+            if(this._debug) this.printDebugStatement("- Processing " + objectRec.toString());
 
             if(this.isLearningObjectLocationsRelativeToAgent()){
               Square locationOfCreator = (Square)visualSpatialFieldRepresented.getCreatorDetails(this._attentionClock).get(1);
@@ -5626,7 +6099,7 @@ public class Chrest extends Observable implements Serializable {
             if(visualSpatialFieldRepresented.areDomainSpecificCoordinatesRepresented(col, row)){
               col = visualSpatialFieldRepresented.getVisualSpatialFieldColFromDomainSpecificCol(col);
               row = visualSpatialFieldRepresented.getVisualSpatialFieldRowFromDomainSpecificRow(row);
-              this.printDebugStatement("  ~ VisualSpatialFieldCoordinates referenced: (" + col + ", " + row + ")");
+              if(this._debug) this.printDebugStatement("  ~ VisualSpatialFieldCoordinates referenced: (" + col + ", " + row + ")");
 
               //Cycle through all VisualSpatialFieldObjects on the 
               //coordinates and check if they are alive and of the same type
@@ -5636,7 +6109,7 @@ public class Chrest extends Observable implements Serializable {
               //NOTE: there may be more than one VisualSpatialFieldObject 
               //that is alive and has the same type on the coordinates.  All
               //such VisualSpatialFieldObjects will be tagged as recognised.
-              this.printDebugStatement(
+              if(this._debug) this.printDebugStatement(
                 "  ~ Checking if the type of any VisualSpatialFieldObjects on " +
                 "these coordinates match the item referenced (" + 
                 objectRec.getItem() + ") and if they do, are they also 'alive' " +
@@ -5645,12 +6118,12 @@ public class Chrest extends Observable implements Serializable {
               List<VisualSpatialFieldObject> coordinateContents = visualSpatialFieldRepresented.getCoordinateContents(col, row);
               for(VisualSpatialFieldObject objectOnVisualSpatialFieldCoordinates : coordinateContents){
 
-                this.printDebugStatement(objectOnVisualSpatialFieldCoordinates.toString());
+                if(this._debug) this.printDebugStatement(objectOnVisualSpatialFieldCoordinates.toString());
                 if(
                   objectOnVisualSpatialFieldCoordinates.isAlive(this._attentionClock) && 
                   objectOnVisualSpatialFieldCoordinates.getObjectType().equals(objectRec.getItem())
                 ){
-                  this.printDebugStatement(
+                  if(this._debug) this.printDebugStatement(
                     "    + VisualSpatialFieldObject's type matches and it is alive, " +
                     "setting its recognised status to true at time it is " + 
                     "recognised (" + this._attentionClock + ")"
@@ -5741,7 +6214,7 @@ public class Chrest extends Observable implements Serializable {
    */
   private void tagUnrecognisedVisualSpatialFieldObjectsAfterFixationSetComplete(Fixation lastFixationAttempted){
     this.printDebugStatement("===== Chrest.tagUnrecognisedVisualSpatialFieldObjectsAfterFixationSetComplete() =====");
-    this.printDebugStatement("- Last Fixation attempted specified as: " + lastFixationAttempted.toString());
+    if(this._debug) this.printDebugStatement("- Last Fixation attempted specified as: " + lastFixationAttempted.toString());
     
     VisualSpatialField visualSpatialFieldRepresented = lastFixationAttempted.getScene().getVisualSpatialFieldRepresented();
     
@@ -5757,7 +6230,7 @@ public class Chrest extends Observable implements Serializable {
     ){
       this.printDebugStatement("- All statements evaluate to true, continuing");
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Determining the latest time when attention will be free so that " +
         "unrecognised VisualSpatialFieldObjects can be tagged as unrecognised.  " +
         "This will be either the time the last Fixation attempted was performed (" +
@@ -5766,7 +6239,7 @@ public class Chrest extends Observable implements Serializable {
       );
       int time = Math.max(lastFixationAttempted.getPerformanceTime(), this._attentionClock);
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Tagging VisualSpatialFieldObjects whose identifiers are not in the " +
         "following list as being unrecognised at time (" + time + "): " + 
         this._recognisedVisualSpatialFieldObjectIdentifiers
@@ -5775,14 +6248,14 @@ public class Chrest extends Observable implements Serializable {
       for(int col = 0; col < visualSpatialFieldRepresented.getWidth(); col++){
         for(int row = 0; row < visualSpatialFieldRepresented.getHeight(); row++){
           
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "- Processing VisualSpatialFieldObjects on VisualSpatialFieldCoordinates (" + 
             col + ", " + row + ")"
           );
           
-          for(VisualSpatialFieldObject visualSpatialFieldObject : visualSpatialFieldRepresented.getCoordinateContents(col, row, time, false)){
+          for(VisualSpatialFieldObject visualSpatialFieldObject : visualSpatialFieldRepresented.getStoredCoordinateContents(col, row, time)){
 
-            this.printDebugStatement("  ~ Processing VisualSpatialFieldObject:" + visualSpatialFieldObject.toString());
+            if(this._debug) this.printDebugStatement("  ~ Processing VisualSpatialFieldObject:" + visualSpatialFieldObject.toString());
             if(this.isDebuggingEnabled()){
               this.printDebugStatement("    + Checking if all the following statements evaluate to true:");
               this.printDebugStatement("      > The VisualSpatialFieldObject is alive at time " + time + ": " + visualSpatialFieldObject.isAlive(time));
@@ -5795,7 +6268,7 @@ public class Chrest extends Observable implements Serializable {
               !visualSpatialFieldObject.getObjectType().equals(Scene.getCreatorToken()) &&
               !this._recognisedVisualSpatialFieldObjectIdentifiers.contains(visualSpatialFieldObject.getIdentifier())
             ){
-              this.printDebugStatement(
+              if(this._debug) this.printDebugStatement(
                 "    + All checks evaluate to true, the VisualSpatialFieldObject's " +
                 "recognised status will be set to false at time " + time
               );
@@ -5865,13 +6338,13 @@ public class Chrest extends Observable implements Serializable {
    */
   private List<Fixation> scheduleFixationsForPerformance(List<Fixation> fixationsScheduled, int time){
     this.printDebugStatement("===== Chrest.scheduleFixationsForPerformance() =====");
-    this.printDebugStatement("- Fixations to process: " + fixationsScheduled);
+    if(this._debug) this.printDebugStatement("- Fixations to process: " + fixationsScheduled);
     
     Iterator<Fixation> iterator = fixationsScheduled.iterator();
     while(iterator.hasNext()){
       
       Fixation fixation = iterator.next();
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Checking if the following Fixation should be scheduled for " +
         "performance: " + fixation.toString()
       );
@@ -5881,7 +6354,7 @@ public class Chrest extends Observable implements Serializable {
         int timeDecidedUpon = fixation.getTimeDecidedUpon();
         this.printDebugStatement( "  ~ Fixation's performance time not yet set");
         
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "- Checking if the current time (" + time + ") is equal to the time " +
           "the Fixation is decided upon (" + timeDecidedUpon + ")"
         );
@@ -5891,7 +6364,7 @@ public class Chrest extends Observable implements Serializable {
           
           this.printDebugStatement("- Checking if Perceiver is free"); 
           if(this.isPerceiverFree(time)){
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "   + Perceiver free, scheduling Fixation for " +
               "performance at the current time (" + time + ") plus the " +
               "time taken to perform a saccade (" + this._saccadeTime + ") " +
@@ -5918,7 +6391,7 @@ public class Chrest extends Observable implements Serializable {
       }
     }
     
-    this.printDebugStatement("- Returning " + fixationsScheduled.toString());
+    if(this._debug) this.printDebugStatement("- Returning " + fixationsScheduled.toString());
     this.printDebugStatement("===== RETURN Chrest.scheduleFixationsForPerformance() =====");
     return fixationsScheduled;
   }
@@ -5966,7 +6439,7 @@ public class Chrest extends Observable implements Serializable {
    */
   public Fixation getFixationPerformed(int index, int time){
     this.printDebugStatement("===== Chrest.getFixationPerformed() =====");
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Attempting to get the Fixation in position " + index + " that was " +
       "performed at time " + time
     );
@@ -5974,7 +6447,7 @@ public class Chrest extends Observable implements Serializable {
     Fixation fixation = null;
     List<Fixation> fixationsPerformed = this._perceiver.getFixationsPerformed(time);
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Checking if the following statements all evaluate to true: " +
       "\n  ~ This model exists at the time specified: " + (this.getCreationTime() <= time) +
       "\n  ~ The attention of this model is free at the time specified: " + this.isAttentionFree(time) +
@@ -5990,7 +6463,7 @@ public class Chrest extends Observable implements Serializable {
       this._attentionClock = time + (index * this._timeToRetrieveFixationFromPerceiver);
       fixation = fixationsPerformed.get(fixationsPerformed.size() - index);
       
-      this.printDebugStatement(
+      if(this._debug) this.printDebugStatement(
         "- Attention clock is set to the time specified (" + time + ") plus " +
         "the product of the time taken to retrieve a Fixation (" + 
         this._timeToRetrieveFixationFromPerceiver + ") multiplied by the " +
@@ -6001,7 +6474,7 @@ public class Chrest extends Observable implements Serializable {
       this.printDebugStatement("- A statement evaluated to false, exiting");
     }
     
-    this.printDebugStatement("- Returning " + (fixation == null ? "null" : fixation.toString()));
+    if(this._debug) this.printDebugStatement("- Returning " + (fixation == null ? "null" : fixation.toString()));
     this.printDebugStatement("===== RETURN Chrest.getFixationPerformed() =====");
     return fixation;
   }
@@ -6082,10 +6555,10 @@ public class Chrest extends Observable implements Serializable {
     this.printDebugStatement("===== Chrest.constructVisualSpatialField() =====");
     
     //Attention must be free to start constructing a visual-spatial field.
-    this.printDebugStatement("- Checking if attention is free at time " + time);
+    if(this._debug) this.printDebugStatement("- Checking if attention is free at time " + time);
     if(this.isAttentionFree(time)){
       
-      this.printDebugStatement("- Attention is free, checking if any Fixations have been performed at time " + time);
+      if(this._debug) this.printDebugStatement("- Attention is free, checking if any Fixations have been performed at time " + time);
       List<Fixation> fixationsPerformed = this.getPerceiver().getFixationsPerformed(time);
       if(fixationsPerformed != null && !fixationsPerformed.isEmpty()){
       
@@ -6114,7 +6587,7 @@ public class Chrest extends Observable implements Serializable {
           domainSpecificColumnsFixatedOn.add( (sceneFixatedOn.getMinimumDomainSpecificColumn() + sceneFixatedOn.getWidth()) - 1 );
           domainSpecificRowsFixatedOn.add( (sceneFixatedOn.getMinimumDomainSpecificRow() + sceneFixatedOn.getHeight()) - 1 );
           
-          this.printDebugStatement(
+          if(this._debug) this.printDebugStatement(
             "- Fixated on Scene with name '" + sceneFixatedOn.getName() + "'" +
             "\n   ~ Min col: " + domainSpecificColumnsFixatedOn.get(0) +
             "\n   ~ Min row: " + domainSpecificRowsFixatedOn.get(0) +
@@ -6127,7 +6600,7 @@ public class Chrest extends Observable implements Serializable {
         Integer minDomainSpecificRowOfSceneFixatedOn = Collections.min(domainSpecificRowsFixatedOn);
         Integer maxDomainSpecificColOfSceneFixatedOn = Collections.max(domainSpecificColumnsFixatedOn);
         Integer maxDomainSpecificRowOfSceneFixatedOn = Collections.max(domainSpecificRowsFixatedOn);
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "\n- Minimum and maximum domain-specific column and row fixated on:" +
           "\n   ~ Min col: " + minDomainSpecificColOfSceneFixatedOn +
           "\n   ~ Min row: " + minDomainSpecificRowOfSceneFixatedOn +
@@ -6184,7 +6657,7 @@ public class Chrest extends Observable implements Serializable {
               Integer agentLocationInVisualSpatialFieldRow = domainSpecificRowAgentLocation - minDomainSpecificRowOfSceneFixatedOn;
               String agentIdentifier = mostRecentlyFixatedOnScene.getSquareContents(mostRecentLocationOfCreatorCol, mostRecentLocationOfCreatorRow).getIdentifier();
               
-              this.printDebugStatement(
+              if(this._debug) this.printDebugStatement(
                 "   ~ The agent's identifier is '" + agentIdentifier + "' " +
                 "and its location in the domain according to the most recent " +
                 "Fixation performed is (" + domainSpecificColAgentLocation + ", " + 
@@ -6219,7 +6692,7 @@ public class Chrest extends Observable implements Serializable {
           }
         }
         
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "\n- Instantiating VisualSpatialField that is " + width + " columns by " +
           height + " rows and will represent domain-specific coordinates from " + 
           "(" + minDomainSpecificColOfSceneFixatedOn + ", " + minDomainSpecificRowOfSceneFixatedOn + ") to " +
@@ -6246,16 +6719,17 @@ public class Chrest extends Observable implements Serializable {
           time
         );
         
-        this.printDebugStatement(
+        if(this._debug) this.printDebugStatement(
           "\n- Adding the VisualSpatialField to this model's " +
           "database of VisualSpatialFields at time " + time
         );
         
-        if(!this._executionHistoryRecordingEnabled){
+        if(!this._executionHistoryRecordingEnabled || !this._stateHistoryRecordingEnabled){
           this.printDebugStatement(
-            "\n- Since execution history recording is disabled, a database of " +
-            "all VisualSpatialFields shouldn't be maintained so the database " +
-            "will be cleared before adding the new VisualSpatialField"
+            "\n- Since execution or state history recording is disabled, a " +
+            "database of all VisualSpatialFields shouldn't be maintained so " +
+            "the database will be cleared before adding the new " +
+            "VisualSpatialField"
           );
           this._visualSpatialFields.clear();
         }
@@ -6283,15 +6757,15 @@ public class Chrest extends Observable implements Serializable {
         
         for(int fixation = 0; fixation < fixationsPerformed.size(); fixation++){
           Fixation fixationPerformed = fixationsPerformed.get(fixation);
-          this.printDebugStatement("\n- Processing Fixation " + (fixation + 1) + ":\n" + fixationPerformed.toString());
+          if(this._debug) this.printDebugStatement("\n- Processing Fixation " + (fixation + 1) + ":\n" + fixationPerformed.toString());
           
           ListPattern objectsSeenInFixationFieldOfView = this.getPerceiver().getObjectsSeenInFixationFieldOfView(fixationPerformed, false);
-          this.printDebugStatement("   ~ This ListPattern was generated when this Fixation was performed: " + objectsSeenInFixationFieldOfView.toString());
+          if(this._debug) this.printDebugStatement("   ~ This ListPattern was generated when this Fixation was performed: " + objectsSeenInFixationFieldOfView.toString());
           
           this.printDebugStatement("   ~ Stripping ListPattern of any blind squares since these shouldn't be considered at all and creators since one has already been added");
           objectsSeenInFixationFieldOfView = objectsSeenInFixationFieldOfView.removeBlindObjects();
           objectsSeenInFixationFieldOfView = objectsSeenInFixationFieldOfView.removeCreatorObject();
-          this.printDebugStatement("   ~ ListPattern after stripping blind squares and creator from it: " + objectsSeenInFixationFieldOfView.toString());
+          if(this._debug) this.printDebugStatement("   ~ ListPattern after stripping blind squares and creator from it: " + objectsSeenInFixationFieldOfView.toString());
           
           this.printDebugStatement("   ~ Using this ListPattern's primitives to get required information");
           for(int primitive = 0; primitive < objectsSeenInFixationFieldOfView.size(); primitive++){
@@ -6321,7 +6795,7 @@ public class Chrest extends Observable implements Serializable {
               sceneSpecificCol = sceneFixationPerformedOn.getSceneSpecificColFromDomainSpecificCol(sceneObjectSeenIsp.getColumn());
               sceneSpecificRow = sceneFixationPerformedOn.getSceneSpecificRowFromDomainSpecificRow(sceneObjectSeenIsp.getRow());
             }
-            this.printDebugStatement("      + Primitive " + primitive + "'s scene-specific coordinates: (" + sceneSpecificCol + ", " + sceneSpecificRow +")");
+            if(this._debug) this.printDebugStatement("      + Primitive " + primitive + "'s scene-specific coordinates: (" + sceneSpecificCol + ", " + sceneSpecificRow +")");
             
             
             //Now that scene-specific coordinates for the SceneObject fixated on
@@ -6331,8 +6805,8 @@ public class Chrest extends Observable implements Serializable {
             HashMap sceneObjectSeenInfo = new HashMap();
             sceneObjectSeenInfo.put(sceneObject, sceneFixationPerformedOn);
             sceneObjectsSeenInfo.add(sceneObjectSeenInfo);
-            this.printDebugStatement("      + SceneObject on these coordinates has " + sceneObject.toString());
-            this.printDebugStatement("      + Name of Scene that SceneObject was fixated on in context of: " + sceneFixationPerformedOn.getName());
+            if(this._debug) this.printDebugStatement("      + SceneObject on these coordinates has " + sceneObject.toString());
+            if(this._debug) this.printDebugStatement("      + Name of Scene that SceneObject was fixated on in context of: " + sceneFixationPerformedOn.getName());
           }
         }
         this.printDebugStatement("\n- SceneObjects seen information: ");
@@ -6359,7 +6833,7 @@ public class Chrest extends Observable implements Serializable {
         //extended.
         this.printDebugStatement("\n===== Encoding recognised SceneObjects");
         List<Node> visualStmContentsAtCurrentTime = this.getStm(Modality.VISUAL).getContents(time);
-        this.printDebugStatement("- State of visual STM at time " + time + " (hypothesis first):");
+        if(this._debug) this.printDebugStatement("- State of visual STM at time " + time + " (hypothesis first):");
         if(this.isDebuggingEnabled()){
           for(int n = 0; n < visualStmContentsAtCurrentTime.size(); n++){
             Node stmNode = visualStmContentsAtCurrentTime.get(n);
@@ -6390,7 +6864,7 @@ public class Chrest extends Observable implements Serializable {
         
         //Process most recent STM Node first.
         for(int n = 0; n < numberNodesInVisualStm; n++){
-          this.printDebugStatement("\n- STM Node " + n);
+          if(this._debug) this.printDebugStatement("\n- STM Node " + n);
           
           //Will be added to the recognised SceneObject list.
           Map<SceneObject, Scene> sceneObjectRecognisedInfo = new HashMap();
@@ -6513,14 +6987,14 @@ public class Chrest extends Observable implements Serializable {
             }
           }
           
-          this.printDebugStatement("   ~ " + sceneObjectRecognisedInfo.size() + " SceneObjects recognised:");
+          if(this._debug) this.printDebugStatement("   ~ " + sceneObjectRecognisedInfo.size() + " SceneObjects recognised:");
           if(this.isDebuggingEnabled()){
             for(SceneObject recognisedSceneObject : sceneObjectRecognisedInfo.keySet()){
               this.printDebugStatement("      + " + recognisedSceneObject.toString());
             }
           }
           
-          this.printDebugStatement("   ~ " + domainSpecificCoordinatesRecognised.size() + " coordinates recognised:");
+          if(this._debug) this.printDebugStatement("   ~ " + domainSpecificCoordinatesRecognised.size() + " coordinates recognised:");
           if(this.isDebuggingEnabled()){
             for(Square coordinatesRecognised : domainSpecificCoordinatesRecognised){
               this.printDebugStatement("      + " + coordinatesRecognised.toString());
@@ -6540,13 +7014,13 @@ public class Chrest extends Observable implements Serializable {
         //SceneObjects on coordinates recognised.
         for(int node = 0; node < numberNodesInVisualStm; node++){
           this.printDebugStatement("\n===== Encoding recognised SceneObjects and refreshing termini of VisualSpatialFieldObjects on recognised coordinates");
-          this.printDebugStatement("- Processing SceneObjects and coordinates recognised in STM Node " + node);
-          this.printDebugStatement("- Incrementing current time (" + time + ") by time taken to retreieve a Node from STM (" + this._timeToRetrieveItemFromStm + ")");
+          if(this._debug) this.printDebugStatement("- Processing SceneObjects and coordinates recognised in STM Node " + node);
+          if(this._debug) this.printDebugStatement("- Incrementing current time (" + time + ") by time taken to retreieve a Node from STM (" + this._timeToRetrieveItemFromStm + ")");
           time += this._timeToRetrieveItemFromStm;
           
           boolean visualSpatialFieldObjectEncoded = false;
           
-          this.printDebugStatement("- If any SceneObjects recognised in this Node are to be encoded, " +
+          if(this._debug) this.printDebugStatement("- If any SceneObjects recognised in this Node are to be encoded, " +
             "they will all be encoded at the same time, i.e. the current time (" + 
             time + ") plus the time taken to encode a recognised SceneObject (" +
             this._timeToEncodeRecognisedVisualSpatialFieldObject + "), in other words, at time "
@@ -6582,7 +7056,7 @@ public class Chrest extends Observable implements Serializable {
               }
             }
             
-            this.printDebugStatement(
+            if(this._debug) this.printDebugStatement(
               "   ~ Attempting to encode SceneObject " + recognisedSceneObject + 
               " on visual-spatial field coordinates (" + visualSpatialFieldCol + 
               ", " + visualSpatialFieldRow + ")"
@@ -6597,7 +7071,7 @@ public class Chrest extends Observable implements Serializable {
               true
             );
 
-            this.printDebugStatement("   ~ SceneObject encoding successful? " + visualSpatialFieldObjectCreated);
+            if(this._debug) this.printDebugStatement("   ~ SceneObject encoding successful? " + visualSpatialFieldObjectCreated);
             if(visualSpatialFieldObjectCreated) visualSpatialFieldObjectEncoded = true;
           }
           
@@ -6619,10 +7093,10 @@ public class Chrest extends Observable implements Serializable {
           }
           
           if(visualSpatialFieldObjectEncoded){
-            this.printDebugStatement("\n- Since a SceneObject was encoded, the current time will be set to " + visualSpatialFieldObjectEncodingTime);
+            if(this._debug) this.printDebugStatement("\n- Since a SceneObject was encoded, the current time will be set to " + visualSpatialFieldObjectEncodingTime);
             time = visualSpatialFieldObjectEncodingTime;
           }
-          this.printDebugStatement("\n- Finished processing SceneObjects and coordinates in STM Node " + node + " at time " + time);
+          if(this._debug) this.printDebugStatement("\n- Finished processing SceneObjects and coordinates in STM Node " + node + " at time " + time);
         }
         
         ////////////////////////////////////////////
@@ -6664,12 +7138,12 @@ public class Chrest extends Observable implements Serializable {
           //      be processed. 
           for(int object = unrecognisedSceneObjectsInfo.size() - 1; object >= 0; object--){
             
-            this.printDebugStatement("   ~ Incrementing current time (" + time + ") by the time taken " +
+            if(this._debug) this.printDebugStatement("   ~ Incrementing current time (" + time + ") by the time taken " +
               "to process an unrecognised VisualSptialFieldObject (" + 
               this._timeToProcessUnrecognisedSceneObjectDuringVisualSpatialFieldConstruction + ")"
             );
             time += this._timeToProcessUnrecognisedSceneObjectDuringVisualSpatialFieldConstruction;
-            this.printDebugStatement("   ~ Current time = " + time);
+            if(this._debug) this.printDebugStatement("   ~ Current time = " + time);
             
             HashMap<SceneObject, Scene> unrecognisedSceneObjectInfo = unrecognisedSceneObjectsInfo.get(object);
             for(Entry<SceneObject, Scene> info : unrecognisedSceneObjectInfo.entrySet()){
@@ -6702,7 +7176,7 @@ public class Chrest extends Observable implements Serializable {
               }            
 
               if(visualSpatialFieldCol != null && visualSpatialFieldRow != null){
-                this.printDebugStatement("   ~ Attempting to encode SceneObject with " + unrecognisedSceneObject.toString() + 
+                if(this._debug) this.printDebugStatement("   ~ Attempting to encode SceneObject with " + unrecognisedSceneObject.toString() + 
                   " as a VisualSpatialFieldObject at the current time + "  +
                   (unrecognisedSceneObject.getObjectType().equals(Scene.getEmptySquareToken()) ? 
                     this._timeToEncodeUnrecognisedEmptySquareAsVisualSpatialFieldObject + "since this is an empty square":
@@ -6714,7 +7188,7 @@ public class Chrest extends Observable implements Serializable {
                   this._timeToEncodeUnrecognisedEmptySquareAsVisualSpatialFieldObject :
                   this._timeToEncodeUnrecognisedVisualSpatialFieldObject
                 );
-                this.printDebugStatement("   ~ Attempting to encode VisualSpatialFieldObject at time " + encodingTime);
+                if(this._debug) this.printDebugStatement("   ~ Attempting to encode VisualSpatialFieldObject at time " + encodingTime);
 
                 boolean visualSpatialFieldObjectCreated = this.encodeVisualSpatialFieldObjectDuringVisualSpatialFieldConstruction(
                   visualSpatialField,
@@ -6729,7 +7203,7 @@ public class Chrest extends Observable implements Serializable {
 
                 if(visualSpatialFieldObjectCreated){
                   time = encodingTime;
-                  this.printDebugStatement(
+                  if(this._debug) this.printDebugStatement(
                     "   ~ VisualSpatialFieldObject encoded, setting current " +
                     "time to the time the VisualSpatialFieldObject was encoded (" +
                     time + ")"
@@ -6738,12 +7212,12 @@ public class Chrest extends Observable implements Serializable {
               }
             }
             
-            this.printDebugStatement("- Time after processing unrecognised SceneObject = " + time);
+            if(this._debug) this.printDebugStatement("- Time after processing unrecognised SceneObject = " + time);
           } 
         }
         this._attentionClock = time;
       }
-      this.printDebugStatement("Attention clock set to time " + this._attentionClock);
+      if(this._debug) this.printDebugStatement("Attention clock set to time " + this._attentionClock);
       
     }
     this.printDebugStatement("===== RETURN =====");
@@ -6862,6 +7336,10 @@ public class Chrest extends Observable implements Serializable {
    *    {@link jchrest.lib.VisualSpatialFieldObject} is specified.
    *  </li>
    * </ol>
+   * If thrown, the {@link jchrest.architecture.VisualSpatialField} is restored 
+   * to its state before any moves were applied (see {@link 
+   * jchrest.architecture.VisualSpatialField#rollBackTransaction()}) and the 
+   * attention clock of {@link #this} is not changed.
    */
   public void moveObjectsInVisualSpatialField(ArrayList<ArrayList<ItemSquarePattern>> moveSequences, int time, boolean incurAccessTimeCost) throws VisualSpatialFieldException {
     
@@ -6869,99 +7347,28 @@ public class Chrest extends Observable implements Serializable {
     Entry<Integer, VisualSpatialField> mostRecentVisualSpatialFieldEntryWhenFunctionInvoked = this.getVisualSpatialFields().floorEntry(time);
     
     //Check that attention is free, if so, continue.
-    this.printDebugStatement("- Checking if attention is free at time function invoked (" + time + ")");
+    if(this._debug) this.printDebugStatement("- Checking if attention is free at time function invoked (" + time + ")");
     if(this.isAttentionFree(time)){
       
       this.printDebugStatement("- Attention is free");
       
-      Integer timeMostRecentVisualSpatialFieldCreated = mostRecentVisualSpatialFieldEntryWhenFunctionInvoked.getKey();
       VisualSpatialField visualSpatialField = mostRecentVisualSpatialFieldEntryWhenFunctionInvoked.getValue();
       
-      //Clone the current VisualSpatialField so that if any moves are illegal, 
-      //all moves performed up until the illegal move can be reversed.
+      //Apply the moves as a transaction so that if any moves are illegal, all 
+      //moves performed up until the illegal move can be reversed.
       this.printDebugStatement(
-        "- Cloning most recent visual-spatial field stored relative to when " +
-        "this function was invoked so, if any moves are illegal, the " +
-        "visual-spatial field state will be reverted."
+        "- Beginning a transaction on the most recent visual-spatial field " +
+        "stored relative to when this function was invoked so, if any moves " +
+        "are illegal, the visual-spatial field state will be reverted."
       );
-      
-      //Create a VisualSpatialField representing the current VisualSpatialField
-      //before any moves are applied.
-      VisualSpatialField visualSpatialFieldBeforeMovesApplied = new VisualSpatialField(
-        visualSpatialField.getName(),
-        visualSpatialField.getWidth(),
-        visualSpatialField.getHeight(),
-        visualSpatialField.getMinimumDomainSpecificCol(),
-        visualSpatialField.getMinimumDomainSpecificRow(),
-        this,
-        visualSpatialField.getCreatorDetails(timeMostRecentVisualSpatialFieldCreated),
-        timeMostRecentVisualSpatialFieldCreated
-      );
-      
-      try {
-        
-        //Have to use reflection to get the visual-spatial field clone's field
-        //otherwise the duplicate VisualSpatialFieldObject check is triggered 
-        //mistakenly in some scenarios.  Using reflection, cloned 
-        //VisualSpatialFieldObjects can be added to the cloned 
-        //VisualSpatialField without any issues.
-        Field vsfField = VisualSpatialField.class.getDeclaredField("_visualSpatialField");
-        vsfField.setAccessible(true);
-        
-        //Get the visual-spatial field proper for the VisualSpatialField just
-        //created, this is what the cloned VisualSpatialFieldObjects will be 
-        //added to.
-        ArrayList<ArrayList<TreeMap<Integer, ArrayList<VisualSpatialFieldObject>>>>
-          visualSpatialFieldBeforeMovesAppliedVsf = 
-        (ArrayList<ArrayList<TreeMap<Integer, ArrayList<VisualSpatialFieldObject>>>>)
-          vsfField.get(visualSpatialFieldBeforeMovesApplied);
-        
-        //Get the current visual-spatial field's field.
-        ArrayList<ArrayList<TreeMap<Integer, ArrayList<VisualSpatialFieldObject>>>>
-          currentVisualSpatialFieldVsf = 
-        (ArrayList<ArrayList<TreeMap<Integer, ArrayList<VisualSpatialFieldObject>>>>)
-          vsfField.get(visualSpatialField);
-
-        for(int col = 0; col < visualSpatialField.getWidth(); col++){
-          for(int row = 0; row < visualSpatialField.getHeight(); row++){
-            this.printDebugStatement("   ~ Cloning contents of visual-spatial field coordinates (" + col + ", " + row + ")");
-            
-            for(Entry<Integer, ArrayList<VisualSpatialFieldObject>> contentHistoryEntry : currentVisualSpatialFieldVsf.get(col).get(row).entrySet()){
-            
-              ArrayList<VisualSpatialFieldObject> coordinateContents = contentHistoryEntry.getValue();
-              ArrayList<VisualSpatialFieldObject> clonedCoordinateContents = new ArrayList();
-              for(int object = 0; object < coordinateContents.size(); object++){
-
-                this.printDebugStatement(
-                  "      + Checking if VisualSpatialFieldObject " + object + " is " +
-                  "the creator if so, its already been cloned when the cloned " +
-                  "VisualSpatialField was created"
-                );
-                VisualSpatialFieldObject original = coordinateContents.get(object);
-                this.printDebugStatement("      + VisualSpatialFieldObject details:" + original.toString());
-
-                if(!original.getObjectType().equals(Scene.getCreatorToken())){
-                  this.printDebugStatement(
-                    "      + VisualSpatialFieldObject isn't the creator so it will " +
-                    "be cloned and added to the cloned VisualSpatialField"
-                  );
-                  clonedCoordinateContents.add(original.createClone());
-                }
-              }
-              
-              visualSpatialFieldBeforeMovesAppliedVsf.get(col).get(row).put(contentHistoryEntry.getKey(), clonedCoordinateContents);
-            }
-          }
-        }
-      } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException ex) {
-        Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
-      }
+      visualSpatialField.beginTransaction();
+      boolean movesLegal = false;
       
       //Track the time taken so far to process the object moves.  Used to 
       //assign terminus values for VisualSpatialFieldObjects moved and to update 
       //the attention clock.
       if(incurAccessTimeCost) time += this._timeToAccessVisualSpatialField;   
-      this.printDebugStatement("- Time moves begin: " + time);
+      if(this._debug) this.printDebugStatement("- Time moves begin: " + time);
       
       //Process each object move sequence.
       try{
@@ -6970,7 +7377,7 @@ public class Chrest extends Observable implements Serializable {
           //Get the first move sequence for an object and check to see if at 
           //least one movement has been specified for it.
           ArrayList<ItemSquarePattern> moveSequence = moveSequences.get(objectMoveSequence);
-          this.printDebugStatement("- Processing move sequence " + objectMoveSequence);
+          if(this._debug) this.printDebugStatement("- Processing move sequence " + objectMoveSequence);
           
           if(moveSequence.size() >= 2){
             this.printDebugStatement("   ~ Move sequence has more than 1 move");
@@ -6991,8 +7398,8 @@ public class Chrest extends Observable implements Serializable {
               int colToMoveTo = moveToDetails.getColumn();
               int rowToMoveTo = moveToDetails.getRow();
               
-              this.printDebugStatement("   ~ Move from details: " + moveFromDetails.toString());
-              this.printDebugStatement("   ~ Move to details: " + moveToDetails.toString());
+              if(this._debug) this.printDebugStatement("   ~ Move from details: " + moveFromDetails.toString());
+              if(this._debug) this.printDebugStatement("   ~ Move to details: " + moveToDetails.toString());
               
               //Check to see if the identifier given for this move is the same
               //as that declared initially. If it isn't, serial movement is not
@@ -7005,7 +7412,7 @@ public class Chrest extends Observable implements Serializable {
                 this.printDebugStatement("   ~ Checking for VisualSpatialFieldObject on VisualSpatialField coordinates to move from");
                 
                 for(VisualSpatialFieldObject objectOnSquareToMoveFrom : objectsOnSquareToMoveFrom){
-                  this.printDebugStatement("      + Checking VisualSpatialFieldObject with details:" + objectOnSquareToMoveFrom.toString());
+                  if(this._debug) this.printDebugStatement("      + Checking VisualSpatialFieldObject with details:" + objectOnSquareToMoveFrom.toString());
                   
                   if(
                     objectOnSquareToMoveFrom.getIdentifier().equals(moveFromIdentifier) &&
@@ -7038,13 +7445,13 @@ public class Chrest extends Observable implements Serializable {
                   //incrementing the time, there will be a gap before it is 
                   //"put-down" resulting in the VisualSpatialFieldObject not 
                   //existing on the VisualSpatialField while it is being moved.
-                  this.printDebugStatement("\n      + Incrementing current time (" + time + ") by the " +
+                  if(this._debug) this.printDebugStatement("\n      + Incrementing current time (" + time + ") by the " +
                     "time taken by this CHREST model to move a " +
                     "VisualSpatialFieldObject (" + 
                     this._timeToMoveVisualSpatialFieldObject + ")"
                   );
                   time += this._timeToMoveVisualSpatialFieldObject;
-                  this.printDebugStatement("      + Time now equal to " + time);
+                  if(this._debug) this.printDebugStatement("      + Time now equal to " + time);
                     
                   //Remove the object from its current visual-spatial 
                   //coordinates at the time the move occurs - 1.  Create a 
@@ -7058,7 +7465,7 @@ public class Chrest extends Observable implements Serializable {
                   objectAfterMove.setUnrecognised(time, !(objectToMove.getObjectType().equals(Scene.CREATOR_TOKEN)));
                   
                   objectToMove.setTerminus(time, true);
-                  this.printDebugStatement("         = Terminus of VisualSpatialFieldObject to move set to " + objectToMove.getTerminus());
+                  if(this._debug) this.printDebugStatement("         = Terminus of VisualSpatialFieldObject to move set to " + objectToMove.getTerminus());
                     
                   //Check to see if the VisualSpatialField coordinates should 
                   //be re-encoded as an empty square. This should occur if the 
@@ -7066,7 +7473,7 @@ public class Chrest extends Observable implements Serializable {
                   //the square with any VisualSpatialFieldObjects that denote 
                   //physical (non-empty square) VisualSpatialFieldObjects that 
                   //are alive when the move occurs.
-                  this.printDebugStatement(
+                  if(this._debug) this.printDebugStatement(
                     "         = Checking if the VisualSpatialField " +
                     "coordinates should be encoded as an empty square.  " +
                     "This will not occur if any VisualSpatialFieldObject on " +
@@ -7077,7 +7484,7 @@ public class Chrest extends Observable implements Serializable {
                   
                   boolean makeSquareToMoveFromEmpty = true;
                   for(VisualSpatialFieldObject objectToCheck : objectsOnSquareToMoveFrom){
-                    this.printDebugStatement("            > Checking VisualSpatialObject:" + objectToCheck.toString());
+                    if(this._debug) this.printDebugStatement("            > Checking VisualSpatialObject:" + objectToCheck.toString());
 
                     if(
                       (
@@ -7090,7 +7497,7 @@ public class Chrest extends Observable implements Serializable {
                         objectToCheck.getTerminus() == null
                       )
                     ){
-                      this.printDebugStatement(
+                      if(this._debug) this.printDebugStatement(
                         "         = This is not the VisualSpatialFieldObject " +
                         "to move and is alive at time " + time + " or is the " +
                         "creator and its terminus has not been set so the " +
@@ -7101,7 +7508,7 @@ public class Chrest extends Observable implements Serializable {
                       break;
                     }
                   }
-                  this.printDebugStatement(
+                  if(this._debug) this.printDebugStatement(
                     "         = The coordinates will " + (makeSquareToMoveFromEmpty ? "" : "not") +
                     "be encoded as an empty square after the VisualSpatialFieldObject has been moved"
                   );
@@ -7124,7 +7531,7 @@ public class Chrest extends Observable implements Serializable {
                   List<VisualSpatialFieldObject> contentsOfCoordinatesToMoveTo = visualSpatialField.getCoordinateContents(colToMoveTo, rowToMoveTo, time, false);               
                   if(contentsOfCoordinatesToMoveTo != null){
                     
-                    this.printDebugStatement(
+                    if(this._debug) this.printDebugStatement(
                       "   ~ VisualSpatialField coordinates to move the " + 
                       "VisualSpatialFieldObject to (" + colToMoveTo + ", " + 
                       rowToMoveTo + ") are represented in the VisualSpatialField " +
@@ -7186,7 +7593,7 @@ public class Chrest extends Observable implements Serializable {
                     }
                   }
                   
-                  this.printDebugStatement(
+                  if(this._debug) this.printDebugStatement(
                     "   ~ VisualSpatialFieldObject is not present on the " +
                     "VisualSpatialField at time " + time + " so it must have " +
                     "decayed.  Skipping to the next VisualSpatialFieldObject " +
@@ -7214,6 +7621,8 @@ public class Chrest extends Observable implements Serializable {
             );
           }
         }//End entire movement sequence for all objects.
+        
+        movesLegal = true;
       } 
       catch (VisualSpatialFieldException e){
         this.printDebugStatement(
@@ -7221,37 +7630,22 @@ public class Chrest extends Observable implements Serializable {
           "VisualSpatialField to its state before moves were processed.  " +
           "Attention clock will remain unchanged."
         );
-        
-        int visualSpatialFieldEntryCounter = 0;
-        HistoryTreeMap<Integer, VisualSpatialField> visualSpatialFieldsReplacement = new HistoryTreeMap();
-        Set<Entry<Integer, VisualSpatialField>> visualSpatialFields = this._visualSpatialFields.entrySet();
-        for(Entry<Integer, VisualSpatialField> visualSpatialFieldEntry : visualSpatialFields){
-          visualSpatialFieldsReplacement.put(
-            visualSpatialFieldEntry.getKey(), 
-            visualSpatialFieldEntryCounter == visualSpatialFields.size() - 1 ? 
-              visualSpatialFieldBeforeMovesApplied :
-              visualSpatialFieldEntry.getValue()
-            );
-          visualSpatialFieldEntryCounter++;
+        throw e;
+      }
+      finally{
+        if(movesLegal){
+          visualSpatialField.commitTransaction();
         }
-        
-        try {
-          Field chrestVisualSpatialFieldsField = Chrest.class.getDeclaredField("_visualSpatialFields");
-          chrestVisualSpatialFieldsField.setAccessible(true);
-          chrestVisualSpatialFieldsField.set(this, visualSpatialFieldsReplacement);
-          chrestVisualSpatialFieldsField.setAccessible(false);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException ex) {
-          Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
+        else{
+          visualSpatialField.rollBackTransaction();
         }
-        
-        throw e;
       }
     }
     else{
       this.printDebugStatement("- Attention is not free, exiting");
     }
     
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- VisualSpatialFieldObject move sequence processed successfully.  " +
       "Setting attention clock to time " + time
     );
@@ -7316,24 +7710,23 @@ public class Chrest extends Observable implements Serializable {
     boolean sceneObjectRecognised
   ){
     this.printDebugStatement("\n===== Chrest.encodeVisualSpatialFieldObjectDuringVisualSpatialFieldConstruction() =====");
-    this.printDebugStatement("- Checking if the SceneObject should have a VisualSpatialFieldObject " +
+    if(this._debug) this.printDebugStatement("- Checking if the SceneObject should have a VisualSpatialFieldObject " +
       "representation encoded on visual-spatial coordinates (" + col +
       ", " + row + ")");
     
     boolean visualSpatialFieldObjectCreated = false;
 
     
-    List<VisualSpatialFieldObject> coordinateContents = visualSpatialField.getCoordinateContents(col, row, time, false);
     this.printDebugStatement("- Contents of coordinates:");
     if(this.isDebuggingEnabled()){
-      for(VisualSpatialFieldObject coordinateContent : coordinateContents){
+      for(VisualSpatialFieldObject coordinateContent : visualSpatialField.getCoordinateContents(col, row, time, false)){
         this.printDebugStatement(coordinateContent.toString());
       }
     }
 
-    if(coordinateContents.isEmpty()){
+    if(visualSpatialField.getMostRecentObjectAlive(col, row, time) == null){
 
-      this.printDebugStatement("\n- Attempting to create a VisualSpatialObject representing the " +
+      if(this._debug) this.printDebugStatement("\n- Attempting to create a VisualSpatialObject representing the " +
         "SceneObject with " + sceneObjectToEncode.toString() + " at time " + 
         time
       );
@@ -7348,7 +7741,7 @@ public class Chrest extends Observable implements Serializable {
         true
       );
 
-      this.printDebugStatement("- VisualSpatialFieldObject created:\n" + visualSpatialFieldObject.toString());
+      if(this._debug) this.printDebugStatement("- VisualSpatialFieldObject created:\n" + visualSpatialFieldObject.toString());
 
       try {
         visualSpatialFieldObjectCreated = visualSpatialField.addObjectToCoordinates(
@@ -7395,7 +7788,7 @@ public class Chrest extends Observable implements Serializable {
     int time
   ){
     this.printDebugStatement("\n===== Chrest.refreshVisualSpatialFieldObjectTermini() =====");
-    this.printDebugStatement(
+    if(this._debug) this.printDebugStatement(
       "- Refreshing termini of VisualSpatialFieldObjects alive at time " + time + 
       " on visual-spatial field coordinates that are " + 
       this.getPerceiver().getFixationFieldOfView() + " square around " +
@@ -7422,21 +7815,14 @@ public class Chrest extends Observable implements Serializable {
         int visualSpatialCol = visualSpatialField.getVisualSpatialFieldColFromDomainSpecificCol(domainSpecificCol);
         int visualSpatialRow = visualSpatialField.getVisualSpatialFieldRowFromDomainSpecificRow(domainSpecificRow);
 
-        this.printDebugStatement("   ~ Processing VisualSpatialObjects on coordinates (" + visualSpatialCol + ", " + visualSpatialRow + ")");
-        List<VisualSpatialFieldObject> objectsOnCoordinates = visualSpatialField.getCoordinateContents(
-          visualSpatialCol,
-          visualSpatialRow,
-          time, 
-          false
-        );
-
-        for(VisualSpatialFieldObject objectOnCoordinates : objectsOnCoordinates){
-          this.printDebugStatement("   ~ Processing VisualSpatialFieldObject:\n" + objectOnCoordinates.toString());
+        if(this._debug) this.printDebugStatement("   ~ Processing VisualSpatialObjects on coordinates (" + visualSpatialCol + ", " + visualSpatialRow + ")");
+        for(VisualSpatialFieldObject objectOnCoordinates : visualSpatialField.getStoredCoordinateContents(visualSpatialCol, visualSpatialRow, time)){
+          if(this._debug) this.printDebugStatement("   ~ Processing VisualSpatialFieldObject:\n" + objectOnCoordinates.toString());
           this.printDebugStatement("\n   ~ Checking if this VisualSpatialFieldObject is alive and doesn't have a null terminus");
           if(objectOnCoordinates.isAlive(time) && objectOnCoordinates.getTerminus() != null){
-            this.printDebugStatement("   ~ VisualSpatialFieldObject is alive and doesn't have a null terminus. Refreshing terminus at time " + time + ".");
+            if(this._debug) this.printDebugStatement("   ~ VisualSpatialFieldObject is alive and doesn't have a null terminus. Refreshing terminus at time " + time + ".");
             objectOnCoordinates.setTerminus(time, false);
-            this.printDebugStatement("   ~ Terminus = " + objectOnCoordinates.getTerminus());
+            if(this._debug) this.printDebugStatement("   ~ Terminus = " + objectOnCoordinates.getTerminus());
           }
         }
       }
@@ -7651,8 +8037,8 @@ public class Chrest extends Observable implements Serializable {
   }
   
   /**
-   * Used to save this {@link jchrest.architecture.Chrest} model to a serialized 
-   * file for use later (to load a model from such a file, see {@link 
+   * Used to save this {@link jchrest.architecture.Chrest} model to an {@link 
+   * jchrest.architecture.LtmSnapshot} file for use later (to load a model from such a file, see {@link 
    * jchrest.architecture.Chrest#Chrest(java.lang.String, int)}) 
    * whose location on the local system is specified by {@code 
    * absolutePathToSaveFile}.
@@ -7672,11 +8058,39 @@ public class Chrest extends Observable implements Serializable {
    *    {@link jchrest.architecture.Node Nodes} in long-term memory.
    *  </li>
    * </ul>
+   * The state of each {@link jchrest.architecture.Node} and {@link 
+   * jchrest.architecture.Link} saved is its state at the {@code time} 
+   * specified.
    * 
    * @param absolutePathToSaveFile
    * @param time 
    */
   public void saveLtmState(String absolutePathToSaveFile, int time){
+    try {
+      LtmSnapshot.write(this, absolutePathToSaveFile, time);
+    } catch (IOException ex) {
+      Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
+    }
+  }
+  
+  /**
+   * Used to save this {@link jchrest.architecture.Chrest} model to a file 
+   * using Java serialization, i.e. the format used by versions of CHREST 
+   * prior to the introduction of {@link jchrest.architecture.LtmSnapshot}.
+   * The information saved is the same as that saved by {@link 
+   * #saveLtmState(java.lang.String, int)}.
+   * 
+   * @param absolutePathToSaveFile
+   * @param time 
+   * 
+   * @deprecated Use {@link #saveLtmState(java.lang.String, int)} instead; 
+   * files written by this function are much larger and much slower to restore.
+   * Existing files can be converted using {@link 
+   * jchrest.architecture.LtmSnapshot#convert(java.lang.String, 
+   * java.lang.String, int)}.
+   */
+  @Deprecated
+  public void saveLtmStateUsingJavaSerialization(String absolutePathToSaveFile, int time){
     try {
       File file = new File(absolutePathToSaveFile);
       if(file.exists()){
@@ -7724,4 +8138,56 @@ public class Chrest extends Observable implements Serializable {
       Logger.getLogger(Chrest.class.getName()).log(Level.SEVERE, null, ex);
     }
   }
+  
+  /**
+   * Deserializes {@link #this} from a file written by {@link 
+   * #saveLtmStateUsingJavaSerialization(java.lang.String, int)} or by the 
+   * {@link #saveLtmState(java.lang.String, int)} function of versions of CHREST
+   * prior to {@link jchrest.architecture.LtmSnapshot}.  The latter stored the 
+   * number of {@link jchrest.architecture.Node Nodes} in each long-term memory 
+   * modality in a {@link java.util.TreeMap} named 
+   * "_totalNumber[Modality]LtmNodes" rather than in a {@link 
+   * jchrest.lib.CountHistory}.
+   * 
+   * @param input
+   * 
+   * @throws IOException
+   * @throws ClassNotFoundException 
+   */
+  private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException{
+    ObjectInputStream.GetField fields = input.readFields();
+    
+    this._domainSpecifics = (DomainSpecifics)fields.get("_domainSpecifics", null);
+    this._nextLtmNodeReference = fields.get("_nextLtmNodeReference", 0);
+    
+    try {
+      //Set _learnObjectLocationsRelativeToAgent using reflection since this 
+      //field is "final".
+      Field learnObjectLocationsRelativeToAgentField = Chrest.class.getDeclaredField("_learnObjectLocationsRelativeToAgent");
+      learnObjectLocationsRelativeToAgentField.setAccessible(true);
+      learnObjectLocationsRelativeToAgentField.set(this, fields.get("_learnObjectLocationsRelativeToAgent", false));
+    } catch (NoSuchFieldException | IllegalAccessException ex) {
+      throw new InvalidObjectException(ex.toString());
+    }
+    
+    if(fields.getObjectStreamClass().getField("_ltmModalityNodeCounts") != null){
+      @SuppressWarnings("unchecked")
+      EnumMap<Modality, CountHistory> ltmModalityNodeCounts = (EnumMap<Modality, CountHistory>)fields.get("_ltmModalityNodeCounts", null);
+      this._ltmModalityNodeCounts = ltmModalityNodeCounts;
+    }
+    else{
+      this._ltmModalityNodeCounts = new EnumMap<>(Modality.class);
+      for(Modality modality : Modality.values()){
+        String modalityString = modality.toString();
+        modalityString = modalityString.substring(0, 1).toUpperCase() + modalityString.substring(1).toLowerCase();
+        
+        CountHistory modalityNodeCount = new CountHistory();
+        Map<?, ?> modalityNodeCountHistory = (Map<?, ?>)fields.get("_totalNumber" + modalityString + "LtmNodes", null);
+        for(Entry<?, ?> count : modalityNodeCountHistory.entrySet()){
+          modalityNodeCount.set((Integer)count.getKey(), (Integer)count.getValue());
+        }
+        this._ltmModalityNodeCounts.put(modality, modalityNodeCount);
+      }
+    }
+  }
 }
@@ -0,0 +1,222 @@
+package jchrest.architecture;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import jchrest.lib.ListPattern;
+import jchrest.lib.Modality;
+import jchrest.lib.PatternSimilarity;
+import jchrest.lib.PrimitivePattern;
+
+/**
+ * Indexes the {@link jchrest.architecture.Node Nodes} in the long-term memory
+ * of a {@link jchrest.architecture.Chrest} model by the {@link
+ * jchrest.lib.PrimitivePattern PrimitivePatterns} in their images so that the
+ * {@link jchrest.architecture.Node Nodes} whose images share a number of items
+ * with a {@link jchrest.lib.ListPattern} can be found without comparing the
+ * {@link jchrest.lib.ListPattern} with the image of every {@link
+ * jchrest.architecture.Node} in long-term memory.
+ * <p>
+ * The index describes the most recent image of each {@link
+ * jchrest.architecture.Node} so it must be updated whenever a {@link
+ * jchrest.architecture.Node} is added to long-term memory or its image
+ * changes.  {@link jchrest.architecture.Node Nodes} found using the index are
+ * returned only if their image at the time requested is similar, so a {@link
+ * jchrest.architecture.Node} whose image at that time contained items that its
+ * most recent image does not contain may not be found.
+ * <p>
+ * Modality root {@link jchrest.architecture.Node Nodes} are not indexed since
+ * semantic links can not be created to or from them (see {@link
+ * jchrest.architecture.Node#addSemanticLink(jchrest.architecture.Node, int)}).
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+class ImageIndex {
+
+  //Keyed by Modality since semantic links can only be created between Nodes
+  //with the same Modality.
+  private final EnumMap<Modality, HashMap<PrimitivePattern, LinkedHashSet<Node>>> _nodesByImageItem = new EnumMap<>(Modality.class);
+
+  ImageIndex(){
+    for(Modality modality : Modality.values()){
+      this._nodesByImageItem.put(modality, new HashMap<>());
+    }
+  }
+
+  /**
+   * Indexes the {@code node} specified and the {@link
+   * jchrest.architecture.Node Nodes} below it using their images and children
+   * at the {@code time} specified.
+   *
+   * @param node
+   * @param time
+   *
+   * @return The {@link jchrest.architecture.Node Nodes} indexed.
+   */
+  List<Node> addNodes(Node node, int time){
+    List<Node> nodesAdded = new ArrayList<>();
+    this.addNodes(node, time, nodesAdded);
+    return nodesAdded;
+  }
+
+  private void addNodes(Node node, int time, List<Node> nodesAdded){
+    if(!node.isRootNode()){
+      this.add(node, node.getImage(time));
+      nodesAdded.add(node);
+    }
+
+    List<Link> children = node.getChildren(time);
+    if(children != null){
+      for(Link link : children){
+        this.addNodes(link.getChildNode(), time, nodesAdded);
+      }
+    }
+  }
+
+  /**
+   * Should be invoked after the image of the {@code node} specified changes
+   * from the {@code previousImage} specified to the {@code image} specified.
+   *
+   * @param node
+   * @param previousImage
+   * @param image
+   */
+  void imageChanged(Node node, ListPattern previousImage, ListPattern image){
+    if(!node.isRootNode()){
+      this.remove(node, previousImage);
+      this.add(node, image);
+    }
+  }
+
+  private void add(Node node, ListPattern image){
+    if(image != null){
+      HashMap<PrimitivePattern, LinkedHashSet<Node>> nodesByImageItem = this._nodesByImageItem.get(node.getModality());
+      for(PrimitivePattern item : image){
+        nodesByImageItem.computeIfAbsent(item, k -> new LinkedHashSet<>()).add(node);
+      }
+    }
+  }
+
+  private void remove(Node node, ListPattern image){
+    if(image != null){
+      HashMap<PrimitivePattern, LinkedHashSet<Node>> nodesByImageItem = this._nodesByImageItem.get(node.getModality());
+      for(PrimitivePattern item : image){
+        LinkedHashSet<Node> nodes = nodesByImageItem.get(item);
+        if(nodes != null && nodes.remove(node) && nodes.isEmpty()){
+          nodesByImageItem.remove(item);
+        }
+      }
+    }
+  }
+
+  /**
+   * @param pattern
+   * @param excluded A {@link jchrest.architecture.Node} that should not be
+   * returned, e.g. the {@link jchrest.architecture.Node} whose image is the
+   * {@code pattern} specified.  May be null.
+   *
+   * @return The {@link jchrest.architecture.Node Nodes} with the same {@link
+   * jchrest.lib.Modality} as the {@code pattern} specified whose indexed
+   * images share at least one item with the {@code pattern} specified, mapped
+   * to the maximum number of items they can share with the {@code pattern}
+   * specified.
+   */
+  private LinkedHashMap<Node, Integer> getCandidates(ListPattern pattern, Node excluded){
+    HashMap<PrimitivePattern, LinkedHashSet<Node>> nodesByImageItem = this._nodesByImageItem.get(pattern.getModality());
+
+    LinkedHashMap<PrimitivePattern, Integer> patternItemCounts = new LinkedHashMap<>();
+    for(PrimitivePattern item : pattern){
+      patternItemCounts.merge(item, 1, Integer::sum);
+    }
+
+    //A Node can share an item with the pattern at most as many times as the
+    //item occurs in the pattern.
+    LinkedHashMap<Node, Integer> candidates = new LinkedHashMap<>();
+    for(Entry<PrimitivePattern, Integer> patternItemCount : patternItemCounts.entrySet()){
+      LinkedHashSet<Node> nodes = nodesByImageItem.get(patternItemCount.getKey());
+      if(nodes != null){
+        for(Node node : nodes){
+          if(node != excluded) candidates.merge(node, patternItemCount.getValue(), Integer::sum);
+        }
+      }
+    }
+
+    return candidates;
+  }
+
+  /**
+   * @param pattern
+   * @param threshold
+   * @param time
+   * @param excluded See {@link #getCandidates(jchrest.lib.ListPattern,
+   * jchrest.architecture.Node)}.
+   *
+   * @return The {@link jchrest.architecture.Node Nodes} with the same {@link
+   * jchrest.lib.Modality} as the {@code pattern} specified whose images at the
+   * {@code time} specified share the greater of {@code threshold} and 1 items
+   * with the {@code pattern} specified (see {@link
+   * jchrest.lib.PatternSimilarity#countSharedItems(jchrest.lib.ListPattern,
+   * int)}).
+   */
+  List<Node> getSimilarNodes(ListPattern pattern, int threshold, int time, Node excluded){
+    int sharedItemsRequired = Math.max(1, threshold);
+    PatternSimilarity similarity = new PatternSimilarity(pattern);
+
+    List<Node> similarNodes = new ArrayList<>();
+    for(Entry<Node, Integer> candidate : this.getCandidates(pattern, excluded).entrySet()){
+      if(candidate.getValue() >= sharedItemsRequired){
+        ListPattern image = candidate.getKey().getImage(time);
+        if(image != null && similarity.isSimilarTo(image, sharedItemsRequired)){
+          similarNodes.add(candidate.getKey());
+        }
+      }
+    }
+
+    return similarNodes;
+  }
+
+  /**
+   * @param pattern
+   * @param time
+   * @param excluded See {@link #getCandidates(jchrest.lib.ListPattern,
+   * jchrest.architecture.Node)}.
+   *
+   * @return The {@link jchrest.architecture.Node} with the same {@link
+   * jchrest.lib.Modality} as the {@code pattern} specified whose image at the
+   * {@code time} specified shares the most items with the {@code pattern}
+   * specified.  If more than one {@link jchrest.architecture.Node} shares the
+   * most items, any one of them is returned.  If no {@link
+   * jchrest.architecture.Node} shares any items, null is returned.
+   */
+  Node getMostSimilarNode(ListPattern pattern, int time, Node excluded){
+    PatternSimilarity similarity = new PatternSimilarity(pattern);
+
+    //Check candidates in descending order of the number of items they can
+    //share so that checking can stop once no remaining candidate can share
+    //more items than the most similar found so far.
+    List<Entry<Node, Integer>> candidates = new ArrayList<>(this.getCandidates(pattern, excluded).entrySet());
+    candidates.sort(Map.Entry.<Node, Integer>comparingByValue().reversed());
+
+    Node mostSimilarNode = null;
+    int mostSharedItems = 0;
+    for(Entry<Node, Integer> candidate : candidates){
+      if(candidate.getValue() <= mostSharedItems) break;
+
+      ListPattern image = candidate.getKey().getImage(time);
+      if(image != null){
+        int sharedItems = similarity.countSharedItems(image, candidate.getValue());
+        if(sharedItems > mostSharedItems){
+          mostSimilarNode = candidate.getKey();
+          mostSharedItems = sharedItems;
+        }
+      }
+    }
+
+    return mostSimilarNode;
+  }
+}
@@ -0,0 +1,74 @@
+package jchrest.architecture;
+
+import jchrest.lib.ListPattern;
+
+/**
+ * Caches the values that a {@link jchrest.architecture.Node} derives from its
+ * image and template slots (see {@link
+ * jchrest.architecture.Node#information(int)}, {@link
+ * jchrest.architecture.Node#getAllInformation(int)} and {@link
+ * jchrest.architecture.Node#getAllInformationSize(int)}).
+ * <p>
+ * Instances describe the most recent version of the image and template slot
+ * histories of a {@link jchrest.architecture.Node}, i.e. the entries in effect
+ * at any time at or after the time of the most recent entry in any of these
+ * histories (see {@link #getTime()}).  Since history can not be rewritten,
+ * these entries only change when a new entry is added to one of the histories
+ * so the {@link jchrest.architecture.Node} discards its instance whenever it
+ * does this.  Values are calculated when first requested.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+class InformationCache {
+
+  private final int _time;
+
+  //-1/null until calculated.
+  private int _information = -1;
+  private int _allInformationSize = -1;
+  private ListPattern _allInformation;
+
+  /**
+   * @param time The time of the most recent entry in the image and template
+   * slot histories of the {@link jchrest.architecture.Node} that {@link #this}
+   * is for.
+   */
+  InformationCache(int time){
+    this._time = time;
+  }
+
+  /**
+   * @return The time from which the values cached by {@link #this} apply.
+   */
+  int getTime(){
+    return this._time;
+  }
+
+  int getInformation(){
+    return this._information;
+  }
+
+  void setInformation(int information){
+    this._information = information;
+  }
+
+  int getAllInformationSize(){
+    return this._allInformationSize;
+  }
+
+  void setAllInformationSize(int allInformationSize){
+    this._allInformationSize = allInformationSize;
+  }
+
+  /**
+   * @return The {@link jchrest.lib.ListPattern} cached, which must not be
+   * modified.
+   */
+  ListPattern getAllInformation(){
+    return this._allInformation;
+  }
+
+  void setAllInformation(ListPattern allInformation){
+    this._allInformation = allInformation;
+  }
+}
@@ -0,0 +1,588 @@
+package jchrest.architecture;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import jchrest.lib.ItemSquarePattern;
+import jchrest.lib.ListPattern;
+import jchrest.lib.Modality;
+import jchrest.lib.NumberPattern;
+import jchrest.lib.PrimitivePattern;
+import jchrest.lib.Square;
+import jchrest.lib.StringPattern;
+
+/**
+ * Reads and writes the long-term memory (LTM) of a {@link
+ * jchrest.architecture.Chrest} model using a compact, versioned binary format.
+ * <p>
+ * Unlike Java serialization, the format does not describe the object graph of
+ * the LTM.  Instead, the state of each {@link jchrest.architecture.Node} at the
+ * time the snapshot is taken is written as a flat record and associations
+ * between {@link jchrest.architecture.Node Nodes} are written as {@link
+ * jchrest.architecture.Node} references (see {@link
+ * jchrest.architecture.Node#getReference()}).  Since references are smaller
+ * than the next LTM {@link jchrest.architecture.Node} reference of the model
+ * saved, they are resolved when a snapshot is read by indexing an array of
+ * restored {@link jchrest.architecture.Node Nodes} rather than by searching.
+ * <p>
+ * A snapshot file is laid out as follows (all counts, references and
+ * dictionary identifiers are written as variable-length integers):
+ * <ol>
+ *  <li>
+ *    Header: {@link #MAGIC_NUMBER}, {@link #VERSION}, whether the model learns
+ *    object locations relative to itself, the next LTM {@link
+ *    jchrest.architecture.Node} reference and the number of {@link
+ *    jchrest.architecture.Node Nodes} in each {@link jchrest.lib.Modality} of
+ *    LTM.
+ *  </li>
+ *  <li>
+ *    Dictionary: every distinct {@link java.lang.String} (items and experiment
+ *    names) followed by every distinct {@link jchrest.lib.PrimitivePattern} in
+ *    the LTM.  All {@link jchrest.lib.ListPattern ListPatterns} in the node and
+ *    link tables are written as identifiers into this dictionary so each
+ *    {@link jchrest.lib.PrimitivePattern} is only written once.
+ *  </li>
+ *  <li>
+ *    Node table: the reference, contents, image and template information of
+ *    every {@link jchrest.architecture.Node}, parents before children.
+ *  </li>
+ *  <li>
+ *    Link table: the child {@link jchrest.architecture.Link Links},
+ *    productions, naming link and semantic links of every {@link
+ *    jchrest.architecture.Node}, in the same order as the node table.
+ *  </li>
+ * </ol>
+ * Snapshots are read and written using buffered streams, one record at a
+ * time, so the only objects created when a snapshot is read are those that
+ * make up the restored LTM.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public final class LtmSnapshot {
+
+  /** The first four bytes of every snapshot file ("LTMS" in ASCII). */
+  public static final int MAGIC_NUMBER = 0x4C544D53;
+
+  /** The version of the format written by {@link #this}. */
+  public static final int VERSION = 1;
+
+  //Tags for PrimitivePatterns in the dictionary.
+  private static final int STRING_PATTERN = 0;
+  private static final int NUMBER_PATTERN = 1;
+  private static final int ITEM_SQUARE_PATTERN = 2;
+
+  //Flags for Node records in the node table.
+  private static final int ROOT_NODE = 1;
+  private static final int TEMPLATE = 2;
+  private static final int HAS_SLOT_HISTORY = 4;
+
+  //Flags for ListPatterns.
+  private static final int FINISHED = 1 << 7;
+
+  private final boolean _learnObjectLocationsRelativeToAgent;
+  private final int _nextLtmNodeReference;
+  private final int[] _ltmModalitySizes = new int[Modality.values().length];
+  private final Node[] _ltmModalityRootNodes = new Node[Modality.values().length];
+
+  private LtmSnapshot(boolean learnObjectLocationsRelativeToAgent, int nextLtmNodeReference){
+    this._learnObjectLocationsRelativeToAgent = learnObjectLocationsRelativeToAgent;
+    this._nextLtmNodeReference = nextLtmNodeReference;
+  }
+
+  /*****************/
+  /**** GETTERS ****/
+  /*****************/
+
+  boolean isLearningObjectLocationsRelativeToAgent(){
+    return this._learnObjectLocationsRelativeToAgent;
+  }
+
+  int getNextLtmNodeReference(){
+    return this._nextLtmNodeReference;
+  }
+
+  int getLtmModalitySize(Modality modality){
+    return this._ltmModalitySizes[modality.ordinal()];
+  }
+
+  Node getLtmModalityRootNode(Modality modality){
+    return this._ltmModalityRootNodes[modality.ordinal()];
+  }
+
+  /**
+   * @param absolutePathToFile
+   *
+   * @return Whether the file specified starts with {@link #MAGIC_NUMBER}.
+   *
+   * @throws IOException
+   */
+  public static boolean isLtmSnapshot(String absolutePathToFile) throws IOException{
+    try (DataInputStream input = new DataInputStream(new FileInputStream(absolutePathToFile))) {
+      return input.readInt() == MAGIC_NUMBER;
+    } catch (EOFException ex){
+      return false;
+    }
+  }
+
+  /**
+   * Converts a file created using Java serialization by versions of CHREST
+   * prior to the introduction of {@link #this} into a snapshot file.
+   *
+   * @param absolutePathToSerializedFile
+   * @param absolutePathToSnapshotFile
+   * @param time The time that the LTM in the file specified by {@code
+   * absolutePathToSerializedFile} should be restored at before being written.
+   *
+   * @throws IOException If the file specified by {@code 
+   * absolutePathToSerializedFile} can not be read or restored, in which case no 
+   * snapshot file is written.
+   */
+  public static void convert(String absolutePathToSerializedFile, String absolutePathToSnapshotFile, int time) throws IOException{
+    Chrest model = Chrest.restore(absolutePathToSerializedFile, time);
+    LtmSnapshot.write(model, absolutePathToSnapshotFile, time);
+  }
+
+  /****************/
+  /**** WRITER ****/
+  /****************/
+
+  /**
+   * Writes the LTM of the {@code model} specified as it is at the {@code time}
+   * specified to the file specified.
+   *
+   * @param model
+   * @param absolutePathToSaveFile
+   * @param time
+   *
+   * @throws IOException
+   */
+  static void write(Chrest model, String absolutePathToSaveFile, int time) throws IOException{
+
+    //Collect Nodes in breadth-first order so that a Node's parent is always
+    //written before it.  An explicit queue is used rather than recursion since
+    //LTM may be very deep.
+    ArrayList<Node> nodes = new ArrayList<>();
+    for(Modality modality : Modality.values()){
+      Node rootNode = model.getLtmModalityRootNode(modality);
+      if(rootNode != null) nodes.add(rootNode);
+    }
+
+    for(int n = 0; n < nodes.size(); n++){
+      List<Link> children = nodes.get(n).getChildren(time);
+      if(children != null){
+        for(Link child : children){
+          nodes.add(child.getChildNode());
+        }
+      }
+    }
+
+    //Intern Strings and PrimitivePatterns.
+    LinkedHashMap<String, Integer> strings = new LinkedHashMap<>();
+    LinkedHashMap<PrimitivePattern, Integer> primitives = new LinkedHashMap<>();
+    for(Node node : nodes){
+      LtmSnapshot.intern(node.getContents(), strings, primitives);
+      LtmSnapshot.intern(node.getImage(time), strings, primitives);
+
+      List<String> itemSlots = node.getItemSlots(time);
+      if(itemSlots != null){
+        for(String itemSlot : itemSlots) LtmSnapshot.intern(itemSlot, strings);
+      }
+
+      List<ItemSquarePattern> filledItemSlots = node.getFilledItemSlots(time);
+      if(filledItemSlots != null){
+        for(ItemSquarePattern item : filledItemSlots) LtmSnapshot.intern(item, strings, primitives);
+      }
+
+      List<ItemSquarePattern> filledPositionSlots = node.getFilledPositionSlots(time);
+      if(filledPositionSlots != null){
+        for(ItemSquarePattern item : filledPositionSlots) LtmSnapshot.intern(item, strings, primitives);
+      }
+
+      List<Link> children = node.getChildren(time);
+      if(children != null){
+        for(Link child : children){
+          LtmSnapshot.intern(child.getTest(), strings, primitives);
+          if(child.getExperimentCreatedIn() != null) LtmSnapshot.intern(child.getExperimentCreatedIn(), strings);
+        }
+      }
+    }
+
+    File file = new File(absolutePathToSaveFile);
+    if(file.getParentFile() != null) file.getParentFile().mkdirs();
+
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+
+      ///// HEADER /////
+      output.writeInt(MAGIC_NUMBER);
+      output.writeInt(VERSION);
+      output.writeBoolean(model.isLearningObjectLocationsRelativeToAgent());
+      LtmSnapshot.writeVarInt(output, model.getNextLtmNodeReference());
+      LtmSnapshot.writeVarInt(output, Modality.values().length);
+      for(Modality modality : Modality.values()){
+        Integer ltmModalitySize = model.getLtmModalitySize(modality, time);
+        LtmSnapshot.writeVarInt(output, ltmModalitySize == null ? 0 : ltmModalitySize);
+      }
+
+      ///// DICTIONARY /////
+      LtmSnapshot.writeVarInt(output, strings.size());
+      for(String string : strings.keySet()){
+        output.writeUTF(string);
+      }
+
+      LtmSnapshot.writeVarInt(output, primitives.size());
+      for(PrimitivePattern primitive : primitives.keySet()){
+        if(primitive instanceof ItemSquarePattern){
+          ItemSquarePattern itemSquarePattern = (ItemSquarePattern)primitive;
+          output.writeByte(ITEM_SQUARE_PATTERN);
+          LtmSnapshot.writeVarInt(output, strings.get(itemSquarePattern.getItem()));
+          LtmSnapshot.writeSignedVarInt(output, itemSquarePattern.getColumn());
+          LtmSnapshot.writeSignedVarInt(output, itemSquarePattern.getRow());
+        }
+        else if(primitive instanceof NumberPattern){
+          output.writeByte(NUMBER_PATTERN);
+          LtmSnapshot.writeSignedVarInt(output, ((NumberPattern)primitive).getNumber());
+        }
+        else{
+          output.writeByte(STRING_PATTERN);
+          LtmSnapshot.writeVarInt(output, strings.get(((StringPattern)primitive).getString()));
+        }
+      }
+
+      ///// NODE TABLE /////
+      LtmSnapshot.writeVarInt(output, nodes.size());
+      for(Node node : nodes){
+        List<String> itemSlots = node.getItemSlots(time);
+        List<Square> positionSlots = node.getPositionSlots(time);
+        List<ItemSquarePattern> filledItemSlots = node.getFilledItemSlots(time);
+        List<ItemSquarePattern> filledPositionSlots = node.getFilledPositionSlots(time);
+        boolean hasSlotHistory = (
+          itemSlots != null ||
+          positionSlots != null ||
+          filledItemSlots != null ||
+          filledPositionSlots != null
+        );
+
+        LtmSnapshot.writeVarInt(output, node.getReference());
+        output.writeByte(
+          (node.isRootNode() ? ROOT_NODE : 0) |
+          (node.isTemplate(time) ? TEMPLATE : 0) |
+          (hasSlotHistory ? HAS_SLOT_HISTORY : 0)
+        );
+        LtmSnapshot.writeListPattern(output, node.getContents(), primitives);
+        LtmSnapshot.writeListPattern(output, node.getImage(time), primitives);
+
+        if(hasSlotHistory){
+
+          //Slot lists may be null if the Node was a template that has been
+          //cleared so a count of 0 denotes null and all other counts are
+          //offset by 1.
+          LtmSnapshot.writeVarInt(output, itemSlots == null ? 0 : itemSlots.size() + 1);
+          if(itemSlots != null){
+            for(String itemSlot : itemSlots) LtmSnapshot.writeVarInt(output, strings.get(itemSlot));
+          }
+
+          LtmSnapshot.writeVarInt(output, positionSlots == null ? 0 : positionSlots.size() + 1);
+          if(positionSlots != null){
+            for(Square positionSlot : positionSlots){
+              LtmSnapshot.writeSignedVarInt(output, positionSlot.getColumn());
+              LtmSnapshot.writeSignedVarInt(output, positionSlot.getRow());
+            }
+          }
+
+          LtmSnapshot.writeVarInt(output, filledItemSlots == null ? 0 : filledItemSlots.size() + 1);
+          if(filledItemSlots != null){
+            for(ItemSquarePattern item : filledItemSlots) LtmSnapshot.writeVarInt(output, primitives.get(item));
+          }
+
+          LtmSnapshot.writeVarInt(output, filledPositionSlots == null ? 0 : filledPositionSlots.size() + 1);
+          if(filledPositionSlots != null){
+            for(ItemSquarePattern item : filledPositionSlots) LtmSnapshot.writeVarInt(output, primitives.get(item));
+          }
+        }
+      }
+
+      ///// LINK TABLE /////
+      for(Node node : nodes){
+        List<Link> children = node.getChildren(time);
+        LtmSnapshot.writeVarInt(output, children == null ? 0 : children.size());
+        if(children != null){
+          for(Link child : children){
+            LtmSnapshot.writeVarInt(output, child.getChildNode().getReference());
+            LtmSnapshot.writeListPattern(output, child.getTest(), primitives);
+            String experimentCreatedIn = child.getExperimentCreatedIn();
+            LtmSnapshot.writeVarInt(output, experimentCreatedIn == null ? 0 : strings.get(experimentCreatedIn) + 1);
+          }
+        }
+
+        LinkedHashMap<Node, Double> productions = node.getProductions(time);
+        LtmSnapshot.writeVarInt(output, productions == null ? 0 : productions.size());
+        if(productions != null){
+          for(Entry<Node, Double> production : productions.entrySet()){
+            LtmSnapshot.writeVarInt(output, production.getKey().getReference());
+            output.writeDouble(production.getValue());
+          }
+        }
+
+        Node namedBy = node.getNamedBy(time);
+        LtmSnapshot.writeVarInt(output, namedBy == null ? 0 : namedBy.getReference() + 1);
+
+        List<Node> semanticLinks = node.getSemanticLinks(time);
+        LtmSnapshot.writeVarInt(output, semanticLinks == null ? 0 : semanticLinks.size());
+        if(semanticLinks != null){
+          for(Node semanticLink : semanticLinks){
+            LtmSnapshot.writeVarInt(output, semanticLink.getReference());
+          }
+        }
+      }
+    }
+  }
+
+  private static void intern(String string, LinkedHashMap<String, Integer> strings){
+    if(!strings.containsKey(string)) strings.put(string, strings.size());
+  }
+
+  private static void intern(PrimitivePattern primitive, LinkedHashMap<String, Integer> strings, LinkedHashMap<PrimitivePattern, Integer> primitives){
+    if(!primitives.containsKey(primitive)){
+      if(primitive instanceof ItemSquarePattern){
+        LtmSnapshot.intern(((ItemSquarePattern)primitive).getItem(), strings);
+      }
+      else if(primitive instanceof StringPattern){
+        LtmSnapshot.intern(((StringPattern)primitive).getString(), strings);
+      }
+      primitives.put(primitive, primitives.size());
+    }
+  }
+
+  private static void intern(ListPattern pattern, LinkedHashMap<String, Integer> strings, LinkedHashMap<PrimitivePattern, Integer> primitives){
+    for(PrimitivePattern primitive : pattern){
+      LtmSnapshot.intern(primitive, strings, primitives);
+    }
+  }
+
+  private static void writeListPattern(DataOutputStream output, ListPattern pattern, LinkedHashMap<PrimitivePattern, Integer> primitives) throws IOException{
+    output.writeByte(pattern.getModality().ordinal() | (pattern.isFinished() ? FINISHED : 0));
+    LtmSnapshot.writeVarInt(output, pattern.size());
+    for(PrimitivePattern primitive : pattern){
+      LtmSnapshot.writeVarInt(output, primitives.get(primitive));
+    }
+  }
+
+  /**
+   * Writes the non-negative {@code value} specified using 7 bits per byte
+   * with the most significant bit set if more bytes follow, i.e. values less
+   * than 128 take up one byte.
+   */
+  private static void writeVarInt(DataOutputStream output, int value) throws IOException{
+    while((value & ~0x7F) != 0){
+      output.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.writeByte(value);
+  }
+
+  /**
+   * Writes the {@code value} specified using {@link #writeVarInt(
+   * java.io.DataOutputStream, int)} after zig-zag encoding it so that small
+   * negative values also take up one byte.
+   */
+  private static void writeSignedVarInt(DataOutputStream output, int value) throws IOException{
+    LtmSnapshot.writeVarInt(output, (value << 1) ^ (value >> 31));
+  }
+
+  /****************/
+  /**** READER ****/
+  /****************/
+
+  /**
+   * Restores the LTM in the snapshot file specified.
+   *
+   * @param model The {@link jchrest.architecture.Chrest} model that restored
+   * {@link jchrest.architecture.Node Nodes} will be associated with.
+   * @param absolutePathToSaveFile
+   * @param time The time that restored {@link jchrest.architecture.Node Nodes}
+   * and {@link jchrest.architecture.Link Links} will be created at.
+   *
+   * @return The information read, including the modality root {@link
+   * jchrest.architecture.Node Nodes} of the restored LTM.
+   *
+   * @throws IOException If the file specified is not a snapshot file or was
+   * written using a newer version of the format than {@link #VERSION}.
+   */
+  static LtmSnapshot read(Chrest model, String absolutePathToSaveFile, int time) throws IOException{
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(absolutePathToSaveFile)))) {
+
+      ///// HEADER /////
+      if(input.readInt() != MAGIC_NUMBER){
+        throw new IOException(absolutePathToSaveFile + " is not an LTM snapshot file");
+      }
+
+      int version = input.readInt();
+      if(version > VERSION){
+        throw new IOException(
+          absolutePathToSaveFile + " was written using LTM snapshot format " +
+          "version " + version + " but only versions up to " + VERSION +
+          " can be read"
+        );
+      }
+
+      LtmSnapshot snapshot = new LtmSnapshot(input.readBoolean(), LtmSnapshot.readVarInt(input));
+      int numberModalities = LtmSnapshot.readVarInt(input);
+      for(int m = 0; m < numberModalities; m++){
+        snapshot._ltmModalitySizes[m] = LtmSnapshot.readVarInt(input);
+      }
+
+      ///// DICTIONARY /////
+      String[] strings = new String[LtmSnapshot.readVarInt(input)];
+      for(int s = 0; s < strings.length; s++){
+        strings[s] = input.readUTF();
+      }
+
+      PrimitivePattern[] primitives = new PrimitivePattern[LtmSnapshot.readVarInt(input)];
+      for(int p = 0; p < primitives.length; p++){
+        int tag = input.readUnsignedByte();
+        if(tag == ITEM_SQUARE_PATTERN){
+          String item = strings[LtmSnapshot.readVarInt(input)];
+          int column = LtmSnapshot.readSignedVarInt(input);
+          int row = LtmSnapshot.readSignedVarInt(input);
+          primitives[p] = new ItemSquarePattern(item, column, row);
+        }
+        else if(tag == NUMBER_PATTERN){
+          primitives[p] = NumberPattern.create(LtmSnapshot.readSignedVarInt(input));
+        }
+        else if(tag == STRING_PATTERN){
+          primitives[p] = StringPattern.create(strings[LtmSnapshot.readVarInt(input)]);
+        }
+        else{
+          throw new IOException("Unknown PrimitivePattern type (" + tag + ") in " + absolutePathToSaveFile);
+        }
+      }
+
+      ///// NODE TABLE /////
+      Node[] nodesByReference = new Node[snapshot._nextLtmNodeReference];
+      Node[] nodesInTableOrder = new Node[LtmSnapshot.readVarInt(input)];
+      for(int n = 0; n < nodesInTableOrder.length; n++){
+        int reference = LtmSnapshot.readVarInt(input);
+        int flags = input.readUnsignedByte();
+        ListPattern contents = LtmSnapshot.readListPattern(input, primitives);
+        ListPattern image = LtmSnapshot.readListPattern(input, primitives);
+
+        Node node = new Node(model, reference, (flags & ROOT_NODE) != 0, contents, image, (flags & TEMPLATE) != 0, time);
+        if((flags & HAS_SLOT_HISTORY) != 0){
+
+          List<String> itemSlots = null;
+          int itemSlotCount = LtmSnapshot.readVarInt(input);
+          if(itemSlotCount > 0){
+            itemSlots = new ArrayList<>(itemSlotCount - 1);
+            for(int i = 1; i < itemSlotCount; i++) itemSlots.add(strings[LtmSnapshot.readVarInt(input)]);
+          }
+
+          List<Square> positionSlots = null;
+          int positionSlotCount = LtmSnapshot.readVarInt(input);
+          if(positionSlotCount > 0){
+            positionSlots = new ArrayList<>(positionSlotCount - 1);
+            for(int i = 1; i < positionSlotCount; i++){
+              int column = LtmSnapshot.readSignedVarInt(input);
+              int row = LtmSnapshot.readSignedVarInt(input);
+              positionSlots.add(new Square(column, row));
+            }
+          }
+
+          List<ItemSquarePattern> filledItemSlots = LtmSnapshot.readItemSquarePatterns(input, primitives);
+          List<ItemSquarePattern> filledPositionSlots = LtmSnapshot.readItemSquarePatterns(input, primitives);
+
+          node.restoreSlots(itemSlots, positionSlots, filledItemSlots, filledPositionSlots);
+        }
+
+        nodesByReference[reference] = node;
+        nodesInTableOrder[n] = node;
+
+        if(node.isRootNode()){
+          snapshot._ltmModalityRootNodes[node.getModality().ordinal()] = node;
+        }
+      }
+
+      ///// LINK TABLE /////
+      for(Node node : nodesInTableOrder){
+        int childCount = LtmSnapshot.readVarInt(input);
+        List<Link> children = new ArrayList<>(childCount);
+        for(int c = 0; c < childCount; c++){
+          Node child = nodesByReference[LtmSnapshot.readVarInt(input)];
+          ListPattern test = LtmSnapshot.readListPattern(input, primitives);
+          int experimentCreatedIn = LtmSnapshot.readVarInt(input);
+          children.add(new Link(test, child, time, experimentCreatedIn == 0 ? null : strings[experimentCreatedIn - 1]));
+        }
+
+        int productionCount = LtmSnapshot.readVarInt(input);
+        LinkedHashMap<Node, Double> productions = new LinkedHashMap<>();
+        for(int p = 0; p < productionCount; p++){
+          Node production = nodesByReference[LtmSnapshot.readVarInt(input)];
+          productions.put(production, input.readDouble());
+        }
+
+        int namedBy = LtmSnapshot.readVarInt(input);
+
+        int semanticLinkCount = LtmSnapshot.readVarInt(input);
+        List<Node> semanticLinks = new ArrayList<>(semanticLinkCount);
+        for(int s = 0; s < semanticLinkCount; s++){
+          semanticLinks.add(nodesByReference[LtmSnapshot.readVarInt(input)]);
+        }
+
+        node.restoreAssociations(children, productions, namedBy == 0 ? null : nodesByReference[namedBy - 1], semanticLinks);
+      }
+
+      return snapshot;
+    }
+  }
+
+  private static ListPattern readListPattern(DataInputStream input, PrimitivePattern[] primitives) throws IOException{
+    int modalityAndFlags = input.readUnsignedByte();
+    ListPattern pattern = new ListPattern(Modality.values()[modalityAndFlags & ~FINISHED]);
+
+    int size = LtmSnapshot.readVarInt(input);
+    for(int i = 0; i < size; i++){
+      pattern.add(primitives[LtmSnapshot.readVarInt(input)]);
+    }
+
+    if((modalityAndFlags & FINISHED) != 0) pattern.setFinished();
+    return pattern;
+  }
+
+  private static List<ItemSquarePattern> readItemSquarePatterns(DataInputStream input, PrimitivePattern[] primitives) throws IOException{
+    int count = LtmSnapshot.readVarInt(input);
+    if(count == 0) return null;
+
+    List<ItemSquarePattern> items = new ArrayList<>(count - 1);
+    for(int i = 1; i < count; i++){
+      items.add((ItemSquarePattern)primitives[LtmSnapshot.readVarInt(input)]);
+    }
+    return items;
+  }
+
+  private static int readVarInt(DataInputStream input) throws IOException{
+    int value = 0;
+    int shift = 0;
+    int b;
+    do{
+      b = input.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while((b & 0x80) != 0);
+
+    return value;
+  }
+
+  private static int readSignedVarInt(DataInputStream input) throws IOException{
+    int value = LtmSnapshot.readVarInt(input);
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
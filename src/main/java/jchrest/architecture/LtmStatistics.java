@@ -0,0 +1,356 @@
+package jchrest.architecture;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import jchrest.lib.CountHistory;
+import jchrest.lib.ListPattern;
+import jchrest.lib.Modality;
+
+/**
+ * Maintains metrics concerning the long-term memory of a {@link
+ * jchrest.architecture.Chrest} model as {@link jchrest.architecture.Node
+ * Nodes}, {@link jchrest.architecture.Link Links}, images, templates,
+ * productions and semantic links are added to it so that the metrics can be
+ * retrieved without traversing long-term memory, e.g. {@link
+ * jchrest.architecture.Chrest#getLtmAverageDepth(jchrest.lib.Modality, int)}.
+ * <p>
+ * A {@link jchrest.architecture.Node} contributes to the metrics maintained
+ * from the time it is added to long-term memory, i.e. when it is created as a
+ * modality root {@link jchrest.architecture.Node} or added as a child of a
+ * {@link jchrest.architecture.Node} already in long-term memory (see {@link
+ * jchrest.architecture.Node#getLtmDepth()}).  Every metric is time-stamped so
+ * the value of a metric at any time can be retrieved, unless the {@link
+ * jchrest.architecture.Chrest} model is not recording its state history (see
+ * {@link jchrest.architecture.Chrest#canRecordStateHistory()}).
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+class LtmStatistics {
+
+  private final Chrest _model;
+
+  //Indexed by Modality ordinal.  The depth of a leaf Node is the number of
+  //Links between it and its modality root Node.  A modality root Node with no
+  //children is a leaf at depth 0.
+  private final CountHistory[] _nodeCounts = new CountHistory[Modality.values().length];
+  private final CountHistory[] _leafCounts = new CountHistory[Modality.values().length];
+  private final CountHistory[] _leafDepthSums = new CountHistory[Modality.values().length];
+  private final CountHistory[] _imageSizeSums = new CountHistory[Modality.values().length];
+
+  //Only Modality.VISUAL Nodes can be templates or have productions.
+  private final CountHistory _visualTemplateCount = new CountHistory();
+  private final CountHistory _visualProductionCount = new CountHistory();
+
+  //Sizes/counts to frequency of occurrence across all modalities.
+  private final HashMap<Integer, CountHistory> _contentSizeFrequencies = new HashMap<>();
+  private final HashMap<Integer, CountHistory> _imageSizeFrequencies = new HashMap<>();
+  private final HashMap<Integer, CountHistory> _semanticLinkCountFrequencies = new HashMap<>();
+
+  LtmStatistics(Chrest model){
+    this._model = model;
+    for(int m = 0; m < Modality.values().length; m++){
+      this._nodeCounts[m] = new CountHistory();
+      this._leafCounts[m] = new CountHistory();
+      this._leafDepthSums[m] = new CountHistory();
+      this._imageSizeSums[m] = new CountHistory();
+    }
+  }
+
+  /**
+   * Constructs an {@link #this} for the {@code model} specified whose metrics 
+   * are set to the values of the {@code statistics} specified at the {@code 
+   * time} specified, e.g. when the {@code model} is forked from the model that
+   * the {@code statistics} specified are maintained for (see {@link 
+   * jchrest.architecture.Chrest#fork(int)}).
+   *
+   * @param model
+   * @param statistics
+   * @param time
+   */
+  LtmStatistics(Chrest model, LtmStatistics statistics, int time){
+    this(model);
+    for(int m = 0; m < Modality.values().length; m++){
+      this._nodeCounts[m].set(time, statistics._nodeCounts[m].get(time));
+      this._leafCounts[m].set(time, statistics._leafCounts[m].get(time));
+      this._leafDepthSums[m].set(time, statistics._leafDepthSums[m].get(time));
+      this._imageSizeSums[m].set(time, statistics._imageSizeSums[m].get(time));
+    }
+    this._visualTemplateCount.set(time, statistics._visualTemplateCount.get(time));
+    this._visualProductionCount.set(time, statistics._visualProductionCount.get(time));
+    LtmStatistics.copyFrequencies(statistics._contentSizeFrequencies, this._contentSizeFrequencies, time);
+    LtmStatistics.copyFrequencies(statistics._imageSizeFrequencies, this._imageSizeFrequencies, time);
+    LtmStatistics.copyFrequencies(statistics._semanticLinkCountFrequencies, this._semanticLinkCountFrequencies, time);
+  }
+
+  private static void copyFrequencies(HashMap<Integer, CountHistory> from, HashMap<Integer, CountHistory> to, int time){
+    for(Entry<Integer, CountHistory> frequency : from.entrySet()){
+      int value = frequency.getValue().get(time);
+      if(value != 0){
+        CountHistory copy = new CountHistory();
+        copy.set(time, value);
+        to.put(frequency.getKey(), copy);
+      }
+    }
+  }
+
+  /**************************/
+  /**** UPDATE FUNCTIONS ****/
+  /**************************/
+
+  /**
+   * Adds the modality {@code root} {@link jchrest.architecture.Node} specified
+   * and the {@link jchrest.architecture.Node Nodes} below it at the {@code
+   * time} specified to long-term memory.
+   *
+   * @param root
+   * @param time
+   */
+  void addModalityRootNode(Node root, int time){
+    this.addNodes(root, 0, time);
+  }
+
+  /**
+   * Should be invoked after a {@link jchrest.architecture.Link} to the {@code
+   * child} specified is added to the {@code parent} specified.  If the {@code
+   * parent} is in long-term memory, the {@code child} and the {@link
+   * jchrest.architecture.Node Nodes} below it are added to long-term memory.
+   *
+   * @param parent
+   * @param child
+   * @param parentWasLeaf Whether the {@code parent} had no children before the
+   * {@code child} was added.
+   * @param time
+   */
+  void childAdded(Node parent, Node child, boolean parentWasLeaf, int time){
+    int parentDepth = parent.getLtmDepth();
+    if(parentDepth >= 0){
+      if(parentWasLeaf){
+        int m = parent.getModality().ordinal();
+        this.add(this._leafCounts[m], time, -1);
+        this.add(this._leafDepthSums[m], time, -parentDepth);
+      }
+      this.addNodes(child, parentDepth + 1, time);
+    }
+  }
+
+  private void addNodes(Node node, int depth, int time){
+    node.setLtmDepth(depth);
+
+    List<Link> children = node.getChildren(time);
+    ListPattern image = node.getImage(time);
+    List<Node> semanticLinks = node.getSemanticLinks(time);
+    Map<Node, Double> productions = node.getProductions(time);
+
+    this.addNode(
+      node.getModality(),
+      depth,
+      children == null || children.isEmpty(),
+      node.getContents().size(),
+      image == null ? -1 : image.size(),
+      semanticLinks == null ? 0 : semanticLinks.size(),
+      productions == null ? 0 : productions.size(),
+      node.isTemplate(time),
+      time
+    );
+
+    if(children != null){
+      for(Link link : children){
+        this.addNodes(link.getChildNode(), depth + 1, time);
+      }
+    }
+  }
+
+  /**
+   * Adds a {@link jchrest.architecture.Node} with the details specified to
+   * long-term memory at the {@code time} specified without the {@link
+   * jchrest.architecture.Node} having to be instantiated.
+   *
+   * @param modality
+   * @param depth
+   * @param leaf
+   * @param contentsSize
+   * @param imageSize -1 if the {@link jchrest.architecture.Node} has no image.
+   * @param semanticLinkCount
+   * @param productionCount
+   * @param template
+   * @param time
+   */
+  void addNode(
+    Modality modality,
+    int depth,
+    boolean leaf,
+    int contentsSize,
+    int imageSize,
+    int semanticLinkCount,
+    int productionCount,
+    boolean template,
+    int time
+  ){
+    int m = modality.ordinal();
+    this.add(this._nodeCounts[m], time, 1);
+    if(leaf){
+      this.add(this._leafCounts[m], time, 1);
+      this.add(this._leafDepthSums[m], time, depth);
+    }
+
+    this.addFrequency(this._contentSizeFrequencies, contentsSize, time, 1);
+    if(imageSize >= 0){
+      this.addFrequency(this._imageSizeFrequencies, imageSize, time, 1);
+      this.add(this._imageSizeSums[m], time, imageSize);
+    }
+    if(semanticLinkCount > 0){
+      this.addFrequency(this._semanticLinkCountFrequencies, semanticLinkCount, time, 1);
+    }
+
+    if(modality == Modality.VISUAL){
+      this.add(this._visualProductionCount, time, productionCount);
+      if(template) this.add(this._visualTemplateCount, time, 1);
+    }
+  }
+
+  /**
+   * Should be invoked after the image of the {@code node} specified is set.
+   *
+   * @param node
+   * @param previousImage
+   * @param image
+   * @param time
+   */
+  void imageChanged(Node node, ListPattern previousImage, ListPattern image, int time){
+    if(node.getLtmDepth() >= 0){
+      int previousSize = previousImage == null ? 0 : previousImage.size();
+      if(previousImage != null) this.addFrequency(this._imageSizeFrequencies, previousSize, time, -1);
+      this.addFrequency(this._imageSizeFrequencies, image.size(), time, 1);
+      this.add(this._imageSizeSums[node.getModality().ordinal()], time, image.size() - previousSize);
+    }
+  }
+
+  /**
+   * Should be invoked after semantic links are added to the {@code node}
+   * specified.
+   *
+   * @param node
+   * @param previousSemanticLinkCount
+   * @param semanticLinkCount
+   * @param time
+   */
+  void semanticLinksAdded(Node node, int previousSemanticLinkCount, int semanticLinkCount, int time){
+    if(node.getLtmDepth() >= 0){
+      if(previousSemanticLinkCount > 0){
+        this.addFrequency(this._semanticLinkCountFrequencies, previousSemanticLinkCount, time, -1);
+      }
+      this.addFrequency(this._semanticLinkCountFrequencies, semanticLinkCount, time, 1);
+    }
+  }
+
+  /**
+   * Should be invoked after a production is added to the {@code node}
+   * specified.
+   *
+   * @param node
+   * @param time
+   */
+  void productionAdded(Node node, int time){
+    if(node.getLtmDepth() >= 0 && node.getModality() == Modality.VISUAL){
+      this.add(this._visualProductionCount, time, 1);
+    }
+  }
+
+  /**
+   * Should be invoked after the {@code node} specified becomes a template or
+   * stops being a template.
+   *
+   * @param node
+   * @param template Whether the {@code node} is now a template.
+   * @param time
+   */
+  void templateChanged(Node node, boolean template, int time){
+    if(node.getLtmDepth() >= 0 && node.getModality() == Modality.VISUAL){
+      this.add(this._visualTemplateCount, time, template ? 1 : -1);
+    }
+  }
+
+  private void add(CountHistory count, int time, int delta){
+    count.add(time, delta, this._model.canRecordStateHistory());
+  }
+
+  private void addFrequency(HashMap<Integer, CountHistory> frequencies, int key, int time, int delta){
+    CountHistory frequency = frequencies.get(key);
+    if(frequency == null){
+      frequency = new CountHistory();
+      frequencies.put(key, frequency);
+    }
+    this.add(frequency, time, delta);
+  }
+
+  /**************************/
+  /**** GETTER FUNCTIONS ****/
+  /**************************/
+
+  /**
+   * @param modality
+   * @param time
+   * @return The number of {@link jchrest.architecture.Node Nodes} with the
+   * {@code modality} specified in long-term memory at the {@code time}
+   * specified, including the modality root {@link jchrest.architecture.Node}.
+   */
+  int getNodeCount(Modality modality, int time){
+    return this._nodeCounts[modality.ordinal()].get(time);
+  }
+
+  /**
+   * @param modality
+   * @param time
+   * @return The average depth of the leaf {@link jchrest.architecture.Node
+   * Nodes} below the modality root {@link jchrest.architecture.Node} with the
+   * {@code modality} specified at the {@code time} specified or 0.0 if the
+   * modality root {@link jchrest.architecture.Node} has no children.
+   */
+  double getAverageDepth(Modality modality, int time){
+    int m = modality.ordinal();
+    if(this._nodeCounts[m].get(time) <= 1) return 0.0;
+    return (double)this._leafDepthSums[m].get(time) / (double)this._leafCounts[m].get(time);
+  }
+
+  /**
+   * @param modality
+   * @param time
+   * @return The sum of the image sizes of the {@link jchrest.architecture.Node
+   * Nodes} with the {@code modality} specified in long-term memory at the
+   * {@code time} specified.
+   */
+  int getImageSizeSum(Modality modality, int time){
+    return this._imageSizeSums[modality.ordinal()].get(time);
+  }
+
+  int getVisualTemplateCount(int time){
+    return this._visualTemplateCount.get(time);
+  }
+
+  int getVisualProductionCount(int time){
+    return this._visualProductionCount.get(time);
+  }
+
+  Map<Integer, Integer> getContentSizeCounts(int time){
+    return LtmStatistics.getFrequencies(this._contentSizeFrequencies, time);
+  }
+
+  Map<Integer, Integer> getImageSizeCounts(int time){
+    return LtmStatistics.getFrequencies(this._imageSizeFrequencies, time);
+  }
+
+  Map<Integer, Integer> getSemanticLinkCountsAndFrequencies(int time){
+    return LtmStatistics.getFrequencies(this._semanticLinkCountFrequencies, time);
+  }
+
+  private static Map<Integer, Integer> getFrequencies(HashMap<Integer, CountHistory> frequencies, int time){
+    Map<Integer, Integer> frequenciesAtTime = new HashMap<>();
+    for(Entry<Integer, CountHistory> frequency : frequencies.entrySet()){
+      int frequencyAtTime = frequency.getValue().get(time);
+      if(frequencyAtTime > 0) frequenciesAtTime.put(frequency.getKey(), frequencyAtTime);
+    }
+    return frequenciesAtTime;
+  }
+}
@@ -0,0 +1,759 @@
+package jchrest.architecture;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.function.IntFunction;
+import jchrest.lib.ItemSquarePattern;
+import jchrest.lib.ListPattern;
+import jchrest.lib.Modality;
+import jchrest.lib.NumberPattern;
+import jchrest.lib.PrimitivePattern;
+import jchrest.lib.StringPattern;
+
+/**
+ * A frozen, read-only image of the long-term memory (LTM) of a {@link
+ * jchrest.architecture.Chrest} model that is memory-mapped from a file rather
+ * than being read into {@link jchrest.architecture.Node} and {@link
+ * jchrest.architecture.Link} instances.
+ * <p>
+ * Opening an image only requires its {@link jchrest.lib.PrimitivePattern}
+ * dictionary to be read so it is near-instant, irrespective of the size of the
+ * LTM it contains.  Furthermore, since an image is mapped read-only, every
+ * process on a host that opens the same image shares the same pages of the
+ * operating system's page cache.
+ * <p>
+ * {@link jchrest.architecture.Node Nodes} are identified by their index in the
+ * image's node table rather than by {@link jchrest.architecture.Node}
+ * instances.  Each node table record has a fixed size so a {@link
+ * jchrest.architecture.Node Node's} information can be read directly from the
+ * image given its index.  Likewise, the child {@link jchrest.architecture.Link
+ * Links} of a {@link jchrest.architecture.Node} are stored contiguously in a
+ * link table of fixed size records.  Contents, images and {@link
+ * jchrest.architecture.Link} tests are stored as arrays of {@link
+ * jchrest.lib.PrimitivePattern} dictionary identifiers so they can be compared
+ * with a {@link jchrest.lib.ListPattern} without being materialised.
+ * <p>
+ * A {@link jchrest.architecture.Chrest} model can be constructed using an
+ * image (see {@link jchrest.architecture.Chrest#Chrest(
+ * jchrest.architecture.MappedLtm, int)}).  Such a model traverses the image
+ * directly when recognising {@link jchrest.lib.ListPattern ListPatterns} (see
+ * {@link jchrest.architecture.Chrest#recognise(jchrest.lib.ListPattern,
+ * java.lang.Integer, java.lang.Boolean)}) and only materialises the {@link
+ * jchrest.architecture.Node Nodes} that recognition returns and those reached
+ * from them, e.g. their children, when they are accessed.
+ * <p>
+ * Template slots are not included in images and, since offsets are 32-bit and
+ * a single {@link java.nio.MappedByteBuffer} is used, an image can not be
+ * larger than 2GB.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public final class MappedLtm {
+
+  /** The first four bytes of every image file ("LTMI" in ASCII). */
+  public static final int MAGIC_NUMBER = 0x4C544D49;
+
+  /** The version of the format written by {@link #this}. */
+  public static final int VERSION = 1;
+
+  //Tags for PrimitivePatterns in the dictionary.
+  private static final byte STRING_PATTERN = 0;
+  private static final byte NUMBER_PATTERN = 1;
+  private static final byte ITEM_SQUARE_PATTERN = 2;
+
+  //Node record layout: reference, flags and modality, depth, information,
+  //contents offset, image offset, first link index, child count, associations
+  //offset.
+  private static final int NODE_RECORD_SIZE = 36;
+  private static final int ROOT_NODE = 1;
+
+  //Link record layout: child node index, test offset.
+  private static final int LINK_RECORD_SIZE = 8;
+
+  //Pattern header layout: modality in the low byte, finished flag above it.
+  private static final int FINISHED = 1 << 8;
+
+  private final ByteBuffer _image;
+  private final boolean _learnObjectLocationsRelativeToAgent;
+  private final int _nextLtmNodeReference;
+  private final int _nodeCount;
+  private final int[] _rootNodes = new int[Modality.values().length];
+  private final int[] _ltmModalitySizes = new int[Modality.values().length];
+  private final int _nodeTableOffset;
+  private final int _linkTableOffset;
+  private final int _patternPoolOffset;
+  private final int _associationPoolOffset;
+
+  private final PrimitivePattern[] _primitives;
+  private final HashMap<PrimitivePattern, Integer> _primitiveIdentifiers;
+  private final SemanticLinkSearch<Integer> _semanticLinkSearch = new SemanticLinkSearch<>(this::getSemanticLinks, this::information);
+
+  private MappedLtm(ByteBuffer image) throws IOException{
+    this._image = image;
+
+    if(image.getInt(0) != MAGIC_NUMBER){
+      throw new IOException("Not an LTM image file");
+    }
+
+    int version = image.getInt(4);
+    if(version > VERSION){
+      throw new IOException(
+        "LTM image was written using format version " + version + " but only " +
+        "versions up to " + VERSION + " can be read"
+      );
+    }
+
+    image.position(8);
+    this._learnObjectLocationsRelativeToAgent = image.getInt() != 0;
+    this._nextLtmNodeReference = image.getInt();
+    this._nodeCount = image.getInt();
+    int modalities = image.getInt();
+    for(int m = 0; m < modalities; m++){
+      this._rootNodes[m] = image.getInt();
+      this._ltmModalitySizes[m] = image.getInt();
+    }
+    this._nodeTableOffset = image.getInt();
+    this._linkTableOffset = image.getInt();
+    this._patternPoolOffset = image.getInt();
+    this._associationPoolOffset = image.getInt();
+
+    //Decode the dictionary; this is the only part of the image that is read
+    //when it is opened.
+    String[] strings = new String[image.getInt()];
+    for(int s = 0; s < strings.length; s++){
+      byte[] bytes = new byte[image.getInt()];
+      image.get(bytes);
+      strings[s] = new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    this._primitives = new PrimitivePattern[image.getInt()];
+    this._primitiveIdentifiers = new HashMap<>(this._primitives.length * 2);
+    for(int p = 0; p < this._primitives.length; p++){
+      byte tag = image.get();
+      if(tag == ITEM_SQUARE_PATTERN){
+        String item = strings[image.getInt()];
+        int column = image.getInt();
+        int row = image.getInt();
+        this._primitives[p] = new ItemSquarePattern(item, column, row);
+      }
+      else if(tag == NUMBER_PATTERN){
+        this._primitives[p] = NumberPattern.create(image.getInt());
+      }
+      else if(tag == STRING_PATTERN){
+        this._primitives[p] = StringPattern.create(strings[image.getInt()]);
+      }
+      else{
+        throw new IOException("Unknown PrimitivePattern type (" + tag + ") in LTM image");
+      }
+      this._primitiveIdentifiers.put(this._primitives[p], p);
+    }
+  }
+
+  /**
+   * Maps the image file specified into memory.
+   *
+   * @param absolutePathToFile
+   *
+   * @return
+   *
+   * @throws IOException If the file specified is not an image file or was
+   * written using a newer version of the format than {@link #VERSION}.
+   */
+  public static MappedLtm open(String absolutePathToFile) throws IOException{
+    try (FileChannel channel = FileChannel.open(Paths.get(absolutePathToFile), StandardOpenOption.READ)) {
+      MappedByteBuffer image = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new MappedLtm(image);
+    }
+  }
+
+  /****************/
+  /**** WRITER ****/
+  /****************/
+
+  /**
+   * Writes an image of the LTM of the {@code model} specified as it is at the
+   * {@code time} specified to the file specified.
+   *
+   * @param model
+   * @param absolutePathToFile
+   * @param time
+   *
+   * @throws IOException
+   */
+  public static void write(Chrest model, String absolutePathToFile, int time) throws IOException{
+
+    //Collect Nodes in breadth-first order so that the children of a Node are
+    //contiguous in the link table.
+    ArrayList<Node> nodes = new ArrayList<>();
+    for(Modality modality : Modality.values()){
+      Node rootNode = model.getLtmModalityRootNode(modality);
+      if(rootNode != null) nodes.add(rootNode);
+    }
+
+    for(int n = 0; n < nodes.size(); n++){
+      List<Link> children = nodes.get(n).getChildren(time);
+      if(children != null){
+        for(Link child : children){
+          nodes.add(child.getChildNode());
+        }
+      }
+    }
+
+    int[] indexesByReference = new int[model.getNextLtmNodeReference()];
+    int[] depths = new int[nodes.size()];
+    for(int n = 0; n < nodes.size(); n++){
+      indexesByReference[nodes.get(n).getReference()] = n;
+    }
+
+    //Build the dictionary, pattern pool and association pool.
+    LinkedHashMap<String, Integer> strings = new LinkedHashMap<>();
+    LinkedHashMap<PrimitivePattern, Integer> primitives = new LinkedHashMap<>();
+    ByteArrayOutputStream patternPoolBytes = new ByteArrayOutputStream();
+    DataOutputStream patternPool = new DataOutputStream(patternPoolBytes);
+    ByteArrayOutputStream associationPoolBytes = new ByteArrayOutputStream();
+    DataOutputStream associationPool = new DataOutputStream(associationPoolBytes);
+
+    int[] contentsOffsets = new int[nodes.size()];
+    int[] imageOffsets = new int[nodes.size()];
+    int[] associationOffsets = new int[nodes.size()];
+    int[] firstLinks = new int[nodes.size()];
+    int[] linkChildren;
+    int[] linkTestOffsets;
+
+    ArrayList<Link> links = new ArrayList<>();
+    for(int n = 0; n < nodes.size(); n++){
+      Node node = nodes.get(n);
+
+      contentsOffsets[n] = MappedLtm.writePattern(patternPool, node.getContents(), strings, primitives);
+      imageOffsets[n] = MappedLtm.writePattern(patternPool, node.getImage(time), strings, primitives);
+
+      firstLinks[n] = links.size();
+      List<Link> children = node.getChildren(time);
+      if(children != null){
+        for(Link child : children){
+          links.add(child);
+          depths[indexesByReference[child.getChildNode().getReference()]] = depths[n] + 1;
+        }
+      }
+
+      associationOffsets[n] = associationPool.size();
+      LinkedHashMap<Node, Double> productions = node.getProductions(time);
+      associationPool.writeInt(productions == null ? 0 : productions.size());
+      if(productions != null){
+        for(Entry<Node, Double> production : productions.entrySet()){
+          associationPool.writeInt(indexesByReference[production.getKey().getReference()]);
+          associationPool.writeDouble(production.getValue());
+        }
+      }
+
+      Node namedBy = node.getNamedBy(time);
+      associationPool.writeInt(namedBy == null ? -1 : indexesByReference[namedBy.getReference()]);
+
+      List<Node> semanticLinks = node.getSemanticLinks(time);
+      associationPool.writeInt(semanticLinks == null ? 0 : semanticLinks.size());
+      if(semanticLinks != null){
+        for(Node semanticLink : semanticLinks){
+          associationPool.writeInt(indexesByReference[semanticLink.getReference()]);
+        }
+      }
+    }
+
+    linkChildren = new int[links.size()];
+    linkTestOffsets = new int[links.size()];
+    for(int l = 0; l < links.size(); l++){
+      Link link = links.get(l);
+      linkChildren[l] = indexesByReference[link.getChildNode().getReference()];
+      linkTestOffsets[l] = MappedLtm.writePattern(patternPool, link.getTest(), strings, primitives);
+    }
+
+    ByteArrayOutputStream dictionaryBytes = new ByteArrayOutputStream();
+    DataOutputStream dictionary = new DataOutputStream(dictionaryBytes);
+    dictionary.writeInt(strings.size());
+    for(String string : strings.keySet()){
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      dictionary.writeInt(bytes.length);
+      dictionary.write(bytes);
+    }
+    dictionary.writeInt(primitives.size());
+    for(PrimitivePattern primitive : primitives.keySet()){
+      if(primitive instanceof ItemSquarePattern){
+        ItemSquarePattern itemSquarePattern = (ItemSquarePattern)primitive;
+        dictionary.writeByte(ITEM_SQUARE_PATTERN);
+        dictionary.writeInt(strings.get(itemSquarePattern.getItem()));
+        dictionary.writeInt(itemSquarePattern.getColumn());
+        dictionary.writeInt(itemSquarePattern.getRow());
+      }
+      else if(primitive instanceof NumberPattern){
+        dictionary.writeByte(NUMBER_PATTERN);
+        dictionary.writeInt(((NumberPattern)primitive).getNumber());
+      }
+      else{
+        dictionary.writeByte(STRING_PATTERN);
+        dictionary.writeInt(strings.get(((StringPattern)primitive).getString()));
+      }
+    }
+
+    //Lay out the sections.
+    int headerSize = 4 * (6 + (2 * Modality.values().length) + 4);
+    long nodeTableOffset = headerSize + dictionaryBytes.size();
+    long linkTableOffset = nodeTableOffset + ((long)nodes.size() * NODE_RECORD_SIZE);
+    long patternPoolOffset = linkTableOffset + ((long)links.size() * LINK_RECORD_SIZE);
+    long associationPoolOffset = patternPoolOffset + patternPoolBytes.size();
+    if(associationPoolOffset + associationPoolBytes.size() > Integer.MAX_VALUE){
+      throw new IOException("LTM is too large to be written as an image");
+    }
+
+    File file = new File(absolutePathToFile);
+    if(file.getParentFile() != null) file.getParentFile().mkdirs();
+
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+
+      ///// HEADER /////
+      output.writeInt(MAGIC_NUMBER);
+      output.writeInt(VERSION);
+      output.writeInt(model.isLearningObjectLocationsRelativeToAgent() ? 1 : 0);
+      output.writeInt(model.getNextLtmNodeReference());
+      output.writeInt(nodes.size());
+      output.writeInt(Modality.values().length);
+      for(Modality modality : Modality.values()){
+        Node rootNode = model.getLtmModalityRootNode(modality);
+        Integer ltmModalitySize = model.getLtmModalitySize(modality, time);
+        output.writeInt(rootNode == null ? -1 : indexesByReference[rootNode.getReference()]);
+        output.writeInt(ltmModalitySize == null ? 0 : ltmModalitySize);
+      }
+      output.writeInt((int)nodeTableOffset);
+      output.writeInt((int)linkTableOffset);
+      output.writeInt((int)patternPoolOffset);
+      output.writeInt((int)associationPoolOffset);
+
+      ///// DICTIONARY /////
+      dictionaryBytes.writeTo(output);
+
+      ///// NODE TABLE /////
+      for(int n = 0; n < nodes.size(); n++){
+        Node node = nodes.get(n);
+        List<Link> children = node.getChildren(time);
+        output.writeInt(node.getReference());
+        output.writeInt((node.isRootNode() ? ROOT_NODE : 0) | (node.getModality().ordinal() << 8));
+        output.writeInt(depths[n]);
+        output.writeInt(node.information(time));
+        output.writeInt(contentsOffsets[n]);
+        output.writeInt(imageOffsets[n]);
+        output.writeInt(firstLinks[n]);
+        output.writeInt(children == null ? 0 : children.size());
+        output.writeInt(associationOffsets[n]);
+      }
+
+      ///// LINK TABLE /////
+      for(int l = 0; l < links.size(); l++){
+        output.writeInt(linkChildren[l]);
+        output.writeInt(linkTestOffsets[l]);
+      }
+
+      ///// POOLS /////
+      patternPoolBytes.writeTo(output);
+      associationPoolBytes.writeTo(output);
+    }
+  }
+
+  private static int writePattern(DataOutputStream pool, ListPattern pattern, LinkedHashMap<String, Integer> strings, LinkedHashMap<PrimitivePattern, Integer> primitives) throws IOException{
+    int offset = pool.size();
+    pool.writeInt(pattern.getModality().ordinal() | (pattern.isFinished() ? FINISHED : 0));
+    pool.writeInt(pattern.size());
+    for(PrimitivePattern primitive : pattern){
+      Integer identifier = primitives.get(primitive);
+      if(identifier == null){
+        if(primitive instanceof ItemSquarePattern){
+          String item = ((ItemSquarePattern)primitive).getItem();
+          if(!strings.containsKey(item)) strings.put(item, strings.size());
+        }
+        else if(primitive instanceof StringPattern){
+          String string = ((StringPattern)primitive).getString();
+          if(!strings.containsKey(string)) strings.put(string, strings.size());
+        }
+        identifier = primitives.size();
+        primitives.put(primitive, identifier);
+      }
+      pool.writeInt(identifier);
+    }
+    return offset;
+  }
+
+  /*****************/
+  /**** GETTERS ****/
+  /*****************/
+
+  boolean isLearningObjectLocationsRelativeToAgent(){
+    return this._learnObjectLocationsRelativeToAgent;
+  }
+
+  int getNextLtmNodeReference(){
+    return this._nextLtmNodeReference;
+  }
+
+  int getLtmModalitySize(Modality modality){
+    return this._ltmModalitySizes[modality.ordinal()];
+  }
+
+  /**
+   * @return The number of {@link jchrest.architecture.Node Nodes} in {@link
+   * #this}.
+   */
+  public int getNodeCount(){
+    return this._nodeCount;
+  }
+
+  /**
+   * @param modality
+   *
+   * @return The index of the root {@link jchrest.architecture.Node} of the
+   * {@link jchrest.lib.Modality} specified or -1 if {@link #this} does not
+   * contain one.
+   */
+  public int getRootNode(Modality modality){
+    return this._rootNodes[modality.ordinal()];
+  }
+
+  private int getNodeField(int node, int field){
+    return this._image.getInt(this._nodeTableOffset + (node * NODE_RECORD_SIZE) + (field * 4));
+  }
+
+  /**
+   * @param node
+   * @return See {@link jchrest.architecture.Node#getReference()}.
+   */
+  public int getReference(int node){
+    return this.getNodeField(node, 0);
+  }
+
+  /**
+   * @param node
+   * @return See {@link jchrest.architecture.Node#isRootNode()}.
+   */
+  public boolean isRootNode(int node){
+    return (this.getNodeField(node, 1) & ROOT_NODE) != 0;
+  }
+
+  /**
+   * @param node
+   * @return See {@link jchrest.architecture.Node#getModality()}.
+   */
+  public Modality getModality(int node){
+    return Modality.values()[this.getNodeField(node, 1) >>> 8];
+  }
+
+  /**
+   * @param node
+   * @return The number of {@link jchrest.architecture.Link Links} between the
+   * {@link jchrest.architecture.Node} specified and its modality root {@link
+   * jchrest.architecture.Node}.
+   */
+  public int getDepth(int node){
+    return this.getNodeField(node, 2);
+  }
+
+  /**
+   * @param node
+   * @return See {@link jchrest.architecture.Node#information(int)}.
+   */
+  public int information(int node){
+    return this.getNodeField(node, 3);
+  }
+
+  /**
+   * @param node
+   * @return See {@link jchrest.architecture.Node#getContents()}.
+   */
+  public ListPattern getContents(int node){
+    return this.readPattern(this.getNodeField(node, 4));
+  }
+
+  /**
+   * @param node
+   * @return See {@link jchrest.architecture.Node#getImage(int)}.
+   */
+  public ListPattern getImage(int node){
+    return this.readPattern(this.getNodeField(node, 5));
+  }
+
+  /**
+   * @param node
+   * @return The number of children the {@link jchrest.architecture.Node}
+   * specified has.
+   */
+  public int getChildCount(int node){
+    return this.getNodeField(node, 7);
+  }
+
+  /**
+   * @param node
+   * @param child
+   * @return The index of the {@link jchrest.architecture.Node} at the end of
+   * the {@code child}th {@link jchrest.architecture.Link} of the {@link
+   * jchrest.architecture.Node} specified.
+   */
+  public int getChild(int node, int child){
+    return this._image.getInt(this._linkTableOffset + ((this.getNodeField(node, 6) + child) * LINK_RECORD_SIZE));
+  }
+
+  /**
+   * @param node
+   * @param child
+   * @return The test on the {@code child}th {@link jchrest.architecture.Link}
+   * of the {@link jchrest.architecture.Node} specified.
+   */
+  public ListPattern getTest(int node, int child){
+    return this.readPattern(this._image.getInt(this._linkTableOffset + ((this.getNodeField(node, 6) + child) * LINK_RECORD_SIZE) + 4));
+  }
+
+  private ListPattern readPattern(int offset){
+    int position = this._patternPoolOffset + offset;
+    int header = this._image.getInt(position);
+    int size = this._image.getInt(position + 4);
+
+    ListPattern pattern = new ListPattern(Modality.values()[header & 0xFF]);
+    for(int i = 0; i < size; i++){
+      pattern.add(this._primitives[this._image.getInt(position + 8 + (i * 4))]);
+    }
+    if((header & FINISHED) != 0) pattern.setFinished();
+
+    return pattern;
+  }
+
+  /*******************/
+  /**** RETRIEVAL ****/
+  /*******************/
+
+  /**
+   * Sorts the {@code pattern} specified through {@link #this} vertically in
+   * the same way as {@link jchrest.architecture.Chrest#recognise(
+   * jchrest.lib.ListPattern, java.lang.Integer, java.lang.Boolean)}, i.e. the
+   * first {@link jchrest.architecture.Link} of each {@link
+   * jchrest.architecture.Node} whose test the remainder of the {@code pattern}
+   * passes is descended until no test is passed.
+   *
+   * @param pattern
+   *
+   * @return The index of the {@link jchrest.architecture.Node} reached (may be
+   * a root {@link jchrest.architecture.Node}) or -1 if {@link #this} does not
+   * contain a root {@link jchrest.architecture.Node} for the {@link
+   * jchrest.lib.Modality} of the {@code pattern} specified.
+   */
+  public int getNodeReached(ListPattern pattern){
+    int modality = pattern.getModality().ordinal();
+    int node = this._rootNodes[modality];
+    if(node == -1) return -1;
+
+    //Convert the pattern into dictionary identifiers; PrimitivePatterns that
+    //aren't in the dictionary can not be on any test so are given an
+    //identifier that matches nothing.
+    int[] identifiers = new int[pattern.size()];
+    for(int i = 0; i < identifiers.length; i++){
+      Integer identifier = this._primitiveIdentifiers.get(pattern.getItem(i));
+      identifiers[i] = identifier == null ? -1 : identifier;
+    }
+
+    //The remainder of the pattern after tests have been removed from it (see
+    //ListPattern.remove()) starts at "start" and is finished if "finished" is
+    //true.
+    int start = 0;
+    boolean finished = pattern.isFinished();
+
+    boolean linkPassed = true;
+    while(linkPassed){
+      linkPassed = false;
+
+      int firstLink = this.getNodeField(node, 6);
+      int childCount = this.getNodeField(node, 7);
+      for(int l = firstLink; l < firstLink + childCount && !linkPassed; l++){
+        int linkRecord = this._linkTableOffset + (l * LINK_RECORD_SIZE);
+        int test = this._patternPoolOffset + this._image.getInt(linkRecord + 4);
+        int testHeader = this._image.getInt(test);
+        int testSize = this._image.getInt(test + 4);
+        boolean testFinished = (testHeader & FINISHED) != 0;
+
+        //See ListPattern.matches().
+        if(
+          (testHeader & 0xFF) == modality &&
+          (testFinished ?
+            testSize == identifiers.length - start && finished :
+            testSize <= identifiers.length - start
+          )
+        ){
+          linkPassed = true;
+          for(int i = 0; i < testSize && linkPassed; i++){
+            linkPassed = this._image.getInt(test + 8 + (i * 4)) == identifiers[start + i];
+          }
+
+          if(linkPassed){
+            node = this._image.getInt(linkRecord);
+            start += testSize;
+            finished = finished && !(start == identifiers.length && testFinished);
+          }
+        }
+      }
+    }
+
+    return node;
+  }
+
+  /**
+   * Searches the semantic links of the {@link jchrest.architecture.Node}
+   * specified in the same way as {@link jchrest.architecture.Chrest#recognise(
+   * jchrest.lib.ListPattern, java.lang.Integer, java.lang.Boolean)}.
+   *
+   * @param node
+   * @param semanticSearchDistanceRemaining
+   *
+   * @return The index of the {@link jchrest.architecture.Node} with the
+   * greatest {@link #information(int)} found.
+   */
+  public int searchSemanticLinks(int node, int semanticSearchDistanceRemaining){
+    return this.searchSemanticLinks(node, semanticSearchDistanceRemaining, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Searches the semantic links of the {@link jchrest.architecture.Node}
+   * specified in the same way as {@link jchrest.architecture.Chrest#recognise(
+   * jchrest.lib.ListPattern, java.lang.Integer, java.lang.Boolean)}, visiting
+   * at most {@code maximumNodesVisited} {@link jchrest.architecture.Node Nodes}
+   * (see {@link jchrest.architecture.SemanticLinkSearch}).
+   *
+   * @param node
+   * @param semanticSearchDistanceRemaining
+   * @param maximumNodesVisited
+   *
+   * @return The index of the {@link jchrest.architecture.Node} with the
+   * greatest {@link #information(int)} found.
+   */
+  public int searchSemanticLinks(int node, int semanticSearchDistanceRemaining, int maximumNodesVisited){
+    return this._semanticLinkSearch.search(node, semanticSearchDistanceRemaining, maximumNodesVisited);
+  }
+
+  private List<Integer> getSemanticLinks(int node){
+    int semanticLinks = this.getSemanticLinksOffset(node);
+    int semanticLinkCount = this._image.getInt(semanticLinks);
+    Integer[] semanticLinkIndexes = new Integer[semanticLinkCount];
+    for(int s = 0; s < semanticLinkCount; s++){
+      semanticLinkIndexes[s] = this._image.getInt(semanticLinks + 4 + (s * 4));
+    }
+    return Arrays.asList(semanticLinkIndexes);
+  }
+
+  /**
+   * @param node
+   * @return The number of productions of the {@link jchrest.architecture.Node}
+   * specified.
+   */
+  int getProductionCount(int node){
+    return this._image.getInt(this._associationPoolOffset + this.getNodeField(node, 8));
+  }
+
+  /**
+   * @param node
+   * @return The number of semantic links of the {@link 
+   * jchrest.architecture.Node} specified.
+   */
+  int getSemanticLinkCount(int node){
+    return this._image.getInt(this.getSemanticLinksOffset(node));
+  }
+
+  private int getSemanticLinksOffset(int node){
+    int associations = this._associationPoolOffset + this.getNodeField(node, 8);
+    int productionCount = this._image.getInt(associations);
+    return associations + 4 + (productionCount * 12) + 4;
+  }
+
+  /*************************/
+  /**** MATERIALISATION ****/
+  /*************************/
+
+  /**
+   * Creates a {@link jchrest.architecture.Node} with the reference, contents
+   * and image of the {@link jchrest.architecture.Node} specified.  The {@link
+   * jchrest.architecture.Node} created is not a template and its associations
+   * should be set using {@link #restoreAssociations(
+   * jchrest.architecture.Node, int, java.util.function.IntFunction)}.
+   *
+   * @param model
+   * @param node
+   * @param creationTime
+   *
+   * @return
+   */
+  Node createNode(Chrest model, int node, int creationTime){
+    return new Node(
+      model,
+      this.getReference(node),
+      this.isRootNode(node),
+      this.getContents(node),
+      this.getImage(node),
+      false,
+      creationTime
+    );
+  }
+
+  /**
+   * Sets the children, productions, naming link and semantic links of the 
+   * {@code materialisedNode} specified to those of the {@link 
+   * jchrest.architecture.Node} specified.  The {@link 
+   * jchrest.architecture.Link Links} created are considered to have been 
+   * created when the {@code materialisedNode} specified was.
+   *
+   * @param materialisedNode
+   * @param node
+   * @param materialisedNodes Returns the materialised {@link
+   * jchrest.architecture.Node} for a {@link jchrest.architecture.Node} index.
+   */
+  void restoreAssociations(Node materialisedNode, int node, IntFunction<Node> materialisedNodes){
+    int childCount = this.getChildCount(node);
+    List<Link> children = new ArrayList<>(childCount);
+    for(int c = 0; c < childCount; c++){
+      children.add(new Link(
+        this.getTest(node, c), 
+        materialisedNodes.apply(this.getChild(node, c)), 
+        materialisedNode.getCreationTime(), 
+        null
+      ));
+    }
+    
+    int associations = this._associationPoolOffset + this.getNodeField(node, 8);
+
+    int productionCount = this._image.getInt(associations);
+    LinkedHashMap<Node, Double> productions = new LinkedHashMap<>();
+    for(int p = 0; p < productionCount; p++){
+      int production = associations + 4 + (p * 12);
+      productions.put(materialisedNodes.apply(this._image.getInt(production)), this._image.getDouble(production + 4));
+    }
+
+    int namedBy = this._image.getInt(associations + 4 + (productionCount * 12));
+    
+    List<Node> semanticLinks = new ArrayList<>();
+    for(int semanticLink : this.getSemanticLinks(node)){
+      semanticLinks.add(materialisedNodes.apply(semanticLink));
+    }
+
+    materialisedNode.restoreAssociations(
+      children,
+      productions,
+      namedBy == -1 ? null : materialisedNodes.apply(namedBy),
+      semanticLinks
+    );
+  }
+}
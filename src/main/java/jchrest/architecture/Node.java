@@ -4,6 +4,8 @@
 package jchrest.architecture;
 
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.io.Writer;
 import java.lang.reflect.Field;
@@ -11,11 +13,15 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Observable;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jchrest.lib.ChrestStatus;
@@ -24,6 +30,7 @@ import jchrest.lib.ItemSquarePattern;
 import jchrest.lib.ListPattern;
 import jchrest.lib.Modality;
 import jchrest.lib.Pattern;
+import jchrest.lib.PrependedList;
 import jchrest.lib.PrimitivePattern;
 import jchrest.lib.ReinforcementLearning.Theory;
 import jchrest.lib.Square;
@@ -114,6 +121,10 @@ import jchrest.lib.Square;
  */
 public class Node extends Observable implements Serializable{
   
+  //Declared explicitly so that Nodes saved by versions of CHREST prior to 
+  //LtmSnapshot can be deserialized (see Chrest.restoreSerializedLtm()).
+  private static final long serialVersionUID = -3277256921612681266L;
+  
   /****************************/
   /**** INSTANCE VARIABLES ****/
   /****************************/
@@ -143,6 +154,38 @@ public class Node extends Observable implements Serializable{
   private HistoryTreeMap _filledItemSlotsHistory;
   private HistoryTreeMap _filledPositionSlotsHistory;
   
+  // Index of the test Links in the child history entry most recently used to 
+  // sort a ListPattern through this Node (see getChildPassedBy()).  Only 
+  // instantiated when this Node has enough children for the index to be 
+  // cheaper than checking each Link in turn.
+  private transient ChildLinkIndex _childLinkIndex;
+  private static final int MINIMUM_CHILDREN_TO_INDEX = 8;
+  
+  // The number of Links between this Node and its modality root Node once this 
+  // Node is in the long-term memory of its model (see LtmStatistics), -1 until
+  // then.  Not serialized since a deserialized Node is not in the long-term 
+  // memory of a model until it is copied into one (see Node(Chrest, Node, 
+  // int)).
+  private transient int _ltmDepth = -1;
+  
+  // The values derived from the most recent image and template slot history 
+  // entries of this Node (see getInformationCache()).  Only instantiated when 
+  // first needed and discarded when an entry is added to any of these 
+  // histories (see updateHistory()).
+  private transient InformationCache _informationCache;
+  
+  // The Node in the long-term memory of another model whose state this Node 
+  // copies when first accessed if this Node was created when its model was 
+  // forked (see Chrest.fork()), null otherwise, and the time the model was 
+  // forked.
+  private transient Node _forkedFrom;
+  private transient int _forkTime;
+  
+  // The index of the Node in the MappedLtm of this Node's model that this Node
+  // was materialised for if its associations have not been restored from the
+  // MappedLtm yet (see Chrest.restoreMappedLtmAssociations()), -1 otherwise.
+  private transient int _mappedLtmNode = -1;
+  
   /**********************/
   /**** CONSTRUCTORS ****/
   /**********************/
@@ -272,7 +315,280 @@ public class Node extends Observable implements Serializable{
       Logger.getLogger(Node.class.getName()).log(Level.SEVERE, null, ex);
     }
   }
+
+  /**
+   * Intended for use when a {@link jchrest.architecture.Chrest} model is being
+   * restored from a {@link jchrest.architecture.LtmSnapshot}.
+   * <p>
+   * Constructs a {@link jchrest.architecture.Node} whose image and template
+   * history are set to the {@code image} and {@code template} specified at
+   * {@code creationTime} - 1.  Since the {@link jchrest.architecture.Node
+   * Nodes} that the {@link jchrest.architecture.Node} constructed is associated
+   * with may not have been restored yet, its child, production, naming and
+   * semantic link history is not populated; this should be done using {@link
+   * #restoreAssociations(java.util.List, java.util.LinkedHashMap,
+   * jchrest.architecture.Node, java.util.List)} once every {@link
+   * jchrest.architecture.Node} has been restored.
+   *
+   * @param model
+   * @param reference
+   * @param rootNode
+   * @param contents
+   * @param image
+   * @param template
+   * @param creationTime
+   */
+  Node (Chrest model, int reference, boolean rootNode, ListPattern contents, ListPattern image, boolean template, int creationTime) {
+    this._creationTime = creationTime;
+    this._model = model;
+    this._rootNode = rootNode;
+    this._reference = reference;
+    this._contents = contents;
+    this._modality = image.getModality();
+
+    this._imageHistory.put(creationTime - 1, image);
+    this._templateHistory.put(creationTime - 1, template);
+  }
+
+  /**
+   * Intended for use when a {@link jchrest.architecture.Chrest} model is being
+   * restored from a {@link jchrest.architecture.LtmSnapshot}.
+   * <p>
+   * Instantiates the template slot history of {@link #this} and sets it to
+   * the values specified at the time {@link #this} was created - 1.
+   *
+   * @param itemSlots
+   * @param positionSlots
+   * @param filledItemSlots
+   * @param filledPositionSlots
+   */
+  void restoreSlots(List<String> itemSlots, List<Square> positionSlots, List<ItemSquarePattern> filledItemSlots, List<ItemSquarePattern> filledPositionSlots){
+    HistoryTreeMap<Integer, List<String>> itemSlotsHistory = new HistoryTreeMap<>();
+    HistoryTreeMap<Integer, List<Square>> positionSlotsHistory = new HistoryTreeMap<>();
+    HistoryTreeMap<Integer, List<ItemSquarePattern>> filledItemSlotsHistory = new HistoryTreeMap<>();
+    HistoryTreeMap<Integer, List<ItemSquarePattern>> filledPositionSlotsHistory = new HistoryTreeMap<>();
+
+    itemSlotsHistory.put(this._creationTime - 1, itemSlots);
+    positionSlotsHistory.put(this._creationTime - 1, positionSlots);
+    filledItemSlotsHistory.put(this._creationTime - 1, filledItemSlots);
+    filledPositionSlotsHistory.put(this._creationTime - 1, filledPositionSlots);
+
+    this._itemSlotsHistory = itemSlotsHistory;
+    this._positionSlotsHistory = positionSlotsHistory;
+    this._filledItemSlotsHistory = filledItemSlotsHistory;
+    this._filledPositionSlotsHistory = filledPositionSlotsHistory;
+  }
+
+  /**
+   * Intended for use when a {@link jchrest.architecture.Chrest} model is being
+   * restored from a {@link jchrest.architecture.LtmSnapshot}.
+   * <p>
+   * Sets the child, production, naming and semantic link history of {@link
+   * #this} to the values specified at the time {@link #this} was created - 1.
+   *
+   * @param children
+   * @param productions
+   * @param namedBy
+   * @param semanticLinks
+   */
+  void restoreAssociations(List<Link> children, LinkedHashMap<Node, Double> productions, Node namedBy, List<Node> semanticLinks){
+    this._childHistory.put(this._creationTime - 1, children);
+    this._productionHistory.put(this._creationTime - 1, productions);
+    this._namedByHistory.put(this._creationTime - 1, namedBy);
+    this._semanticLinksHistory.put(this._creationTime - 1, semanticLinks);
+  }
+
+  /**
+   * Intended for use when a {@link jchrest.architecture.Chrest} model whose 
+   * long-term memory is a {@link jchrest.architecture.MappedLtm} materialises 
+   * {@link #this}.
+   * <p>
+   * Defers restoring the child, production, naming and semantic link history
+   * of {@link #this} from the {@link jchrest.architecture.MappedLtm} until 
+   * {@link #this} is first accessed so that materialising {@link #this} does 
+   * not materialise every {@link jchrest.architecture.Node} it is associated 
+   * with (see {@link #materialise()}).
+   * 
+   * @param mappedLtmNode The index of the {@link jchrest.architecture.Node} in
+   * the {@link jchrest.architecture.MappedLtm} that {@link #this} was 
+   * materialised for.
+   */
+  void restoreAssociationsWhenAccessed(int mappedLtmNode){
+    this._mappedLtmNode = mappedLtmNode;
+  }
+  
+  /**
+   * Intended for use when a {@link jchrest.architecture.Chrest} model is being
+   * forked (see {@link jchrest.architecture.Chrest#fork(int)}).
+   * <p>
+   * Constructs a {@link jchrest.architecture.Node} with the same creation time
+   * as the {@code nodeToFork} specified whose history is empty until it is 
+   * first accessed, at which point it is set to the state of the {@code 
+   * nodeToFork} specified at the {@code forkTime} specified (see {@link 
+   * #materialise()}).
+   * 
+   * @param nodeToFork
+   * @param model
+   * @param forkTime 
+   */
+  private Node (Node nodeToFork, Chrest model, int forkTime) {
+    this._creationTime = nodeToFork._creationTime;
+    this._model = model;
+    this._rootNode = nodeToFork._rootNode;
+    this._reference = nodeToFork._reference;
+    this._contents = nodeToFork._contents;
+    this._modality = nodeToFork._modality;
+    this._ltmDepth = nodeToFork._ltmDepth;
+    this._forkedFrom = nodeToFork;
+    this._forkTime = forkTime;
+  }
+  
+  /**
+   * @param model A {@link jchrest.architecture.Chrest} model forked from the
+   * model that the {@code nodeToFork} specified is associated with.
+   * @param nodeToFork
+   * @param time The time the {@code model} specified was forked.
+   * 
+   * @return A {@link jchrest.architecture.Node} associated with the {@code 
+   * model} specified that has the state of the {@code nodeToFork} specified at
+   * the {@code time} specified.
+   */
+  static Node fork(Chrest model, Node nodeToFork, int time){
+    return new Node(nodeToFork, model, time);
+  }
+  
+  /**
+   * If {@link #this} was materialised from the {@link 
+   * jchrest.architecture.MappedLtm} of its {@link jchrest.architecture.Chrest}
+   * model and has not been accessed since, restores its associations from the
+   * {@link jchrest.architecture.MappedLtm} (see {@link 
+   * #restoreAssociationsWhenAccessed(int)}).
+   * <p>
+   * If {@link #this} was created when its {@link jchrest.architecture.Chrest}
+   * model was forked and has not been accessed since, sets the history of 
+   * {@link #this} to the state of the {@link jchrest.architecture.Node} it was
+   * forked from at the time its model was forked, keyed by that time - 1.
+   * <p>
+   * History entries are immutable so the {@link jchrest.lib.ListPattern 
+   * ListPatterns} and {@link java.util.List Lists} of the {@link 
+   * jchrest.architecture.Node} forked from are shared.  Only the {@link 
+   * jchrest.architecture.Link Links} and associations of {@link #this} are 
+   * created since they must refer to {@link jchrest.architecture.Node Nodes}
+   * associated with the same model as {@link #this} (see {@link 
+   * jchrest.architecture.Chrest#getForkedNode(jchrest.architecture.Node)}).
+   * These {@link jchrest.architecture.Node Nodes} are not materialised until 
+   * they are accessed themselves.
+   */
+  private void materialise(){
+    if(this._mappedLtmNode != -1){
+      int mappedLtmNode = this._mappedLtmNode;
+      this._mappedLtmNode = -1;
+      this._model.restoreMappedLtmAssociations(this, mappedLtmNode);
+    }
+    
+    if(this._forkedFrom != null){
+      Node nodeToFork = this._forkedFrom;
+      this._forkedFrom = null;
+      nodeToFork.materialise();
+      int time = this._forkTime;
+      
+      Entry<Integer, List<Link>> children = nodeToFork._childHistory.floorEntry(time);
+      if(children != null){
+        List<Link> forkedChildren = new ArrayList<>();
+        for(Link child : children.getValue()){
+          forkedChildren.add(new Link(
+            child.getTest(), 
+            this._model.getForkedNode(child.getChildNode()), 
+            child.getCreationTime(), 
+            child.getExperimentCreatedIn()
+          ));
+        }
+        this._childHistory.put(time - 1, forkedChildren);
+      }
+      
+      Entry<Integer, LinkedHashMap<Node, Double>> productions = nodeToFork._productionHistory.floorEntry(time);
+      if(productions != null){
+        LinkedHashMap<Node, Double> forkedProductions = new LinkedHashMap<>();
+        for(Entry<Node, Double> production : productions.getValue().entrySet()){
+          forkedProductions.put(this._model.getForkedNode(production.getKey()), production.getValue());
+        }
+        this._productionHistory.put(time - 1, forkedProductions);
+      }
+      
+      Entry<Integer, Node> namedBy = nodeToFork._namedByHistory.floorEntry(time);
+      if(namedBy != null){
+        this._namedByHistory.put(time - 1, namedBy.getValue() == null ? null : this._model.getForkedNode(namedBy.getValue()));
+      }
+      
+      Entry<Integer, List<Node>> semanticLinks = nodeToFork._semanticLinksHistory.floorEntry(time);
+      if(semanticLinks != null){
+        List<Node> forkedSemanticLinks = new ArrayList<>();
+        for(Node semanticLink : semanticLinks.getValue()){
+          forkedSemanticLinks.add(this._model.getForkedNode(semanticLink));
+        }
+        this._semanticLinksHistory.put(time - 1, forkedSemanticLinks);
+      }
+      
+      Entry<Integer, ListPattern> image = nodeToFork._imageHistory.floorEntry(time);
+      if(image != null) this._imageHistory.put(time - 1, image.getValue());
+      
+      Entry<Integer, Boolean> template = nodeToFork._templateHistory.floorEntry(time);
+      if(template != null) this._templateHistory.put(time - 1, template.getValue());
+      
+      if(nodeToFork._itemSlotsHistory != null){
+        this._itemSlotsHistory = Node.forkHistory(nodeToFork._itemSlotsHistory, time);
+        this._positionSlotsHistory = Node.forkHistory(nodeToFork._positionSlotsHistory, time);
+        this._filledItemSlotsHistory = Node.forkHistory(nodeToFork._filledItemSlotsHistory, time);
+        this._filledPositionSlotsHistory = Node.forkHistory(nodeToFork._filledPositionSlotsHistory, time);
+      }
+    }
+  }
+  
+  /**
+   * @param history
+   * @param time
+   * 
+   * @return A {@link jchrest.lib.HistoryTreeMap} containing the entry of the 
+   * {@code history} specified in effect at the {@code time} specified (if 
+   * any), keyed by the {@code time} specified - 1.
+   */
+  //Only used to fork the template slot histories, which are raw.
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static HistoryTreeMap forkHistory(HistoryTreeMap history, int time){
+    HistoryTreeMap forkedHistory = new HistoryTreeMap();
+    Entry entry = history.floorEntry(time);
+    if(entry != null) forkedHistory.put(time - 1, entry.getValue());
+    return forkedHistory;
+  }
+  
+  /**
+   * Materialises {@link #this} (see {@link #materialise()}) before it is 
+   * serialized so that its history is written.
+   * 
+   * @param output
+   * 
+   * @throws IOException 
+   */
+  private void writeObject(ObjectOutputStream output) throws IOException{
+    this.materialise();
+    output.defaultWriteObject();
+  }
   
+  /**
+   * Deserializes {@link #this}, which will not be in the long-term memory of a
+   * {@link jchrest.architecture.Chrest} model (see {@link #getLtmDepth()}).
+   * 
+   * @param input
+   * 
+   * @throws IOException
+   * @throws ClassNotFoundException 
+   */
+  private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException{
+    input.defaultReadObject();
+    this._ltmDepth = -1;
+    this._mappedLtmNode = -1;
+  }
+
   /**************************/
   /**** SIMPLE FUNCTIONS ****/
   /**************************/
@@ -282,12 +598,56 @@ public class Node extends Observable implements Serializable{
    * {@link #this}'s child nodes to do the same.
    */
   void clear () {
+    this.materialise();
     setChanged ();
     notifyObservers ("close");
     for (Link child : (List<Link>)this._childHistory.lastEntry().getValue()) {
       child.getChildNode().clear();
     }
   }
+
+  /**
+   * Adds a new entry to the {@code history} specified.  If the {@link
+   * jchrest.architecture.Chrest} model associated with {@link #this} is not
+   * recording its state history (see {@link
+   * jchrest.architecture.Chrest#canRecordStateHistory()}), all but the most
+   * recent entry of the {@code history} are discarded beforehand.
+   *
+   * @param history One of {@link #this}'s histories.
+   * @param time
+   * @param value
+   */
+  //Used for both the typed histories and the raw template slot histories.
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void updateHistory(HistoryTreeMap history, int time, Object value){
+    if(!this._model.canRecordStateHistory()) history.discardHistory();
+    history.put(time, value);
+    
+    if(
+      history == this._imageHistory ||
+      history == this._itemSlotsHistory ||
+      history == this._positionSlotsHistory ||
+      history == this._filledItemSlotsHistory ||
+      history == this._filledPositionSlotsHistory
+    ){
+      this._informationCache = null;
+    }
+  }
+
+  /**
+   * @return The number of {@link jchrest.architecture.Link Links} between 
+   * {@link #this} and the modality root {@link jchrest.architecture.Node} of 
+   * the long-term memory it is in or -1 if {@link #this} has not been added to 
+   * the long-term memory of the {@link jchrest.architecture.Chrest} model it
+   * is associated with.
+   */
+  int getLtmDepth(){
+    return this._ltmDepth;
+  }
+  
+  void setLtmDepth(int ltmDepth){
+    this._ltmDepth = ltmDepth;
+  }
   
   /**
    * @return The time this {@link #this} was created.
@@ -344,6 +704,13 @@ public class Node extends Observable implements Serializable{
   public int size (int time) {
     int count = 0;
     if(this.getCreationTime() <= time){
+      
+      //The size of the network below a modality root Node in LTM is maintained
+      //by the model.
+      if(this._ltmDepth == 0){
+        return this._model.getLtmStatistics().getNodeCount(this._modality, time);
+      }
+      
       count = 1; // for self
       
       List<Link> children = this.getChildren(time);
@@ -366,6 +733,9 @@ public class Node extends Observable implements Serializable{
   public int information (int time) {
     if (this.isRootNode()) return 0; // root node has 0 information
     
+    InformationCache cache = this.getInformationCache(time);
+    if(cache != null && cache.getInformation() >= 0) return cache.getInformation();
+    
     int information = 0;
     
     ListPattern image = this.getImage(time);
@@ -375,10 +745,38 @@ public class Node extends Observable implements Serializable{
     if(image != null) information += image.size();
     if(itemSlots != null) information += itemSlots.size();
     if(positionSlots != null) information += positionSlots.size();
-
+    
+    if(cache != null) cache.setInformation(information);
     return information;
   }
   
+  /**
+   * @param time
+   * 
+   * @return The {@link jchrest.architecture.InformationCache} for the most 
+   * recent image and template slot history entries of {@link #this} if these 
+   * are the entries in effect at the {@code time} specified, otherwise null.
+   */
+  private InformationCache getInformationCache(int time){
+    this.materialise();
+    if(this._informationCache == null){
+      int mostRecentEntryTime = this._imageHistory.lastKey();
+      for(TreeMap<?, ?> slotHistory : new TreeMap<?, ?>[]{
+        this._itemSlotsHistory, 
+        this._positionSlotsHistory, 
+        this._filledItemSlotsHistory, 
+        this._filledPositionSlotsHistory
+      }){
+        if(slotHistory != null && !slotHistory.isEmpty()){
+          mostRecentEntryTime = Math.max(mostRecentEntryTime, (Integer)slotHistory.lastKey());
+        }
+      }
+      this._informationCache = new InformationCache(mostRecentEntryTime);
+    }
+    
+    return time >= this._informationCache.getTime() ? this._informationCache : null;
+  }
+  
   /*************************/
   /**** CHILD FUNCTIONS ****/
   /*************************/  
@@ -391,9 +789,49 @@ public class Node extends Observable implements Serializable{
    * at the time specified, null is returned.
    */
   public List<Link> getChildren(int time){
+    this.materialise();
     Entry entry = this._childHistory.floorEntry(time);
     return entry == null ? null : (List<Link>)entry.getValue();
   }
+  
+  /**
+   * @param pattern
+   * @param time
+   * 
+   * @return The first {@link jchrest.architecture.Link} returned by {@link 
+   * jchrest.architecture.Node#getChildren(int)} at the {@code time} specified 
+   * that the {@code pattern} specified passes (see {@link 
+   * jchrest.architecture.Link#passes(jchrest.lib.ListPattern)}).  If this 
+   * {@link #this} did not exist at the {@code time} specified or the {@code 
+   * pattern} does not pass any {@link jchrest.architecture.Link}, {@code null}
+   * is returned.
+   * <p>
+   * If this {@link #this} has a large number of children, the {@link 
+   * jchrest.architecture.Link Links} checked are restricted to those whose 
+   * test starts with the first {@link jchrest.lib.PrimitivePattern} of the 
+   * {@code pattern} specified (see {@link 
+   * jchrest.architecture.ChildLinkIndex}) but the result is the same as if 
+   * every {@link jchrest.architecture.Link} was checked in order.
+   */
+  public Link getChildPassedBy(ListPattern pattern, int time){
+    List<Link> children = this.getChildren(time);
+    
+    if(children != null){
+      if(children.size() < MINIMUM_CHILDREN_TO_INDEX){
+        for(Link child : children){
+          if(child.passes(pattern)) return child;
+        }
+      }
+      else{
+        if(this._childLinkIndex == null || !this._childLinkIndex.isIndexOf(children)){
+          this._childLinkIndex = new ChildLinkIndex(children);
+        }
+        return this._childLinkIndex.getFirstLinkPassed(pattern);
+      }
+    }
+    
+    return null;
+  }
     
   /**
    * Attempt to add a new {@link jchrest.architecture.Link} to this {@link 
@@ -436,13 +874,14 @@ public class Node extends Observable implements Serializable{
    * </ul>
    */
   boolean addChild(ListPattern test, Node childToAdd, int time, String currentExperimentName) {
+    this.materialise();
     this._model.printDebugStatement("===== Node.addChild() =====");
-    this._model.printDebugStatement(
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement(
       "- Node " + childToAdd.getReference() + " is to be added as a child to " +
       "Node " + this.getReference() + " at time " + time + " using a link with " +
       "test " + test.toString()
     );
-    this._model.printDebugStatement(
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement(
       "Checking if the following statements all evaluate to true: " + 
       "\n  ~ Node to add child to and child to add aren't the same: " + (this.getReference() != childToAdd.getReference()) +
       "\n  ~ Node to add child to and child to add both exist at the time the child is to be added: " + (this.getCreationTime() <= time && childToAdd.getCreationTime() <= time) +
@@ -468,7 +907,7 @@ public class Node extends Observable implements Serializable{
       List<Link> children = this.getChildren(time);
       if(children != null){
         for (Link testLink : children) {
-          this._model.printDebugStatement(
+          if(this._model.isDebuggingEnabled()) this._model.printDebugStatement(
             "  ~ Checking link with test " + testLink.getTest() + " and child " +
             "Node with reference " + testLink.getChildNode().getReference()
           );
@@ -481,17 +920,28 @@ public class Node extends Observable implements Serializable{
       }
       
       if(!testOrChildAlreadyPresent){
-        this._model.printDebugStatement(
+        if(this._model.isDebuggingEnabled()) this._model.printDebugStatement(
           "- Test does not already exist on a link from parent to child and " + 
           "the child to add is not already a child of the parent so " +
           "an attempt will be made to add the child to the parent at time " + 
           time + "."
         );
 
-        List<Link> testLinksToAdd = new ArrayList<>();
-        testLinksToAdd.add(new Link (test, childToAdd, time, currentExperimentName));
-        if(children != null) testLinksToAdd.addAll(children);
-        this._childHistory.put(time, testLinksToAdd);
+        //The new Link is prepended to the current children rather than copying
+        //them into a new List so that the child history of this Node does not 
+        //grow quadratically with the number of children added.
+        Link linkToAdd = new Link (test, childToAdd, time, currentExperimentName);
+        List<Link> testLinksToAdd = new PrependedList<>(linkToAdd, children == null ? new ArrayList<>() : children);
+        this.updateHistory(this._childHistory, time, testLinksToAdd);
+        
+        //If the child index describes the children that the new Link has been
+        //prepended to, move it forward rather than rebuilding it when it is
+        //next used.
+        if(this._childLinkIndex != null && this._childLinkIndex.isIndexOf(children)){
+          this._childLinkIndex.update(testLinksToAdd, linkToAdd);
+        }
+        
+        this._model.getLtmStatistics().childAdded(this, childToAdd, children == null || children.isEmpty(), time);
 
         this._model.printDebugStatement("- Addition of child to parent successful");
         childAdded = true;
@@ -505,6 +955,7 @@ public class Node extends Observable implements Serializable{
         if(!childToAdd.isRootNode()){
           this._model.incrementLtmModalityNodeCount(childToAdd.getModality(), time);
         }
+        this._model.ltmNodeAdded(childToAdd, time);
       }
       else{
         this._model.printDebugStatement(
@@ -518,7 +969,7 @@ public class Node extends Observable implements Serializable{
       this._model.printDebugStatement("  ~ Statement evaluated to false, exiting.");
     }
     
-    this._model.printDebugStatement("- Returning " + childAdded);
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Returning " + childAdded);
     this._model.printDebugStatement("===== RETURN Node.addChild() =====");
     return childAdded;
   }
@@ -567,6 +1018,7 @@ public class Node extends Observable implements Serializable{
    * {@link #this} did not exist at the time specified, null is returned.
    */
   public ListPattern getImage(int time){
+    this.materialise();
     Entry entry = this._imageHistory.floorEntry(time);
     return entry == null ? null : (ListPattern)entry.getValue();
   }
@@ -594,8 +1046,9 @@ public class Node extends Observable implements Serializable{
    * is set successfully, {@link java.lang.Boolean#FALSE} if not.
    */
   private boolean setImage (ListPattern image, int time) {
-    String func = "- setImage: ";
-    this._model.printDebugStatement(
+    this.materialise();
+    final String func = "- setImage: ";
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement(
       func + "Attempting to set image of node " + this.getReference() + " to " +
       image.toString() + " at time " + time + ".  This will be done if this " +
       "node was created before or at time " + time + " (creation time of node = " + 
@@ -610,7 +1063,10 @@ public class Node extends Observable implements Serializable{
       !this.isRootNode() &&
       image.getModality() == this.getModality()
     ){
-      this._imageHistory.put(time, image);
+      ListPattern previousImage = this.getImage(time);
+      this.updateHistory(this._imageHistory, time, image);
+      this._model.getLtmStatistics().imageChanged(this, previousImage, image, time);
+      this._model.ltmNodeImageChanged(this, previousImage, image, time);
       this.setChanged();
       this.notifyObservers();
 
@@ -658,14 +1114,14 @@ public class Node extends Observable implements Serializable{
    */
   boolean extendImage(ListPattern extension, int time) {
     this._model.printDebugStatement("===== Node.extendImage() =====");
-    this._model.printDebugStatement(
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement(
       "- The image of Node " + this.getReference() + " is to be extended " + 
       "(familiarised) with pattern " + extension.toString() + " at time " + time
     );
     
     boolean imageExtendedSuccessfully = false;
     
-    this._model.printDebugStatement(
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement(
       "Checking if:" +
       "\n  ~ The Node to familiarise exists at the time specified:" + (this._creationTime <= time) +
       "\n  ~ The modality of the input pattern matches the modality of the node to familiarise: " + (this.getModality() == extension.getModality())
@@ -679,13 +1135,13 @@ public class Node extends Observable implements Serializable{
       
       ListPattern newImage = this._model.getDomainSpecifics().normalise(this.getImage(time).append(extension));
       imageExtendedSuccessfully = this.setImage(newImage, time);
-      this._model.printDebugStatement("- Image extension " + (imageExtendedSuccessfully ? "successful" : "unsuccessful"));
+      if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Image extension " + (imageExtendedSuccessfully ? "successful" : "unsuccessful"));
     }
     else {
       this._model.printDebugStatement("  ~ A statement evaluated to false, exiting");
     }
     
-    this._model.printDebugStatement("- Returning " + imageExtendedSuccessfully);
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Returning " + imageExtendedSuccessfully);
     this._model.printDebugStatement("===== RETURN Node.extendImage() =====");
     return imageExtendedSuccessfully;
   }
@@ -701,6 +1157,7 @@ public class Node extends Observable implements Serializable{
    * null is returned.
    */
   public LinkedHashMap<Node, Double> getProductions(int time){
+    this.materialise();
     Entry<Integer, LinkedHashMap<Node, Double>> entry = this._productionHistory.floorEntry(time);
     return entry == null ? null : entry.getValue();
   }
@@ -760,8 +1217,9 @@ public class Node extends Observable implements Serializable{
    * jchrest.lib.ChrestStatus#LEARN_PRODUCTION_FAILED} is returned.
    */
   ChrestStatus addProduction(Node node, int time){
+    this.materialise();
     this._model.printDebugStatement("===== Node.addProduction() =====");
-    this._model.printDebugStatement(
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement(
       "- Attempting to add a production between Node " + this.getReference() +
       " and Node " + node.getReference() + " at time " + time
     );
@@ -772,7 +1230,7 @@ public class Node extends Observable implements Serializable{
     //is that the same node cannot belong to two modalities and since the 
     //modality of the nodes to create a production between are checked below, 
     //this will ensure that this node cannot creation a production to itself.
-    this._model.printDebugStatement(
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement(
       "- Checking if the following statements all evaluate to true: " +
       "\n  ~ Was Node " + this.getReference() + " created on/before the time specified: " + (this.getCreationTime() <= time) +
       "\n  ~ Was Node " + node.getReference() + " created on/before the time specified: " + (node.getCreationTime() <= time) +
@@ -791,7 +1249,7 @@ public class Node extends Observable implements Serializable{
     ){
       this._model.printDebugStatement("    + All OK");
       
-      this._model.printDebugStatement("- Checking if production already exists for Node " + this.getReference());
+      if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Checking if production already exists for Node " + this.getReference());
       LinkedHashMap<Node, Double> currentProductions = this.getProductions(time);
       if(currentProductions != null){
         
@@ -809,7 +1267,8 @@ public class Node extends Observable implements Serializable{
           LinkedHashMap<Node, Double> newProductions = new LinkedHashMap();
           newProductions.put(node, 1.0);
           newProductions.putAll(currentProductions);
-          this._productionHistory.put(time, newProductions);
+          this.updateHistory(this._productionHistory, time, newProductions);
+          this._model.getLtmStatistics().productionAdded(this, time);
 
           this._model.printDebugStatement("  ~ Production added successfully");
           this.setChanged();
@@ -880,11 +1339,12 @@ public class Node extends Observable implements Serializable{
    * otherwise.
    */
   boolean reinforceProduction (Node node, Double[] variables, int time){
+    this.materialise();
     this._model.printDebugStatement("===== Node.reinforceProduction() =====");
-    this._model.printDebugStatement("- Reference of visual Node specified: " + this._reference);
-    this._model.printDebugStatement("- Reference of action Node specified: " + node._reference);
-    this._model.printDebugStatement("- Reinforcement learning theory variables specified: " + Arrays.toString(variables));
-    this._model.printDebugStatement("- Time reinforcment should occur: " + time);
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Reference of visual Node specified: " + this._reference);
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Reference of action Node specified: " + node._reference);
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Reinforcement learning theory variables specified: " + Arrays.toString(variables));
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Time reinforcment should occur: " + time);
     
     boolean reinforceProductionSuccessful = false;
     Entry<Integer, LinkedHashMap<Node, Double>> productionsAtTime = this._productionHistory.floorEntry(time);
@@ -927,7 +1387,7 @@ public class Node extends Observable implements Serializable{
         }
       }
       
-      this._productionHistory.put(time, newProductions);
+      this.updateHistory(this._productionHistory, time, newProductions);
       reinforceProductionSuccessful = true;
     }
     
@@ -936,7 +1396,7 @@ public class Node extends Observable implements Serializable{
       this.notifyObservers();
     }
     
-    this._model.printDebugStatement("- Returning " + reinforceProductionSuccessful);
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Returning " + reinforceProductionSuccessful);
     this._model.printDebugStatement("===== RETURN Node.reinforceProduction() =====");
     return reinforceProductionSuccessful;
   }
@@ -953,6 +1413,7 @@ public class Node extends Observable implements Serializable{
    * not created at the time specified, null is returned.
    */
   public List<Node> getSemanticLinks(int time){
+    this.materialise();
     Entry entry = this._semanticLinksHistory.floorEntry(time);
     return entry == null ? null : (List<Node>)entry.getValue();
   }
@@ -997,6 +1458,7 @@ public class Node extends Observable implements Serializable{
    * {@link java.lang.Boolean#FALSE} if not.
    */
   boolean addSemanticLink(Node node, int time){
+    this.materialise();
     if(
       this != node &&
       this.getCreationTime() <= time &&
@@ -1007,10 +1469,9 @@ public class Node extends Observable implements Serializable{
       List<Node> semanticLinks = this.getSemanticLinks(time);
       if(semanticLinks != null && !semanticLinks.contains(node)){
         
-        ArrayList<Node> semanticLinksToAdd = new ArrayList();
-        semanticLinksToAdd.add(node);
-        semanticLinksToAdd.addAll(semanticLinks);
-        this._semanticLinksHistory.put(time, semanticLinksToAdd);
+        //See addChild() for why a PrependedList is used.
+        this.updateHistory(this._semanticLinksHistory, time, new PrependedList<>(node, semanticLinks));
+        this._model.getLtmStatistics().semanticLinksAdded(this, semanticLinks.size(), semanticLinks.size() + 1, time);
         this.setChanged();
         this.notifyObservers();
         return true;
@@ -1020,6 +1481,73 @@ public class Node extends Observable implements Serializable{
     return false;
   }
   
+  /**
+   * @param time
+   * 
+   * @return Whether semantic links can be added to this {@link #this} at the 
+   * time specified using {@link #addSemanticLinks(java.util.List, int)}, i.e.
+   * this {@link #this} exists at the time specified, is not a root {@link 
+   * jchrest.architecture.Node} and its semantic links have not been modified 
+   * at or after the time specified.
+   */
+  boolean canAddSemanticLinks(int time){
+    this.materialise();
+    return
+      this.getCreationTime() <= time && 
+      !this.isRootNode() &&
+      this._semanticLinksHistory.ceilingKey(time) == null
+    ;
+  }
+  
+  /**
+   * Adds semantic links to the {@code nodes} specified at the time specified 
+   * in one update of this {@link #this}'s semantic link history, so that more
+   * than one semantic link can be added at the same time.  A semantic link is 
+   * only added to a {@link jchrest.architecture.Node} if it would be added by
+   * {@link #addSemanticLink(jchrest.architecture.Node, int)}.  No semantic 
+   * links are added if {@link #canAddSemanticLinks(int)} returns false at the
+   * time specified.
+   * 
+   * @param nodes
+   * @param time
+   * 
+   * @return The {@link jchrest.architecture.Node Nodes} that semantic links 
+   * were added to.
+   */
+  List<Node> addSemanticLinks(List<Node> nodes, int time){
+    List<Node> nodesLinked = new ArrayList<>();
+    
+    if(this.canAddSemanticLinks(time)){
+      List<Node> semanticLinks = this.getSemanticLinks(time);
+      if(semanticLinks != null){
+        Set<Node> nodesAlreadyLinked = Collections.newSetFromMap(new IdentityHashMap<>());
+        nodesAlreadyLinked.addAll(semanticLinks);
+        
+        List<Node> newSemanticLinks = semanticLinks;
+        for(Node node : nodes){
+          if(
+            this != node &&
+            node.getCreationTime() <= time &&
+            !node.isRootNode() &&
+            nodesAlreadyLinked.add(node)
+          ){
+            newSemanticLinks = new PrependedList<>(node, newSemanticLinks);
+            nodesLinked.add(node);
+          }
+        }
+        
+        if(!nodesLinked.isEmpty()){
+          this.updateHistory(this._semanticLinksHistory, time, newSemanticLinks);
+          this._model.getLtmStatistics().semanticLinksAdded(this, semanticLinks.size(), newSemanticLinks.size(), time);
+          this.setChanged();
+          this.notifyObservers();
+        }
+      }
+    }
+    
+    return nodesLinked;
+  }
+  
   /********************************/
   /**** NAMED BY FUNCTIONALITY ****/
   /********************************/
@@ -1032,6 +1560,7 @@ public class Node extends Observable implements Serializable{
    * this {@link #this} at the time specified.
    */
   public Node getNamedBy(int time){
+    this.materialise();
     Entry<Integer, Node> mostRecentlyNamedBy = this._namedByHistory.floorEntry(time);
     return mostRecentlyNamedBy == null ? null : mostRecentlyNamedBy.getValue();
   }
@@ -1044,6 +1573,7 @@ public class Node extends Observable implements Serializable{
    * @param time
    */
   boolean setNamedBy (Node node, int time) {
+    this.materialise();
     
     //No need to check if this node and the node it is named by are the same 
     //node since they must have different modalities.  The implication is that 
@@ -1058,7 +1588,7 @@ public class Node extends Observable implements Serializable{
       this.getModality() == Modality.VISUAL &&
       node.getModality() == Modality.VERBAL
     ){
-      this._namedByHistory.put(time, node);
+      this.updateHistory(this._namedByHistory, time, node);
       setChanged ();
       notifyObservers ();
       return true;
@@ -1077,6 +1607,7 @@ public class Node extends Observable implements Serializable{
    * the time specified otherwise, {@link java.lang.Boolean#FALSE}.
    */
   public boolean isTemplate(int time){
+    this.materialise();
     Entry<Integer, Boolean> result = this._templateHistory.floorEntry(time);
     return result == null ? false : result.getValue();
   }
@@ -1206,6 +1737,7 @@ public class Node extends Observable implements Serializable{
    * @param time
    */
   final boolean makeTemplate (int time) {
+    this.materialise();
     if(this.canBeTemplate(time)){
       
       //Instantiate the slot history instance variables, if necessary (this Node 
@@ -1227,8 +1759,8 @@ public class Node extends Observable implements Serializable{
       ){
         
         // When a Node is converted into a template, no slots should be filled.
-        this._filledItemSlotsHistory.put(time, new ArrayList());
-        this._filledPositionSlotsHistory.put(time, new ArrayList());
+        this.updateHistory(this._filledItemSlotsHistory, time, new ArrayList());
+        this.updateHistory(this._filledPositionSlotsHistory, time, new ArrayList());
       
         //Construct cumulative image
         List<ListPattern> cumulativeImage = new ArrayList<>();
@@ -1284,7 +1816,7 @@ public class Node extends Observable implements Serializable{
             itemSlotEntry.add (itemOccurrences.getKey());
           }
         }
-        this._itemSlotsHistory.put(time, itemSlotEntry);
+        this.updateHistory(this._itemSlotsHistory, time, itemSlotEntry);
 
         List<Square> positionSlotEntry = new ArrayList();
         for (Entry<Integer, Integer> positionOccurrences : positionCount.entrySet()) {
@@ -1296,11 +1828,13 @@ public class Node extends Observable implements Serializable{
             ));
           }
         }
-        this._positionSlotsHistory.put(time, positionSlotEntry);
+        this.updateHistory(this._positionSlotsHistory, time, positionSlotEntry);
 
         // Finally, add an entry to specify that the Node is a template at the
         // time specified.
-        this._templateHistory.put(time, true);
+        boolean wasTemplate = this.isTemplate(time);
+        this.updateHistory(this._templateHistory, time, true);
+        if(!wasTemplate) this._model.getLtmStatistics().templateChanged(this, true, time);
         return true;
       }
     }
@@ -1320,6 +1854,7 @@ public class Node extends Observable implements Serializable{
    * java.lang.Boolean#FALSE} otherwise.
    */
   boolean makeNonTemplate(int time){
+    this.materialise();
     if(
       this.isTemplate(time) &&
       !this._itemSlotsHistory.rewritingHistory(time) &&
@@ -1328,11 +1863,12 @@ public class Node extends Observable implements Serializable{
       !this._filledPositionSlotsHistory.rewritingHistory(time) &&
       !this._templateHistory.rewritingHistory(time)
     ){
-      this._itemSlotsHistory.put(time, null);
-      this._positionSlotsHistory.put(time, null);
-      this._filledItemSlotsHistory.put(time, null);
-      this._filledPositionSlotsHistory.put(time, null);
-      this._templateHistory.put(time, false);
+      this.updateHistory(this._itemSlotsHistory, time, null);
+      this.updateHistory(this._positionSlotsHistory, time, null);
+      this.updateHistory(this._filledItemSlotsHistory, time, null);
+      this.updateHistory(this._filledPositionSlotsHistory, time, null);
+      this.updateHistory(this._templateHistory, time, false);
+      this._model.getLtmStatistics().templateChanged(this, false, time);
       return true;
     }
     return false;
@@ -1361,6 +1897,7 @@ public class Node extends Observable implements Serializable{
    * evaluates to false.
    */
   Integer fillSlots (ListPattern pattern, int time) {
+    this.materialise();
     if(
       this.isTemplate(time) &&
       pattern.getModality() == this.getModality() &&
@@ -1424,8 +1961,8 @@ public class Node extends Observable implements Serializable{
         }
       }
 
-      if(!itemsForItemSlot.isEmpty()) this._filledItemSlotsHistory.put(time, itemsForItemSlot);
-      if(!itemsForPositionSlot.isEmpty()) this._filledPositionSlotsHistory.put(time, itemsForPositionSlot);
+      if(!itemsForItemSlot.isEmpty()) this.updateHistory(this._filledItemSlotsHistory, time, itemsForItemSlot);
+      if(!itemsForPositionSlot.isEmpty()) this.updateHistory(this._filledPositionSlotsHistory, time, itemsForPositionSlot);
       
       return itemsForItemSlot.size() + itemsForPositionSlot.size();
     }
@@ -1442,9 +1979,10 @@ public class Node extends Observable implements Serializable{
    * {@link java.lang.Boolean#FALSE} otherwise.
    */
   boolean clearFilledSlots(int time){
+    this.materialise();
     if(this.isTemplate(time)){
-      this._filledItemSlotsHistory.put(time, new ArrayList());
-      this._filledPositionSlotsHistory.put(time, new ArrayList());
+      this.updateHistory(this._filledItemSlotsHistory, time, new ArrayList());
+      this.updateHistory(this._filledPositionSlotsHistory, time, new ArrayList());
       return true;
     }
     
@@ -1459,6 +1997,7 @@ public class Node extends Observable implements Serializable{
    * specified. 
    */
   public List<String> getItemSlots(int time){
+    this.materialise();
     if(this._itemSlotsHistory != null){
       Entry itemSlotsAtTime = this._itemSlotsHistory.floorEntry(time);
       if(itemSlotsAtTime != null){
@@ -1476,6 +2015,7 @@ public class Node extends Observable implements Serializable{
    * specified. 
    */
   public List<Square> getPositionSlots(int time){
+    this.materialise();
     if(this._positionSlotsHistory != null){
       Entry positionSlotsAtTime = this._positionSlotsHistory.floorEntry(time);
       if(positionSlotsAtTime != null){
@@ -1492,6 +2032,7 @@ public class Node extends Observable implements Serializable{
    * specified. 
    */
   public List<ItemSquarePattern> getFilledItemSlots(int time) {
+    this.materialise();
     if(this._filledItemSlotsHistory != null){
       Entry filledItemSlotsAtTime = this._filledItemSlotsHistory.floorEntry(time);
       if(filledItemSlotsAtTime != null){
@@ -1508,6 +2049,7 @@ public class Node extends Observable implements Serializable{
    * specified. 
    */
   public List<ItemSquarePattern> getFilledPositionSlots(int time) {
+    this.materialise();
     if(this._filledPositionSlotsHistory != null){
       Entry filledPositionSlotsAtTime = this._filledPositionSlotsHistory.floorEntry(time);
       if(filledPositionSlotsAtTime != null){
@@ -1572,33 +2114,83 @@ public class Node extends Observable implements Serializable{
    * {@link jchrest.lib.PrimitivePattern PrimitivePatterns}.
    */
   public ListPattern getAllInformation(int time){
+    InformationCache cache = this.getInformationCache(time);
+    if(cache == null) return this.calculateAllInformation(time);
+    
+    if(cache.getAllInformation() == null){
+      cache.setAllInformation(this.calculateAllInformation(time));
+    }
+    return cache.getAllInformation().clone();
+  }
+  
+  /**
+   * @param time
+   * 
+   * @return The size of {@link #getAllInformation(int)} at the {@code time}
+   * specified.  Unless {@link #this} has had its slots filled, this is 
+   * calculated without creating any {@link jchrest.lib.ListPattern 
+   * ListPatterns}.
+   */
+  public int getAllInformationSize(int time){
+    InformationCache cache = this.getInformationCache(time);
+    if(cache != null && cache.getAllInformationSize() >= 0) return cache.getAllInformationSize();
+    
+    int size;
+    if(this.getFilledItemSlots(time) != null || this.getFilledPositionSlots(time) != null){
+      ListPattern allInformation = (cache == null ? null : cache.getAllInformation());
+      if(allInformation == null){
+        allInformation = this.calculateAllInformation(time);
+        if(cache != null) cache.setAllInformation(allInformation);
+      }
+      size = allInformation.size();
+    }
+    else{
+
+      // The image contributes the items that follow its longest prefix 
+      // matching the contents of this Node (see ListPattern.remove()).
+      ListPattern contents = this.getContents();
+      ListPattern image = this.getImage(time);
+      size = contents.size();
+      if(image != null){
+        int prefix = 0;
+        int maximumPrefix = Math.min(image.size(), contents.size());
+        while(prefix < maximumPrefix && contents.getItem(prefix).equals(image.getItem(prefix))) prefix++;
+        size += image.size() - prefix;
+      }
+    }
+    
+    if(cache != null) cache.setAllInformationSize(size);
+    return size;
+  }
+  
+  private ListPattern calculateAllInformation(int time){
     this._model.printDebugStatement("===== Node.getInformation() =====");
-    this._model.printDebugStatement("- Getting information at time " + time);
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Getting information at time " + time);
     ListPattern information = new ListPattern(this._modality);
     ListPattern contents = this.getContents();
     ListPattern image = this.getImage(time);
     ListPattern filledSlots = this.getFilledSlots(time);
     
-    this._model.printDebugStatement("- Contents: " + contents.toString());
-    this._model.printDebugStatement("- Image: " + (image == null ? "null" : image.toString()));
-    this._model.printDebugStatement("- Filled slots: " + (filledSlots == null ? "null" : filledSlots.toString()));
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Contents: " + contents.toString());
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Image: " + (image == null ? "null" : image.toString()));
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Filled slots: " + (filledSlots == null ? "null" : filledSlots.toString()));
     
     information = information.append(contents);
-    this._model.printDebugStatement("- Information after appending contents: " + information.toString());
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Information after appending contents: " + information.toString());
     
     if(image != null){
       image = image.remove(contents);
       information = information.append(image);
     }
-    this._model.printDebugStatement("- Information after appending image: " + information.toString());
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Information after appending image: " + information.toString());
     
     if(filledSlots != null){
       filledSlots = filledSlots.remove(contents).remove(image);
       information = information.append(filledSlots);
     }
-    this._model.printDebugStatement("- Information after appending filled slots: " + information.toString());
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Information after appending filled slots: " + information.toString());
     
-    this._model.printDebugStatement("- Returning " + information.toString());
+    if(this._model.isDebuggingEnabled()) this._model.printDebugStatement("- Returning " + information.toString());
     this._model.printDebugStatement("===== RETURN Node.getInformation() =====");
     return information;
   }
@@ -4,6 +4,7 @@
 package jchrest.architecture;
 
 import jchrest.domainSpecifics.Fixation;
+import jchrest.lib.HistoryTreeMap;
 import jchrest.lib.ItemSquarePattern;
 import jchrest.lib.ListPattern;
 import jchrest.lib.Modality;
@@ -142,7 +143,7 @@ public class Perceiver {
     this._associatedChrestModel.printDebugStatement("===== Perceiver.addFixation() =====");
     ListPattern fixationFieldOfViewInformation = null;
     
-    this._associatedChrestModel.printDebugStatement(
+    if(this._associatedChrestModel.isDebuggingEnabled()) this._associatedChrestModel.printDebugStatement(
       "- Attempting to add the following fixation: " + (fixation == null ? "null" :
       fixation.toString())
     );
@@ -207,12 +208,15 @@ public class Perceiver {
         newFixations.addAll(mostRecentFixations);
         newFixations.add(fixation);
         
-        //If the model is not recording execution history, keep the Fixation
-        //structure as memory-starved as possible by only maintaining two 
-        //Fixation entries at all times: the previous Fixation set and the new
-        //one.  The previous set is needed for correct model execution
-        if(!this._associatedChrestModel.canRecordExecutionHistory() && this._fixations.size() >= 2){
-          this._fixations.remove(this._fixations.firstEntry().getKey());
+        //If the model is not recording execution or state history, keep the 
+        //Fixation structure as memory-starved as possible by only maintaining 
+        //two Fixation entries at all times: the previous Fixation set and the 
+        //new one.  The previous set is needed for correct model execution
+        if(
+          !this._associatedChrestModel.canRecordExecutionHistory() || 
+          !this._associatedChrestModel.canRecordStateHistory()
+        ){
+          HistoryTreeMap.discardHistory(this._fixations);
         }
         
         this._fixations.put(fixationPerformanceTime, newFixations);
@@ -226,7 +230,7 @@ public class Perceiver {
           /////////////////////////////////////////////////////
 
           fixationFieldOfViewInformation = this.getObjectsSeenInFixationFieldOfView(fixation, true);
-          this._associatedChrestModel.printDebugStatement("- SceneObjects fixated on: " + fixationFieldOfViewInformation.toString());
+          if(this._associatedChrestModel.isDebuggingEnabled()) this._associatedChrestModel.printDebugStatement("- SceneObjects fixated on: " + fixationFieldOfViewInformation.toString());
 
           ////////////////////////////////////////////////
           ///// FILL OUT VISUAL STM HYPOTHESIS SLOTS /////
@@ -261,7 +265,7 @@ public class Perceiver {
           ///// LEARN INFORMATION IN FIXATION FIELD OF VIEW /////
           ///////////////////////////////////////////////////////
 
-          this._associatedChrestModel.printDebugStatement(
+          if(this._associatedChrestModel.isDebuggingEnabled()) this._associatedChrestModel.printDebugStatement(
             "- Attempting to recognise and learn " + fixationFieldOfViewInformation.toString() +
             " at fixation performance time (" + fixationPerformanceTime + ")."
           );
@@ -282,7 +286,7 @@ public class Perceiver {
        this._associatedChrestModel.printDebugStatement("- Fixation to add is null, exiting");
     }
       
-    this._associatedChrestModel.printDebugStatement(
+    if(this._associatedChrestModel.isDebuggingEnabled()) this._associatedChrestModel.printDebugStatement(
       "- Returning " + (fixationFieldOfViewInformation == null ? 
         "null" : fixationFieldOfViewInformation.toString())
     );
@@ -0,0 +1,171 @@
+package jchrest.architecture;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Searches the semantic links of long-term memory for the most informative
+ * node (see {@link jchrest.architecture.Node#information(int)}) within a
+ * number of semantic links of a node.
+ * <p>
+ * Nodes are visited best-first, i.e. the semantic links of the most
+ * informative node visited but not yet searched are searched next, and the
+ * information of each node is calculated once.  A node is only searched again
+ * if it is reached by a shorter path than before, since a node reached by a
+ * longer path can not lead to any node that has not already been visited.
+ * <p>
+ * The number of nodes visited can be limited.  If the search is not limited
+ * in this way, the node returned is the node that a depth-first search of
+ * every path from the node the search starts from would return, i.e. the
+ * first node found to have the greatest information when semantic links are
+ * followed in the order they are returned.
+ * <p>
+ * Instances hold no state concerning a search so they can be used by multiple
+ * threads concurrently.
+ *
+ * @param <N> The type used to identify nodes, e.g. {@link
+ * jchrest.architecture.Node} or the index of a node in a {@link
+ * jchrest.architecture.MappedLtm}.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+final class SemanticLinkSearch<N> {
+
+  private final Function<N, List<N>> _semanticLinks;
+  private final ToIntFunction<N> _information;
+
+  /**
+   * @param semanticLinks Returns the nodes semantically linked to a node or
+   * null if the node has no semantic links.
+   * @param information Returns the information of a node.
+   */
+  SemanticLinkSearch(Function<N, List<N>> semanticLinks, ToIntFunction<N> information){
+    this._semanticLinks = semanticLinks;
+    this._information = information;
+  }
+
+  /**
+   * @param node The node to start the search from.
+   * @param maximumDistance The maximum number of semantic links that can be
+   * followed from the {@code node} specified.
+   * @param maximumNodesVisited The maximum number of nodes whose information
+   * can be calculated, including the {@code node} specified.
+   *
+   * @return The most informative node found.
+   */
+  N search(N node, int maximumDistance, int maximumNodesVisited){
+    if(maximumDistance <= 0) return node;
+    List<N> semanticLinks = this._semanticLinks.apply(node);
+    if(semanticLinks == null || semanticLinks.isEmpty()) return node;
+
+    //The information of each node visited and the greatest number of semantic
+    //links that could be followed from it when it was searched.
+    HashMap<N, Integer> information = new HashMap<>();
+    HashMap<N, Integer> distancesRemaining = new HashMap<>();
+
+    PriorityQueue<Candidate<N>> candidates = new PriorityQueue<>();
+    int candidatesQueued = 0;
+
+    Candidate<N> bestCandidate = this.visit(node, maximumDistance, candidatesQueued++, information, distancesRemaining);
+    candidates.add(bestCandidate);
+    boolean allNodesVisited = true;
+
+    while(!candidates.isEmpty()){
+      Candidate<N> candidate = candidates.poll();
+      if(candidate._distanceRemaining < distancesRemaining.get(candidate._node) || candidate._distanceRemaining == 0) continue;
+
+      List<N> candidateSemanticLinks = this._semanticLinks.apply(candidate._node);
+      if(candidateSemanticLinks == null) continue;
+
+      int distanceRemaining = candidate._distanceRemaining - 1;
+      for(N semanticLink : candidateSemanticLinks){
+        Integer previousDistanceRemaining = distancesRemaining.get(semanticLink);
+        if(previousDistanceRemaining == null){
+          if(information.size() >= maximumNodesVisited){
+            allNodesVisited = false;
+            continue;
+          }
+
+          Candidate<N> semanticLinkCandidate = this.visit(semanticLink, distanceRemaining, candidatesQueued++, information, distancesRemaining);
+          candidates.add(semanticLinkCandidate);
+          if(semanticLinkCandidate._information > bestCandidate._information){
+            bestCandidate = semanticLinkCandidate;
+          }
+        }
+        else if(distanceRemaining > previousDistanceRemaining){
+          distancesRemaining.put(semanticLink, distanceRemaining);
+          candidates.add(new Candidate<>(semanticLink, distanceRemaining, information.get(semanticLink), candidatesQueued++));
+        }
+      }
+    }
+
+    //When every node within reach has been visited, more than one may have the
+    //greatest information.  Return the one a depth-first search would.
+    if(allNodesVisited){
+      distancesRemaining.clear();
+      return this.findFirst(node, maximumDistance, bestCandidate._information, information, distancesRemaining);
+    }
+
+    return bestCandidate._node;
+  }
+
+  private Candidate<N> visit(N node, int distanceRemaining, int order, HashMap<N, Integer> information, HashMap<N, Integer> distancesRemaining){
+    int nodeInformation = this._information.applyAsInt(node);
+    information.put(node, nodeInformation);
+    distancesRemaining.put(node, distanceRemaining);
+    return new Candidate<>(node, distanceRemaining, nodeInformation, order);
+  }
+
+  /**
+   * @return The first node with the {@code information} specified found by a
+   * depth-first search from the {@code node} specified.  Every node within
+   * reach must have been visited so its information is in the {@code
+   * informationCache} specified.
+   */
+  private N findFirst(N node, int distanceRemaining, int information, HashMap<N, Integer> informationCache, HashMap<N, Integer> distancesRemaining){
+    if(informationCache.get(node) == information) return node;
+    if(distanceRemaining <= 0) return null;
+
+    //If a search of the node with at least as much distance remaining has
+    //finished, every node this search could find has already been checked.  A
+    //search of the node that has not finished (the node is reached by a cycle)
+    //has not checked every such node yet.
+    Integer previousDistanceRemaining = distancesRemaining.get(node);
+    if(previousDistanceRemaining != null && previousDistanceRemaining >= distanceRemaining) return null;
+
+    List<N> semanticLinks = this._semanticLinks.apply(node);
+    if(semanticLinks != null){
+      for(N semanticLink : semanticLinks){
+        N found = this.findFirst(semanticLink, distanceRemaining - 1, information, informationCache, distancesRemaining);
+        if(found != null) return found;
+      }
+    }
+
+    distancesRemaining.merge(node, distanceRemaining, Math::max);
+    return null;
+  }
+
+  private static final class Candidate<N> implements Comparable<Candidate<N>> {
+    private final N _node;
+    private final int _distanceRemaining;
+    private final int _information;
+    private final int _order;
+
+    private Candidate(N node, int distanceRemaining, int information, int order){
+      this._node = node;
+      this._distanceRemaining = distanceRemaining;
+      this._information = information;
+      this._order = order;
+    }
+
+    //Most informative first, then in the order queued.
+    @Override
+    public int compareTo(Candidate<N> other){
+      int comparison = Integer.compare(other._information, this._information);
+      return comparison != 0 ? comparison : Integer.compare(this._order, other._order);
+    }
+  }
+}
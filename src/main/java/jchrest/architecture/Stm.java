@@ -38,6 +38,7 @@ import jchrest.lib.Modality;
  * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
  */
 public class Stm implements Iterable<Node> {
+  private final Chrest _associatedModel;
   private final int _creationTime;
   private final Modality _modality;
   private final HistoryTreeMap<Integer, Integer> _capacityHistory = new HistoryTreeMap();
@@ -62,6 +63,7 @@ public class Stm implements Iterable<Node> {
    */
   public Stm (Chrest model, Modality modality, int capacity, int time) {
     if(model.getCreationTime() <= time){
+      this._associatedModel = model;
       this._creationTime = time;
       this._modality = modality;
       this._capacityHistory.put(time - 1, capacity);
@@ -179,6 +181,7 @@ public class Stm implements Iterable<Node> {
       }
 
       //Update the item history of this STM
+      this.discardHistoryIfNotRecorded();
       this._itemHistory.put(time, newStmContents);
       return true;
     }
@@ -232,6 +235,7 @@ public class Stm implements Iterable<Node> {
         }
         newStmContents.add(0, replacement);
         
+        this.discardHistoryIfNotRecorded();
         this._itemHistory.put(time, newStmContents);
         return true;
       }
@@ -258,6 +262,8 @@ public class Stm implements Iterable<Node> {
       this._creationTime <= time &&
       !this._capacityHistory.rewritingHistory(time)
     ){
+      this.discardHistoryIfNotRecorded();
+      if(!this._associatedModel.canRecordStateHistory()) this._capacityHistory.discardHistory();
       this._capacityHistory.put(time, newCapacity);
       this._itemHistory.put(time, new ArrayList());
       return true;
@@ -284,6 +290,10 @@ public class Stm implements Iterable<Node> {
         clearedItemHistory.put(entryAtOrBeforeTime.getKey(), entryAtOrBeforeTime.getValue());
       }
       
+      if(!this._associatedModel.canRecordStateHistory()){
+        HistoryTreeMap.discardHistory(clearedItemHistory);
+      }
+      
       clearedItemHistory.put(time, new ArrayList());
       this._itemHistory = clearedItemHistory;
       
@@ -292,6 +302,19 @@ public class Stm implements Iterable<Node> {
     return false;
   }
   
+  /**
+   * Discards all but the most recent entry of {@link #this}'s item history if
+   * the {@link jchrest.architecture.Chrest} model associated with {@link 
+   * #this} is not recording its state history (see {@link 
+   * jchrest.architecture.Chrest#canRecordStateHistory()}).  Should be invoked
+   * before a new entry is added to {@link #this}'s item history.
+   */
+  private void discardHistoryIfNotRecorded(){
+    if(!this._associatedModel.canRecordStateHistory()){
+      HistoryTreeMap.discardHistory(this._itemHistory);
+    }
+  }
+  
   /**************************/
   /**** GETTER FUNCTIONS ****/
   /**************************/
@@ -3,12 +3,12 @@ package jchrest.architecture;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import jchrest.domainSpecifics.Scene;
 import jchrest.domainSpecifics.SceneObject;
+import jchrest.lib.HistoryTreeMap;
 import jchrest.lib.VisualSpatialFieldObject;
 import jchrest.lib.Square;
 import jchrest.lib.VisualSpatialFieldException;
@@ -53,6 +53,11 @@ public class VisualSpatialField {
   private final int _minDomainSpecificRow;
   private final Chrest _associatedModel;
   
+  //Undoes the changes made to this VisualSpatialField and its 
+  //VisualSpatialFieldObjects since the current transaction began, in the order
+  //the changes were made.  Null if no transaction is in progress.
+  private ArrayList<Runnable> _transactionRollBackActions;
+  
   /**
    * Constructor 
    * 
@@ -242,7 +247,7 @@ public class VisualSpatialField {
         boolean objectAlreadyExists = false;
         for(int colToCheck = 0; colToCheck < this._width; colToCheck++){
           for(int rowToCheck = 0; rowToCheck < this._height; rowToCheck++){
-            for(VisualSpatialFieldObject vsfo : this._visualSpatialField.get(colToCheck).get(rowToCheck).floorEntry(time).getValue()){
+            for(VisualSpatialFieldObject vsfo : this.getStoredCoordinateContents(colToCheck, rowToCheck, time)){
               if(vsfo.isAlive(time)){
 
                 //Check if the creator is being added when another creator is 
@@ -300,7 +305,30 @@ public class VisualSpatialField {
           ArrayList<VisualSpatialFieldObject> newCoordinateContents = new ArrayList();
           newCoordinateContents.addAll(currentCoordinateContents);
           newCoordinateContents.add(object);
-          this._visualSpatialField.get(col).get(row).put(time, newCoordinateContents);
+          
+          TreeMap<Integer, ArrayList<VisualSpatialFieldObject>> coordinateContentsHistory = this._visualSpatialField.get(col).get(row);
+          if(this.isTransactionInProgress()){
+            
+            //Only the entries removed or replaced below need to be restored if
+            //the transaction is rolled back.
+            TreeMap<Integer, ArrayList<VisualSpatialFieldObject>> entriesOverwritten = new TreeMap<>();
+            if(!this._associatedModel.canRecordStateHistory()){
+              entriesOverwritten.putAll(coordinateContentsHistory.headMap(coordinateContentsHistory.lastKey()));
+            }
+            if(coordinateContentsHistory.containsKey(time)){
+              entriesOverwritten.put(time, coordinateContentsHistory.get(time));
+            }
+            
+            this.addTransactionRollBackAction(() -> {
+              coordinateContentsHistory.remove(time);
+              coordinateContentsHistory.putAll(entriesOverwritten);
+            });
+          }
+          
+          if(!this._associatedModel.canRecordStateHistory()){
+            HistoryTreeMap.discardHistory(coordinateContentsHistory);
+          }
+          coordinateContentsHistory.put(time, newCoordinateContents);
           return true;
         }
         
@@ -327,6 +355,96 @@ public class VisualSpatialField {
     }
   }
   
+  /**
+   * Starts a transaction on {@link #this}: until {@link #commitTransaction()} 
+   * or {@link #rollBackTransaction()} is invoked, {@link #this} records how to
+   * undo each change made to it by {@link #addObjectToCoordinates(int, int, 
+   * jchrest.lib.VisualSpatialFieldObject, int)} and each change made to the
+   * terminus or recognised status of a {@link 
+   * jchrest.lib.VisualSpatialFieldObject} associated with it (see {@link 
+   * jchrest.lib.VisualSpatialFieldObject#getAssociatedVisualSpatialField()}).
+   * <p>
+   * This allows a sequence of changes to be discarded, e.g. if one of a 
+   * sequence of {@link jchrest.lib.VisualSpatialFieldObject} moves is illegal,
+   * without copying {@link #this} beforehand.
+   * 
+   * @throws IllegalStateException If a transaction is already in progress.
+   */
+  public void beginTransaction(){
+    if(this.isTransactionInProgress()){
+      throw new IllegalStateException(
+        "A transaction is already in progress on the VisualSpatialField with " +
+        "name: '" + this._name + "'"
+      );
+    }
+    
+    this._transactionRollBackActions = new ArrayList<>();
+  }
+  
+  /**
+   * Keeps the changes made to {@link #this} since {@link #beginTransaction()} 
+   * was invoked.
+   * 
+   * @throws IllegalStateException If no transaction is in progress.
+   */
+  public void commitTransaction(){
+    this.checkTransactionInProgress();
+    this._transactionRollBackActions = null;
+  }
+  
+  /**
+   * Undoes the changes made to {@link #this} since {@link #beginTransaction()} 
+   * was invoked (see {@link #beginTransaction()}) so that {@link #this} and 
+   * its {@link jchrest.lib.VisualSpatialFieldObject 
+   * VisualSpatialFieldObjects} are in the state they were in when the 
+   * transaction began.
+   * 
+   * @throws IllegalStateException If no transaction is in progress.
+   */
+  public void rollBackTransaction(){
+    this.checkTransactionInProgress();
+    
+    ArrayList<Runnable> rollBackActions = this._transactionRollBackActions;
+    this._transactionRollBackActions = null;
+    for(int action = rollBackActions.size() - 1; action >= 0; action--){
+      rollBackActions.get(action).run();
+    }
+  }
+  
+  /**
+   * @return Whether {@link #beginTransaction()} has been invoked on {@link 
+   * #this} and neither {@link #commitTransaction()} or {@link 
+   * #rollBackTransaction()} have been invoked since.
+   */
+  public boolean isTransactionInProgress(){
+    return this._transactionRollBackActions != null;
+  }
+  
+  /**
+   * Should only be used by {@link jchrest.lib.VisualSpatialFieldObject 
+   * VisualSpatialFieldObjects} associated with {@link #this} to record how to
+   * undo a change to their state when a transaction is in progress (see {@link
+   * #beginTransaction()}).
+   * 
+   * @param rollBackAction Undoes the change, assuming that every change made 
+   * after it has already been undone.
+   * 
+   * @throws IllegalStateException If no transaction is in progress.
+   */
+  public void addTransactionRollBackAction(Runnable rollBackAction){
+    this.checkTransactionInProgress();
+    this._transactionRollBackActions.add(rollBackAction);
+  }
+  
+  private void checkTransactionInProgress(){
+    if(!this.isTransactionInProgress()){
+      throw new IllegalStateException(
+        "No transaction is in progress on the VisualSpatialField with name: '" +
+        this._name + "'"
+      );
+    }
+  }
+  
   /**
    * @param time
    * 
@@ -392,24 +510,16 @@ public class VisualSpatialField {
 
         for(int row = 0; row < this.getHeight(); row++){
           for(int col = 0; col < this.getWidth(); col++){
+            VisualSpatialFieldObject mostRecentObjectOnCoordinates = this.getMostRecentObjectAlive(col, row, time);
 
-            ArrayList<VisualSpatialFieldObject> coordinateContents = new ArrayList();
-            for(VisualSpatialFieldObject object : this.getCoordinateContents(col, row, time, false)){
-              if(object.isAlive(time)){
-                coordinateContents.add(object);
-              }
-            }
-
-            if(coordinateContents.isEmpty()){
-              Random random = new Random();
+            if(mostRecentObjectOnCoordinates == null){
               visualSpatialFieldScene.addObjectToSquare(
                 col, 
                 row, 
-                new SceneObject(unknownProbabilities.ceilingEntry(random.nextDouble()).getValue())
+                new SceneObject(unknownProbabilities.ceilingEntry(this._associatedModel.getRandom().nextDouble()).getValue())
               );
             }
             else{
-              VisualSpatialFieldObject mostRecentObjectOnCoordinates = coordinateContents.get(coordinateContents.size() - 1);
               visualSpatialFieldScene.addObjectToSquare(
                 col, 
                 row, 
@@ -472,7 +582,7 @@ public class VisualSpatialField {
     
     if(col >= 0 && col < this.getWidth() && row >= 0 && row < this.getHeight()){
       coordinateContents = new ArrayList<>();
-      ArrayList<VisualSpatialFieldObject> contents = this._visualSpatialField.get(col).get(row).floorEntry(time).getValue();
+      List<VisualSpatialFieldObject> contents = this.getStoredCoordinateContents(col, row, time);
       for(VisualSpatialFieldObject object : contents){
         if(object.isAlive(time)){
           coordinateContents.add(object);
@@ -498,6 +608,86 @@ public class VisualSpatialField {
     return coordinateContents;
   }
   
+  /**
+   * Equivalent to taking the last element of the result of invoking {@link 
+   * #getCoordinateContents(int, int, int, boolean)} with the same {@code col},
+   * {@code row} and {@code time} (and {@link java.lang.Boolean#FALSE}) but 
+   * does not create any {@link java.util.List}.
+   * 
+   * @param col
+   * @param row
+   * @param time
+   * 
+   * @return The {@link jchrest.lib.VisualSpatialFieldObject} added to the 
+   * coordinates specified most recently that is alive at the {@code time} 
+   * specified (see {@link jchrest.lib.VisualSpatialFieldObject#isAlive(int)}) 
+   * or {@code null} if there is no such {@link 
+   * jchrest.lib.VisualSpatialFieldObject} or the coordinates specified are not
+   * represented by {@link #this}.
+   */
+  public VisualSpatialFieldObject getMostRecentObjectAlive(int col, int row, int time){
+    if(col >= 0 && col < this._width && row >= 0 && row < this._height){
+      List<VisualSpatialFieldObject> contents = this.getStoredCoordinateContents(col, row, time);
+      for(int object = contents.size() - 1; object >= 0; object--){
+        VisualSpatialFieldObject visualSpatialFieldObject = contents.get(object);
+        if(visualSpatialFieldObject.isAlive(time)){
+          return visualSpatialFieldObject;
+        }
+      }
+    }
+    
+    return null;
+  }
+  
+  /**
+   * Takes a snapshot of {@link #this} at the {@code time} specified without 
+   * creating a {@link java.util.List} for each coordinate.
+   * 
+   * @param time
+   * @param snapshot The array to store the snapshot in.  If this is {@code 
+   * null} or its length is not equal to the width of {@link #this} multiplied 
+   * by its height, a new array is created.  Passing the array returned by a 
+   * previous invocation means that taking a snapshot does not allocate any 
+   * memory.
+   * 
+   * @return An array whose element at index {@code (row * width) + col} is the
+   * result of invoking {@link #getMostRecentObjectAlive(int, int, int)} with 
+   * {@code col}, {@code row} and the {@code time} specified.
+   */
+  public VisualSpatialFieldObject[] getMostRecentObjectsAlive(int time, VisualSpatialFieldObject[] snapshot){
+    if(snapshot == null || snapshot.length != this._width * this._height){
+      snapshot = new VisualSpatialFieldObject[this._width * this._height];
+    }
+    
+    for(int row = 0; row < this._height; row++){
+      for(int col = 0; col < this._width; col++){
+        snapshot[(row * this._width) + col] = this.getMostRecentObjectAlive(col, row, time);
+      }
+    }
+    
+    return snapshot;
+  }
+  
+  /**
+   * @param col Must be represented by {@link #this}.
+   * @param row Must be represented by {@link #this}.
+   * @param time
+   * 
+   * @return The {@link java.util.List} stored for the {@code col} and {@code 
+   * row} specified at the {@code time} specified, i.e. every {@link 
+   * jchrest.lib.VisualSpatialFieldObject} added to the coordinates before or 
+   * at the {@code time} specified, whether or not it is alive at the {@code 
+   * time} specified, in the order added.
+   * <p>
+   * <b>NOTE</b>: The {@link java.util.List} returned is not a copy so it 
+   * should only be iterated over and must not be modified.  It also must not 
+   * be iterated over while {@link jchrest.lib.VisualSpatialFieldObject 
+   * VisualSpatialFieldObjects} are added to {@link #this}.
+   */
+  List<VisualSpatialFieldObject> getStoredCoordinateContents(int col, int row, int time){
+    return this._visualSpatialField.get(col).get(row).floorEntry(time).getValue();
+  }
+  
   /**
    * @param col
    * @param row
@@ -539,8 +729,7 @@ public class VisualSpatialField {
     List<Object> creatorDetails = null;
     for(int col = 0; col < this.getWidth(); col++){
       for(int row = 0; row < this.getHeight(); row++){
-        List<VisualSpatialFieldObject> coordinateContents = this._visualSpatialField.get(col).get(row).floorEntry(time).getValue();
-        for(VisualSpatialFieldObject visualSpatialFieldObject : coordinateContents){
+        for(VisualSpatialFieldObject visualSpatialFieldObject : this.getStoredCoordinateContents(col, row, time)){
           if(
             visualSpatialFieldObject.getObjectType().equals(Scene.getCreatorToken()) &&
             visualSpatialFieldObject.isAlive(time)
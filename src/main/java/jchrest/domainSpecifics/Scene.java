@@ -4,32 +4,20 @@
 package jchrest.domainSpecifics;
 
 import java.util.ArrayList;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import jchrest.architecture.VisualSpatialField;
+import jchrest.lib.Interner;
 import jchrest.lib.ItemSquarePattern;
 import jchrest.lib.ListPattern;
-import jchrest.lib.PrimitivePattern;
 import jchrest.lib.Square;
+import jchrest.lib.VisualSpatialFieldObject;
 
 /**
- * Represents a 2D external environment that a CHREST model can "see" as a 2D
- * {@link java.util.ArrayList} containing one {@link 
- * jchrest.domainSpecifics.SceneObject} per coordinate.  The {@link 
- * java.util.ArrayList} created has the following structure:
- * 
- * <ul>
- *  <li>
- *    First-dimension elements represent columns (x-axis) in the external 
- *    environment.
- *  </li>
- *  <li>
- *    Second-dimension elements represent rows (y-axis) in the external 
- *    environment.
- *  </li>
- * </ul>
- * 
- * Constructing the data structure in this way means that coordinate 
- * specification must follow the form of x-coordinate <b>then</b> y-coordinate.
+ * Represents a 2D external environment that a CHREST model can "see" as a grid
+ * containing one {@link jchrest.domainSpecifics.SceneObject} per coordinate.
+ * Coordinates are specified in the form of x-coordinate (column) <b>then</b> 
+ * y-coordinate (row).
  * Thus, coordinate specification in a {@link jchrest.domainSpecifics.Scene} is
  * congruent with the <a href="http://www.bbc.co.uk/schools/teachers/
  * ks2_lessonplans/maths/grids.shtml"> along the corridor, up the stairs</a> 
@@ -44,6 +32,15 @@ import jchrest.lib.Square;
  * jchrest.domainSpecifics.Scene} represents is required when {@link 
  * #this#Scene(java.lang.String, int, int, int, int, 
  * jchrest.architecture.VisualSpatialField)} is invoked.
+ * <p>
+ * The grid is stored in flat arrays indexed by row and then column.  Along
+ * with each {@link jchrest.domainSpecifics.SceneObject}, its interned object 
+ * type (see {@link jchrest.domainSpecifics.SceneObject#getObjectType()}) is 
+ * stored so that {@link jchrest.domainSpecifics.Scene Scenes} can be 
+ * compared without comparing {@link java.lang.String Strings} (see {@link 
+ * #this#compare(jchrest.domainSpecifics.Scene)}).  The {@link 
+ * jchrest.lib.ItemSquarePattern} representing each square is created when
+ * first requested and reused until the square's contents change.
  * 
  * @author Peter C. R. Lane <p.c.lane@herts.ac.uk>
  * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
@@ -61,8 +58,45 @@ public class Scene {
   protected final int _width;
   protected final int _minimumDomainSpecificColumn;
   protected final int _minimumDomainSpecificRow;
-  protected ArrayList<ArrayList<SceneObject>> _scene;
   private final VisualSpatialField _visualSpatialFieldRepresented;
+  
+  //The object types of SceneObjects in any Scene, interned so that they can be
+  //compared using ==.  Object types are weakly referenced so an object type 
+  //is discarded once no Scene contains it.  Identifiers are never reused so 
+  //the object types in different Scenes can be ordered consistently.
+  private static final AtomicInteger NEXT_OBJECT_TYPE_IDENTIFIER = new AtomicInteger();
+  private static final Interner<String, ObjectType> OBJECT_TYPES = new Interner<>(objectType -> new ObjectType(NEXT_OBJECT_TYPE_IDENTIFIER.getAndIncrement()));
+  private static final ObjectType BLIND_SQUARE_OBJECT_TYPE = OBJECT_TYPES.intern(BLIND_SQUARE_TOKEN);
+  private static final ObjectType EMPTY_SQUARE_OBJECT_TYPE = OBJECT_TYPES.intern(EMPTY_SQUARE_TOKEN);
+  private static final ObjectType CREATOR_OBJECT_TYPE = OBJECT_TYPES.intern(CREATOR_TOKEN);
+  private static final ObjectType UNKNOWN_SQUARE_OBJECT_TYPE = OBJECT_TYPES.intern(VisualSpatialFieldObject.getUnknownSquareToken());
+  
+  private static final class ObjectType {
+    private final int _identifier;
+    
+    private ObjectType(int identifier){
+      this._identifier = identifier;
+    }
+    
+    @Override
+    public int hashCode(){
+      return this._identifier;
+    }
+  }
+  
+  //The SceneObject on each square and its interned object type, indexed by 
+  //getSquareIndex().
+  private final SceneObject[] _scene;
+  private final ObjectType[] _objectTypes;
+  
+  //The ItemSquarePattern representing each square, indexed by 
+  //getSquareIndex().  Null until requested after the square's contents change.
+  private final ItemSquarePattern[] _squarePatterns;
+  
+  //The sorted object type identifiers of the items in this Scene, i.e. 
+  //SceneObjects that do not represent blind, empty or unknown squares.  Null 
+  //until requested after the contents of this Scene change.
+  private int[] _itemObjectTypeIdentifiers;
 
   /**
    * Constructor.
@@ -104,14 +138,80 @@ public class Scene {
     this._minimumDomainSpecificColumn = minDomainSpecificCol;
     this._minimumDomainSpecificRow = minDomainSpecificRow;
     this._visualSpatialFieldRepresented = visualSpatialFieldRepresented;
-    this._scene = new ArrayList<>();
+    this._scene = new SceneObject[width * height];
+    this._objectTypes = new ObjectType[width * height];
+    this._squarePatterns = new ItemSquarePattern[width * height];
     
-    for(int col = 0; col < width; col++){
-      this._scene.add(new ArrayList<>());
-      for(int row = 0; row < height; row++){
-        this._scene.get(col).add(new SceneObject(Scene.getBlindSquareToken()));
+    for(int square = 0; square < this._scene.length; square++){
+      this.setSquareContents(square, new SceneObject(Scene.getBlindSquareToken()));
+    }
+  }
+  
+  /**
+   * @return Whether the {@code objectType} specified is an item, i.e. not a 
+   * blind, empty or unknown square.
+   */
+  private static boolean isItem(ObjectType objectType){
+    return 
+      objectType != BLIND_SQUARE_OBJECT_TYPE &&
+      objectType != EMPTY_SQUARE_OBJECT_TYPE &&
+      objectType != UNKNOWN_SQUARE_OBJECT_TYPE
+    ;
+  }
+  
+  /**
+   * @return The index of the square specified in the arrays storing the 
+   * contents of {@link #this}.
+   * 
+   * @throws IndexOutOfBoundsException If the square specified is not 
+   * represented by {@link #this}.
+   */
+  private int getSquareIndex(int col, int row){
+    if(col < 0 || col >= this._width || row < 0 || row >= this._height){
+      throw new IndexOutOfBoundsException(
+        "The coordinates specified (" + col + ", " + row + ") are not " +
+        "represented by the scene with name '" + this._name + "'"
+      );
+    }
+    return (row * this._width) + col;
+  }
+  
+  private void setSquareContents(int square, SceneObject object){
+    this._scene[square] = object;
+    this._objectTypes[square] = OBJECT_TYPES.intern(object.getObjectType());
+    this._squarePatterns[square] = null;
+    this._itemObjectTypeIdentifiers = null;
+  }
+  
+  /**
+   * @return The {@link jchrest.lib.ItemSquarePattern} representing the {@code 
+   * square} specified.
+   */
+  private ItemSquarePattern getSquarePattern(int square){
+    ItemSquarePattern squarePattern = this._squarePatterns[square];
+    if(squarePattern == null){
+      squarePattern = new ItemSquarePattern(this._scene[square].getObjectType(), square % this._width, square / this._width);
+      this._squarePatterns[square] = squarePattern;
+    }
+    return squarePattern;
+  }
+  
+  /**
+   * @return The sorted object type identifiers of the items in {@link #this} 
+   * (see {@link #this#isItem(jchrest.domainSpecifics.Scene.ObjectType)}).
+   */
+  private int[] getItemObjectTypeIdentifiers(){
+    if(this._itemObjectTypeIdentifiers == null){
+      int[] items = new int[this._objectTypes.length];
+      int numberItems = 0;
+      for(ObjectType objectType : this._objectTypes){
+        if(Scene.isItem(objectType)) items[numberItems++] = objectType._identifier;
       }
+      items = Arrays.copyOf(items, numberItems);
+      Arrays.sort(items);
+      this._itemObjectTypeIdentifiers = items;
     }
+    return this._itemObjectTypeIdentifiers;
   }
   
   /**
@@ -121,7 +221,7 @@ public class Scene {
    * @param object 
    */
   public void addObjectToSquare(int col, int row, SceneObject object){
-    if(row < 0 || row > this._height || col < 0 || col > this._width){
+    if(row < 0 || row >= this._height || col < 0 || col >= this._width){
       throw new IllegalArgumentException(
         "The column or row to add a SceneObject to (" + col + "," + row + ") " +
         "is < 0 or greater than the maximum width/height of the scene with " +
@@ -129,7 +229,7 @@ public class Scene {
         ", respectively)."
       );
     }
-    _scene.get(col).set(row, object);
+    this.setSquareContents(this.getSquareIndex(col, row), object);
   }
   
   /**
@@ -163,7 +263,7 @@ public class Scene {
   public void addObjectsToRow (int row, ArrayList<SceneObject> objects) {
     for (int i = 0; i < this._width; i++) {
       SceneObject item = objects.get(i);
-      this._scene.get(i).set(row, item);
+      this.setSquareContents(this.getSquareIndex(i, row), item);
     }
   }
   
@@ -219,23 +319,9 @@ public class Scene {
    * </ul>
    */
   public int computeErrorsOfCommission (Scene sceneToCompareAgainst) {
-    if(this.getHeight() != sceneToCompareAgainst.getHeight() || this.getWidth() != sceneToCompareAgainst.getWidth()){
-      throw new IllegalArgumentException("Dimensions of scenes to compare are not equal: "
-        + "height and width of scene whose recall is to be calculated = " + this.getHeight() + ", " + this.getWidth()
-        + "height and width of scene compared against = " + sceneToCompareAgainst.getHeight() + ", " + sceneToCompareAgainst.getWidth() 
-        + "."
-      );
-    }
-    
-    int numberItemsInThisScene = this.getAsListPattern().removeBlindEmptyAndUnknownItems().size();
-    int numberItemsInOtherScene = sceneToCompareAgainst.getAsListPattern().removeBlindEmptyAndUnknownItems().size();
-    
-    if(numberItemsInThisScene <= numberItemsInOtherScene){
-      return 0;
-    }
-
-    return numberItemsInThisScene - numberItemsInOtherScene;
+    return this.compare(sceneToCompareAgainst).getErrorsOfCommission();
   }
+
   
   /**
    * Compute the errors of ommission in {@link #this} compared to the {@code 
@@ -267,23 +353,9 @@ public class Scene {
    * </ul>
    */
   public int computeErrorsOfOmission (Scene sceneToCompareAgainst) {
-    if(this.getHeight() != sceneToCompareAgainst.getHeight() || this.getWidth() != sceneToCompareAgainst.getWidth()){
-      throw new IllegalArgumentException("Dimensions of scenes to compare are not equal: "
-        + "height and width of scene whose recall is to be calculated = " + this.getHeight() + ", " + this.getWidth()
-        + "height and width of scene compared against = " + sceneToCompareAgainst.getHeight() + ", " + sceneToCompareAgainst.getWidth() 
-        + "."
-      );
-    }
-    
-    int numberItemsInThisScene = this.getAsListPattern().removeBlindEmptyAndUnknownItems().size();
-    int numberItemsInOtherScene = sceneToCompareAgainst.getAsListPattern().removeBlindEmptyAndUnknownItems().size();
-
-    if(numberItemsInThisScene >= numberItemsInOtherScene){
-      return 0;
-    }
-
-    return numberItemsInOtherScene - numberItemsInThisScene;
+    return this.compare(sceneToCompareAgainst).getErrorsOfOmission();
   }
+
   
   /**
    * Compute precision of this {@link #this} against the {@code 
@@ -302,34 +374,9 @@ public class Scene {
    * @return 
    */
   public float computePrecision (Scene sceneToCompareAgainst) {
-    if(this.getHeight() != sceneToCompareAgainst.getHeight() || this.getWidth() != sceneToCompareAgainst.getWidth()){
-      throw new IllegalArgumentException("Dimensions of scenes to compare are not equal: "
-        + "height and width of scene whose recall is to be calculated = " + this.getHeight() + ", " + this.getWidth()
-        + "height and width of scene compared against = " + sceneToCompareAgainst.getHeight() + ", " + sceneToCompareAgainst.getWidth() 
-        + "."
-      );
-    }
-      
-    ListPattern itemsInThisScene = this.getAsListPattern().removeBlindEmptyAndUnknownItems();
-    ListPattern itemsInOtherScene = sceneToCompareAgainst.getAsListPattern().removeBlindEmptyAndUnknownItems();
-
-    //Check for potential to divide by 0.
-    if( itemsInThisScene.isEmpty() || itemsInOtherScene.isEmpty() ){
-      return 0.0f;
-    }
-
-    int numberOfCorrectlyPlacedItems = 0;
-
-    for(int i = 0; i < itemsInThisScene.size(); i++){
-      ItemSquarePattern itemInThisScene = (ItemSquarePattern)itemsInThisScene.getItem(i);
-
-      if(itemsInOtherScene.contains(itemInThisScene)){
-        numberOfCorrectlyPlacedItems++;
-      }
-    }
-
-    return (float)numberOfCorrectlyPlacedItems / (float)itemsInOtherScene.size();
+    return this.compare(sceneToCompareAgainst).getPrecision();
   }
+
   
   /**
    * Compute recall of given {@link #this} against this one, i.e. the proportion 
@@ -346,6 +393,27 @@ public class Scene {
    * @return 
    */
   public float computeRecall (Scene sceneToCompareAgainst) {
+    return this.compare(sceneToCompareAgainst).getRecall();
+  }
+  
+  /**
+   * Compares {@link #this} with the {@code sceneToCompareAgainst} specified 
+   * square by square.  Comparisons only compare identifiers of object types 
+   * (see {@link jchrest.domainSpecifics.SceneObject#getObjectType()}) and 
+   * reuse the items in each {@link jchrest.domainSpecifics.Scene} between 
+   * comparisons so comparing one {@link jchrest.domainSpecifics.Scene} with 
+   * many others, e.g. when scoring recall over many positions, is cheap.
+   * 
+   * @param sceneToCompareAgainst
+   * 
+   * @return The differences between {@link #this} and the {@code 
+   * sceneToCompareAgainst} specified.
+   * 
+   * @throws IllegalArgumentException If the dimensions of {@link #this} and the 
+   * {@code sceneToCompareAgainst} specified are not equal since a fair 
+   * comparison can not be made in these circumstances.
+   */
+  public SceneComparison compare(Scene sceneToCompareAgainst){
     if(this.getHeight() != sceneToCompareAgainst.getHeight() || this.getWidth() != sceneToCompareAgainst.getWidth()){
       throw new IllegalArgumentException("Dimensions of scenes to compare are not equal: "
         + "height and width of scene whose recall is to be calculated = " + this.getHeight() + ", " + this.getWidth()
@@ -354,36 +422,48 @@ public class Scene {
       );
     }
     
-    ListPattern itemsInThisScene = this.getAsListPattern().removeBlindEmptyAndUnknownItems();
-    ListPattern itemsInOtherScene = sceneToCompareAgainst.getAsListPattern().removeBlindEmptyAndUnknownItems();
-
-    if(itemsInThisScene.isEmpty() || itemsInOtherScene.isEmpty()){
-      return 0.0f;
-    }
-
-    ArrayList<String> itemIdentifiersInThisScene = new ArrayList();
-    ArrayList<String> itemIdentifiersInOtherScene = new ArrayList();
-
-    for(PrimitivePattern itemInThisScene: itemsInThisScene){
-      itemIdentifiersInThisScene.add( ((ItemSquarePattern)itemInThisScene).getItem() );
-    }
-
-    for(PrimitivePattern itemInOtherScene: itemsInOtherScene){
-      itemIdentifiersInOtherScene.add( ((ItemSquarePattern)itemInOtherScene).getItem() );
+    int[] squaresThatDiffer = new int[this._objectTypes.length];
+    int numberSquaresThatDiffer = 0;
+    int numberItemsOnSameSquares = 0;
+    for(int square = 0; square < this._objectTypes.length; square++){
+      ObjectType objectType = this._objectTypes[square];
+      if(objectType != sceneToCompareAgainst._objectTypes[square]){
+        squaresThatDiffer[numberSquaresThatDiffer++] = square;
+      }
+      else if(Scene.isItem(objectType)){
+        numberItemsOnSameSquares++;
+      }
     }
-
-    ArrayList<String> recalledItems = new ArrayList();
-    float numberItemsInOtherScene = itemIdentifiersInOtherScene.size();
-
-    for(String itemIdentifierInThisScene : itemIdentifiersInThisScene){
-      if(itemIdentifiersInOtherScene.contains(itemIdentifierInThisScene)){
-        recalledItems.add(itemIdentifierInThisScene);
-        itemIdentifiersInOtherScene.remove(itemIdentifierInThisScene);
+    
+    //Count the items whose object types are in both Scenes, irrespective of 
+    //their placement, by merging the sorted object types of the items.
+    int[] itemsInThisScene = this.getItemObjectTypeIdentifiers();
+    int[] itemsInOtherScene = sceneToCompareAgainst.getItemObjectTypeIdentifiers();
+    int numberItemsInBothScenes = 0;
+    for(int i = 0, j = 0; i < itemsInThisScene.length && j < itemsInOtherScene.length;){
+      if(itemsInThisScene[i] < itemsInOtherScene[j]){
+        i++;
+      }
+      else if(itemsInThisScene[i] > itemsInOtherScene[j]){
+        j++;
+      }
+      else{
+        numberItemsInBothScenes++;
+        i++;
+        j++;
       }
     }
     
-    return (float)recalledItems.size() / numberItemsInOtherScene;
+    return new SceneComparison(
+      this._width,
+      itemsInThisScene.length, 
+      itemsInOtherScene.length, 
+      numberItemsOnSameSquares, 
+      numberItemsInBothScenes,
+      Arrays.copyOf(squaresThatDiffer, numberSquaresThatDiffer)
+    );
   }
+
   
   /**
    * @param scene
@@ -422,13 +502,7 @@ public class Scene {
       //that it can be used in Scene functions.
       Scene sceneAsScene = (Scene)scene;
       if(this.sameDomainSpace(sceneAsScene)){
-        for(int col = 0; col < this.getWidth(); col++){
-          for(int row = 0; row < this.getHeight(); row++){
-            if(!this._scene.get(col).get(row).getObjectType().equals(sceneAsScene._scene.get(col).get(row).getObjectType())) return false;
-          }
-        }
-
-        return true;
+        return Arrays.equals(this._objectTypes, sceneAsScene._objectTypes);
       }
     }
     return false;
@@ -449,10 +523,8 @@ public class Scene {
   public ListPattern getAsListPattern(){
     ListPattern scene = new ListPattern();
     
-    for(int row = 0; row < _height; row++){
-      for(int col = 0; col < _width; col++){
-        scene = scene.append(this.getSquareContentsAsListPattern(col, row));
-      }
+    for(int square = 0; square < this._scene.length; square++){
+      scene.add(this.getSquarePattern(square));
     }
     
     return scene;
@@ -535,7 +607,7 @@ public class Scene {
       if (r >= 0 && r < _height) {
         for (int c = col - scope; c <= col + scope; c++) {
           if (c >= 0 && c < _width) {
-            itemsInScope = itemsInScope.append(this.getSquareContentsAsListPattern(c, r));
+            itemsInScope.add(this.getSquarePattern((r * this._width) + c));
           }
         }
       }
@@ -549,12 +621,9 @@ public class Scene {
    * {@code null} is returned.
    */
   public Square getLocationOfCreator(){
-    for(int row = 0; row < this._height; row++){
-      for(int col = 0; col < this._width; col++){
-        String squareContents = this._scene.get(col).get(row).getObjectType();
-        if(squareContents.equals(Scene.CREATOR_TOKEN)){
-          return new Square(col, row);
-        }
+    for(int square = 0; square < this._objectTypes.length; square++){
+      if(this._objectTypes[square] == CREATOR_OBJECT_TYPE){
+        return new Square(square % this._width, square / this._width);
       }
     }
     
@@ -608,7 +677,7 @@ public class Scene {
       (col >= 0 && col < this.getWidth()) && 
       (row >= 0 && row < this.getHeight())
     ){
-      return this._scene.get(col).get(row);
+      return this._scene[this.getSquareIndex(col, row)];
     }
     else{
       return null;
@@ -638,8 +707,7 @@ public class Scene {
     ListPattern squareContentsAsListPattern = new ListPattern();
     
     if (row >= 0 && row < _height && col >= 0 && col < _width) {
-      SceneObject squareContents = this.getSquareContents(col, row);
-      squareContentsAsListPattern.add(new ItemSquarePattern(squareContents.getObjectType(), col, row));
+      squareContentsAsListPattern.add(this.getSquarePattern(this.getSquareIndex(col, row)));
     }
     
     return squareContentsAsListPattern;
@@ -671,11 +739,8 @@ public class Scene {
    * java.lang.Boolean#TRUE} otherwise.
    */
   public boolean isBlind(){
-    for(int col = 0; col < this._width; col++){
-      for(int row = 0; row < this._height; row++){
-        String objectType = this._scene.get(col).get(row).getObjectType();
-        if(!objectType.equals(Scene.BLIND_SQUARE_TOKEN) && !objectType.equals(Scene.CREATOR_TOKEN)) return false;
-      }
+    for(ObjectType objectType : this._objectTypes){
+      if(objectType != BLIND_SQUARE_OBJECT_TYPE && objectType != CREATOR_OBJECT_TYPE) return false;
     }
     
     return true;
@@ -688,7 +753,7 @@ public class Scene {
    * jchrest.lib.SceneObject} representing a blind square.
    */
   public Boolean isSquareBlind(int col, int row){
-    return _scene.get(col).get(row).getObjectType().equals(Scene.BLIND_SQUARE_TOKEN);
+    return this._objectTypes[this.getSquareIndex(col, row)] == BLIND_SQUARE_OBJECT_TYPE;
   }
 
   /**
@@ -698,7 +763,7 @@ public class Scene {
    * jchrest.lib.SceneObject} representing an empty square.
    */
   public boolean isSquareEmpty (int col, int row) {
-    return _scene.get(col).get(row).getObjectType().equals(Scene.EMPTY_SQUARE_TOKEN);
+    return this._objectTypes[this.getSquareIndex(col, row)] == EMPTY_SQUARE_OBJECT_TYPE;
   }
  
   /**
@@ -725,7 +790,7 @@ public class Scene {
     hash = 97 * hash + this._width;
     hash = 97 * hash + this._minimumDomainSpecificColumn;
     hash = 97 * hash + this._minimumDomainSpecificRow;
-    hash = 97 * hash + Objects.hashCode(this._scene);
+    hash = 97 * hash + Arrays.hashCode(this._objectTypes);
     return hash;
   }
 }
@@ -0,0 +1,147 @@
+package jchrest.domainSpecifics;
+
+import java.util.ArrayList;
+import java.util.List;
+import jchrest.lib.Square;
+
+/**
+ * The differences between two {@link jchrest.domainSpecifics.Scene Scenes}
+ * with the same dimensions (see {@link
+ * jchrest.domainSpecifics.Scene#compare(jchrest.domainSpecifics.Scene)}),
+ * e.g. a {@link jchrest.domainSpecifics.Scene} recalled by a {@link
+ * jchrest.architecture.Chrest} model and the {@link
+ * jchrest.domainSpecifics.Scene} it was asked to recall.
+ * <p>
+ * "Items" are {@link jchrest.domainSpecifics.SceneObject SceneObjects} that do
+ * not represent blind, empty or unknown squares and are compared using the
+ * result of invoking {@link
+ * jchrest.domainSpecifics.SceneObject#getObjectType()} on them.
+ * <p>
+ * Instances are immutable.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public final class SceneComparison {
+
+  private final int _width;
+  private final int _numberItemsInScene;
+  private final int _numberItemsInSceneComparedAgainst;
+  private final int _numberItemsOnSameSquares;
+  private final int _numberItemsInBothScenes;
+
+  //Indexes of the squares whose contents differ, in the order of rows and then
+  //columns.
+  private final int[] _squaresThatDiffer;
+
+  SceneComparison(
+    int width,
+    int numberItemsInScene,
+    int numberItemsInSceneComparedAgainst,
+    int numberItemsOnSameSquares,
+    int numberItemsInBothScenes,
+    int[] squaresThatDiffer
+  ){
+    this._width = width;
+    this._numberItemsInScene = numberItemsInScene;
+    this._numberItemsInSceneComparedAgainst = numberItemsInSceneComparedAgainst;
+    this._numberItemsOnSameSquares = numberItemsOnSameSquares;
+    this._numberItemsInBothScenes = numberItemsInBothScenes;
+    this._squaresThatDiffer = squaresThatDiffer;
+  }
+
+  /**
+   * @return The number of items in the {@link jchrest.domainSpecifics.Scene}
+   * that {@link jchrest.domainSpecifics.Scene#compare(
+   * jchrest.domainSpecifics.Scene)} was invoked on.
+   */
+  public int getNumberItemsInScene(){
+    return this._numberItemsInScene;
+  }
+
+  /**
+   * @return The number of items in the {@link jchrest.domainSpecifics.Scene}
+   * compared against.
+   */
+  public int getNumberItemsInSceneComparedAgainst(){
+    return this._numberItemsInSceneComparedAgainst;
+  }
+
+  /**
+   * @return The number of items that are on the same squares in both {@link
+   * jchrest.domainSpecifics.Scene Scenes}.
+   */
+  public int getNumberItemsOnSameSquares(){
+    return this._numberItemsOnSameSquares;
+  }
+
+  /**
+   * @return The number of items that are in both {@link
+   * jchrest.domainSpecifics.Scene Scenes}, irrespective of their placement.
+   * An item that occurs more than once is counted at most as many times as it
+   * occurs in both {@link jchrest.domainSpecifics.Scene Scenes}.
+   */
+  public int getNumberItemsInBothScenes(){
+    return this._numberItemsInBothScenes;
+  }
+
+  /**
+   * @return The {@link jchrest.lib.Square Squares} whose contents differ in
+   * the {@link jchrest.domainSpecifics.Scene Scenes} compared, in the order of
+   * rows and then columns.
+   */
+  public List<Square> getSquaresThatDiffer(){
+    List<Square> squaresThatDiffer = new ArrayList<>();
+    for(int square : this._squaresThatDiffer){
+      squaresThatDiffer.add(new Square(square % this._width, square / this._width));
+    }
+    return squaresThatDiffer;
+  }
+
+  /**
+   * @return The number of {@link jchrest.lib.Square Squares} whose contents
+   * differ in the {@link jchrest.domainSpecifics.Scene Scenes} compared.
+   */
+  public int getNumberSquaresThatDiffer(){
+    return this._squaresThatDiffer.length;
+  }
+
+  /**
+   * @return See {@link
+   * jchrest.domainSpecifics.Scene#computePrecision(jchrest.domainSpecifics.Scene)}.
+   */
+  public float getPrecision(){
+    if(this._numberItemsInScene == 0 || this._numberItemsInSceneComparedAgainst == 0){
+      return 0.0f;
+    }
+    return (float)this._numberItemsOnSameSquares / (float)this._numberItemsInSceneComparedAgainst;
+  }
+
+  /**
+   * @return See {@link
+   * jchrest.domainSpecifics.Scene#computeRecall(jchrest.domainSpecifics.Scene)}.
+   */
+  public float getRecall(){
+    if(this._numberItemsInScene == 0 || this._numberItemsInSceneComparedAgainst == 0){
+      return 0.0f;
+    }
+    return (float)this._numberItemsInBothScenes / (float)this._numberItemsInSceneComparedAgainst;
+  }
+
+  /**
+   * @return See {@link
+   * jchrest.domainSpecifics.Scene#computeErrorsOfCommission(
+   * jchrest.domainSpecifics.Scene)}.
+   */
+  public int getErrorsOfCommission(){
+    return Math.max(0, this._numberItemsInScene - this._numberItemsInSceneComparedAgainst);
+  }
+
+  /**
+   * @return See {@link
+   * jchrest.domainSpecifics.Scene#computeErrorsOfOmission(
+   * jchrest.domainSpecifics.Scene)}.
+   */
+  public int getErrorsOfOmission(){
+    return Math.max(0, this._numberItemsInSceneComparedAgainst - this._numberItemsInScene);
+  }
+}
@@ -0,0 +1,354 @@
+package jchrest.domainSpecifics.chess;
+
+import jchrest.domainSpecifics.Scene;
+
+/**
+ * Represents the contents of a {@link jchrest.domainSpecifics.chess.ChessBoard}
+ * as <a href="https://www.chessprogramming.org/Bitboards">bitboards</a> so
+ * that the moves of chess pieces can be generated without allocating {@link
+ * jchrest.lib.Square Squares} (see {@link
+ * jchrest.domainSpecifics.chess.ChessBoard#getBitboards()}).
+ * <p>
+ * Each square of a {@link jchrest.domainSpecifics.chess.ChessBoard} is
+ * identified by an index between 0 and 63 (see {@link #getSquareIndex(int,
+ * int)}) and a set of squares is represented by a {@code long} whose bit at
+ * the index of each square in the set is 1.
+ * <p>
+ * The moves generated by {@link #getMoves(int)} and the number of squares
+ * considered when generating them (see {@link #getSquaresConsidered(int)}) are
+ * the same as those generated by {@link
+ * jchrest.domainSpecifics.chess.ChessDomain#getPawnMoves(
+ * jchrest.domainSpecifics.chess.ChessBoard, jchrest.lib.Square)} and the other
+ * move generation functions in {@link
+ * jchrest.domainSpecifics.chess.ChessDomain}.  In particular, blind squares
+ * block the movement of pieces but can not be moved to.
+ * <p>
+ * Instances are immutable.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public final class ChessBitboards {
+
+  //Column and row deltas of the directions that bishops, rooks and queens move
+  //in.  The first 4 directions increase square indexes, the last 4 decrease
+  //them.
+  private static final int[][] DIRECTIONS = new int[][]{
+    {0, 1}, //North
+    {1, 1}, //North-east
+    {1, 0}, //East
+    {-1, 1}, //North-west
+    {0, -1}, //South
+    {-1, -1}, //South-west
+    {-1, 0}, //West
+    {1, -1} //South-east
+  };
+  private static final int[] ROOK_DIRECTIONS = new int[]{0, 2, 4, 6};
+  private static final int[] BISHOP_DIRECTIONS = new int[]{1, 3, 5, 7};
+  private static final int[] QUEEN_DIRECTIONS = new int[]{0, 1, 2, 3, 4, 5, 6, 7};
+
+  private static final long[][] RAYS = new long[DIRECTIONS.length][64];
+  private static final long[] KNIGHT_MOVES = new long[64];
+  private static final long[] KING_MOVES = new long[64];
+
+  static{
+    int[][] knightDeltas = new int[][]{
+      {-1, 2}, {1, 2}, {-1, -2}, {1, -2}, {2, -1}, {2, 1}, {-2, -1}, {-2, 1}
+    };
+
+    for(int square = 0; square < 64; square++){
+      int col = ChessBitboards.getColumn(square);
+      int row = ChessBitboards.getRow(square);
+
+      for(int direction = 0; direction < DIRECTIONS.length; direction++){
+        int tryCol = col + DIRECTIONS[direction][0];
+        int tryRow = row + DIRECTIONS[direction][1];
+
+        if(ChessBitboards.isOnBoard(tryCol, tryRow)){
+          KING_MOVES[square] |= 1L << ChessBitboards.getSquareIndex(tryCol, tryRow);
+        }
+
+        while(ChessBitboards.isOnBoard(tryCol, tryRow)){
+          RAYS[direction][square] |= 1L << ChessBitboards.getSquareIndex(tryCol, tryRow);
+          tryCol += DIRECTIONS[direction][0];
+          tryRow += DIRECTIONS[direction][1];
+        }
+      }
+
+      for(int[] knightDelta : knightDeltas){
+        if(ChessBitboards.isOnBoard(col + knightDelta[0], row + knightDelta[1])){
+          KNIGHT_MOVES[square] |= 1L << ChessBitboards.getSquareIndex(col + knightDelta[0], row + knightDelta[1]);
+        }
+      }
+    }
+  }
+
+  private final long _white;
+  private final long _black;
+
+  //Squares that are not empty, i.e. squares containing pieces or that are
+  //blind.
+  private final long _occupied;
+
+  private final long _pawns;
+  private final long _knights;
+  private final long _bishops;
+  private final long _rooks;
+  private final long _queens;
+  private final long _kings;
+
+  /**
+   * @param objectTypes The result of invoking {@link
+   * jchrest.domainSpecifics.SceneObject#getObjectType()} on the contents of
+   * each square of a {@link jchrest.domainSpecifics.chess.ChessBoard}, indexed
+   * by {@link #getSquareIndex(int, int)}.
+   */
+  ChessBitboards(String[] objectTypes){
+    if(objectTypes.length != 64){
+      throw new IllegalArgumentException(
+        "The number of object types specified (" + objectTypes.length + ") is " +
+        "not equal to 64"
+      );
+    }
+
+    long white = 0, black = 0, occupied = 0;
+    long pawns = 0, knights = 0, bishops = 0, rooks = 0, queens = 0, kings = 0;
+
+    for(int square = 0; square < 64; square++){
+      String objectType = objectTypes[square];
+      long bit = 1L << square;
+
+      if(!objectType.equals(Scene.EMPTY_SQUARE_TOKEN)){
+        occupied |= bit;
+
+        char piece = objectType.charAt(0);
+        if(Character.isUpperCase(piece)) white |= bit;
+        if(Character.isLowerCase(piece)) black |= bit;
+
+        if(objectType.length() == 1){
+          switch(Character.toLowerCase(piece)){
+            case 'p': pawns |= bit; break;
+            case 'n': knights |= bit; break;
+            case 'b': bishops |= bit; break;
+            case 'r': rooks |= bit; break;
+            case 'q': queens |= bit; break;
+            case 'k': kings |= bit; break;
+          }
+        }
+      }
+    }
+
+    this._white = white;
+    this._black = black;
+    this._occupied = occupied;
+    this._pawns = pawns;
+    this._knights = knights;
+    this._bishops = bishops;
+    this._rooks = rooks;
+    this._queens = queens;
+    this._kings = kings;
+  }
+
+  /**
+   * @param col
+   * @param row
+   *
+   * @return The index of the square specified by {@code col} and {@code row}.
+   */
+  public static int getSquareIndex(int col, int row){
+    return (row * 8) + col;
+  }
+
+  /**
+   * @param square
+   *
+   * @return The column of the {@code square} specified.
+   */
+  public static int getColumn(int square){
+    return square & 7;
+  }
+
+  /**
+   * @param square
+   *
+   * @return The row of the {@code square} specified.
+   */
+  public static int getRow(int square){
+    return square >>> 3;
+  }
+
+  /**
+   * @param squares
+   * @param n Must be greater than or equal to 0 and less than the number of
+   * squares in the {@code squares} specified.
+   *
+   * @return The index of the {@code n}th square (counting from 0) in the
+   * {@code squares} specified, in ascending order of index.
+   */
+  public static int getNthSquare(long squares, int n){
+    if(n < 0 || n >= Long.bitCount(squares)){
+      throw new IllegalArgumentException(
+        "The square requested (" + n + ") is < 0 or not less than the number " +
+        "of squares specified (" + Long.bitCount(squares) + ")"
+      );
+    }
+
+    for(int i = 0; i < n; i++){
+      squares &= squares - 1;
+    }
+    return Long.numberOfTrailingZeros(squares);
+  }
+
+  /**
+   * @return The squares containing white pieces.
+   */
+  public long getWhitePieces(){
+    return this._white;
+  }
+
+  /**
+   * @return The squares containing black pieces.
+   */
+  public long getBlackPieces(){
+    return this._black;
+  }
+
+  /**
+   * @return The squares that are not empty, i.e. that contain pieces or are
+   * blind.
+   */
+  public long getOccupiedSquares(){
+    return this._occupied;
+  }
+
+  /**
+   * @param square
+   *
+   * @return The squares that the piece on the {@code square} specified can move
+   * to, i.e. squares that are empty or contain a piece of the opposing colour.
+   *
+   * @throws IllegalArgumentException If the {@code square} specified does not
+   * contain a piece.
+   */
+  public long getMoves(int square){
+    long bit = this.getPieceBit(square);
+    long capturable = ((this._white & bit) != 0 ? this._black : this._white);
+    long destinations = ~this._occupied | capturable;
+
+    if((this._pawns & bit) != 0) return this.getPawnMoves(square, bit, capturable);
+    if((this._knights & bit) != 0) return KNIGHT_MOVES[square] & destinations;
+    if((this._kings & bit) != 0) return KING_MOVES[square] & destinations;
+    if((this._bishops & bit) != 0) return this.getLineMoves(square, BISHOP_DIRECTIONS) & destinations;
+    if((this._rooks & bit) != 0) return this.getLineMoves(square, ROOK_DIRECTIONS) & destinations;
+    return this.getLineMoves(square, QUEEN_DIRECTIONS) & destinations;
+  }
+
+  /**
+   * @param square
+   *
+   * @return The number of squares considered when calculating the squares that
+   * the piece on the {@code square} specified can move to (see {@link
+   * #getMoves(int)}).  This is the same as the number of squares considered
+   * by the move generation functions in {@link
+   * jchrest.domainSpecifics.chess.ChessDomain}, i.e. 3 for each square a
+   * knight could move to.
+   *
+   * @throws IllegalArgumentException If the {@code square} specified does not
+   * contain a piece.
+   */
+  public int getSquaresConsidered(int square){
+    long bit = this.getPieceBit(square);
+
+    if((this._pawns & bit) != 0){
+      int col = ChessBitboards.getColumn(square);
+      int squaresConsidered = 1 + (col > 0 ? 1 : 0) + (col < 7 ? 1 : 0);
+      if(this.getPawnAdvance(square, bit) != 0) squaresConsidered++;
+      return squaresConsidered;
+    }
+    if((this._knights & bit) != 0) return 3 * Long.bitCount(KNIGHT_MOVES[square]);
+    if((this._kings & bit) != 0) return Long.bitCount(KING_MOVES[square]);
+    if((this._bishops & bit) != 0) return Long.bitCount(this.getLineMoves(square, BISHOP_DIRECTIONS));
+    if((this._rooks & bit) != 0) return Long.bitCount(this.getLineMoves(square, ROOK_DIRECTIONS));
+    return Long.bitCount(this.getLineMoves(square, QUEEN_DIRECTIONS));
+  }
+
+  private long getPieceBit(int square){
+    if(square < 0 || square > 63){
+      throw new IllegalArgumentException("The square specified (" + square + ") is < 0 or > 63");
+    }
+
+    long bit = 1L << square;
+    if(((this._pawns | this._knights | this._bishops | this._rooks | this._queens | this._kings) & bit) == 0){
+      throw new IllegalArgumentException(
+        "The square specified (" + ChessBitboards.getColumn(square) + ", " +
+        ChessBitboards.getRow(square) + ") does not contain a chess piece"
+      );
+    }
+    return bit;
+  }
+
+  /**
+   * @return The squares along the {@code directions} specified from the {@code
+   * square} specified up to and including the first square that is not empty
+   * in each direction.
+   */
+  private long getLineMoves(int square, int[] directions){
+    long moves = 0;
+
+    for(int direction : directions){
+      long ray = RAYS[direction][square];
+      long blockers = ray & this._occupied;
+
+      if(blockers != 0){
+        int blocker = (direction < 4 ?
+          Long.numberOfTrailingZeros(blockers) :
+          63 - Long.numberOfLeadingZeros(blockers)
+        );
+        ray ^= RAYS[direction][blocker];
+      }
+
+      moves |= ray;
+    }
+
+    return moves;
+  }
+
+  /**
+   * @return The squares that the pawn on the {@code square} specified can
+   * advance to without capturing (en-passant captures and promotion are
+   * ignored).
+   */
+  private long getPawnAdvance(int square, long bit){
+    boolean white = (this._white & bit) != 0;
+    int row = ChessBitboards.getRow(square);
+
+    if(white ? row == 7 : row == 0) return 0;
+
+    int forward = (white ? square + 8 : square - 8);
+    if((this._occupied & (1L << forward)) != 0) return 0;
+
+    long advance = 1L << forward;
+    if(white ? row == 1 : row == 6){
+      int initial = (white ? square + 16 : square - 16);
+      if((this._occupied & (1L << initial)) == 0) advance |= 1L << initial;
+    }
+    return advance;
+  }
+
+  private long getPawnMoves(int square, long bit, long capturable){
+    boolean white = (this._white & bit) != 0;
+    int col = ChessBitboards.getColumn(square);
+    int row = ChessBitboards.getRow(square);
+    long moves = this.getPawnAdvance(square, bit);
+
+    int captureRow = (white ? row + 1 : row - 1);
+    if(captureRow >= 0 && captureRow <= 7){
+      if(col > 0) moves |= (1L << ChessBitboards.getSquareIndex(col - 1, captureRow)) & capturable;
+      if(col < 7) moves |= (1L << ChessBitboards.getSquareIndex(col + 1, captureRow)) & capturable;
+    }
+    return moves;
+  }
+
+  private static boolean isOnBoard(int col, int row){
+    return col >= 0 && col <= 7 && row >= 0 && row <= 7;
+  }
+}
@@ -1,6 +1,8 @@
 package jchrest.domainSpecifics.chess;
 
+import java.util.ArrayList;
 import jchrest.domainSpecifics.Scene;
+import jchrest.domainSpecifics.SceneObject;
 
 /**
  * Represents a chess board.
@@ -9,10 +11,44 @@ import jchrest.domainSpecifics.Scene;
  */
 public class ChessBoard extends Scene{
   
+  //Created when first requested after the contents of this ChessBoard change.
+  private ChessBitboards _bitboards;
+
   public ChessBoard(String boardName){
     super(boardName, 8, 8, 1, 1, null);
   }
   
+  @Override
+  public void addObjectToSquare(int col, int row, SceneObject object){
+    super.addObjectToSquare(col, row, object);
+    this._bitboards = null;
+  }
+
+  @Override
+  public void addObjectsToRow(int row, ArrayList<SceneObject> objects){
+    super.addObjectsToRow(row, objects);
+    this._bitboards = null;
+  }
+
+  /**
+   * @return A {@link jchrest.domainSpecifics.chess.ChessBitboards}
+   * representation of the current contents of {@link #this}.  The same
+   * instance is returned until the contents of {@link #this} are changed.
+   */
+  public ChessBitboards getBitboards(){
+    if(this._bitboards == null){
+      String[] objectTypes = new String[64];
+      for(int col = 0; col < 8; col++){
+        for(int row = 0; row < 8; row++){
+          objectTypes[ChessBitboards.getSquareIndex(col, row)] = super.getSquareContents(col, row).getObjectType();
+        }
+      }
+      this._bitboards = new ChessBitboards(objectTypes);
+    }
+
+    return this._bitboards;
+  }
+
   @Override
   public ChessObject getSquareContents(int col, int row){
     return (ChessObject)super.getSquareContents(col, row);
@@ -6,10 +6,11 @@ package jchrest.domainSpecifics.chess;
 import java.awt.Color;
 import jchrest.domainSpecifics.DomainSpecifics;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 import jchrest.architecture.Chrest;
 import jchrest.domainSpecifics.Fixation;
@@ -25,6 +26,7 @@ import jchrest.lib.ListPattern;
 import jchrest.lib.PrimitivePattern;
 import jchrest.domainSpecifics.Scene;
 import jchrest.lib.Square;
+import jchrest.lib.VisualSpatialFieldObject;
 
 /**
   * Used to play chess.
@@ -34,22 +36,17 @@ import jchrest.lib.Square;
   */
 public class ChessDomain extends DomainSpecifics {
   
-  //Stores the canonical order of chess pieces
-  private static final Map<String, Integer> PIECE_ORDER = new HashMap();
-  static {
-    PIECE_ORDER.put("P", 0);
-    PIECE_ORDER.put("p", 1);
-    PIECE_ORDER.put("K", 2);
-    PIECE_ORDER.put("k", 3);
-    PIECE_ORDER.put("B", 4);
-    PIECE_ORDER.put("b", 5);
-    PIECE_ORDER.put("N", 6);
-    PIECE_ORDER.put("n", 7);
-    PIECE_ORDER.put("Q", 8);
-    PIECE_ORDER.put("q", 9);
-    PIECE_ORDER.put("R", 10);
-    PIECE_ORDER.put("r", 11);
-  }
+  //Chess models saved by earlier versions of CHREST serialize an instance of 
+  //this class along with their long-term memory.
+  private static final long serialVersionUID = -7428810883840147514L;
+  
+  //Stores the canonical order of chess pieces: the index of a piece in this
+  //String is its position in the order.
+  private static final String PIECE_ORDER = "PpKkBbNnQqRr";
+  
+  //Bits used to store each part of the keys sorted by "normalise".
+  private static final int NORMALISE_KEY_COORDINATE_BITS = 16;
+  private static final int NORMALISE_KEY_INDEX_BITS = 27;
   
   private int _initialFixationThreshold = 4;
   private final int _fixationPeripheryMaxAttempts;
@@ -792,43 +789,94 @@ public class ChessDomain extends DomainSpecifics {
    */
   @Override
   public ListPattern normalise(ListPattern pattern){
-    ListPattern result = new ListPattern (pattern.getModality()); 
     
-    //Remove blind and empty squares.
-    pattern = pattern.removeBlindEmptyAndUnknownItems();
+    //Pack the canonical order of each piece, its column, row and index in the
+    //pattern specified into a key so that pieces can be sorted into canonical
+    //order using a primitive sort.  Blind, empty and unknown squares are 
+    //removed in the same pass.
+    long[] keys = new long[pattern.size()];
+    int numberKeys = 0;
+    int coordinateOffset = 1 << (NORMALISE_KEY_COORDINATE_BITS - 1);
+    int coordinateMask = (1 << NORMALISE_KEY_COORDINATE_BITS) - 1;
     
-    //Remove any duplicates
-    for(PrimitivePattern prim : pattern) {
-      if(!result.contains (prim)){
-        result = result.append (prim);
+    for(int i = 0; i < pattern.size(); i++){
+      ItemSquarePattern isp = (ItemSquarePattern)pattern.getItem(i);
+      String item = isp.getItem();
+      if( 
+        item.equals(Scene.getBlindSquareToken()) || 
+        item.equals(Scene.getEmptySquareToken()) ||
+        item.equals(VisualSpatialFieldObject.getUnknownSquareToken())
+      ){
+        continue;
       }
+      
+      int order = ChessDomain.getPieceOrder(item);
+      int column = isp.getColumn() + coordinateOffset;
+      int row = isp.getRow() + coordinateOffset;
+      if(
+        order == -1 || 
+        (column & ~coordinateMask) != 0 || 
+        (row & ~coordinateMask) != 0 || 
+        i >= (1 << NORMALISE_KEY_INDEX_BITS)
+      ){
+        return this.normaliseUsingComparator(pattern);
+      }
+      
+      keys[numberKeys++] = 
+        ((long)order << (NORMALISE_KEY_INDEX_BITS + (2 * NORMALISE_KEY_COORDINATE_BITS))) |
+        ((long)column << (NORMALISE_KEY_INDEX_BITS + NORMALISE_KEY_COORDINATE_BITS)) |
+        ((long)row << NORMALISE_KEY_INDEX_BITS) |
+        i
+      ;
     }
     
-    //Sort into canonical order
-    result = result.sort (new Comparator<PrimitivePattern> () {
-      @Override
-      public int compare (PrimitivePattern left, PrimitivePattern right) {
-        assert (left instanceof ItemSquarePattern);
-        assert (right instanceof ItemSquarePattern);
-        ItemSquarePattern leftIos = (ItemSquarePattern)left;
-        ItemSquarePattern rightIos = (ItemSquarePattern)right;
-
-        // check item
-        if (PIECE_ORDER.get(leftIos.getItem()) < PIECE_ORDER.get (rightIos.getItem ())) return -1;
-        if (PIECE_ORDER.get(leftIos.getItem()) > PIECE_ORDER.get (rightIos.getItem ())) return 1;
-        // check column
-        if (leftIos.getColumn() < rightIos.getColumn()) return -1;
-        if (leftIos.getColumn() > rightIos.getColumn()) return 1;
-        // check row
-        if (leftIos.getRow() < rightIos.getRow()) return -1;
-        if (leftIos.getRow() > rightIos.getRow()) return 1;
-        return 0;
+    Arrays.sort(keys, 0, numberKeys);
+    
+    //Duplicates have the same piece and coordinates so are adjacent once 
+    //sorted.
+    ListPattern result = new ListPattern(pattern.getModality());
+    for(int i = 0; i < numberKeys; i++){
+      if(i == 0 || (keys[i] >>> NORMALISE_KEY_INDEX_BITS) != (keys[i - 1] >>> NORMALISE_KEY_INDEX_BITS)){
+        result.add(pattern.getItem((int)(keys[i] & ((1 << NORMALISE_KEY_INDEX_BITS) - 1))));
       }
-    });
+    }
     
     return result;
   }
   
+  /**
+   * @param item
+   * 
+   * @return The position of the {@code item} specified in the canonical order
+   * of chess pieces used by {@link #this#normalise(jchrest.lib.ListPattern)} 
+   * or -1 if the {@code item} specified is not a chess piece.
+   */
+  private static int getPieceOrder(String item){
+    return item.length() == 1 ? PIECE_ORDER.indexOf(item.charAt(0)) : -1;
+  }
+  
+  /**
+   * Implementation of {@link #this#normalise(jchrest.lib.ListPattern)} for 
+   * patterns whose items can not be packed into the keys sorted by {@link 
+   * #this#normalise(jchrest.lib.ListPattern)}, i.e. patterns containing items 
+   * that are not chess pieces (these are placed before chess pieces) or very 
+   * large coordinates.
+   */
+  private ListPattern normaliseUsingComparator(ListPattern pattern){
+    ListPattern result = new ListPattern (pattern.getModality()); 
+    Set<PrimitivePattern> added = new HashSet<>();
+    
+    for(PrimitivePattern prim : pattern.removeBlindEmptyAndUnknownItems()) {
+      if(added.add(prim)) result.add(prim);
+    }
+    
+    return result.sort(
+      Comparator.comparingInt((PrimitivePattern prim) -> ChessDomain.getPieceOrder(((ItemSquarePattern)prim).getItem()))
+        .thenComparingInt(prim -> ((ItemSquarePattern)prim).getColumn())
+        .thenComparingInt(prim -> ((ItemSquarePattern)prim).getRow())
+    );
+  }
+  
   /**
    * @param time
    * 
@@ -840,7 +888,7 @@ public class ChessDomain extends DomainSpecifics {
    */
   @Override
   public Fixation getInitialFixationInSet(int time){
-    return new CentralFixation(time, this._associatedModel.getTimeTakenToDecideUponCentralFixations());
+    return new CentralFixation(this._associatedModel, time, this._associatedModel.getTimeTakenToDecideUponCentralFixations());
   }
   
   /**
@@ -979,7 +1027,7 @@ public class ChessDomain extends DomainSpecifics {
         
         Fixation fixation = null;
         while(fixation == null){
-          double r = Math.random();
+          double r = this._associatedModel.getRandom().nextDouble();
           
           if(r < 0.3333){
             fixation = new AttackDefenseFixation(this._associatedModel, (ChessBoard)mostRecentFixationAttempted.getScene(), time);
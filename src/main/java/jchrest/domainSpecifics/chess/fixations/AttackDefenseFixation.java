@@ -1,12 +1,9 @@
 package jchrest.domainSpecifics.chess.fixations;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
 import jchrest.architecture.Chrest;
 import jchrest.domainSpecifics.Fixation;
+import jchrest.domainSpecifics.chess.ChessBitboards;
 import jchrest.domainSpecifics.chess.ChessBoard;
-import jchrest.domainSpecifics.chess.ChessDomain;
 import jchrest.domainSpecifics.Scene;
 import jchrest.domainSpecifics.SceneObject;
 import jchrest.domainSpecifics.chess.ChessObject;
@@ -113,33 +110,31 @@ public class AttackDefenseFixation extends Fixation{
             !classOfObjectMostRecentlyFixatedOn.equals(Scene.getBlindSquareToken()) &&
             !classOfObjectMostRecentlyFixatedOn.equals(Scene.getEmptySquareToken())
           ){
-            Object[] potentialFixationsAndSquaresConsidered = 
-              classOfObjectMostRecentlyFixatedOn.equalsIgnoreCase("P") ?
-              ChessDomain.getPawnMoves(board, squareMostRecentlyFixatedOn) :
-                classOfObjectMostRecentlyFixatedOn.equalsIgnoreCase("N") ?
-                  ChessDomain.getKnightMoves(board, squareMostRecentlyFixatedOn) :
-                  classOfObjectMostRecentlyFixatedOn.equalsIgnoreCase("K") ?
-                    ChessDomain.getKingMoves(board, squareMostRecentlyFixatedOn) :
-                    classOfObjectMostRecentlyFixatedOn.equalsIgnoreCase("Q") ?
-                      ChessDomain.getQueenMoves(board, squareMostRecentlyFixatedOn) :
-                      classOfObjectMostRecentlyFixatedOn.equalsIgnoreCase("R") ?
-                        ChessDomain.getRookMoves(board, squareMostRecentlyFixatedOn) :
-                        classOfObjectMostRecentlyFixatedOn.equalsIgnoreCase("B") ?
-                          ChessDomain.getBishopMoves(board, squareMostRecentlyFixatedOn):
-                          new Object[]{new ArrayList<>(), 0}
-            ;
+            //Generate moves using the bitboard representation of the board so
+            //that Squares are only created for the Square fixated on.
+            ChessBitboards bitboards = board.getBitboards();
+            int square = ChessBitboards.getSquareIndex(squareMostRecentlyFixatedOn.getColumn(), squareMostRecentlyFixatedOn.getRow());
+            long potentialFixations = 0;
+            int squaresConsidered = 0;
+            if(
+              classOfObjectMostRecentlyFixatedOn.length() == 1 &&
+              "PNKQRB".indexOf(Character.toUpperCase(classOfObjectMostRecentlyFixatedOn.charAt(0))) != -1
+            ){
+              potentialFixations = bitboards.getMoves(square);
+              squaresConsidered = bitboards.getSquaresConsidered(square);
+            }
 
             //Set time decided upon, irrespective of whether a suitable Square was
             //found to make this fixation on.
             this.setTimeDecidedUpon(
-              this.getTimeDecidedUpon() + model.getTimeToMoveVisualSpatialFieldObject() * (int)potentialFixationsAndSquaresConsidered[1]
+              this.getTimeDecidedUpon() + model.getTimeToMoveVisualSpatialFieldObject() * squaresConsidered
             );
 
             //Set the Square to fixate on when this Fixation is made, if there are
             //candidates.
-            List<Square> potentialFixations = (List<Square>)potentialFixationsAndSquaresConsidered[0];
-            if(!potentialFixations.isEmpty()){
-              this._squareToFixateOn = potentialFixations.get(new Random().nextInt(potentialFixations.size()));
+            if(potentialFixations != 0){
+              int squareToFixateOn = ChessBitboards.getNthSquare(potentialFixations, model.getRandom().nextInt(Long.bitCount(potentialFixations)));
+              this._squareToFixateOn = new Square(ChessBitboards.getColumn(squareToFixateOn), ChessBitboards.getRow(squareToFixateOn));
             }
           }
         }
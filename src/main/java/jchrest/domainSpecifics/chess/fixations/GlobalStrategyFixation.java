@@ -2,7 +2,6 @@ package jchrest.domainSpecifics.chess.fixations;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import jchrest.architecture.Chrest;
 import jchrest.domainSpecifics.Fixation;
 import jchrest.domainSpecifics.Scene;
@@ -208,7 +207,7 @@ public class GlobalStrategyFixation extends Fixation{
         }
       }
 
-      return potentialFixations.get(new Random().nextInt(potentialFixations.size()));
+      return potentialFixations.get(this._model.getRandom().nextInt(potentialFixations.size()));
     }
     
     return null;
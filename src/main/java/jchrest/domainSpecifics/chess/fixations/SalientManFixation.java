@@ -102,7 +102,7 @@ public class SalientManFixation extends Fixation{
       ;
       
       if(!potentialFixations.isEmpty()) {
-        ItemSquarePattern fixationToMake = potentialFixations.get((new java.util.Random()).nextInt(potentialFixations.size()));
+        ItemSquarePattern fixationToMake = potentialFixations.get(this._model.getRandom().nextInt(potentialFixations.size()));
         return new Square(fixationToMake.getColumn(), fixationToMake.getRow());
       }
     }
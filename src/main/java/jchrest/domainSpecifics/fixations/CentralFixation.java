@@ -3,8 +3,9 @@ package jchrest.domainSpecifics.fixations;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.Set;
+import jchrest.architecture.Chrest;
 import jchrest.domainSpecifics.Fixation;
 import jchrest.domainSpecifics.Scene;
 import jchrest.lib.Square;
@@ -32,6 +33,8 @@ import jchrest.lib.Square;
  */
 public class CentralFixation extends Fixation{
   
+  private final Chrest _model;
+  
  /**
   * Constructor.
   * 
@@ -42,7 +45,25 @@ public class CentralFixation extends Fixation{
    * fixate on after starting deliberation on it.
   */
   public CentralFixation(int timeThatDecidingUponThisStarts, int timeTakenToDecideUponThis){
+    this(null, timeThatDecidingUponThisStarts, timeTakenToDecideUponThis);
+  }
+  
+  /**
+   * Constructor.
+   * 
+   * @param model The {@link jchrest.architecture.Chrest} model that will make
+   * {@link #this}.  If more than one {@link jchrest.lib.Square} could be 
+   * fixated on, the {@link jchrest.lib.Square} fixated on is chosen using the 
+   * source of random choices of the {@code model} (see {@link 
+   * jchrest.architecture.Chrest#getRandom()}).  If {@code null}, an unseeded
+   * source is used.
+   * @param timeThatDecidingUponThisStarts See {@link #CentralFixation(int, 
+   * int)}.
+   * @param timeTakenToDecideUponThis See {@link #CentralFixation(int, int)}.
+   */
+  public CentralFixation(Chrest model, int timeThatDecidingUponThisStarts, int timeTakenToDecideUponThis){
     super(timeThatDecidingUponThisStarts, timeTakenToDecideUponThis);
+    this._model = model;
   }
 
   /**
@@ -107,7 +128,7 @@ public class CentralFixation extends Fixation{
         List<Square> potentialFixationsList = new ArrayList();
         potentialFixationsList.addAll(potentialFixationsSet);
         
-        return potentialFixationsList.isEmpty() ? null : potentialFixationsList.get(new Random().nextInt(potentialFixationsList.size()));
+        return potentialFixationsList.isEmpty() ? null : potentialFixationsList.get((this._model == null ? ThreadLocalRandom.current() : this._model.getRandom()).nextInt(potentialFixationsList.size()));
       }
     }
     
@@ -1,6 +1,6 @@
 package jchrest.domainSpecifics.fixations;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 import jchrest.architecture.Chrest;
 import jchrest.architecture.Perceiver;
 import jchrest.domainSpecifics.Fixation;
@@ -239,7 +239,7 @@ public class PeripheralItemFixation extends Fixation{
         //should be possible to get the maximum x/y displacement as stipulated 
         //by the fixationFieldOfView parameter.
         int fixationFieldOfView = perceiver.getFixationFieldOfView() + 1;
-        Random r = new Random();
+        SplittableRandom r = this._model.getRandom();
 
         for(int attempt = 0; attempt < this._maxAttempts; attempt++){
 
@@ -1,7 +1,7 @@
 package jchrest.domainSpecifics.fixations;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
 import jchrest.architecture.Chrest;
 import jchrest.architecture.Perceiver;
 import jchrest.domainSpecifics.Fixation;
@@ -259,7 +259,7 @@ public class PeripheralSquareFixation extends Fixation{
           //Initialise these to 0 so that the "fixation attempt" while loop 
           //below is entered.  This can be thought of as starting to make this
           //Fixation from the Square previously performed.
-          Random r = new Random();
+          SplittableRandom r = this._model.getRandom();
           int colDisplacement = 0;
           int rowDisplacement = 0;
           SceneObject potentialFixationContents = scene.getSquareContents(
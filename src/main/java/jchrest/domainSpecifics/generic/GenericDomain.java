@@ -4,7 +4,9 @@
 package jchrest.domainSpecifics.generic;
 
 import jchrest.domainSpecifics.DomainSpecifics;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import jchrest.architecture.Chrest;
 import jchrest.domainSpecifics.Fixation;
 import jchrest.lib.ItemSquarePattern;
@@ -63,6 +65,7 @@ public class GenericDomain extends DomainSpecifics {
   @Override
   public ListPattern normalise (ListPattern pattern) {
     ListPattern result = new ListPattern(pattern.getModality());
+    Set<PrimitivePattern> added = new HashSet<>();
     
     for(PrimitivePattern prim : pattern){
       if(prim instanceof ItemSquarePattern){
@@ -72,7 +75,7 @@ public class GenericDomain extends DomainSpecifics {
           !objectType.equals(Scene.getCreatorToken()) &&
           !objectType.equals(Scene.getEmptySquareToken()) &&
           !objectType.equals(Scene.getBlindSquareToken()) &&
-          !result.contains(prim)
+          added.add(prim)
         ){
           result.add(prim);
         } 
@@ -103,7 +106,7 @@ public class GenericDomain extends DomainSpecifics {
       return new AheadOfAgentFixation(time, this._associatedModel.getTimeTakenToDecideUponAheadOfAgentFixations());
     }
     else{
-      return new CentralFixation(time, this._associatedModel.getTimeTakenToDecideUponCentralFixations());
+      return new CentralFixation(this._associatedModel, time, this._associatedModel.getTimeTakenToDecideUponCentralFixations());
     }
   }
 
@@ -209,7 +212,7 @@ public class GenericDomain extends DomainSpecifics {
       );
 
       while(fixation == null){
-        double r = Math.random();
+        double r = this._associatedModel.getRandom().nextDouble();
 
         if(r < 0.5){
           fixation = new PeripheralItemFixation(this._associatedModel, this._peripheralItemFixationMaxAttempts, time, this._associatedModel.getTimeTakenToDecideUponPeripheralItemFixations());
@@ -1,7 +1,9 @@
 package jchrest.domainSpecifics.tileworld;
 
 import jchrest.domainSpecifics.DomainSpecifics;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import jchrest.architecture.Chrest;
 import jchrest.domainSpecifics.Fixation;
 import jchrest.lib.ItemSquarePattern;
@@ -146,30 +148,22 @@ public class TileworldDomain extends DomainSpecifics{
   public ListPattern normalise(ListPattern pattern) {
     ListPattern result = new ListPattern(pattern.getModality());
     
+    //Duplicates are only removed from visual patterns.
+    Set<ItemSquarePattern> added = (pattern.getModality() == Modality.VISUAL ? new HashSet<>() : null);
+    
     for(PrimitivePattern prim : pattern){
       ItemSquarePattern itemDetails = (ItemSquarePattern)prim;
       String item = itemDetails.getItem();
       if(
         !item.equals(Scene.getBlindSquareToken()) &&
         !item.equals(Scene.getEmptySquareToken()) &&
-        !item.equalsIgnoreCase(Scene.getCreatorToken())
+        !item.equalsIgnoreCase(Scene.getCreatorToken()) &&
+        (added == null || added.add(itemDetails))
       ){
         result.add(itemDetails);
       }
     }
     
-    if(pattern.getModality() == Modality.VISUAL){
-      ListPattern resultWithoutDuplicates = new ListPattern(result.getModality());
-      for(PrimitivePattern prim : result){
-        ItemSquarePattern isp = (ItemSquarePattern)prim;
-        if(!resultWithoutDuplicates.contains(isp)){
-          resultWithoutDuplicates.add(isp);
-        }
-      }
-      
-      result = resultWithoutDuplicates;
-    }
-    
     if(pattern.isFinished()){
       result.setFinished();
     } 
@@ -248,7 +242,7 @@ public class TileworldDomain extends DomainSpecifics{
     int numberFixationsAttempted = (fixationsAttempted == null ? 0 : fixationsAttempted.size());
     
     if((numberFixationsToMake + numberFixationsAttempted) < this._initialFixationThreshold){
-      return new SalientObjectFixation(time, this._timeTakenToDecideUponSalientObjectFixations);
+      return new SalientObjectFixation(this._associatedModel, time, this._timeTakenToDecideUponSalientObjectFixations);
     }
     else{
       
@@ -309,10 +303,10 @@ public class TileworldDomain extends DomainSpecifics{
         
         Fixation fixation = null;
         while(fixation == null){
-          double r = Math.random();
+          double r = this._associatedModel.getRandom().nextDouble();
           
           if(r < 0.25){
-            fixation = new SalientObjectFixation(time, this._timeTakenToDecideUponSalientObjectFixations);
+            fixation = new SalientObjectFixation(this._associatedModel, time, this._timeTakenToDecideUponSalientObjectFixations);
           }
           else if(r >= 0.25 && r < 0.5) {
             fixation = new MovementFixation(this._associatedModel, time, this._timeTakenToDecideUponMovementFixations);
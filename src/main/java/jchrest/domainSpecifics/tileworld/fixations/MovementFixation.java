@@ -3,7 +3,6 @@ package jchrest.domainSpecifics.tileworld.fixations;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
 import jchrest.architecture.Chrest;
 import jchrest.domainSpecifics.Fixation;
 import jchrest.domainSpecifics.Scene;
@@ -185,7 +184,7 @@ public class MovementFixation extends Fixation{
           //Check if there any potential fixations, if there are, select one at
           //random with equal probability.
           if(!potentialFixations.isEmpty()){
-            squareToFixateOn = potentialFixations.get(new Random().nextInt(potentialFixations.size()));
+            squareToFixateOn = potentialFixations.get(this._associatedModel.getRandom().nextInt(potentialFixations.size()));
           }
         }
       }
@@ -1,7 +1,8 @@
 package jchrest.domainSpecifics.tileworld.fixations;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import jchrest.architecture.Chrest;
 import jchrest.domainSpecifics.Fixation;
 import jchrest.domainSpecifics.Scene;
 import jchrest.lib.Square;
@@ -22,6 +23,8 @@ import jchrest.lib.Square;
  * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
  */
 public class SalientObjectFixation extends Fixation{
+  
+  private final Chrest _model;
 
   /**
    * Constructor.
@@ -33,7 +36,25 @@ public class SalientObjectFixation extends Fixation{
    * fixate on after starting deliberation on it.
    */
   public SalientObjectFixation(int timeThatDecidingUponThisStarts, int timeTakenToDecideUponThis) {
+    this(null, timeThatDecidingUponThisStarts, timeTakenToDecideUponThis);
+  }
+  
+  /**
+   * Constructor.
+   * 
+   * @param model The {@link jchrest.architecture.Chrest} model that will make
+   * {@link #this}.  The {@link jchrest.lib.Square} fixated on is chosen using
+   * the source of random choices of the {@code model} (see {@link 
+   * jchrest.architecture.Chrest#getRandom()}).  If {@code null}, an unseeded
+   * source is used.
+   * @param timeThatDecidingUponThisStarts See {@link 
+   * #SalientObjectFixation(int, int)}.
+   * @param timeTakenToDecideUponThis See {@link 
+   * #SalientObjectFixation(int, int)}.
+   */
+  public SalientObjectFixation(Chrest model, int timeThatDecidingUponThisStarts, int timeTakenToDecideUponThis) {
     super(timeThatDecidingUponThisStarts, timeTakenToDecideUponThis);
+    this._model = model;
   }
   
   /**
@@ -71,7 +92,7 @@ public class SalientObjectFixation extends Fixation{
       }
       
       if(!potentialFixations.isEmpty()){
-        fixation = potentialFixations.get(new Random().nextInt(potentialFixations.size()));
+        fixation = potentialFixations.get((this._model == null ? ThreadLocalRandom.current() : this._model.getRandom()).nextInt(potentialFixations.size()));
       }
     }
     
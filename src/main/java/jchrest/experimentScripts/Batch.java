@@ -0,0 +1,478 @@
+package jchrest.experimentScripts;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import jchrest.architecture.Chrest;
+import jchrest.architecture.Node;
+import jchrest.lib.InputOutput;
+import jchrest.lib.ListPattern;
+import jchrest.lib.Modality;
+import jchrest.lib.PairedAssociateExperiment;
+import jchrest.lib.PairedPattern;
+import jchrest.lib.PatternSimilarity;
+
+/**
+ * Runs the experiment described by a data file in the format loaded by {@link
+ * jchrest.gui.Shell} (see the files in {@code examples/sample-data}) on a new
+ * {@link jchrest.architecture.Chrest} model without a GUI, writing the
+ * metrics recorded on each trial as CSV or JSON.  Usage:
+ * <pre>
+ * java -cp chrest.jar jchrest.experimentScripts.Batch [options] data-file
+ * </pre>
+ * The task on the first line of the data file determines the experiment run:
+ * <ul>
+ *  <li>
+ *    recognise-and-learn: each pattern is learned once per trial and then
+ *    recognised.  One record is written per pattern per trial containing the
+ *    image recalled, the number of items of the pattern it contains and the
+ *    size of long-term memory.
+ *  </li>
+ *  <li>
+ *    paired-associate or serial-anticipation: a {@link
+ *    jchrest.lib.PairedAssociateExperiment} is run.  One record is written per
+ *    stimulus per trial containing the response given and whether it was an
+ *    error or a "cheat".
+ *  </li>
+ * </ul>
+ * The categorisation and visual-search tasks can not be run yet since the
+ * architecture does not currently support naming patterns or learning scenes.
+ * <p>
+ * Options:
+ * <ul>
+ *  <li>{@code --trials n}: the number of trials to run (1 by default).</li>
+ *  <li>{@code --format csv|json}: csv by default.  JSON is written as one
+ *  object per line so that records can be processed as they are written.</li>
+ *  <li>{@code --output file}: standard output by default.</li>
+ *  <li>{@code --modality visual|verbal|action}: the modality of the patterns
+ *  learned in recognise-and-learn tasks (visual by default).</li>
+ *  <li>{@code --shuffle}: shuffle the order stimulus-response pairs are
+ *  presented in on each trial of paired-associate tasks.</li>
+ *  <li>{@code --presentation-time ms}, {@code --inter-item-time ms}, {@code
+ *  --inter-trial-time ms}: 2000 by default.</li>
+ *  <li>{@code --auditory-loop-size n}: the number of stimulus-response pairs
+ *  by default.</li>
+ *  <li>{@code --seed n}: seeds the random choices made by the model (see {@link
+ *  jchrest.architecture.Chrest#setRandomSeed(long)}), e.g. the order of
+ *  shuffled stimulus-response pairs, so that runs can be reproduced.  Unseeded
+ *  by default.</li>
+ * </ul>
+ * Unknown options are reported along with the usage.  Every argument is
+ * validated, and the data file read, before the output file is opened.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public class Batch {
+
+  private static final String USAGE =
+    "Usage: java -cp chrest.jar jchrest.experimentScripts.Batch [options] data-file\n" +
+    "  --trials n\n" +
+    "  --format csv|json\n" +
+    "  --output file\n" +
+    "  --modality visual|verbal|action\n" +
+    "  --shuffle\n" +
+    "  --presentation-time ms\n" +
+    "  --inter-item-time ms\n" +
+    "  --inter-trial-time ms\n" +
+    "  --auditory-loop-size n\n" +
+    "  --seed n"
+  ;
+
+  //The options that take a value.  --shuffle is the only option that does not.
+  private static final Set<String> VALUE_OPTIONS = new HashSet<>(Arrays.asList(
+    "--trials",
+    "--format",
+    "--output",
+    "--modality",
+    "--presentation-time",
+    "--inter-item-time",
+    "--inter-trial-time",
+    "--auditory-loop-size",
+    "--seed"
+  ));
+
+  private final Map<String, String> _options = new HashMap<>();
+  private final int _trials;
+  private final Modality _modality;
+  private final int _presentationTime;
+  private final int _interItemTime;
+  private final int _interTrialTime;
+  private final int _auditoryLoopSize; //-1 if the number of pairs is used.
+  private final Long _seed; //Null if unseeded.
+
+  //Set when the data file is loaded (see load()).
+  private String _task;
+  private List<ListPattern> _patterns;
+  private List<PairedPattern> _pairs;
+
+  /**
+   * @param options
+   *
+   * @throws IllegalArgumentException If the value of any of the {@code
+   * options} specified is invalid.
+   */
+  private Batch(Map<String, String> options){
+    this._options.putAll(options);
+    this._trials = this.getIntOption("--trials", 1);
+    this._modality = this.getModalityOption();
+    this._presentationTime = this.getIntOption("--presentation-time", 2000);
+    this._interItemTime = this.getIntOption("--inter-item-time", 2000);
+    this._interTrialTime = this.getIntOption("--inter-trial-time", 2000);
+    this._auditoryLoopSize = this.getIntOption("--auditory-loop-size", -1);
+    this._seed = this.getSeedOption();
+
+    String format = this._options.getOrDefault("--format", "csv");
+    if(!format.equals("csv") && !format.equals("json")){
+      throw new IllegalArgumentException("Unknown format: " + format);
+    }
+  }
+
+  public static void main(String[] args){
+    System.exit(Batch.run(args, System.out, System.err));
+  }
+
+  /**
+   * Runs the experiment specified by the {@code args} specified (see {@link
+   * #this}).
+   *
+   * @param args
+   * @param out Where metrics are written unless an output file is specified.
+   * @param err Where errors are reported.
+   *
+   * @return 0 if the experiment was run, 1 if not.
+   */
+  public static int run(String[] args, PrintStream out, PrintStream err){
+    Map<String, String> options = new HashMap<>();
+    String dataFile = null;
+
+    for(int i = 0; i < args.length; i++){
+      String arg = args[i];
+      if(arg.equals("--shuffle")){
+        options.put(arg, "true");
+      }
+      else if(VALUE_OPTIONS.contains(arg)){
+        if(i + 1 == args.length){
+          err.println("No value specified for " + arg + "\n" + USAGE);
+          return 1;
+        }
+        options.put(arg, args[++i]);
+      }
+      else if(arg.startsWith("--")){
+        err.println("Unknown option: " + arg + "\n" + USAGE);
+        return 1;
+      }
+      else if(dataFile == null){
+        dataFile = arg;
+      }
+      else{
+        err.println("Unexpected argument: " + arg + "\n" + USAGE);
+        return 1;
+      }
+    }
+
+    if(dataFile == null){
+      err.println(USAGE);
+      return 1;
+    }
+
+    //Validate every argument and load the data file before the output file 
+    //is opened so that an existing output file is not truncated if the 
+    //experiment can not be run.
+    Batch batch;
+    try{
+      batch = new Batch(options);
+      batch.load(dataFile);
+    }
+    catch(IOException | IllegalArgumentException e){
+      err.println(e.getMessage());
+      return 1;
+    }
+
+    PrintStream output = out;
+    try{
+      String outputFile = options.get("--output");
+      if(outputFile != null) output = new PrintStream(new FileOutputStream(outputFile), false, "UTF-8");
+
+      batch.run(options.getOrDefault("--format", "csv").equals("json") ? new JsonMetrics(output) : new CsvMetrics(output));
+      return 0;
+    }
+    catch(IOException | IllegalArgumentException e){
+      err.println(e.getMessage());
+      return 1;
+    }
+    finally{
+      output.flush();
+      if(output != out) output.close();
+    }
+  }
+
+  /**
+   * Reads the task and patterns from the {@code dataFile} specified.
+   *
+   * @param dataFile
+   *
+   * @throws IOException
+   * @throws IllegalArgumentException If the task in the {@code dataFile}
+   * specified is invalid or not supported.
+   */
+  private void load(String dataFile) throws IOException{
+    try(BufferedReader input = new BufferedReader(new InputStreamReader(new FileInputStream(dataFile), "UTF-8"))){
+      String task = input.readLine();
+      task = task == null ? "" : task.trim();
+
+      if(task.equals("recognise-and-learn")){
+        this._patterns = InputOutput.readItems(input, false);
+      }
+      else if(task.equals("serial-anticipation")){
+        this._pairs = PairedAssociateExperiment.makePairs(InputOutput.readItems(input, true));
+      }
+      else if(task.equals("paired-associate")){
+        this._pairs = InputOutput.readPairedItems(input, false);
+      }
+      else if(task.equals("categorisation") || task.equals("visual-search")){
+        throw new IllegalArgumentException("The " + task + " task is not supported since patterns can not be named or scenes learned yet");
+      }
+      else{
+        throw new IllegalArgumentException("Invalid task on first line of " + dataFile + ": " + task);
+      }
+      this._task = task;
+    }
+  }
+
+  /**
+   * Runs the task loaded (see {@link #load(java.lang.String)}), writing its
+   * records to the {@code metrics} specified.
+   *
+   * @param metrics
+   */
+  private void run(Metrics metrics){
+    if(this._task.equals("recognise-and-learn")){
+      this.recogniseAndLearn(this._patterns, metrics);
+    }
+    else{
+      this.pairedAssociate(this._task, this._pairs, metrics);
+    }
+  }
+
+  /**
+   * Learns each of the {@code patterns} specified once per trial (in the same
+   * way as {@link jchrest.gui.RecogniseAndLearnDemo}) then recognises each of
+   * them.
+   *
+   * @param patterns
+   */
+  private void recogniseAndLearn(List<ListPattern> patterns, Metrics metrics){
+    Modality modality = this._modality;
+
+    Chrest model = this.createModel();
+    model.setRho(1.0f);
+    model.setCanCreateSemanticLinks(false);
+    model.setCanCreateTemplates(false);
+    model.setEngagedInExperiment();
+
+    //Each pattern is presented when the model's cognition resource is free so
+    //that it is always learned or recognised.
+    int time = 0;
+    for(int trial = 0; trial < this._trials; trial++){
+      for(ListPattern pattern : patterns){
+        time = Math.max(time, model.getCognitionClock());
+        model.recogniseAndLearn(this.withModality(pattern, modality), time);
+      }
+
+      for(ListPattern pattern : patterns){
+        time = Math.max(time, model.getCognitionClock());
+        ListPattern patternPresented = this.withModality(pattern, modality);
+        Node recognised = model.recognise(patternPresented, time, true);
+        ListPattern recalled = recognised == null ? new ListPattern(modality) : recognised.getImage(time);
+
+        LinkedHashMap<String, Object> record = new LinkedHashMap<>();
+        record.put("task", "recognise-and-learn");
+        record.put("trial", trial + 1);
+        record.put("time", time);
+        record.put("pattern", pattern.toString());
+        record.put("recalled", recalled.toString());
+        record.put("items", pattern.size());
+        record.put("items_recalled", new PatternSimilarity(patternPresented).countSharedItems(recalled, pattern.size()));
+        record.put("ltm_size", model.getLtmSize(time));
+        metrics.write(record);
+      }
+    }
+  }
+
+  private ListPattern withModality(ListPattern pattern, Modality modality){
+    ListPattern patternWithModality = pattern.clone();
+    patternWithModality.setModality(modality);
+    return patternWithModality;
+  }
+
+  private void pairedAssociate(String task, List<PairedPattern> pairs, Metrics metrics){
+    PairedAssociateExperiment experiment = new PairedAssociateExperiment(this.createModel(), pairs);
+    experiment.setPresentationTime(this._presentationTime);
+    experiment.setInterItemTime(this._interItemTime);
+    experiment.setInterTrialTime(this._interTrialTime);
+    experiment.setAuditoryLoopMaxSize(this._auditoryLoopSize == -1 ? pairs.size() : this._auditoryLoopSize);
+    boolean shuffle = this._options.containsKey("--shuffle");
+
+    for(int trial = 0; trial < this._trials; trial++){
+      experiment.runTrial(shuffle);
+
+      Map<ListPattern, ListPattern> responses = experiment.getResponses().get(trial);
+      Map<ListPattern, Integer> errors = experiment.getErrors().get(trial);
+      Map<ListPattern, Boolean> cheats = experiment.getCheats().get(trial);
+      for(PairedPattern pair : pairs){
+        ListPattern stimulus = pair.getFirst();
+
+        LinkedHashMap<String, Object> record = new LinkedHashMap<>();
+        record.put("task", task);
+        record.put("trial", trial + 1);
+        record.put("time", experiment.getExptClock());
+        record.put("stimulus", stimulus.toString());
+        record.put("expected_response", pair.getSecond().toString());
+        record.put("response", String.valueOf(responses.get(stimulus)));
+        record.put("error", errors.get(stimulus));
+        record.put("cheated", cheats.get(stimulus));
+        metrics.write(record);
+      }
+    }
+  }
+
+  private Chrest createModel(){
+    Chrest model = new Chrest(0, false);
+    if(this._seed != null) model.setRandomSeed(this._seed);
+    return model;
+  }
+
+  private Modality getModalityOption(){
+    String modality = this._options.getOrDefault("--modality", "visual");
+    for(Modality m : Modality.values()){
+      if(m.name().equalsIgnoreCase(modality)) return m;
+    }
+    throw new IllegalArgumentException("Unknown modality: " + modality);
+  }
+
+  private Long getSeedOption(){
+    String seed = this._options.get("--seed");
+    if(seed == null) return null;
+
+    try{
+      return Long.parseLong(seed);
+    }
+    catch(NumberFormatException e){
+      throw new IllegalArgumentException("The value specified for --seed is not an integer: " + seed);
+    }
+  }
+
+  private int getIntOption(String option, int defaultValue){
+    String value = this._options.get(option);
+    if(value == null) return defaultValue;
+
+    try{
+      int intValue = Integer.parseInt(value);
+      if(intValue < 0) throw new NumberFormatException();
+      return intValue;
+    }
+    catch(NumberFormatException e){
+      throw new IllegalArgumentException("The value specified for " + option + " is not a non-negative integer: " + value);
+    }
+  }
+
+  /**
+   * Writes records of metrics as they are produced.
+   */
+  private interface Metrics {
+    void write(LinkedHashMap<String, Object> record);
+  }
+
+  /**
+   * Writes a header row using the keys of the first record written and a row
+   * containing the values of each record.
+   */
+  private static final class CsvMetrics implements Metrics {
+    private final PrintStream _output;
+    private boolean _headerWritten = false;
+
+    private CsvMetrics(PrintStream output){
+      this._output = output;
+    }
+
+    @Override
+    public void write(LinkedHashMap<String, Object> record){
+      if(!this._headerWritten){
+        this._output.println(CsvMetrics.row(record.keySet()));
+        this._headerWritten = true;
+      }
+      this._output.println(CsvMetrics.row(record.values()));
+    }
+
+    private static String row(Iterable<?> values){
+      StringBuilder row = new StringBuilder();
+      for(Object value : values){
+        if(row.length() > 0) row.append(',');
+        String field = String.valueOf(value);
+        if(field.contains(",") || field.contains("\"") || field.contains("\n")){
+          field = "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        row.append(field);
+      }
+      return row.toString();
+    }
+  }
+
+  /**
+   * Writes each record as a JSON object on its own line.
+   */
+  private static final class JsonMetrics implements Metrics {
+    private final PrintStream _output;
+
+    private JsonMetrics(PrintStream output){
+      this._output = output;
+    }
+
+    @Override
+    public void write(LinkedHashMap<String, Object> record){
+      StringBuilder object = new StringBuilder("{");
+      for(Entry<String, Object> field : record.entrySet()){
+        if(object.length() > 1) object.append(',');
+        JsonMetrics.appendString(object, field.getKey());
+        object.append(':');
+
+        Object value = field.getValue();
+        if(value == null || value instanceof Number || value instanceof Boolean){
+          object.append(value);
+        }
+        else{
+          JsonMetrics.appendString(object, value.toString());
+        }
+      }
+      this._output.println(object.append('}'));
+    }
+
+    private static void appendString(StringBuilder json, String string){
+      json.append('"');
+      for(int i = 0; i < string.length(); i++){
+        char c = string.charAt(i);
+        if(c == '"' || c == '\\'){
+          json.append('\\').append(c);
+        }
+        else if(c < 0x20){
+          json.append(String.format("\\u%04x", (int)c));
+        }
+        else{
+          json.append(c);
+        }
+      }
+      json.append('"');
+    }
+  }
+}
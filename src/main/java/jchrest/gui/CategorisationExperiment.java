@@ -96,7 +96,7 @@ public class CategorisationExperiment extends JPanel {
 
     private List<PairedPattern> preparePatterns () {
       List<PairedPattern> patterns = new ArrayList<PairedPattern> ();
-      java.util.Random gen = new java.util.Random ();
+      java.util.SplittableRandom gen = _model.getRandom ();
       for (PairedPattern pattern : _patterns) {
         if (_trainingSelection.get(pattern).isSelected ()) {
           if (_randomOrder.isSelected ()) {
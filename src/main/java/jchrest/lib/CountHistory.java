@@ -0,0 +1,149 @@
+package jchrest.lib;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A history of an integer count, e.g. the number of {@link
+ * jchrest.architecture.Node Nodes} in a long-term memory modality, stored in
+ * two primitive arrays so that each change to the count only requires 8 bytes
+ * rather than a {@link java.util.TreeMap} entry and two boxed {@link
+ * java.lang.Integer Integers}.
+ * <p>
+ * Like a {@link jchrest.lib.HistoryTreeMap}, the count at a particular time is
+ * the count set at or most recently before that time.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public final class CountHistory implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private int[] _times = new int[2];
+  private int[] _values = new int[2];
+  private int _size = 0;
+
+  /**
+   * @param time
+   * @return The count at the {@code time} specified (0 if the count had not
+   * been set at the {@code time} specified).
+   */
+  public int get(int time){
+    int index = this.floorIndex(time);
+    return index < 0 ? 0 : this._values[index];
+  }
+
+  /**
+   * @param time
+   * @return Whether the count has been set at or before the {@code time}
+   * specified.
+   */
+  public boolean isSet(int time){
+    return this.floorIndex(time) >= 0;
+  }
+
+  /**
+   * @return Whether the count has ever been set.
+   */
+  public boolean isEmpty(){
+    return this._size == 0;
+  }
+
+  /**
+   * @return The count that was set first.  Should only be invoked if {@link
+   * #isEmpty()} returns {@link java.lang.Boolean#FALSE}.
+   */
+  public int getEarliest(){
+    return this._values[0];
+  }
+
+  /**
+   * @return The count that was set most recently.  Should only be invoked if
+   * {@link #isEmpty()} returns {@link java.lang.Boolean#FALSE}.
+   */
+  public int getLatest(){
+    return this._values[this._size - 1];
+  }
+
+  /**
+   * Sets the count at the {@code time} specified to the {@code value}
+   * specified, replacing the count set at the {@code time} specified if there
+   * is one.  Counts set after the {@code time} specified are not modified.
+   *
+   * @param time
+   * @param value
+   */
+  public void set(int time, int value){
+    int index = this.floorIndex(time);
+    if(index < 0 || this._times[index] != time){
+      index = this.insert(index + 1, time);
+    }
+    this._values[index] = value;
+  }
+
+  /**
+   * Adds the {@code delta} specified to the count at the {@code time}
+   * specified and every time after it.
+   *
+   * @param time
+   * @param delta
+   * @param retainHistory If {@link java.lang.Boolean#FALSE}, only the most
+   * recent count and the count it replaces are retained (see {@link
+   * jchrest.lib.HistoryTreeMap#discardHistory()}).
+   */
+  public void add(int time, int delta, boolean retainHistory){
+    if(delta == 0) return;
+
+    int index = this.floorIndex(time);
+    if(index < 0 || this._times[index] != time){
+      if(!retainHistory && index == this._size - 1 && this._size > 1){
+        this._times[0] = this._times[index];
+        this._values[0] = this._values[index];
+        this._size = 1;
+        index = 0;
+      }
+
+      int previousValue = index < 0 ? 0 : this._values[index];
+      index = this.insert(index + 1, time);
+      this._values[index] = previousValue;
+    }
+
+    for(int i = index; i < this._size; i++){
+      this._values[i] += delta;
+    }
+  }
+
+  /**
+   * Removes every count set.
+   */
+  public void clear(){
+    this._size = 0;
+  }
+
+  private int insert(int index, int time){
+    if(this._size == this._times.length){
+      this._times = Arrays.copyOf(this._times, this._size * 2);
+      this._values = Arrays.copyOf(this._values, this._size * 2);
+    }
+    System.arraycopy(this._times, index, this._times, index + 1, this._size - index);
+    System.arraycopy(this._values, index, this._values, index + 1, this._size - index);
+    this._times[index] = time;
+    this._size++;
+    return index;
+  }
+
+  private int floorIndex(int time){
+    int low = 0;
+    int high = this._size - 1;
+    while(low <= high){
+      int middle = (low + high) >>> 1;
+      if(this._times[middle] <= time){
+        low = middle + 1;
+      }
+      else{
+        high = middle - 1;
+      }
+    }
+    return high;
+  }
+}
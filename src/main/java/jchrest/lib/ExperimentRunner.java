@@ -0,0 +1,311 @@
+package jchrest.lib;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.ToLongFunction;
+import jchrest.architecture.Chrest;
+
+/**
+ * Runs an experiment on many independent {@link jchrest.architecture.Chrest}
+ * models concurrently without a GUI, e.g. to fit model parameters by running
+ * the same experiment with hundreds of different parameter sets and seeds.
+ * <p>
+ * Each run creates its own {@link jchrest.architecture.Chrest} model using the
+ * {@link ExperimentRunner.ModelFactory} specified, runs the {@link
+ * ExperimentRunner.Experiment} specified on it and records the result (or the
+ * exception thrown) as a {@link ExperimentRunner.Run}.  Runs are executed on a
+ * {@link java.util.concurrent.ForkJoinPool} so they must not depend on one
+ * another.
+ * <p>
+ * {@link jchrest.architecture.Chrest} models share no mutable static state:
+ * the only static state used by the architecture are the pools of interned
+ * {@link jchrest.lib.StringPattern StringPatterns}, {@link
+ * jchrest.lib.NumberPattern NumberPatterns} and {@link
+ * jchrest.domainSpecifics.Scene} object types, which are thread-safe and
+ * whose values are immutable, and constants.  Runs must therefore only share data
+ * that they do not modify and a {@link ExperimentRunner.ModelFactory} must
+ * create a new {@link jchrest.architecture.Chrest} model for every run; an
+ * {@link java.lang.IllegalStateException} is recorded as the result of a run
+ * whose model is already being used by another run.
+ * <p>
+ * The seed of each run is passed to the {@link ExperimentRunner.ModelFactory}
+ * and {@link ExperimentRunner.Experiment} so that any random choices they make
+ * can be reproduced.  The model created for a run is also seeded with it (see
+ * {@link jchrest.architecture.Chrest#setRandomSeed(long)}) before the {@link
+ * ExperimentRunner.Experiment} is run so the results of a run are the same
+ * regardless of how many runs execute concurrently.
+ *
+ * @param <P> The type of the parameter sets experiments are run with.
+ * @param <R> The type of the results experiments produce.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public class ExperimentRunner<P, R> {
+
+  /**
+   * Creates a new {@link jchrest.architecture.Chrest} model for a run.
+   *
+   * @param <P>
+   */
+  @FunctionalInterface
+  public interface ModelFactory<P> {
+    Chrest createModel(P parameters, long seed) throws Exception;
+  }
+
+  /**
+   * Runs an experiment on a {@link jchrest.architecture.Chrest} model.
+   *
+   * @param <P>
+   * @param <R>
+   */
+  @FunctionalInterface
+  public interface Experiment<P, R> {
+    R run(Chrest model, P parameters, long seed) throws Exception;
+  }
+
+  private final ModelFactory<P> _modelFactory;
+  private final Experiment<P, R> _experiment;
+  private final int _parallelism;
+
+  //The models of the runs currently executing, compared by identity.
+  private final Set<Chrest> _modelsInUse = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  /**
+   * Creates an {@link #this} that uses as many threads as there are processors
+   * available.
+   *
+   * @param modelFactory
+   * @param experiment
+   */
+  public ExperimentRunner(ModelFactory<P> modelFactory, Experiment<P, R> experiment){
+    this(modelFactory, experiment, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param modelFactory
+   * @param experiment
+   * @param parallelism The maximum number of runs to execute concurrently.
+   */
+  public ExperimentRunner(ModelFactory<P> modelFactory, Experiment<P, R> experiment, int parallelism){
+    if(parallelism < 1){
+      throw new IllegalArgumentException("The parallelism specified (" + parallelism + ") is less than 1");
+    }
+
+    this._modelFactory = modelFactory;
+    this._experiment = experiment;
+    this._parallelism = parallelism;
+  }
+
+  /**
+   * Runs the experiment {@code runsPerParameterSet} times with each of the
+   * {@code parameterSets} specified.
+   * <p>
+   * The seed of each run is generated from the {@code seed} specified so the
+   * same seeds are used whenever this function is invoked with the same
+   * arguments, regardless of the order in which runs execute.
+   *
+   * @param parameterSets
+   * @param runsPerParameterSet
+   * @param seed
+   *
+   * @return The {@link ExperimentRunner.Run Runs}, in the order of the {@code
+   * parameterSets} specified, i.e. the runs with the first parameter set come
+   * first.
+   *
+   * @throws InterruptedException If the thread invoking this function is
+   * interrupted before every run has finished.  Runs that have not started are
+   * cancelled.
+   */
+  public List<Run<P, R>> run(List<P> parameterSets, int runsPerParameterSet, long seed) throws InterruptedException{
+    SplittableRandom seeds = new SplittableRandom(seed);
+    List<P> runParameterSets = new ArrayList<>();
+    List<Long> runSeeds = new ArrayList<>();
+    for(P parameters : parameterSets){
+      for(int i = 0; i < runsPerParameterSet; i++){
+        runParameterSets.add(parameters);
+        runSeeds.add(seeds.nextLong());
+      }
+    }
+
+    return this.run(runParameterSets, runSeeds);
+  }
+
+  /**
+   * Runs the experiment once with each of the {@code parameterSets} specified
+   * using the seed returned by the {@code seeds} specified for the parameter
+   * set, e.g. when the seed of a run is part of its parameter set.
+   *
+   * @param parameterSets
+   * @param seeds
+   *
+   * @return The {@link ExperimentRunner.Run Runs}, in the order of the {@code
+   * parameterSets} specified.
+   *
+   * @throws InterruptedException See {@link #run(java.util.List, int, long)}.
+   */
+  public List<Run<P, R>> run(List<P> parameterSets, ToLongFunction<P> seeds) throws InterruptedException{
+    List<Long> runSeeds = new ArrayList<>();
+    for(P parameters : parameterSets){
+      runSeeds.add(seeds.applyAsLong(parameters));
+    }
+
+    return this.run(parameterSets, runSeeds);
+  }
+
+  private List<Run<P, R>> run(List<P> parameterSets, List<Long> seeds) throws InterruptedException{
+    ForkJoinPool pool = new ForkJoinPool(this._parallelism);
+
+    try{
+      List<Future<Run<P, R>>> runs = new ArrayList<>();
+      for(int i = 0; i < parameterSets.size(); i++){
+        P parameters = parameterSets.get(i);
+        long seed = seeds.get(i);
+        runs.add(pool.submit(() -> this.run(parameters, seed)));
+      }
+
+      List<Run<P, R>> results = new ArrayList<>();
+      for(Future<Run<P, R>> run : runs){
+        try{
+          results.add(run.get());
+        }
+        catch(ExecutionException e){
+
+          //Any exception thrown by the model factory or experiment is recorded
+          //in the Run returned so this can only be an Error.
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+      return results;
+    }
+    finally{
+      pool.shutdownNow();
+    }
+  }
+
+  private Run<P, R> run(P parameters, long seed){
+    Chrest model = null;
+    boolean modelAcquired = false;
+
+    try{
+      model = this._modelFactory.createModel(parameters, seed);
+      synchronized(this._modelsInUse){
+        modelAcquired = this._modelsInUse.add(model);
+      }
+      if(!modelAcquired){
+        throw new IllegalStateException("The model created for a run is being used by another run");
+      }
+
+      model.setRandomSeed(seed);
+      return new Run<>(parameters, seed, this._experiment.run(model, parameters, seed), null);
+    }
+    catch(Exception e){
+      return new Run<>(parameters, seed, null, e);
+    }
+    finally{
+      if(modelAcquired){
+        synchronized(this._modelsInUse){
+          this._modelsInUse.remove(model);
+        }
+      }
+    }
+  }
+
+  /**
+   * @param curves Curves, e.g. the errors made or items recalled by each model
+   * on each trial of an experiment.  Curves may have different lengths.
+   *
+   * @return The mean of the {@code curves} specified at each point, i.e. the
+   * value at index {@code i} is the mean of the values at index {@code i} of
+   * the {@code curves} that are longer than {@code i}.
+   */
+  public static List<Double> meanCurve(List<? extends List<? extends Number>> curves){
+    List<Double> sums = new ArrayList<>();
+    List<Integer> counts = new ArrayList<>();
+
+    for(List<? extends Number> curve : curves){
+      for(int i = 0; i < curve.size(); i++){
+        if(i == sums.size()){
+          sums.add(0.0);
+          counts.add(0);
+        }
+        sums.set(i, sums.get(i) + curve.get(i).doubleValue());
+        counts.set(i, counts.get(i) + 1);
+      }
+    }
+
+    List<Double> means = new ArrayList<>();
+    for(int i = 0; i < sums.size(); i++){
+      means.add(sums.get(i) / counts.get(i));
+    }
+    return means;
+  }
+
+  /**
+   * The outcome of running an experiment once.
+   *
+   * @param <P>
+   * @param <R>
+   */
+  public static final class Run<P, R> {
+    private final P _parameters;
+    private final long _seed;
+    private final R _result;
+    private final Exception _exception;
+
+    Run(P parameters, long seed, R result, Exception exception){
+      this._parameters = parameters;
+      this._seed = seed;
+      this._result = result;
+      this._exception = exception;
+    }
+
+    public P getParameters(){
+      return this._parameters;
+    }
+
+    public long getSeed(){
+      return this._seed;
+    }
+
+    /**
+     * @return The result of the run or null if the run threw an exception.
+     */
+    public R getResult(){
+      return this._result;
+    }
+
+    /**
+     * @return The exception thrown by the run or null if the run finished
+     * normally.
+     */
+    public Exception getException(){
+      return this._exception;
+    }
+
+    public boolean isSuccessful(){
+      return this._exception == null;
+    }
+  }
+
+  /**
+   * @param <P>
+   * @param <R>
+   * @param runs
+   *
+   * @return The results of the {@code runs} specified that finished normally.
+   */
+  public static <P, R> List<R> getResults(List<Run<P, R>> runs){
+    List<R> results = new ArrayList<>();
+    for(Run<P, R> run : runs){
+      if(run.isSuccessful()) results.add(run.getResult());
+    }
+    return results;
+  }
+}
@@ -62,11 +62,18 @@ import java.util.function.BiFunction;
  *  <li>{@link java.util.TreeMap#replaceAll(java.util.function.BiFunction)}</li>
  * </ul>
  * 
+ * The only exception is {@link #discardHistory()} which removes all but the
+ * most recent {@link java.util.Map.Entry} and should only be used when a
+ * {@link jchrest.architecture.Chrest} model is not recording its state history
+ * (see {@link jchrest.architecture.Chrest#canRecordStateHistory()}).
  * 
  * @author Martyn Lloyd-Kelly {@code <martynlk@liverpool.ac.uk>}
  */
 public class HistoryTreeMap<Integer, V> extends TreeMap<Integer, V> {
   
+  //Node histories saved by earlier versions of CHREST must remain readable.
+  private static final long serialVersionUID = -4720991088929989397L;
+  
   /**
    * Determines if adding the specified key would rewrite history.
    * 
@@ -226,6 +233,36 @@ public class HistoryTreeMap<Integer, V> extends TreeMap<Integer, V> {
     throw new UnsupportedOperationException();
   }
   
+  /**
+   * Removes every {@link java.util.Map.Entry} in {@link #this} except the most 
+   * recent.  
+   * <p>
+   * Should be invoked before adding a new {@link java.util.Map.Entry} when only
+   * the latest state of {@link #this} needs to be retained so that, after the
+   * new {@link java.util.Map.Entry} is added, {@link #this} contains the new 
+   * state and the state it replaces.  The state replaced is retained so that
+   * the state at any time between the previous and most recent modification 
+   * can still be retrieved; the model may schedule modifications to occur in
+   * the future relative to the time it is currently operating at.
+   */
+  public void discardHistory(){
+    HistoryTreeMap.discardHistory(this);
+  }
+  
+  /**
+   * Removes every {@link java.util.Map.Entry} in the {@code history} specified 
+   * except the most recent (see {@link #discardHistory()}).  Should be used for
+   * histories that are not {@link jchrest.lib.HistoryTreeMap 
+   * HistoryTreeMaps}.
+   * 
+   * @param history
+   */
+  public static <K> void discardHistory(TreeMap<K, ?> history){
+    if(!history.isEmpty()){
+      history.headMap(history.lastKey()).clear();
+    }
+  }
+  
   @Override
   public String toString(){
     String contents = "";
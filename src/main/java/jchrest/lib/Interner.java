@@ -0,0 +1,98 @@
+package jchrest.lib;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Ensures that only one instance of an immutable class exists for each key,
+ * e.g. only one {@link jchrest.lib.StringPattern} exists for each {@link
+ * java.lang.String}, so that instances can be compared using {@code ==}.
+ * <p>
+ * Instances are weakly referenced so, once an instance is no longer used
+ * anywhere else, it is removed.  Consequently, the number of instances held is
+ * bounded by the number in use rather than the number ever created.
+ * <p>
+ * Instances of this class can be used by multiple threads concurrently, e.g.
+ * when multiple {@link jchrest.architecture.Chrest} models are run in
+ * parallel.
+ *
+ * @param <K> The type of key.
+ * @param <V> The type of instance interned.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public final class Interner<K, V> {
+
+  private final ConcurrentHashMap<K, InternedValue<K, V>> _values = new ConcurrentHashMap<>();
+  private final ReferenceQueue<V> _collectedValues = new ReferenceQueue<>();
+  private final Function<K, V> _constructor;
+
+  /**
+   * @param constructor Constructs a new instance for a key when there is no
+   * instance for the key interned.
+   */
+  public Interner(Function<K, V> constructor){
+    this._constructor = constructor;
+  }
+
+  /**
+   * @param key
+   *
+   * @return The instance interned for the {@code key} specified.  If no
+   * instance is interned for the {@code key} specified, a new instance is
+   * constructed, interned and returned.
+   */
+  public V intern(K key){
+    this.removeCollectedValues();
+
+    InternedValue<K, V> internedValue = this._values.get(key);
+    V value = internedValue == null ? null : internedValue.get();
+    if(value != null) return value;
+
+    //Another thread may intern an instance for the key between the get() above
+    //and the putIfAbsent() below, in which case, its instance must be returned.
+    V newValue = this._constructor.apply(key);
+    InternedValue<K, V> newInternedValue = new InternedValue<>(key, newValue, this._collectedValues);
+    while(true){
+      internedValue = this._values.putIfAbsent(key, newInternedValue);
+      if(internedValue == null) return newValue;
+
+      value = internedValue.get();
+      if(value != null) return value;
+
+      //The instance interned has been garbage collected but its entry has not
+      //been removed yet.
+      if(this._values.replace(key, internedValue, newInternedValue)) return newValue;
+    }
+  }
+
+  /**
+   * @return The number of instances interned.  Instances that have been
+   * garbage collected but whose entries have not been removed yet are
+   * included.
+   */
+  public int size(){
+    this.removeCollectedValues();
+    return this._values.size();
+  }
+
+  //Only InternedValues are registered with the queue.
+  @SuppressWarnings("unchecked")
+  private void removeCollectedValues(){
+    InternedValue<K, V> collectedValue;
+    while((collectedValue = (InternedValue<K, V>)this._collectedValues.poll()) != null){
+      this._values.remove(collectedValue._key, collectedValue);
+    }
+  }
+
+  private static final class InternedValue<K, V> extends WeakReference<V> {
+    private final K _key;
+
+    private InternedValue(K key, V value, ReferenceQueue<V> queue){
+      super(value, queue);
+      this._key = key;
+    }
+  }
+}
@@ -3,10 +3,11 @@
 
 package jchrest.lib;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import jchrest.domainSpecifics.Scene;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -19,13 +20,21 @@ import java.util.Objects;
  * indicate that it cannot be extended by setting the _finished flag.
  * Note that once a pattern is 'finished', it cannot be added to.
  *
+ * Items are held in an array that is shared, rather than copied, by clones 
+ * and by the results of {@link #remove(ListPattern)} until either pattern 
+ * is added to (see {@link ListPatternItems}).
+ *
  * TODO: Think about if ListPatterns can be embedded within ListPatterns
  *       - would have to look inside ListPattern to make the match.
  *
  * @author Peter C. R. Lane
  */
 public class ListPattern extends Pattern implements Iterable<PrimitivePattern>, Serializable {
-  private List<PrimitivePattern> _list;  // items within the pattern
+  // serialVersionUID of the versions that stored items in a java.util.List, 
+  // whose serialized instances can still be read (see readObject).
+  private static final long serialVersionUID = -7738911902238057499L;
+
+  private ListPatternItems _list;  // items within the pattern
   private Modality _modality;   // record type of ListPattern
   private boolean _finished;    // marker to indicate if pattern complete
 
@@ -34,9 +43,13 @@ public class ListPattern extends Pattern implements Iterable<PrimitivePattern>,
   }
 
   public ListPattern (Modality modality) {
-    _list = new ArrayList<PrimitivePattern> ();
+    this (modality, new ListPatternItems (), false);
+  }
+
+  private ListPattern (Modality modality, ListPatternItems items, boolean finished) {
+    _list = items;
     _modality = modality;
-    _finished = false;
+    _finished = finished;
   }
 
   /** 
@@ -54,14 +67,7 @@ public class ListPattern extends Pattern implements Iterable<PrimitivePattern>,
    * without affecting the original.
    */
   public ListPattern clone () {
-    ListPattern result = new ListPattern (_modality);
-    for (PrimitivePattern pattern : _list) {
-      result.add (pattern);
-    }
-    if (isFinished ()) {
-      result.setFinished ();
-    }
-    return result;
+    return new ListPattern (_modality, _list.suffix (0), _finished);
   }
 
   /**
@@ -202,7 +208,7 @@ public class ListPattern extends Pattern implements Iterable<PrimitivePattern>,
   @Override
   public int hashCode() {
     int hash = 3;
-    hash = 89 * hash + Objects.hashCode(this._list);
+    hash = 89 * hash + this._list.hashCode();
     hash = 89 * hash + Objects.hashCode(this._modality);
     hash = 89 * hash + (this._finished ? 1 : 0);
     return hash;
@@ -277,21 +283,15 @@ public class ListPattern extends Pattern implements Iterable<PrimitivePattern>,
    * the matching elements of the given pattern. 
    */
   public ListPattern remove (ListPattern pattern) {
-    ListPattern result = new ListPattern (_modality);
-
+    // the result is the suffix of this pattern after its longest prefix 
+    // matching the start of the given pattern, so it can share this 
+    // pattern's items
     int i = 0;
-    boolean takingItems = false;
-    while (i < size ()) {
-      if (takingItems) {
-        result.add (getItem (i));
-      } else if (i < pattern.size () && pattern.getItem(i).equals(getItem (i))) {
-        ;
-      } else {
-        takingItems = true;
-        result.add (getItem (i));
-      }
+    int n = Math.min (size (), pattern.size ());
+    while (i < n && pattern.getItem(i).equals(getItem (i))) {
       i += 1;
     }
+    ListPattern result = new ListPattern (_modality, _list.suffix (i), false);
     if (isFinished () && !(result.isEmpty () && pattern.isFinished ())) {
       result.setFinished ();
     }
@@ -304,35 +304,14 @@ public class ListPattern extends Pattern implements Iterable<PrimitivePattern>,
    * contents of the given pattern appended to it.
    */
   public ListPattern append (ListPattern pattern) {
-    ListPattern result = new ListPattern (_modality);
-    
-    for (PrimitivePattern item : _list) {
-      result.add (item);
-    }
-
-    for (PrimitivePattern item : pattern) { 
-      result.add (item);
-    }
-
-    if (pattern.isFinished ()) {
-      result.setFinished ();
-    }
-
-    return result;
+    return new ListPattern (_modality, _list.append (pattern._list), pattern.isFinished ());
   }
 
   /** Return a new ListPattern formed from the contents of this list pattern and 
    * the given PrimitivePattern appended to it.
    */
   public ListPattern append (PrimitivePattern pattern) {
-    ListPattern result = new ListPattern (_modality);
-
-    for (PrimitivePattern item : _list) {
-      result.add (item);
-    }
-    result.add (pattern);
-
-    return result;
+    return new ListPattern (_modality, _list.append (pattern), false);
   }
 
   /**
@@ -352,59 +331,45 @@ public class ListPattern extends Pattern implements Iterable<PrimitivePattern>,
    * Render the list pattern as a string.
    */
   public String toString () {
-    String result = "< ";
+    StringBuilder result = new StringBuilder ("< ");
     for (PrimitivePattern pattern : _list) {
-      result += pattern.toString () + " ";
+      result.append (pattern.toString ()).append (" ");
     }
-    if (_finished) result += "$ ";
+    if (_finished) result.append ("$ ");
 
-    return result + ">";
+    return result.append (">").toString ();
   }
 
   public boolean contains (PrimitivePattern given) {
-    for (PrimitivePattern item : _list) {
-      if (item.equals (given)) return true;
-    }
-    return false;
+    return _list.contains (given);
   }
 
   /**
    * Compare this list pattern with a given list pattern, returning true if 
-   * the two share k or more items.
+   * the two share k or more items.  An item occurring more than once is 
+   * shared at most as many times as it occurs in both patterns.
+   *
+   * To compare one pattern with many others, use a {@link PatternSimilarity}.
    */
   public boolean isSimilarTo (ListPattern pattern, int k) {
-    int count = 0;
-
-    for (PrimitivePattern item : _list) {
-      if (pattern.contains (item)) {
-        count += 1;
-        // remove the matching item from pattern
-        ListPattern itemPattern = new ListPattern (_modality);
-        itemPattern.add (item);
-        pattern = pattern.remove (itemPattern);
-      } 
+    if (k <= 0) return true;
+    if (size () < k || pattern.size () < k) return false;
+
+    // count the items of the smaller pattern
+    if (size () <= pattern.size ()) {
+      return new PatternSimilarity (this).isSimilarTo (pattern, k);
+    } else {
+      return new PatternSimilarity (pattern).isSimilarTo (this, k);
     }
-    
-    return count >= k;
   }
 
   /**
    * Return a new list pattern with the items sorted using the given comparator.
    */
   public ListPattern sort (Comparator<PrimitivePattern> comparator) {
-    ListPattern result = new ListPattern (_modality);
-    List<PrimitivePattern> items = new ArrayList<PrimitivePattern> ();
-    for (PrimitivePattern pattern : _list) {
-      items.add (pattern);
-    }
-    Collections.sort (items, comparator);
-    for (PrimitivePattern pattern : items) {
-      result.add (pattern);
-    }
-    if (isFinished ()) {
-      result.setFinished ();
-    }
-    return result;
+    PrimitivePattern[] items = _list.toPatternArray ();
+    Arrays.sort (items, comparator);
+    return new ListPattern (_modality, new ListPatternItems (items), _finished);
   }
   
   /**
@@ -476,6 +441,22 @@ public class ListPattern extends Pattern implements Iterable<PrimitivePattern>,
     return result;
   }
 
+  /**
+   * Reads instances serialized with their items stored in a {@link 
+   * ListPatternItems} or, as by earlier versions, in a {@link java.util.List}.
+   */
+  private void readObject (ObjectInputStream input) throws IOException, ClassNotFoundException {
+    ObjectInputStream.GetField fields = input.readFields ();
+    Object items = fields.get ("_list", null);
+    if (items instanceof ListPatternItems) {
+      _list = (ListPatternItems)items;
+    } else {
+      _list = new ListPatternItems (((List<?>)items).toArray (new PrimitivePattern[0]));
+    }
+    _modality = (Modality)fields.get ("_modality", null);
+    _finished = fields.get ("_finished", false);
+  }
+
   /** 
    * Support iteration over the items of a list pattern.
    */
@@ -485,9 +466,9 @@ public class ListPattern extends Pattern implements Iterable<PrimitivePattern>,
   
   class ListPatternIterator implements Iterator<PrimitivePattern> {
     private int _index = 0;
-    private List<PrimitivePattern> _items;
+    private ListPatternItems _items;
 
-    ListPatternIterator (List<PrimitivePattern> items) {
+    ListPatternIterator (ListPatternItems items) {
       _items = items;
     }
 
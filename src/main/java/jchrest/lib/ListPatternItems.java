@@ -0,0 +1,166 @@
+package jchrest.lib;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * The items of a {@link jchrest.lib.ListPattern}, stored in a range of a
+ * {@link jchrest.lib.PrimitivePattern} array.
+ * <p>
+ * Since recognition and learning create many {@link jchrest.lib.ListPattern
+ * ListPatterns} that contain the same items as, or a suffix of the items of,
+ * another {@link jchrest.lib.ListPattern} (see {@link
+ * jchrest.lib.ListPattern#clone()} and {@link
+ * jchrest.lib.ListPattern#remove(jchrest.lib.ListPattern)}), instances can
+ * share their array with such {@link jchrest.lib.ListPattern ListPatterns}
+ * rather than copying it.  An instance that shares its array copies the items
+ * in its range into a new array before it is modified so sharing is not
+ * visible to users of {@link jchrest.lib.ListPattern}.
+ * <p>
+ * The hash code of an instance is calculated when first requested and cached
+ * until the instance is modified.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+final class ListPatternItems extends AbstractList<PrimitivePattern> implements RandomAccess, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final PrimitivePattern[] NO_ITEMS = new PrimitivePattern[0];
+
+  private transient PrimitivePattern[] _items;
+  private transient int _offset;
+  private transient int _size;
+  private transient boolean _shared;
+  private transient int _hash = 0;
+
+  ListPatternItems(){
+    this(NO_ITEMS, 0, 0, false);
+  }
+
+  /**
+   * @param items Must not be modified after this constructor is invoked.
+   */
+  ListPatternItems(PrimitivePattern[] items){
+    this(items, 0, items.length, false);
+  }
+
+  private ListPatternItems(PrimitivePattern[] items, int offset, int size, boolean shared){
+    this._items = items;
+    this._offset = offset;
+    this._size = size;
+    this._shared = shared;
+  }
+
+  /**
+   * @param from
+   *
+   * @return The items of {@link #this} from the index specified onwards.  The
+   * instance returned shares the array of {@link #this}.
+   */
+  ListPatternItems suffix(int from){
+    this._shared = true;
+    return new ListPatternItems(this._items, this._offset + from, this._size - from, true);
+  }
+
+  /**
+   * @param items
+   *
+   * @return A new instance containing the items of {@link #this} followed by
+   * the {@code items} specified.
+   */
+  ListPatternItems append(ListPatternItems items){
+    PrimitivePattern[] appended = Arrays.copyOfRange(this._items, this._offset, this._offset + this._size + items._size);
+    System.arraycopy(items._items, items._offset, appended, this._size, items._size);
+    return new ListPatternItems(appended);
+  }
+
+  /**
+   * @param item
+   *
+   * @return A new instance containing the items of {@link #this} followed by
+   * the {@code item} specified.
+   */
+  ListPatternItems append(PrimitivePattern item){
+    PrimitivePattern[] appended = Arrays.copyOfRange(this._items, this._offset, this._offset + this._size + 1);
+    appended[this._size] = item;
+    return new ListPatternItems(appended);
+  }
+
+  /**
+   * @return A copy of the items of {@link #this}.
+   */
+  PrimitivePattern[] toPatternArray(){
+    return Arrays.copyOfRange(this._items, this._offset, this._offset + this._size);
+  }
+
+  @Override
+  public PrimitivePattern get(int index){
+    if(index < 0 || index >= this._size){
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this._size);
+    }
+    return this._items[this._offset + index];
+  }
+
+  @Override
+  public int size(){
+    return this._size;
+  }
+
+  @Override
+  public boolean add(PrimitivePattern item){
+    if(this._shared || this._offset + this._size == this._items.length){
+      this._items = Arrays.copyOfRange(this._items, this._offset, this._offset + Math.max(4, this._size * 2));
+      this._offset = 0;
+      this._shared = false;
+    }
+    this._items[this._offset + this._size] = item;
+    this._size++;
+    this._hash = 0;
+    this.modCount++;
+    return true;
+  }
+
+  @Override
+  public boolean contains(Object item){
+    for(int i = this._offset, end = this._offset + this._size; i < end; i++){
+      if(this._items[i].equals(item)) return true;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode(){
+    int hash = this._hash;
+    if(hash == 0){
+      hash = 1;
+      for(int i = this._offset, end = this._offset + this._size; i < end; i++){
+        hash = 31 * hash + this._items[i].hashCode();
+      }
+      this._hash = hash;
+    }
+    return hash;
+  }
+
+  private void writeObject(ObjectOutputStream output) throws IOException {
+    output.defaultWriteObject();
+    output.writeInt(this._size);
+    for(int i = this._offset, end = this._offset + this._size; i < end; i++){
+      output.writeObject(this._items[i]);
+    }
+  }
+
+  private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+    input.defaultReadObject();
+    this._size = input.readInt();
+    this._items = new PrimitivePattern[this._size];
+    for(int i = 0; i < this._size; i++){
+      this._items[i] = (PrimitivePattern)input.readObject();
+    }
+  }
+}
@@ -3,28 +3,26 @@
 
 package jchrest.lib;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.ObjectStreamException;
 
 /**
  * The NumberPattern is a type of PrimitivePattern used to hold 
  * numbers.  The number is treated as a single object.  Instances 
- * of this class are immutable.
+ * of this class are immutable and interned, i.e. only one instance exists for 
+ * each number (see {@link jchrest.lib.Interner}) so instances are equal only 
+ * if they are identical.
  *
  * @author Peter C. R. Lane
  */
 public class NumberPattern extends PrimitivePattern {
 
   /**
-   * Static creator method attempts to retrieve a cached instance for given 
-   * number, else creates and returns a new NumberPattern instance.
+   * Static creator method retrieves the interned instance for given number, 
+   * else creates, interns and returns a new NumberPattern instance.  Can be 
+   * invoked by multiple threads concurrently.
    */
   public static NumberPattern create (int num) {
-    Integer number = new Integer (num);
-    if (!_cache.containsKey (number)) {
-      _cache.put (number, new NumberPattern (num));
-    }
-    return _cache.get (number);
+    return _interned.intern (num);
   }
 
   /** 
@@ -42,15 +40,12 @@ public class NumberPattern extends PrimitivePattern {
   }
 
   /**
-   * Two NumberPatterns are only equal if their stored numbers are the same.
+   * Two NumberPatterns are only equal if their stored numbers are the same,
+   * i.e. if they are the same instance.
    */
   @Override
   public boolean equals (Object pattern) {
-    if (pattern instanceof NumberPattern) {
-      return _number == ((NumberPattern)pattern).getNumber ();
-    } else {
-      return false;
-    }
+    return this == pattern;
   }
 
   @Override
@@ -64,11 +59,7 @@ public class NumberPattern extends PrimitivePattern {
    * Two NumberPatterns only match if their stored numbers are the same.
    */
   public boolean matches (Pattern pattern) {
-    if (pattern instanceof NumberPattern) {
-      return _number == ((NumberPattern)pattern).getNumber ();
-    } else {
-      return false;
-    }
+    return this == pattern;
   }
 
   /**
@@ -78,8 +69,15 @@ public class NumberPattern extends PrimitivePattern {
     return "" + _number;
   }
 
+  /**
+   * Replaces deserialized instances with the interned instance.
+   */
+  private Object readResolve () throws ObjectStreamException {
+    return create (_number);
+  }
+
   // private fields
   private final int _number;
-  private static final Map<Integer, NumberPattern> _cache = new HashMap<Integer, NumberPattern> ();
+  private static final Interner<Integer, NumberPattern> _interned = new Interner<> (NumberPattern::new);
 }
 
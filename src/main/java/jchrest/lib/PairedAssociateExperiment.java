@@ -1,6 +1,7 @@
 package jchrest.lib;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -8,7 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Observable;
-import java.util.Random;
+import java.util.SplittableRandom;
 import javax.swing.JOptionPane;
 import jchrest.architecture.Chrest;
 
@@ -397,39 +398,21 @@ public class PairedAssociateExperiment extends Observable{
       // 1) Make a copy of this Map's current contents so that the priority for 
       //    a stimulus-response pair can be assigned to the correct 
       //    stimulus-response pair after the shuffle.
-      // 2) Create an ArrayList using the Map's keys since ArrayList elements 
-      //    can be randomly accessed using random numbers. 
-      // 3) Clear the current stimulus-response-priorities Map for repopulation.
+      // 2) Create an ArrayList using the Map's keys and shuffle it using the 
+      //    model's source of random choices so that the order is reproducible 
+      //    if the model is seeded (see Chrest.setRandomSeed()).
+      // 3) Clear the current stimulus-response-priorities Map and repopulate 
+      //    it in the shuffled order.
       LinkedHashMap<PairedPattern, Integer> stimulusResponsePrioritiesBeforeShuffle = new LinkedHashMap<>(_currentStimulusResponsePairsAndPriorities);
       ArrayList<PairedPattern> stimulusResponsePairs = new ArrayList<>(stimulusResponsePrioritiesBeforeShuffle.keySet());
-      _currentStimulusResponsePairsAndPriorities.clear();
-      
-      //Now, randomly select stimulus-response pairs from the ArrayList 
-      //generated above and use this to put the stimulus-response pair and its
-      //current priority into the now empty current stimulus-response-priority 
-      //Map.
-      Random random = new Random();
-      random.setSeed(System.currentTimeMillis()); //Important: ensures that different series of random numbers are produced everytime (hopefully!)
-      List<Integer> stimulusResponsePairsSelected = new ArrayList<>();
-      Integer stimulusResponsePairSelected = random.nextInt(stimulusResponsePrioritiesBeforeShuffle.size());
+      SplittableRandom random = this._model.getRandom();
+      for(int i = stimulusResponsePairs.size() - 1; i > 0; i--){
+        Collections.swap(stimulusResponsePairs, i, random.nextInt(i + 1));
+      }
       
-      //Whilst the size of the shuffled stimulus-response-priorities data 
-      //structure is less than the size of the previous 
-      //stimulus-response-priorities data structure, add a randomly selected 
-      //stimulus-response-priority entry to the shuffled structure.
-      while( _currentStimulusResponsePairsAndPriorities.size() < stimulusResponsePrioritiesBeforeShuffle.size() ){
-        
-        //While the random number generated has already been used (indicating 
-        //that a stimulus-response pair has already been reassigned or shuffled)
-        //generate a new random number.
-        while(stimulusResponsePairsSelected.contains(stimulusResponsePairSelected)){
-          random.setSeed(System.currentTimeMillis()); //Important: ensures that different series of random numbers are produced everytime (hopefully!)
-          stimulusResponsePairSelected = random.nextInt(stimulusResponsePrioritiesBeforeShuffle.size());
-        }
-        
-        PairedPattern stimulusResponsePair = stimulusResponsePairs.get(stimulusResponsePairSelected);
+      _currentStimulusResponsePairsAndPriorities.clear();
+      for(PairedPattern stimulusResponsePair : stimulusResponsePairs){
         _currentStimulusResponsePairsAndPriorities.put(stimulusResponsePair, stimulusResponsePrioritiesBeforeShuffle.get(stimulusResponsePair));
-        stimulusResponsePairsSelected.add(stimulusResponsePairSelected);
       }
       
       _stimulusResponsePairsShuffledForTrial = true;
@@ -0,0 +1,616 @@
+package jchrest.lib;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SplittableRandom;
+import jchrest.architecture.Chrest;
+
+/**
+ * Runs an experiment with many configurations of {@link
+ * jchrest.architecture.Chrest} model parameters, e.g. {@link
+ * jchrest.architecture.Chrest#setRho(float)} or the capacity of a {@link
+ * jchrest.architecture.Stm}, on a work-stealing pool (see {@link
+ * jchrest.lib.ExperimentRunner}) so that the parameters can be tuned.
+ * <p>
+ * The configurations run are either every combination of the values of the
+ * {@link ParameterSweep.Parameter Parameters} swept (see {@link
+ * #grid(int, long)}) or combinations chosen at random (see {@link #random(int,
+ * int, long)}).  Each configuration includes the seed of its run so a
+ * configuration always produces the same result if its experiment makes random
+ * choices using the seed.
+ * <p>
+ * The result of every configuration run is saved in the cache directory
+ * specified when {@link #this} is constructed.  When a configuration is run
+ * again, e.g. when a sweep is resumed after being interrupted, its saved result
+ * is returned rather than running the experiment again.  Results are written to
+ * a temporary file that is then renamed so an interrupted sweep never leaves a
+ * partially written result.  Since results are identified by the values of
+ * the configuration they were produced by, a new cache directory should be
+ * used when the experiment changes.
+ * <p>
+ * The models that experiments run on can be pre-trained (see {@link
+ * #setPretraining(int, jchrest.lib.ExperimentRunner.Experiment)}).  A model is
+ * pre-trained once for each combination of values of the first {@link
+ * ParameterSweep.Parameter Parameters} swept, the long-term memory of the model
+ * is saved in the cache directory as a {@link
+ * jchrest.architecture.LtmSnapshot} and every configuration with the same
+ * values for these {@link ParameterSweep.Parameter Parameters} then runs on a
+ * model whose long-term memory is restored from the snapshot.
+ *
+ * @param <R> The type of the results produced by the experiment.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public class ParameterSweep<R extends Serializable> {
+
+  private static final String RESULT_FILE_EXTENSION = ".result";
+  private static final String SNAPSHOT_FILE_EXTENSION = ".ltms";
+
+  private final List<Parameter> _parameters;
+  private final ExperimentRunner.Experiment<Configuration, R> _experiment;
+  private final File _cacheDirectory;
+
+  private ExperimentRunner.ModelFactory<Configuration> _modelFactory = (configuration, seed) -> new Chrest(0, false);
+  private int _parallelism = Runtime.getRuntime().availableProcessors();
+  private int _pretrainingParameters = 0;
+  private ExperimentRunner.Experiment<Configuration, ?> _pretraining = null;
+
+  /**
+   * @param parameters The {@link ParameterSweep.Parameter Parameters} to
+   * sweep, in the order they are applied to a model.
+   * @param experiment
+   * @param cacheDirectory Created if it does not exist.
+   */
+  public ParameterSweep(List<Parameter> parameters, ExperimentRunner.Experiment<Configuration, R> experiment, File cacheDirectory){
+    List<String> names = new ArrayList<>();
+    for(Parameter parameter : parameters){
+      if(names.contains(parameter.getName())){
+        throw new IllegalArgumentException("More than one parameter is named " + parameter.getName());
+      }
+      names.add(parameter.getName());
+    }
+
+    this._parameters = new ArrayList<>(parameters);
+    this._experiment = experiment;
+    this._cacheDirectory = cacheDirectory;
+  }
+
+  /**
+   * @param modelFactory Creates the models that are not pre-trained, before
+   * the values of a configuration are applied to them.  Creates models using
+   * {@link jchrest.architecture.Chrest#Chrest(int, boolean)} at time 0 by
+   * default.
+   */
+  public void setModelFactory(ExperimentRunner.ModelFactory<Configuration> modelFactory){
+    this._modelFactory = modelFactory;
+  }
+
+  /**
+   * @param parallelism The maximum number of configurations to run
+   * concurrently.  Set to the number of processors available by default.
+   */
+  public void setParallelism(int parallelism){
+    if(parallelism < 1){
+      throw new IllegalArgumentException("The parallelism specified (" + parallelism + ") is less than 1");
+    }
+    this._parallelism = parallelism;
+  }
+
+  /**
+   * Pre-trains models before configurations are run on them.
+   * <p>
+   * The {@code pretraining} specified is run on a model created by the model
+   * factory (see {@link
+   * #setModelFactory(jchrest.lib.ExperimentRunner.ModelFactory)}) once for each
+   * combination of values of the first {@code parameters} specified that a
+   * configuration run has, with those values applied to the model.  The
+   * long-term memory of the model when the {@code pretraining} finishes is
+   * then restored at time 0 in a new model for each configuration run with
+   * those values (see {@link jchrest.architecture.Chrest#Chrest(String, int)})
+   * and every value of the configuration applied before the experiment is
+   * run.  Only long-term memory is restored so the model factory is not used
+   * to create models for configurations when models are pre-trained.
+   *
+   * @param parameters The number of {@link ParameterSweep.Parameter
+   * Parameters} whose values affect {@code pretraining}.
+   * @param pretraining The {@link ParameterSweep.Configuration} passed to it
+   * only contains values for the first {@code parameters}.
+   */
+  public void setPretraining(int parameters, ExperimentRunner.Experiment<Configuration, ?> pretraining){
+    if(parameters < 0 || parameters > this._parameters.size()){
+      throw new IllegalArgumentException(
+        "The number of parameters specified (" + parameters + ") is less than 0 or greater than the number of parameters swept (" +
+        this._parameters.size() + ")"
+      );
+    }
+    this._pretrainingParameters = parameters;
+    this._pretraining = pretraining;
+  }
+
+  /**
+   * @param runsPerCombination
+   * @param seed
+   *
+   * @return {@code runsPerCombination} {@link ParameterSweep.Configuration
+   * Configurations} for every combination of the values of the {@link
+   * ParameterSweep.Parameter Parameters} swept, with seeds generated from the
+   * {@code seed} specified.  The values of the last {@link
+   * ParameterSweep.Parameter} vary fastest.
+   */
+  public List<Configuration> grid(int runsPerCombination, long seed){
+    SplittableRandom seeds = new SplittableRandom(seed);
+    List<Configuration> configurations = new ArrayList<>();
+
+    int[] valueIndexes = new int[this._parameters.size()];
+    while(true){
+      LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+      for(int p = 0; p < valueIndexes.length; p++){
+        Parameter parameter = this._parameters.get(p);
+        values.put(parameter.getName(), parameter.getValues().get(valueIndexes[p]));
+      }
+      for(int run = 0; run < runsPerCombination; run++){
+        configurations.add(new Configuration(values, run, seeds.nextLong()));
+      }
+
+      int p = valueIndexes.length - 1;
+      while(p >= 0 && ++valueIndexes[p] == this._parameters.get(p).getValues().size()){
+        valueIndexes[p] = 0;
+        p--;
+      }
+      if(p < 0) return configurations;
+    }
+  }
+
+  /**
+   * @param combinations
+   * @param runsPerCombination
+   * @param seed
+   *
+   * @return {@code runsPerCombination} {@link ParameterSweep.Configuration
+   * Configurations} for each of the {@code combinations} specified, whose
+   * values are chosen uniformly at random from the values of each {@link
+   * ParameterSweep.Parameter} swept using the {@code seed} specified (so the
+   * same combinations are returned whenever the same {@code seed} is
+   * specified).  A combination may be chosen more than once.
+   */
+  public List<Configuration> random(int combinations, int runsPerCombination, long seed){
+    SplittableRandom random = new SplittableRandom(seed);
+    List<Configuration> configurations = new ArrayList<>();
+
+    for(int c = 0; c < combinations; c++){
+      LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+      for(Parameter parameter : this._parameters){
+        values.put(parameter.getName(), parameter.getValues().get(random.nextInt(parameter.getValues().size())));
+      }
+      for(int run = 0; run < runsPerCombination; run++){
+        configurations.add(new Configuration(values, run, random.nextLong()));
+      }
+    }
+
+    return configurations;
+  }
+
+  /**
+   * Runs the experiment with each of the {@code configurations} specified
+   * whose result is not saved in the cache directory.
+   *
+   * @param configurations
+   *
+   * @return The {@link ExperimentRunner.Run Runs}, in the order of the {@code
+   * configurations} specified, including those whose results were saved.
+   *
+   * @throws IOException If the cache directory can not be created.
+   * @throws InterruptedException See {@link
+   * jchrest.lib.ExperimentRunner#run(java.util.List, int, long)}.  Results of
+   * configurations that finished before the interruption are saved.
+   */
+  public List<ExperimentRunner.Run<Configuration, R>> run(List<Configuration> configurations) throws IOException, InterruptedException{
+    Files.createDirectories(this._cacheDirectory.toPath());
+
+    Map<Configuration, ExperimentRunner.Run<Configuration, R>> runs = new HashMap<>();
+    LinkedHashSet<Configuration> configurationsToRun = new LinkedHashSet<>();
+    for(Configuration configuration : configurations){
+      if(!runs.containsKey(configuration) && !configurationsToRun.contains(configuration)){
+        ExperimentRunner.Run<Configuration, R> savedRun = this.readResult(configuration);
+        if(savedRun != null){
+          runs.put(configuration, savedRun);
+        }
+        else{
+          configurationsToRun.add(configuration);
+        }
+      }
+    }
+
+    if(this._pretraining != null) this.pretrain(configurationsToRun);
+
+    ExperimentRunner<Configuration, R> runner = new ExperimentRunner<>(
+      (ExperimentRunner.ModelFactory<Configuration>)this::createModel,
+      (ExperimentRunner.Experiment<Configuration, R>)(model, configuration, seed) -> {
+        R result = this._experiment.run(model, configuration, seed);
+        this.writeResult(configuration, result);
+        return result;
+      },
+      this._parallelism
+    );
+    for(ExperimentRunner.Run<Configuration, R> run : runner.run(new ArrayList<>(configurationsToRun), Configuration::getSeed)){
+      runs.put(run.getParameters(), run);
+    }
+
+    List<ExperimentRunner.Run<Configuration, R>> orderedRuns = new ArrayList<>();
+    for(Configuration configuration : configurations){
+      orderedRuns.add(runs.get(configuration));
+    }
+    return orderedRuns;
+  }
+
+  /**
+   * Pre-trains a model for each combination of pre-training parameter values
+   * of the {@code configurations} specified whose snapshot is not saved.
+   */
+  private void pretrain(Collection<Configuration> configurations) throws InterruptedException{
+    LinkedHashSet<Configuration> pretrainingConfigurations = new LinkedHashSet<>();
+    for(Configuration configuration : configurations){
+      Configuration pretrainingConfiguration = configuration.getPretrainingConfiguration(this._pretrainingParameters);
+      if(
+        !pretrainingConfigurations.contains(pretrainingConfiguration) &&
+        !this.getCacheFile(pretrainingConfiguration, SNAPSHOT_FILE_EXTENSION).exists()
+      ){
+        pretrainingConfigurations.add(pretrainingConfiguration);
+      }
+    }
+
+    //A pre-training run that fails leaves no snapshot so the configurations
+    //that depend on it fail when their models are created.
+    new ExperimentRunner<Configuration, Object>(
+      (configuration, seed) -> this.applyValues(this._modelFactory.createModel(configuration, seed), configuration),
+      (model, configuration, seed) -> {
+        this._pretraining.run(model, configuration, seed);
+        File snapshot = this.getCacheFile(configuration, SNAPSHOT_FILE_EXTENSION);
+        File temporarySnapshot = this.getTemporaryFile(snapshot);
+        model.saveLtmState(temporarySnapshot.getAbsolutePath(), model.getMaximumClockValue());
+        if(!temporarySnapshot.exists()){
+          throw new IOException("The long-term memory of the model pre-trained for " + configuration + " could not be saved");
+        }
+        Files.move(temporarySnapshot.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return null;
+      },
+      this._parallelism
+    ).run(new ArrayList<>(pretrainingConfigurations), Configuration::getSeed);
+  }
+
+  private Chrest createModel(Configuration configuration, long seed) throws Exception{
+    if(this._pretraining == null){
+      return this.applyValues(this._modelFactory.createModel(configuration, seed), configuration);
+    }
+
+    Configuration pretrainingConfiguration = configuration.getPretrainingConfiguration(this._pretrainingParameters);
+    File snapshot = this.getCacheFile(pretrainingConfiguration, SNAPSHOT_FILE_EXTENSION);
+    if(!snapshot.exists()){
+      throw new IOException("No model was pre-trained for " + pretrainingConfiguration);
+    }
+    return this.applyValues(new Chrest(snapshot.getAbsolutePath(), 0), configuration);
+  }
+
+  private Chrest applyValues(Chrest model, Configuration configuration) throws Exception{
+    for(Parameter parameter : this._parameters){
+      if(configuration.getValues().containsKey(parameter.getName())){
+        parameter.apply(model, configuration.get(parameter.getName()));
+      }
+    }
+    return model;
+  }
+
+  //The result read was written by writeResult() for a configuration with the
+  //same key.
+  @SuppressWarnings("unchecked")
+  private ExperimentRunner.Run<Configuration, R> readResult(Configuration configuration) throws IOException{
+    File resultFile = this.getCacheFile(configuration, RESULT_FILE_EXTENSION);
+    if(resultFile.exists()){
+      try(ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(resultFile)))){
+
+        //The key is saved with the result in case two keys have the same
+        //digest.
+        if(configuration.getKey().equals(input.readUTF())){
+          return new ExperimentRunner.Run<>(configuration, configuration.getSeed(), (R)input.readObject(), null);
+        }
+      }
+      catch(ClassNotFoundException | ClassCastException e){
+        throw new IOException("The result saved for " + configuration + " can not be read", e);
+      }
+    }
+    return null;
+  }
+
+  private void writeResult(Configuration configuration, R result) throws IOException{
+    File resultFile = this.getCacheFile(configuration, RESULT_FILE_EXTENSION);
+    File temporaryResultFile = this.getTemporaryFile(resultFile);
+    try(ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryResultFile)))){
+      output.writeUTF(configuration.getKey());
+      output.writeObject(result);
+    }
+    Files.move(temporaryResultFile.toPath(), resultFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private File getCacheFile(Configuration configuration, String extension){
+    try{
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(configuration.getKey().getBytes(StandardCharsets.UTF_8));
+      StringBuilder fileName = new StringBuilder();
+      for(byte b : digest){
+        fileName.append(String.format("%02x", b));
+      }
+      return new File(this._cacheDirectory, fileName.append(extension).toString());
+    }
+    catch(NoSuchAlgorithmException e){
+
+      //Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private File getTemporaryFile(File file){
+    return new File(file.getParentFile(), file.getName() + "." + Thread.currentThread().getId() + ".tmp");
+  }
+
+  /**
+   * A model parameter that can be swept and the values it is swept over.
+   */
+  public static final class Parameter {
+
+    /**
+     * Applies the value of a {@link ParameterSweep.Parameter} to a model.
+     */
+    @FunctionalInterface
+    public interface Setter {
+      void set(Chrest model, Object value) throws Exception;
+    }
+
+    private final String _name;
+    private final List<Object> _values;
+    private final Setter _setter;
+
+    /**
+     * @param name Identifies the {@link #this} in {@link
+     * ParameterSweep.Configuration Configurations}.  Must be unique among the
+     * {@link ParameterSweep.Parameter Parameters} swept.
+     * @param setter
+     * @param values Must not be modified during a sweep.
+     */
+    public Parameter(String name, Setter setter, List<?> values){
+      if(values.isEmpty()){
+        throw new IllegalArgumentException("No values are specified for " + name);
+      }
+      this._name = name;
+      this._values = Collections.unmodifiableList(new ArrayList<>(values));
+      this._setter = setter;
+    }
+
+    /**
+     * @param property The name of a {@link jchrest.architecture.Chrest} setter
+     * without its "set" prefix, e.g. "Rho" for {@link
+     * jchrest.architecture.Chrest#setRho(float)}.
+     * @param values The values to invoke the setter with.  The value passed to
+     * a setter with more than one parameter must be an {@link
+     * java.lang.Object} array containing its arguments, e.g. {@code new
+     * Object[]{3, 2}} for {@link
+     * jchrest.architecture.Chrest#setTemplateConstructionParameters(int,
+     * int)}.  {@link java.lang.Number Numbers} are converted to the type of
+     * the setter parameter.
+     *
+     * @return A {@link ParameterSweep.Parameter} named {@code property}.
+     */
+    public static Parameter setter(String property, List<?> values){
+      String setterName = "set" + property;
+      int arguments = values.get(0) instanceof Object[] ? ((Object[])values.get(0)).length : 1;
+
+      List<Method> setters = new ArrayList<>();
+      for(Method method : Chrest.class.getMethods()){
+        if(method.getName().equals(setterName) && method.getParameterCount() == arguments){
+          setters.add(method);
+        }
+      }
+      if(setters.isEmpty()){
+        throw new IllegalArgumentException("Chrest has no public " + setterName + " function with " + arguments + " parameters");
+      }
+
+      //If the setter is overloaded, the order of Class.getMethods() is 
+      //unspecified so the setter whose parameter types match the type of every
+      //value exactly must be used.
+      Method setter = setters.get(0);
+      if(setters.size() > 1){
+        List<Method> exactSetters = new ArrayList<>();
+        for(Method method : setters){
+          if(values.stream().allMatch(value -> Parameter.matchesExactly(method, value))) exactSetters.add(method);
+        }
+        if(exactSetters.size() != 1){
+          throw new IllegalArgumentException(
+            "Chrest has " + setters.size() + " public " + setterName + " functions with " + arguments + 
+            " parameters and the values specified match the parameter types of " + exactSetters.size() + " of them exactly"
+          );
+        }
+        setter = exactSetters.get(0);
+      }
+
+      Method chrestSetter = setter;
+      return new Parameter(property, (model, value) -> {
+        Object[] valueArguments = value instanceof Object[] ? (Object[])value : new Object[]{value};
+        Class<?>[] parameterTypes = chrestSetter.getParameterTypes();
+        Object[] setterArguments = new Object[valueArguments.length];
+        for(int i = 0; i < valueArguments.length; i++){
+          setterArguments[i] = Parameter.convert(valueArguments[i], parameterTypes[i]);
+        }
+
+        try{
+          chrestSetter.invoke(model, setterArguments);
+        }
+        catch(InvocationTargetException e){
+          throw e.getCause() instanceof Exception ? (Exception)e.getCause() : e;
+        }
+      }, values);
+    }
+
+    /**
+     * @param modality
+     * @param capacities
+     *
+     * @return A {@link ParameterSweep.Parameter} that sets the capacity of the
+     * {@link jchrest.architecture.Stm} with the {@code modality} specified when
+     * a model is created (see {@link
+     * jchrest.architecture.Stm#setCapacity(int, int)}).
+     */
+    public static Parameter stmCapacity(Modality modality, List<? extends Number> capacities){
+      return new Parameter(
+        modality.toString().toLowerCase() + "StmCapacity",
+        (model, capacity) -> model.getStm(modality).setCapacity(((Number)capacity).intValue(), model.getCreationTime()),
+        capacities
+      );
+    }
+
+    /**
+     * @return Whether the arguments in the {@code value} specified (see {@link 
+     * #setter(java.lang.String, java.util.List)}) are instances of the 
+     * parameter types of the {@code setter} specified without being 
+     * converted.
+     */
+    private static boolean matchesExactly(Method setter, Object value){
+      Object[] valueArguments = value instanceof Object[] ? (Object[])value : new Object[]{value};
+      Class<?>[] parameterTypes = setter.getParameterTypes();
+      for(int i = 0; i < valueArguments.length; i++){
+        Class<?> type = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+        if(valueArguments[i] == null ? parameterTypes[i].isPrimitive() : !type.isInstance(valueArguments[i])) return false;
+      }
+      return true;
+    }
+
+    private static Object convert(Object value, Class<?> type){
+      if(value instanceof Number){
+        Number number = (Number)value;
+        if(type == int.class || type == Integer.class) return number.intValue();
+        if(type == float.class || type == Float.class) return number.floatValue();
+        if(type == double.class || type == Double.class) return number.doubleValue();
+        if(type == long.class || type == Long.class) return number.longValue();
+      }
+      return value;
+    }
+
+    public String getName(){
+      return this._name;
+    }
+
+    public List<Object> getValues(){
+      return this._values;
+    }
+
+    void apply(Chrest model, Object value) throws Exception{
+      this._setter.set(model, value);
+    }
+  }
+
+  /**
+   * The values of the {@link ParameterSweep.Parameter Parameters} swept for a
+   * run, which run of these values it is and the seed of the run.
+   * Configurations with the same values, run and seed are equal.
+   */
+  public static final class Configuration {
+    private final LinkedHashMap<String, Object> _values;
+    private final int _run;
+    private final long _seed;
+    private final String _key;
+
+    Configuration(LinkedHashMap<String, Object> values, int run, long seed){
+      this._values = new LinkedHashMap<>(values);
+      this._run = run;
+      this._seed = seed;
+
+      StringBuilder key = new StringBuilder();
+      for(Entry<String, Object> value : values.entrySet()){
+        Object v = value.getValue();
+        key.append(value.getKey()).append('=').append(v instanceof Object[] ? Arrays.deepToString((Object[])v) : String.valueOf(v)).append(';');
+      }
+      this._key = key.append("run=").append(run).append(";seed=").append(seed).toString();
+    }
+
+    /**
+     * @return The values of the first {@code parameters} of {@link #this}
+     * with a seed generated from these values.
+     */
+    Configuration getPretrainingConfiguration(int parameters){
+      LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+      for(Entry<String, Object> value : this._values.entrySet()){
+        if(values.size() == parameters) break;
+        values.put(value.getKey(), value.getValue());
+      }
+      return new Configuration(values, 0, new Configuration(values, 0, 0).getKey().hashCode());
+    }
+
+    /**
+     * @param parameter
+     *
+     * @return The value of the {@link ParameterSweep.Parameter} named.
+     */
+    public Object get(String parameter){
+      return this._values.get(parameter);
+    }
+
+    public Map<String, Object> getValues(){
+      return Collections.unmodifiableMap(this._values);
+    }
+
+    /**
+     * @return Which run of the values of {@link #this} it is, starting at 0.
+     */
+    public int getRun(){
+      return this._run;
+    }
+
+    public long getSeed(){
+      return this._seed;
+    }
+
+    /**
+     * @return A {@link java.lang.String} that identifies {@link #this}.
+     */
+    public String getKey(){
+      return this._key;
+    }
+
+    @Override
+    public boolean equals(Object object){
+      return object instanceof Configuration && ((Configuration)object)._key.equals(this._key);
+    }
+
+    @Override
+    public int hashCode(){
+      return this._key.hashCode();
+    }
+
+    @Override
+    public String toString(){
+      return this._key;
+    }
+  }
+}
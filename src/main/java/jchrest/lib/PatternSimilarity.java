@@ -0,0 +1,102 @@
+package jchrest.lib;
+
+import java.util.HashMap;
+
+/**
+ * Counts the {@link jchrest.lib.PrimitivePattern PrimitivePatterns} that a
+ * {@link jchrest.lib.ListPattern} shares with other {@link
+ * jchrest.lib.ListPattern ListPatterns}, i.e. the size of the multiset
+ * intersection of their items, in time linear in the size of the other {@link
+ * jchrest.lib.ListPattern ListPatterns}.
+ * <p>
+ * The items of the {@link jchrest.lib.ListPattern} specified when an instance
+ * is constructed are counted once so an instance should be reused when one
+ * {@link jchrest.lib.ListPattern} is compared with many others, e.g. when
+ * {@link jchrest.architecture.Node} images are compared to determine if
+ * semantic links should be created between them.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public final class PatternSimilarity {
+
+  //Maps each distinct item in the pattern to an index in the arrays below.
+  private final HashMap<PrimitivePattern, Integer> _itemIndexes = new HashMap<>();
+  private final int[] _itemCounts;
+  private final int[] _itemsShared;
+  private final int[] _indexesShared;
+
+  /**
+   * @param pattern The {@link jchrest.lib.ListPattern} that other {@link
+   * jchrest.lib.ListPattern ListPatterns} will be compared with.  Changes to
+   * the {@code pattern} after this constructor is invoked are not reflected in
+   * comparisons.
+   */
+  public PatternSimilarity(ListPattern pattern){
+    int[] itemCounts = new int[pattern.size()];
+    for(PrimitivePattern item : pattern){
+      Integer index = this._itemIndexes.get(item);
+      if(index == null){
+        index = this._itemIndexes.size();
+        this._itemIndexes.put(item, index);
+      }
+      itemCounts[index]++;
+    }
+
+    this._itemCounts = itemCounts;
+    this._itemsShared = new int[itemCounts.length];
+    this._indexesShared = new int[itemCounts.length];
+  }
+
+  /**
+   * @param pattern
+   * @param limit
+   *
+   * @return The number of items that the {@link jchrest.lib.ListPattern}
+   * specified when {@link #this} was constructed shares with the {@code
+   * pattern} specified (each item being shared at most as many times as it
+   * occurs in both) or the {@code limit} specified, whichever is smaller.
+   * Counting stops as soon as the {@code limit} is reached.
+   */
+  public int countSharedItems(ListPattern pattern, int limit){
+    int shared = 0;
+    int indexesShared = 0;
+
+    for(int i = 0, size = pattern.size(); i < size && shared < limit; i++){
+      Integer index = this._itemIndexes.get(pattern.getItem(i));
+      if(index != null && this._itemsShared[index] < this._itemCounts[index]){
+        if(this._itemsShared[index] == 0) this._indexesShared[indexesShared++] = index;
+        this._itemsShared[index]++;
+        shared++;
+      }
+    }
+
+    //Only reset the counts changed so that comparing with a small pattern
+    //remains cheap when the pattern specified at construction is large.
+    for(int i = 0; i < indexesShared; i++){
+      this._itemsShared[this._indexesShared[i]] = 0;
+    }
+
+    return shared;
+  }
+
+  /**
+   * @param pattern
+   * @param threshold
+   *
+   * @return Whether the {@link jchrest.lib.ListPattern} specified when {@link
+   * #this} was constructed shares {@code threshold} or more items with the
+   * {@code pattern} specified (see {@link
+   * #countSharedItems(jchrest.lib.ListPattern, int)}).
+   */
+  public boolean isSimilarTo(ListPattern pattern, int threshold){
+    return
+      threshold <= 0 ||
+      (
+        Math.min(pattern.size(), this._itemCounts.length) >= threshold &&
+        this.countSharedItems(pattern, threshold) >= threshold
+      )
+    ;
+  }
+}
@@ -0,0 +1,112 @@
+package jchrest.lib;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable {@link java.util.List} consisting of one element followed by
+ * the elements of another {@link java.util.List}.
+ * <p>
+ * Should be used when a new entry in a {@link jchrest.lib.HistoryTreeMap} is
+ * created by prepending an element to the {@link java.util.List} stored in the
+ * most recent entry.  Elements are stored in an array in reverse order so,
+ * when an element is prepended to an instance that is the most recent entry,
+ * the new entry stores the element in the next free slot of the array of the
+ * most recent entry rather than copying every element of the most recent
+ * entry into a new {@link java.util.List}.  The array is only copied when it
+ * is full (when its capacity is doubled) or when an element has already been
+ * prepended to the instance.  This means that storing a history containing
+ * <i>n</i> entries, each of which adds one element, requires memory and time
+ * proportional to <i>n</i> rather than <i>n</i> squared whilst elements can
+ * still be accessed by index in constant time.
+ * <p>
+ * Since entries in a {@link jchrest.lib.HistoryTreeMap} are never modified, the
+ * {@link java.util.List} that elements are prepended to must not be modified
+ * after an instance is constructed.  Instances can not be modified either: all
+ * functions inherited from {@link java.util.AbstractList} that modify a {@link
+ * java.util.List} throw a {@link java.lang.UnsupportedOperationException}.
+ * Like a {@link jchrest.lib.HistoryTreeMap}, instances should not be
+ * constructed concurrently by multiple threads using the same {@link
+ * java.util.List}.
+ *
+ * @param <E>
+ *
+ * @author Martyn Lloyd-Kelly <martynlk@liverpool.ac.uk>
+ */
+public final class PrependedList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  //The array that the elements of an instance are stored in, last element
+  //first, and the number of slots in the array used by the instances that
+  //share it.
+  private static final class Elements {
+    private final Object[] _array;
+    private int _used;
+
+    private Elements(int capacity){
+      this._array = new Object[capacity];
+    }
+  }
+
+  private final Elements _elements;
+  private final int _size;
+
+  /**
+   * @param head The element that will be the first element of {@link #this}.
+   * @param tail The elements that will follow the {@code head} specified, in
+   * the order specified.  Must not be modified after {@link #this} is
+   * constructed.
+   */
+  public PrependedList(E head, List<E> tail){
+    this._size = tail.size() + 1;
+
+    PrependedList<E> prependedList = tail instanceof PrependedList ? (PrependedList<E>)tail : null;
+    if(
+      prependedList != null &&
+      prependedList._elements._used == prependedList._size &&
+      prependedList._size < prependedList._elements._array.length
+    ){
+      this._elements = prependedList._elements;
+    }
+    else{
+      this._elements = new Elements(Math.max(4, this._size * 2));
+      if(prependedList != null){
+        System.arraycopy(prependedList._elements._array, 0, this._elements._array, 0, prependedList._size);
+      }
+      else{
+        Object[] tailElements = tail.toArray();
+        for(int i = 0; i < tailElements.length; i++){
+          this._elements._array[tailElements.length - 1 - i] = tailElements[i];
+        }
+      }
+    }
+
+    this._elements._array[this._size - 1] = head;
+    this._elements._used = this._size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index){
+    if(index < 0 || index >= this._size){
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this._size);
+    }
+    return (E)this._elements._array[this._size - 1 - index];
+  }
+
+  @Override
+  public int size(){
+    return this._size;
+  }
+
+  //Serialize instances as an ArrayList so that the slots of a shared array
+  //used by other instances are not written.
+  private Object writeReplace() throws ObjectStreamException {
+    return new ArrayList<>(this);
+  }
+}
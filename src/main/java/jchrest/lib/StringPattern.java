@@ -3,29 +3,28 @@
 
 package jchrest.lib;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.ObjectStreamException;
 import java.util.Objects;
 
 /**
  * The StringPattern is a type of PrimitivePattern used to hold 
  * Strings.  The String is treated as a single object, and 
  * cannot be decomposed into smaller elements, such as letters.
- * Instances of this class are immutable.
+ * Instances of this class are immutable and interned, i.e. only one instance
+ * exists for each String (see {@link jchrest.lib.Interner}) so instances are
+ * equal only if they are identical.
  *
  * @author Peter C. R. Lane
  */
 public class StringPattern extends PrimitivePattern {
 
   /**
-   * Static creator method tries to retrieve a cached pattern for given string,
-   * else creates and returns a new instance of StringPattern.
+   * Static creator method retrieves the interned pattern for given string,
+   * else creates, interns and returns a new instance of StringPattern.  Can be
+   * invoked by multiple threads concurrently.
    */
   public static StringPattern create (String name) {
-    if (!_cache.containsKey (name)) {
-      _cache.put (name, new StringPattern (name));
-    }
-    return _cache.get (name);
+    return _interned.intern (name);
   }
 
   /** 
@@ -44,15 +43,11 @@ public class StringPattern extends PrimitivePattern {
 
   /**
    * Two StringPatterns are only equal if their stored names 
-   * are the same.
+   * are the same, i.e. if they are the same instance.
    */
   @Override
   public boolean equals (Object pattern) {
-    if (pattern instanceof StringPattern) {
-      return _name.equals (((StringPattern)pattern).getString ());
-    } else {
-      return false;
-    }
+    return this == pattern;
   }
 
   @Override
@@ -66,11 +61,7 @@ public class StringPattern extends PrimitivePattern {
    * Two StringPatterns only match if their stored names are the same.
    */
   public boolean matches (Pattern pattern) {
-    if (pattern instanceof StringPattern) {
-      return _name.equals (((StringPattern)pattern).getString ());
-    } else {
-      return false;
-    }
+    return this == pattern;
   }
 
   /**
@@ -80,8 +71,15 @@ public class StringPattern extends PrimitivePattern {
     return _name;
   }
 
+  /**
+   * Replaces deserialized instances with the interned instance.
+   */
+  private Object readResolve () throws ObjectStreamException {
+    return create (_name);
+  }
+
   // private fields
   private final String _name;
-  private static final Map<String, StringPattern> _cache = new HashMap<String, StringPattern> ();
+  private static final Interner<String, StringPattern> _interned = new Interner<> (StringPattern::new);
 }
 
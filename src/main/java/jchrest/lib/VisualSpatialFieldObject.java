@@ -260,6 +260,7 @@ public class VisualSpatialFieldObject extends SceneObject{
    */
   public void setRecognised(int time, boolean updateTerminusAutomatically){
     if(this.isAlive(time)){
+      this.recordStateForTransactionRollBack(time);
       this._recognisedHistory.put(time, Boolean.TRUE);
       
       if(updateTerminusAutomatically){
@@ -290,6 +291,7 @@ public class VisualSpatialFieldObject extends SceneObject{
    * </ul>
    */
   public void setTerminus(int time, boolean setToTime){
+    this.recordStateForTransactionRollBack(null);
     if(setToTime){
       this._terminus = time;
     }
@@ -315,6 +317,7 @@ public class VisualSpatialFieldObject extends SceneObject{
    */
   public void setUnrecognised(int time, boolean updateTerminusAutomatically){
     if(this.isAlive(time)){
+      this.recordStateForTransactionRollBack(time);
       this._recognisedHistory.put(time, Boolean.FALSE);
       
       if(updateTerminusAutomatically){
@@ -323,6 +326,39 @@ public class VisualSpatialFieldObject extends SceneObject{
     }
   }
   
+  /**
+   * If a transaction is in progress on the {@link 
+   * jchrest.architecture.VisualSpatialField} associated with {@link #this} 
+   * (see {@link 
+   * jchrest.architecture.VisualSpatialField#beginTransaction()}), records how
+   * to restore the terminus of {@link #this} and, if {@code 
+   * recognisedStatusTime} is not {@code null}, the recognised status of {@link
+   * #this} at {@code recognisedStatusTime} to their current values.
+   * 
+   * @param recognisedStatusTime 
+   */
+  private void recordStateForTransactionRollBack(Integer recognisedStatusTime){
+    if(
+      this._associatedVisualSpatialField != null && 
+      this._associatedVisualSpatialField.isTransactionInProgress()
+    ){
+      Integer terminus = this._terminus;
+      Boolean recognisedStatus = (recognisedStatusTime == null ? null : this._recognisedHistory.get(recognisedStatusTime));
+      
+      this._associatedVisualSpatialField.addTransactionRollBackAction(() -> {
+        this._terminus = terminus;
+        if(recognisedStatusTime != null){
+          if(recognisedStatus == null){
+            this._recognisedHistory.remove(recognisedStatusTime);
+          }
+          else{
+            this._recognisedHistory.put(recognisedStatusTime, recognisedStatus);
+          }
+        }
+      });
+    }
+  }
+  
   @Override
   public String toString(){
     String recognisedHistory = "";
@@ -20,6 +20,8 @@ java_import "java.util.TreeMap"
 [
   "Chrest", 
   "Link",
+  "LtmSnapshot",
+  "MappedLtm",
   "Node",
   "Perceiver",
   "Stm",
@@ -32,12 +34,14 @@ end
   "DomainSpecifics",
   "Fixation",
   "Scene",
+  "SceneComparison",
   "SceneObject"
 ].each do |klass|
   java_import "jchrest.domainSpecifics.#{klass}"
 end
 
 [
+  "ChessBitboards",
   "ChessBoard",
   "ChessDomain",
   "ChessObject"
@@ -89,16 +93,23 @@ end
   "HistoryTreeMap",
   "NumberPattern",
   "Pattern",
+  "PatternSimilarity",
+  "PrependedList",
   "PrimitivePattern",
   "ReinforcementLearning",
   "Square",
   "ChrestStatus",
+  "CountHistory",
+  "ExperimentRunner",
+  "ParameterSweep",
   "StringPattern",
   "VisualSpatialFieldObject"
 ].each do |klass|
   java_import "jchrest.lib.#{klass}"
 end
 
+java_import "jchrest.experimentScripts.Batch"
+
 # Pick up all ruby test files except this one
 Dir.glob(File.dirname(__FILE__) + "/**/*.rb") do |file|
   require file unless 
@@ -111,19 +111,6 @@ unit_test "get_semantic_link_counts" do
     field_accessor :_nextLtmNodeReference
   }
   
-  chrest_fields = Chrest.java_class.declared_fields
-  modality_root_node_fields = []
-  for field in chrest_fields
-    if (field.name() =~ /\A_[a-z]*Ltm\Z/)
-      field.accessible = true
-      modality_root_node_fields.push(field)
-    end
-  end
-  
-  Node.class_eval{
-    field_accessor :_semanticLinksHistory, :_childHistory
-  }
-  
   50.times do
     time = 0
     model = Chrest.new(time, [true, false].sample)
@@ -132,46 +119,31 @@ unit_test "get_semantic_link_counts" do
     
     # Populate each LTM modality with semantic links.  Ensure that each modality
     # has links at multiple depths in the network to ensure that the function 
-    # that calculates the number of semantic links recurses correctly through 
-    # long-term memory.
+    # that calculates the number of semantic links counts links throughout 
+    # long-term memory.  LTM is constructed using Node.addChild() and 
+    # Node.addSemanticLink() since the model's LTM statistics are maintained by
+    # these functions.
     for modality in Modality.values()
+      time += 1
       number_parent_nodes = rand(2..5)
       parent_node = Node.new(model, ListPattern.new(modality), ListPattern.new(modality), time)
-      model._nextLtmNodeReference += 1
-      
-      modality_root_node = nil
-      for field in modality_root_node_fields
-        if (field.name() =~ /\A_#{Regexp.quote(modality.to_s.downcase)}*Ltm\Z/)
-          modality_root_node = field.value(model)
-        end
-      end
-      
-      parent_node_link = Link.new(ListPattern.new(modality), parent_node, time, "")
-      modality_root_node_child_links = ArrayList.new()
-      modality_root_node_child_links.add(parent_node_link)
-      modality_root_node._childHistory.put(time.to_java(:int), modality_root_node_child_links)
+      model.getLtmModalityRootNode(modality).addChild(ListPattern.new(modality), parent_node, time, "")
       
       number_parent_nodes.times do
     
         number_nodes_to_link_to = rand(2..5)
-        node_semantic_links = ArrayList.new()
         expected_semantic_link_count += number_nodes_to_link_to
     
         number_nodes_to_link_to.times do
-          node_semantic_links.add(Node.new(model, ListPattern.new(modality), ListPattern.new(modality), time))
+          time += 1
+          node_to_link_to = Node.new(model, ListPattern.new(modality), ListPattern.new(modality), time)
           model._nextLtmNodeReference += 1
+          parent_node.addSemanticLink(node_to_link_to, time)
         end
-      
-        parent_node._semanticLinksHistory.put(time.to_java(:int), node_semantic_links)
         
         time += 1
         child_node = Node.new(model, ListPattern.new(modality), ListPattern.new(modality), time)
-        model._nextLtmNodeReference += 1
-        
-        child_node_link = Link.new(ListPattern.new(modality), child_node, time, "")
-        parent_node_child_links = ArrayList.new()
-        parent_node_child_links.add(child_node_link)
-        parent_node._childHistory.put(time.to_java(:int), parent_node_child_links)
+        parent_node.addChild(ListPattern.new(modality), child_node, time, "")
         
         parent_node = child_node
       end
@@ -4502,10 +4474,6 @@ unit_test "perform_scheduled_fixations" do
       :_objectSeen
   }
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   perceiver_fixations_field = Perceiver.java_class.declared_field("_fixations")
   perceiver_fixations_field.accessible = true
   
@@ -4558,7 +4526,7 @@ unit_test "perform_scheduled_fixations" do
       # Scene is constructed, this will cause a CentralFixation to fail when an
       # attempt to make it is made).
       if ![4,10].include?(scenario)
-        scene_to_fixate_on._scene.get(1).set(1, SceneObject.new("0", "A"))
+        scene_to_fixate_on.addObjectToSquare(1, 1, SceneObject.new("0", "A"))
       end
       
       # Add first Fixation to Fixation list to be passed to the method.
@@ -4579,7 +4547,7 @@ unit_test "perform_scheduled_fixations" do
         nil
       )
       
-      previous_fixation_scene._scene.get(1).set(1, 
+      previous_fixation_scene.addObjectToSquare(1, 1, 
         scenario == 5 ? SceneObject.new("0", "A") : #Different domain coordinates fixated on but SceneObject fixated on previously
         scenario == 6 ? SceneObject.new(Scene::EMPTY_SQUARE_TOKEN) : #Same domain coordinates fixated on but different SceneObject fixated on previously
         SceneObject.new("1", "A") #Different domain coordinates and SceneObject fixated on
@@ -4597,8 +4565,8 @@ unit_test "perform_scheduled_fixations" do
       # thrown in a scenario other than 3 which is not expected in context of 
       # this test and undesirable.
       if model_learning_object_locations_relative_to_self
-        scene_to_fixate_on._scene.get(2).set(2, SceneObject.new(Scene::CREATOR_TOKEN))
-        previous_fixation_scene._scene.get(2).set(2, SceneObject.new(Scene::CREATOR_TOKEN))
+        scene_to_fixate_on.addObjectToSquare(2, 2, SceneObject.new(Scene::CREATOR_TOKEN))
+        previous_fixation_scene.addObjectToSquare(2, 2, SceneObject.new(Scene::CREATOR_TOKEN))
       end
       
       ############################################################
@@ -4612,7 +4580,7 @@ unit_test "perform_scheduled_fixations" do
       previous_fixation._scene = previous_fixation_scene
       previous_fixation._colFixatedOn = 1
       previous_fixation._rowFixatedOn = 1
-      previous_fixation._objectSeen = previous_fixation_scene._scene.get(previous_fixation._colFixatedOn).get(previous_fixation._rowFixatedOn)
+      previous_fixation._objectSeen = previous_fixation_scene.getSquareContents(previous_fixation._colFixatedOn, previous_fixation._rowFixatedOn)
       
       # Add to Perceiver
       previous_fixations = ArrayList.new()
@@ -4666,7 +4634,7 @@ unit_test "perform_scheduled_fixations" do
         # the PeripheralSquareFixation is made, it should ignore the Creator in
         # the Scene (if present), ignore the Square previously fixated on and
         # fixate on (0, 0) since all other Squares are blind.
-        if scenario == 10 then scene_to_fixate_on._scene.get(0).set(0, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN)) end
+        if scenario == 10 then scene_to_fixate_on.addObjectToSquare(0, 0, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN)) end
       end
       
       #########################
@@ -4767,7 +4735,7 @@ unit_test "perform_scheduled_fixations" do
           expected_fixation._performed = true
           expected_fixation._colFixatedOn = 1
           expected_fixation._rowFixatedOn = 1
-          expected_fixation._objectSeen = scene_to_fixate_on._scene.get(expected_fixation._colFixatedOn).get(expected_fixation._rowFixatedOn)
+          expected_fixation._objectSeen = scene_to_fixate_on.getSquareContents(expected_fixation._colFixatedOn, expected_fixation._rowFixatedOn)
         end
 
         expected_perceiver_fixations.add(expected_fixation)
@@ -6282,17 +6250,6 @@ canonical_result_test "make_fixations_in_domains" do
   scene_width_field = Scene.java_class.declared_field("_width")
   scene_width_field.accessible = true
   
-  # With regard to the Scene used:
-  # 
-  # 1. Need to get SceneObjects from a randomly selected Square in the Scene
-  #    during STM Node construction.
-  # 2. Need to access the dimensions of the Scene constructed to enable 
-  #    randomness in STM Node images to enable/disable 
-  #    HypothesisDiscriminationFixation performance.
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   scene_object_type_field = SceneObject.java_class.declared_field("_objectType")
   scene_object_type_field.accessible = true
   
@@ -6505,18 +6462,18 @@ canonical_result_test "make_fixations_in_domains" do
             col = rand(0...scene_width_field.value(scene))
             row = rand(0...scene_width_field.value(scene))
             while (
-              scene_object_type_field.value(scene._scene.get(col).get(row)) != Scene::BLIND_SQUARE_TOKEN &&
-              scene_object_type_field.value(scene._scene.get(col).get(row)) != Scene::CREATOR_TOKEN
+              scene_object_type_field.value(scene.getSquareContents(col, row)) != Scene::BLIND_SQUARE_TOKEN &&
+              scene_object_type_field.value(scene.getSquareContents(col, row)) != Scene::CREATOR_TOKEN
             )
               col = rand(0...scene_width_field.value(scene))
               row = rand(0...scene_width_field.value(scene))
             end
             
             object_type_to_place = (rand(0..1) == 0 ? ("a".."z").to_a.sample : Scene::EMPTY_SQUARE_TOKEN)
-            scene._scene.get(col).set(row, SceneObject.new(object_type_to_place))
+            scene.addObjectToSquare(col, row, SceneObject.new(object_type_to_place))
           end
           
-          if learn_object_locations_relative_to_self then scene._scene.get(2).set(2, SceneObject.new(Scene::CREATOR_TOKEN)) end
+          if learn_object_locations_relative_to_self then scene.addObjectToSquare(2, 2, SceneObject.new(Scene::CREATOR_TOKEN)) end
           
           scene
           
@@ -6524,7 +6481,7 @@ canonical_result_test "make_fixations_in_domains" do
           scene = ChessBoard.new("ChessBoard")
           for col in 0...8
             for row in 0...8
-              scene._scene.get(col).set(row, ChessObject.new(Scene::EMPTY_SQUARE_TOKEN))
+              scene.addObjectToSquare(col, row, ChessObject.new(Scene::EMPTY_SQUARE_TOKEN))
             end
           end
 
@@ -6534,11 +6491,11 @@ canonical_result_test "make_fixations_in_domains" do
           for piece in pieces
             col = rand(0...8)
             row = rand(0...8)
-            while scene_object_type_field.value(scene._scene.get(col).get(row)) != Scene::EMPTY_SQUARE_TOKEN
+            while scene_object_type_field.value(scene.getSquareContents(col, row)) != Scene::EMPTY_SQUARE_TOKEN
               col = rand(0...8)
               row = rand(0...8)
             end
-            scene._scene.get(col).set(row, ChessObject.new(piece))
+            scene.addObjectToSquare(col, row, ChessObject.new(piece))
           end
           
           scene
@@ -6547,24 +6504,24 @@ canonical_result_test "make_fixations_in_domains" do
           scene = Scene.new("TileworldDomain Scene", 5, 5, 0, 0, nil)
 
           # Place physical objects.
-          scene._scene.get(2).set(2, SceneObject.new("0", Scene::CREATOR_TOKEN))
-          scene._scene.get(2).set(3, SceneObject.new("1", TileworldDomain::TILE_SCENE_OBJECT_TYPE_TOKEN))
-          scene._scene.get(3).set(2, SceneObject.new("2", TileworldDomain::HOLE_SCENE_OBJECT_TYPE_TOKEN))
-          scene._scene.get(0).set(4, SceneObject.new("3", TileworldDomain::OPPONENT_SCENE_OBJECT_TYPE_TOKEN ))
-          scene._scene.get(1).set(0, SceneObject.new("4", TileworldDomain::TILE_SCENE_OBJECT_TYPE_TOKEN))
-          scene._scene.get(4).set(0, SceneObject.new("5", TileworldDomain::HOLE_SCENE_OBJECT_TYPE_TOKEN))
-          scene._scene.get(1).set(2, SceneObject.new("6", TileworldDomain::HOLE_SCENE_OBJECT_TYPE_TOKEN))
-          scene._scene.get(4).set(4, SceneObject.new("7", TileworldDomain::OPPONENT_SCENE_OBJECT_TYPE_TOKEN ))
-          scene._scene.get(1).set(1, SceneObject.new("8", TileworldDomain::OPPONENT_SCENE_OBJECT_TYPE_TOKEN ))
+          scene.addObjectToSquare(2, 2, SceneObject.new("0", Scene::CREATOR_TOKEN))
+          scene.addObjectToSquare(2, 3, SceneObject.new("1", TileworldDomain::TILE_SCENE_OBJECT_TYPE_TOKEN))
+          scene.addObjectToSquare(3, 2, SceneObject.new("2", TileworldDomain::HOLE_SCENE_OBJECT_TYPE_TOKEN))
+          scene.addObjectToSquare(0, 4, SceneObject.new("3", TileworldDomain::OPPONENT_SCENE_OBJECT_TYPE_TOKEN ))
+          scene.addObjectToSquare(1, 0, SceneObject.new("4", TileworldDomain::TILE_SCENE_OBJECT_TYPE_TOKEN))
+          scene.addObjectToSquare(4, 0, SceneObject.new("5", TileworldDomain::HOLE_SCENE_OBJECT_TYPE_TOKEN))
+          scene.addObjectToSquare(1, 2, SceneObject.new("6", TileworldDomain::HOLE_SCENE_OBJECT_TYPE_TOKEN))
+          scene.addObjectToSquare(4, 4, SceneObject.new("7", TileworldDomain::OPPONENT_SCENE_OBJECT_TYPE_TOKEN ))
+          scene.addObjectToSquare(1, 1, SceneObject.new("8", TileworldDomain::OPPONENT_SCENE_OBJECT_TYPE_TOKEN ))
 
           # Fill in empty squares.
           for col in 0...scene_width_field.value(scene)
             for row in 0...scene_height_field.value(scene)
               if col != 2 && (row != 1 || row != 2)
 
-                object_type = scene_object_type_field.value(scene._scene.get(col).get(row))
+                object_type = scene_object_type_field.value(scene.getSquareContents(col, row))
                 if object_type == Scene::BLIND_SQUARE_TOKEN
-                  scene._scene.get(col).set(row, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN))
+                  scene.addObjectToSquare(col, row, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN))
                 end
               end
             end
@@ -6617,14 +6574,14 @@ canonical_result_test "make_fixations_in_domains" do
 
       col = rand(0...scene_width_field.value(scene_to_fixate_on))
       row = rand(0...scene_height_field.value(scene_to_fixate_on))
-      item = scene_object_type_field.value(scene_to_fixate_on._scene.get(col).get(row))
-      identifier = scene_object_identifier_field.value(scene_to_fixate_on._scene.get(col).get(row))
+      item = scene_object_type_field.value(scene_to_fixate_on.getSquareContents(col, row))
+      identifier = scene_object_identifier_field.value(scene_to_fixate_on.getSquareContents(col, row))
 
       while types_of_object_that_cant_be_learned.include?(item)
         col = rand(0...scene_width_field.value(scene_to_fixate_on))
         row = rand(0...scene_height_field.value(scene_to_fixate_on))
-        item = scene_object_type_field.value(scene_to_fixate_on._scene.get(col).get(row))
-        identifier = scene_object_identifier_field.value(scene_to_fixate_on._scene.get(col).get(row))
+        item = scene_object_type_field.value(scene_to_fixate_on.getSquareContents(col, row))
+        identifier = scene_object_identifier_field.value(scene_to_fixate_on.getSquareContents(col, row))
       end
       
       depth_2_node_contents_image = ItemSquarePattern.new(item, col, row)
@@ -6643,14 +6600,14 @@ canonical_result_test "make_fixations_in_domains" do
 
       col = rand(0...scene_width_field.value(scene_to_fixate_on))
       row = rand(0...scene_height_field.value(scene_to_fixate_on))
-      item = scene_object_type_field.value(scene_to_fixate_on._scene.get(col).get(row))
-      identifier = scene_object_identifier_field.value(scene_to_fixate_on._scene.get(col).get(row))
+      item = scene_object_type_field.value(scene_to_fixate_on.getSquareContents(col, row))
+      identifier = scene_object_identifier_field.value(scene_to_fixate_on.getSquareContents(col, row))
       
       while types_of_object_that_cant_be_learned.include?(item)
         col = rand(0...scene_width_field.value(scene_to_fixate_on))
         row = rand(0...scene_height_field.value(scene_to_fixate_on))
-        item = scene_object_type_field.value(scene_to_fixate_on._scene.get(col).get(row))
-        identifier = scene_object_identifier_field.value(scene_to_fixate_on._scene.get(col).get(row))
+        item = scene_object_type_field.value(scene_to_fixate_on.getSquareContents(col, row))
+        identifier = scene_object_identifier_field.value(scene_to_fixate_on.getSquareContents(col, row))
       end
 
       depth_1_node_contents_image = ItemSquarePattern.new(item, col, row)
@@ -7559,10 +7516,6 @@ process_test "construct_visual_spatial_field" do
     ##### SET-UP SCENES #####
     #########################
     
-    Scene.class_eval{
-      field_accessor :_scene
-    }
-    
     # Since there are old and new versions of some Scenes, SceneObjects need to
     # be reused otherwise, they won't be noted as being fixated on twice so 
     # create these now.
@@ -7606,75 +7559,75 @@ process_test "construct_visual_spatial_field" do
     scene_6 = Scene.new("old-north-west", 3, 3, 3, 6, nil)
     scene_7 = Scene.new("old-north-east", 3, 3, 7, 6, nil)
     
-    scene_1._scene.get(0).set(0, object_I)
-    scene_1._scene.get(1).set(0, scene_1_blind_1)
-    scene_1._scene.get(2).set(0, scene_1_empty_1)
-    scene_1._scene.get(0).set(1, scene_1_empty_2)
-    scene_1._scene.get(1).set(1, (scenario == 1 ? scene_1_blind_2 : creator))
-    scene_1._scene.get(2).set(1, object_H)
-    scene_1._scene.get(0).set(2, object_P)
-    scene_1._scene.get(1).set(2, object_Y)
-    scene_1._scene.get(2).set(2, object_A)
-
-    scene_2._scene.get(0).set(0, object_M)
-    scene_2._scene.get(1).set(0, scene_2_empty_1)
-    scene_2._scene.get(2).set(0, object_B)
-    scene_2._scene.get(0).set(1, scene_2_empty_2)
-    scene_2._scene.get(1).set(1, (scenario == 1 ? scene_2_blind_1 : creator))
-    scene_2._scene.get(2).set(1, object_E)
-    scene_2._scene.get(0).set(2, object_J)
-    scene_2._scene.get(1).set(2, scene_2_blind_2)
-    scene_2._scene.get(2).set(2, scene_2_empty_3)
-
-    scene_3._scene.get(0).set(0, object_C)
-    scene_3._scene.get(1).set(0, object_Z)
-    scene_3._scene.get(2).set(0, object_N)
-    scene_3._scene.get(0).set(1, object_F)
-    scene_3._scene.get(1).set(1, (scenario == 1 ? scene_3_blind_1 : creator))
-    scene_3._scene.get(2).set(1, scene_3_empty_1)
-    scene_3._scene.get(0).set(2, scene_3_empty_2)
-    scene_3._scene.get(1).set(2, scene_3_blind_2)
-    scene_3._scene.get(2).set(2, object_K)
-
-    scene_4._scene.get(0).set(0, SceneObject.new(Scene.getEmptySquareToken()))
-    scene_4._scene.get(1).set(0, SceneObject.new(Scene.getBlindSquareToken()))
-    scene_4._scene.get(2).set(0, SceneObject.new("L"))
-    scene_4._scene.get(0).set(1, SceneObject.new("G"))
-    scene_4._scene.get(1).set(1, (scenario == 1 ? SceneObject.new(Scene.getBlindSquareToken()) : creator))
-    scene_4._scene.get(2).set(1, SceneObject.new("O"))
-    scene_4._scene.get(0).set(2, SceneObject.new("D"))
-    scene_4._scene.get(1).set(2, SceneObject.new(Scene.getEmptySquareToken()))
-    scene_4._scene.get(2).set(2, SceneObject.new(Scene.getEmptySquareToken()))
-    
-    scene_5._scene.get(0).set(0, object_I)
-    scene_5._scene.get(1).set(0, scene_1_blind_1)
-    scene_5._scene.get(2).set(0, scene_1_empty_1)
-    scene_5._scene.get(0).set(1, scene_1_empty_2)
-    scene_5._scene.get(1).set(1, (scenario == 1 ? scene_1_blind_2 : creator))
-    scene_5._scene.get(2).set(1, object_H)
-    scene_5._scene.get(0).set(2, object_P)
-    scene_5._scene.get(1).set(2, object_Y)
-    scene_5._scene.get(2).set(2, SceneObject.new("SS"))
-    
-    scene_6._scene.get(0).set(0, object_M)
-    scene_6._scene.get(1).set(0, scene_2_empty_1)
-    scene_6._scene.get(2).set(0, object_B)
-    scene_6._scene.get(0).set(1, scene_2_empty_2)
-    scene_6._scene.get(1).set(1, (scenario == 1 ? scene_2_blind_1 : creator))
-    scene_6._scene.get(2).set(1, SceneObject.new("TT"))
-    scene_6._scene.get(0).set(2, object_J)
-    scene_6._scene.get(1).set(2, scene_2_blind_2)
-    scene_6._scene.get(2).set(2, scene_2_empty_3)
-    
-    scene_7._scene.get(0).set(0, object_C)
-    scene_7._scene.get(1).set(0, SceneObject.new("UU"))
-    scene_7._scene.get(2).set(0, object_N)
-    scene_7._scene.get(0).set(1, object_F)
-    scene_7._scene.get(1).set(1, (scenario == 1 ? scene_3_blind_1 : creator))
-    scene_7._scene.get(2).set(1, scene_3_empty_1)
-    scene_7._scene.get(0).set(2, scene_3_empty_2)
-    scene_7._scene.get(1).set(2, scene_3_blind_2)
-    scene_7._scene.get(2).set(2, object_K)
+    scene_1.addObjectToSquare(0, 0, object_I)
+    scene_1.addObjectToSquare(1, 0, scene_1_blind_1)
+    scene_1.addObjectToSquare(2, 0, scene_1_empty_1)
+    scene_1.addObjectToSquare(0, 1, scene_1_empty_2)
+    scene_1.addObjectToSquare(1, 1, (scenario == 1 ? scene_1_blind_2 : creator))
+    scene_1.addObjectToSquare(2, 1, object_H)
+    scene_1.addObjectToSquare(0, 2, object_P)
+    scene_1.addObjectToSquare(1, 2, object_Y)
+    scene_1.addObjectToSquare(2, 2, object_A)
+
+    scene_2.addObjectToSquare(0, 0, object_M)
+    scene_2.addObjectToSquare(1, 0, scene_2_empty_1)
+    scene_2.addObjectToSquare(2, 0, object_B)
+    scene_2.addObjectToSquare(0, 1, scene_2_empty_2)
+    scene_2.addObjectToSquare(1, 1, (scenario == 1 ? scene_2_blind_1 : creator))
+    scene_2.addObjectToSquare(2, 1, object_E)
+    scene_2.addObjectToSquare(0, 2, object_J)
+    scene_2.addObjectToSquare(1, 2, scene_2_blind_2)
+    scene_2.addObjectToSquare(2, 2, scene_2_empty_3)
+
+    scene_3.addObjectToSquare(0, 0, object_C)
+    scene_3.addObjectToSquare(1, 0, object_Z)
+    scene_3.addObjectToSquare(2, 0, object_N)
+    scene_3.addObjectToSquare(0, 1, object_F)
+    scene_3.addObjectToSquare(1, 1, (scenario == 1 ? scene_3_blind_1 : creator))
+    scene_3.addObjectToSquare(2, 1, scene_3_empty_1)
+    scene_3.addObjectToSquare(0, 2, scene_3_empty_2)
+    scene_3.addObjectToSquare(1, 2, scene_3_blind_2)
+    scene_3.addObjectToSquare(2, 2, object_K)
+
+    scene_4.addObjectToSquare(0, 0, SceneObject.new(Scene.getEmptySquareToken()))
+    scene_4.addObjectToSquare(1, 0, SceneObject.new(Scene.getBlindSquareToken()))
+    scene_4.addObjectToSquare(2, 0, SceneObject.new("L"))
+    scene_4.addObjectToSquare(0, 1, SceneObject.new("G"))
+    scene_4.addObjectToSquare(1, 1, (scenario == 1 ? SceneObject.new(Scene.getBlindSquareToken()) : creator))
+    scene_4.addObjectToSquare(2, 1, SceneObject.new("O"))
+    scene_4.addObjectToSquare(0, 2, SceneObject.new("D"))
+    scene_4.addObjectToSquare(1, 2, SceneObject.new(Scene.getEmptySquareToken()))
+    scene_4.addObjectToSquare(2, 2, SceneObject.new(Scene.getEmptySquareToken()))
+    
+    scene_5.addObjectToSquare(0, 0, object_I)
+    scene_5.addObjectToSquare(1, 0, scene_1_blind_1)
+    scene_5.addObjectToSquare(2, 0, scene_1_empty_1)
+    scene_5.addObjectToSquare(0, 1, scene_1_empty_2)
+    scene_5.addObjectToSquare(1, 1, (scenario == 1 ? scene_1_blind_2 : creator))
+    scene_5.addObjectToSquare(2, 1, object_H)
+    scene_5.addObjectToSquare(0, 2, object_P)
+    scene_5.addObjectToSquare(1, 2, object_Y)
+    scene_5.addObjectToSquare(2, 2, SceneObject.new("SS"))
+    
+    scene_6.addObjectToSquare(0, 0, object_M)
+    scene_6.addObjectToSquare(1, 0, scene_2_empty_1)
+    scene_6.addObjectToSquare(2, 0, object_B)
+    scene_6.addObjectToSquare(0, 1, scene_2_empty_2)
+    scene_6.addObjectToSquare(1, 1, (scenario == 1 ? scene_2_blind_1 : creator))
+    scene_6.addObjectToSquare(2, 1, SceneObject.new("TT"))
+    scene_6.addObjectToSquare(0, 2, object_J)
+    scene_6.addObjectToSquare(1, 2, scene_2_blind_2)
+    scene_6.addObjectToSquare(2, 2, scene_2_empty_3)
+    
+    scene_7.addObjectToSquare(0, 0, object_C)
+    scene_7.addObjectToSquare(1, 0, SceneObject.new("UU"))
+    scene_7.addObjectToSquare(2, 0, object_N)
+    scene_7.addObjectToSquare(0, 1, object_F)
+    scene_7.addObjectToSquare(1, 1, (scenario == 1 ? scene_3_blind_1 : creator))
+    scene_7.addObjectToSquare(2, 1, scene_3_empty_1)
+    scene_7.addObjectToSquare(0, 2, scene_3_empty_2)
+    scene_7.addObjectToSquare(1, 2, scene_3_blind_2)
+    scene_7.addObjectToSquare(2, 2, object_K)
     
     #############################################################
     ##### SET-UP FIXATIONS AND POPULATE PERCEIVER FIXATIONS #####
@@ -9921,9 +9874,7 @@ canonical_result_test "save_and_load_ltm" do
     :_actionLtm,
     :_verbalLtm,
     :_visualLtm,
-    :_totalNumberActionLtmNodes,
-    :_totalNumberVerbalLtmNodes,
-    :_totalNumberVisualLtmNodes,
+    :_ltmModalityNodeCounts,
     :_nextLtmNodeReference
   }
   
@@ -10030,9 +9981,9 @@ canonical_result_test "save_and_load_ltm" do
   puts "       - Slots filled: true"
   
   while
-    model._totalNumberActionLtmNodes.lastEntry().getValue() < action_nodes_required ||
-    model._totalNumberVerbalLtmNodes.lastEntry().getValue() < verbal_nodes_required ||
-    model._totalNumberVisualLtmNodes.lastEntry().getValue() < visual_nodes_required ||
+    model._ltmModalityNodeCounts.get(Modality::ACTION).getLatest() < action_nodes_required ||
+    model._ltmModalityNodeCounts.get(Modality::VERBAL).getLatest() < verbal_nodes_required ||
+    model._ltmModalityNodeCounts.get(Modality::VISUAL).getLatest() < visual_nodes_required ||
     model.getProductionCount(time) < productions_required  ||
     model.getNamingLinkCount(time) < naming_links_required ||
     model.getSemanticLinkCount(time) < semantic_links_required ||
@@ -10122,9 +10073,9 @@ canonical_result_test "save_and_load_ltm" do
     # Print out the counters that control this loop so that the user can tell if
     # the loop is broken or not and to have some idea of test progress (this 
     # test can go on for a relatively *long* time compared to other tests).
-    status_string = "     Action nodes: " + model._totalNumberActionLtmNodes.lastEntry().getValue().to_s + ", " +
-      "Verbal nodes: " + model._totalNumberVerbalLtmNodes.lastEntry().getValue().to_s + ", " +
-      "Visual nodes: " + model._totalNumberVisualLtmNodes.lastEntry().getValue().to_s + ", " +
+    status_string = "     Action nodes: " + model._ltmModalityNodeCounts.get(Modality::ACTION).getLatest().to_s + ", " +
+      "Verbal nodes: " + model._ltmModalityNodeCounts.get(Modality::VERBAL).getLatest().to_s + ", " +
+      "Visual nodes: " + model._ltmModalityNodeCounts.get(Modality::VISUAL).getLatest().to_s + ", " +
       "Productions: " + model.getProductionCount(time).to_s + ", " +
       "Naming links: " + model.getNamingLinkCount(time).to_s + ", " +
       "Semantic links: " + model.getSemanticLinkCount(time).to_s + ", " +
@@ -10175,20 +10126,20 @@ canonical_result_test "save_and_load_ltm" do
   )
   
   assert_equal(
-    model._totalNumberActionLtmNodes.lastEntry().getValue(), 
-    restored_model._totalNumberActionLtmNodes.firstEntry().getValue(), 
+    model._ltmModalityNodeCounts.get(Modality::ACTION).getLatest(), 
+    restored_model._ltmModalityNodeCounts.get(Modality::ACTION).getEarliest(), 
     "occurred when checking the total number of action Nodes"
   )
   
   assert_equal(
-    model._totalNumberVerbalLtmNodes.lastEntry().getValue(), 
-    restored_model._totalNumberVerbalLtmNodes.firstEntry().getValue(), 
+    model._ltmModalityNodeCounts.get(Modality::VERBAL).getLatest(), 
+    restored_model._ltmModalityNodeCounts.get(Modality::VERBAL).getEarliest(), 
     "occurred when checking the total number of verbal Nodes"
   )
   
   assert_equal(
-    model._totalNumberVisualLtmNodes.lastEntry().getValue(), 
-    restored_model._totalNumberVisualLtmNodes.firstEntry().getValue(), 
+    model._ltmModalityNodeCounts.get(Modality::VISUAL).getLatest(), 
+    restored_model._ltmModalityNodeCounts.get(Modality::VISUAL).getEarliest(), 
     "occurred when checking the total number of visual Nodes"
   )
   
@@ -10549,6 +10500,975 @@ canonical_result_test "save_and_load_ltm" do
     )
   end
 end
+################################################################################
+# Creates a long-term memory structure, saves it using Java serialization (the
+# format used by versions of CHREST prior to LtmSnapshot), converts the file 
+# produced to an LtmSnapshot file and restores long-term memory from both files.
+# The state of every Node in the restored long-term memories should then be 
+# identical.
+#
+canonical_result_test "convert_serialized_ltm_to_ltm_snapshot" do
+  
+  time = 0
+  model = Chrest.new(time, false)
+  time += 1
+  
+  Chrest.class_eval{ field_accessor :_cognitionClock, :_attentionClock }
+  
+  200.times do
+    visual_list_pattern = ListPattern.new(Modality::VISUAL)
+    (rand(5) + 1).times do
+      visual_list_pattern.add(ItemSquarePattern.new(["T","H","O"].sample, rand(5) - 2, rand(5) - 2))
+    end
+    
+    action_list_pattern = ListPattern.new(Modality::ACTION)
+    action_list_pattern.add(ItemSquarePattern.new(["push", "walk", "jump"].sample, [0,90,180,270].sample, rand(3) + 1))
+    
+    model.recogniseAndLearn(visual_list_pattern, time)
+    time = [model._cognitionClock, model._attentionClock].max
+    model.recogniseAndLearn(action_list_pattern, time)
+    time = [model._cognitionClock, model._attentionClock].max
+    model.learnProduction(visual_list_pattern, action_list_pattern, time)
+    time = [model._cognitionClock, model._attentionClock].max
+  end
+  
+  serialized_file = Dir.pwd.to_s + File::SEPARATOR + "convertLtmTest.ser"
+  snapshot_file = Dir.pwd.to_s + File::SEPARATOR + "convertLtmTest.ltm"
+  model.saveLtmStateUsingJavaSerialization(serialized_file, time)
+  LtmSnapshot.convert(serialized_file, snapshot_file, time)
+  
+  assert_false(LtmSnapshot.isLtmSnapshot(serialized_file), "occurred when checking the serialized file")
+  assert_true(LtmSnapshot.isLtmSnapshot(snapshot_file), "occurred when checking the converted file")
+  assert_true(
+    File.size(snapshot_file) < File.size(serialized_file), 
+    "occurred when checking the size of the converted file"
+  )
+  
+  restored_time = 0
+  models_restored = [Chrest.new(serialized_file, restored_time), Chrest.new(snapshot_file, restored_time)]
+  File.delete(serialized_file)
+  File.delete(snapshot_file)
+  
+  for modality in Modality.values()
+    assert_equal(
+      models_restored[0].getLtmModalitySize(modality, restored_time),
+      models_restored[1].getLtmModalitySize(modality, restored_time),
+      "occurred when checking the number of " + modality.toString() + " Nodes"
+    )
+    
+    nodes_to_check = [[
+      models_restored[0].getLtmModalityRootNode(modality), 
+      models_restored[1].getLtmModalityRootNode(modality)
+    ]]
+    until nodes_to_check.empty?
+      serialized_node, snapshot_node = nodes_to_check.pop
+      err_msg_prepend = "occurred when checking Node " + serialized_node.getReference().to_s + "'s "
+      
+      assert_equal(serialized_node.getReference(), snapshot_node.getReference(), err_msg_prepend + "reference")
+      assert_equal(serialized_node.isRootNode(), snapshot_node.isRootNode(), err_msg_prepend + "'root-node?' variable")
+      assert_equal(serialized_node.getContents(), snapshot_node.getContents(), err_msg_prepend + "contents")
+      assert_equal(serialized_node.getImage(restored_time), snapshot_node.getImage(restored_time), err_msg_prepend + "image")
+      assert_equal(
+        serialized_node.getProductions(restored_time).map{|node, value| [node.getReference(), value]},
+        snapshot_node.getProductions(restored_time).map{|node, value| [node.getReference(), value]},
+        err_msg_prepend + "productions"
+      )
+      
+      serialized_children = serialized_node.getChildren(restored_time).to_a
+      snapshot_children = snapshot_node.getChildren(restored_time).to_a
+      assert_equal(serialized_children.size, snapshot_children.size, err_msg_prepend + "number of children")
+      for c in 0...serialized_children.size
+        assert_equal(serialized_children[c].getTest(), snapshot_children[c].getTest(), err_msg_prepend + "child link " + c.to_s + " test")
+        nodes_to_check.push([serialized_children[c].getChildNode(), snapshot_children[c].getChildNode()])
+      end
+    end
+  end
+end
+################################################################################
+# Restores the long-term memory in a file saved using the saveLtmState() 
+# function of the version of CHREST prior to LtmSnapshot, both directly and by
+# converting the file to an LtmSnapshot file.  The file was created by a model 
+# that learned visual and action patterns and productions between them; the 
+# text file alongside it describes every Node in the model's long-term memory 
+# when it was saved (the number of Nodes in each modality followed by each 
+# Node's reference, contents, image, child links and productions, in 
+# breadth-first order).  The long-term memories restored should match this 
+# description.
+#
+# Also checks that converting a file that does not contain a saved long-term
+# memory throws an exception rather than writing a snapshot.
+#
+unit_test "restore_ltm_saved_prior_to_ltm_snapshot" do
+  
+  fixture = File.join(File.dirname(File.expand_path(__FILE__)), "ltm-saved-prior-to-ltm-snapshot")
+  expected_description = File.read(fixture + ".txt").split("\n")
+  
+  snapshot_file = Dir.pwd.to_s + File::SEPARATOR + "restoreLtmSavedPriorToLtmSnapshotTest.ltm"
+  LtmSnapshot.convert(fixture + ".ser", snapshot_file, 0)
+  models_restored = [Chrest.new(fixture + ".ser", 0), Chrest.new(snapshot_file, 0)]
+  File.delete(snapshot_file)
+  
+  for model_restored in models_restored
+    description = []
+    for modality in Modality.values()
+      description << modality.toString() + " " + model_restored.getLtmModalitySize(modality, 0).to_s
+      nodes = [model_restored.getLtmModalityRootNode(modality)]
+      until nodes.empty?
+        node = nodes.shift
+        children = node.getChildren(0).to_a
+        productions = node.getProductions(0)
+        description << [
+          node.getReference(), 
+          node.getContents().toString(), 
+          node.getImage(0).toString(),
+          children.map{|link| link.getTest().toString() + ">" + link.getChildNode().getReference().to_s}.join(","),
+          (productions.nil? ? [] : productions.map{|production, value| production.getReference().to_s + ":" + value.to_s}).join(",")
+        ].join(" | ")
+        children.each{|link| nodes << link.getChildNode()}
+      end
+    end
+    
+    assert_equal(expected_description, description, "occurred when checking the long-term memory restored from " + (model_restored == models_restored[0] ? "the saved file" : "the converted file"))
+  end
+  
+  not_saved_ltm_file = Dir.pwd.to_s + File::SEPARATOR + "restoreLtmSavedPriorToLtmSnapshotTest.txt"
+  File.write(not_saved_ltm_file, "Not a saved long-term memory")
+  exception_thrown = false
+  begin
+    LtmSnapshot.convert(not_saved_ltm_file, snapshot_file, 0)
+  rescue
+    exception_thrown = true
+  end
+  File.delete(not_saved_ltm_file)
+  
+  assert_true(exception_thrown, "occurred when checking if an exception is thrown when converting a file that does not contain a saved long-term memory")
+  assert_false(File.exist?(snapshot_file), "occurred when checking if a snapshot is written when converting a file that does not contain a saved long-term memory")
+end
+################################################################################
+# Creates a long-term memory structure, writes it as a MappedLtm image and 
+# checks that a model constructed using the image recognises the same Nodes as 
+# the model that created the image, incurring the same time costs, that the 
+# Nodes reached from the Nodes it recognises using the Node API have the same 
+# state as their counterparts in the model that created the image and that it
+# does not learn or reinforce productions.
+#
+unit_test "recognise_using_mapped_ltm" do
+  
+  Chrest.class_eval{ field_accessor :_cognitionClock, :_attentionClock, :_maximumSemanticLinkSearchDistance }
+  
+  time = 0
+  model = Chrest.new(time, false)
+  model._maximumSemanticLinkSearchDistance = 2
+  time += 1
+  
+  patterns = []
+  300.times do
+    visual_list_pattern = ListPattern.new(Modality::VISUAL)
+    (rand(5) + 1).times do
+      visual_list_pattern.add(ItemSquarePattern.new(["T","H","O"].sample, rand(5) - 2, rand(5) - 2))
+    end
+    visual_list_pattern.setFinished() if rand < 0.2
+    patterns.push(visual_list_pattern)
+    
+    model.recogniseAndLearn(visual_list_pattern, time)
+    time = [model._cognitionClock, model._attentionClock].max
+  end
+  
+  # Learn productions between some of the patterns and actions so that the 
+  # image contains productions.
+  productions_learned = []
+  patterns.first(20).each do |visual_list_pattern|
+    action_list_pattern = ListPattern.new(Modality::ACTION)
+    action_list_pattern.add(ItemSquarePattern.new(["push", "walk", "jump"].sample, [0,90,180,270].sample, 1))
+    3.times do
+      model.recogniseAndLearn(visual_list_pattern, time)
+      time = [model._cognitionClock, model._attentionClock].max
+      model.recogniseAndLearn(action_list_pattern, time)
+      time = [model._cognitionClock, model._attentionClock].max
+      model.learnProduction(visual_list_pattern, action_list_pattern, time)
+      time = [model._cognitionClock, model._attentionClock].max
+    end
+    productions_learned.push([visual_list_pattern, action_list_pattern])
+  end
+  
+  image_file = Dir.pwd.to_s + File::SEPARATOR + "mappedLtmTest.ltmi"
+  MappedLtm.write(model, image_file, time)
+  mapped_ltm = MappedLtm.open(image_file)
+  
+  mapped_model_creation_time = time
+  mapped_model = Chrest.new(mapped_ltm, mapped_model_creation_time)
+  mapped_model._maximumSemanticLinkSearchDistance = 2
+  
+  # Stop the model that created the image from creating semantic links when 
+  # Nodes are added to STM, otherwise its LTM will diverge from the image.
+  model.setCanCreateSemanticLinks(false)
+  
+  assert_equal(model.getLtmSize(time), mapped_model.getLtmSize(time), "occurred when checking the size of LTM")
+  
+  # Include patterns that weren't learned.
+  20.times do
+    visual_list_pattern = ListPattern.new(Modality::VISUAL)
+    (rand(5) + 1).times do
+      visual_list_pattern.add(ItemSquarePattern.new(["T","H","O","X"].sample, rand(7) - 3, rand(7) - 3))
+    end
+    patterns.push(visual_list_pattern)
+  end
+  
+  for pattern in patterns
+    model.setClocks(time - 1)
+    mapped_model.setClocks(time - 1)
+    
+    node_recognised = model.recognise(pattern, time, true)
+    mapped_node_recognised = mapped_model.recognise(pattern, time, true)
+    
+    assert_equal(node_recognised.getReference(), mapped_node_recognised.getReference(), "occurred when checking the Node recognised for " + pattern.toString())
+    assert_equal(node_recognised.getImage(time), mapped_node_recognised.getImage(time), "occurred when checking the image of the Node recognised for " + pattern.toString())
+    assert_equal(model._cognitionClock, mapped_model._cognitionClock, "occurred when checking the cognition clock after recognising " + pattern.toString())
+    assert_true(
+      mapped_node_recognised.equal?(mapped_model.recognise(pattern, time, false)), 
+      "occurred when checking if the same Node instance is returned when " + pattern.toString() + " is recognised again"
+    )
+    
+    time += 1000
+  end
+  
+  for modality in Modality.values()
+    nodes_to_check = [[model.getLtmModalityRootNode(modality), mapped_model.getLtmModalityRootNode(modality)]]
+    until nodes_to_check.empty?
+      node, mapped_node = nodes_to_check.pop
+      err_msg_prepend = "occurred when checking Node " + node.getReference().to_s + "'s "
+      
+      assert_equal(node.getReference(), mapped_node.getReference(), err_msg_prepend + "reference")
+      assert_equal(node.getImage(time), mapped_node.getImage(time), err_msg_prepend + "image")
+      assert_equal(
+        (node.getProductions(time) || []).map{|production, value| [production.getReference(), value]},
+        (mapped_node.getProductions(time) || []).map{|production, value| [production.getReference(), value]},
+        err_msg_prepend + "productions"
+      )
+      assert_equal(
+        (node.getSemanticLinks(time) || []).map{|semantic_link| semantic_link.getReference()},
+        (mapped_node.getSemanticLinks(time) || []).map{|semantic_link| semantic_link.getReference()},
+        err_msg_prepend + "semantic links"
+      )
+      
+      children = (node.getChildren(time) || []).to_a
+      mapped_children = (mapped_node.getChildren(time) || []).to_a
+      assert_equal(children.size, mapped_children.size, err_msg_prepend + "number of children")
+      for c in 0...children.size
+        assert_equal(children[c].getTest(), mapped_children[c].getTest(), err_msg_prepend + "child link " + c.to_s + " test")
+        nodes_to_check.push([children[c].getChildNode(), mapped_children[c].getChildNode()])
+      end
+    end
+  end
+  
+  Chrest.class_eval{ field_accessor :_reinforcementLearningTheory }
+  mapped_model._reinforcementLearningTheory = ReinforcementLearning::Theory::PROFIT_SHARING_WITH_DISCOUNT_RATE
+  for vision, action in productions_learned
+    mapped_model.setClocks(time - 1)
+    visual_node = mapped_model.recognise(vision, time, true)
+    time = [mapped_model._cognitionClock, mapped_model._attentionClock].max + 1
+    mapped_model.recognise(action, time, true)
+    time = [mapped_model._cognitionClock, mapped_model._attentionClock].max + 1
+    
+    productions_before = (visual_node.getProductions(time) || []).map{|production, value| [production.getReference(), value]}
+    assert_equal(
+      ChrestStatus::PRODUCTION_REINFORCEMENT_FAILED,
+      mapped_model.reinforceProduction(vision, action, [1.0, 0.5, 1.0, 1.0].to_java(:Double), time),
+      "occurred when checking if a model with a MappedLtm reinforces the production between " + vision.toString() + " and " + action.toString()
+    )
+    assert_equal(
+      productions_before, 
+      (visual_node.getProductions(time + 10000) || []).map{|production, value| [production.getReference(), value]},
+      "occurred when checking the productions of the Node recognised for " + vision.toString() + " after reinforcement is attempted"
+    )
+    time += 1000
+  end
+  
+  unlearned_pattern = Pattern.makeVisualList(["Z"].to_java(:String))
+  assert_equal(
+    ChrestStatus::LEARNING_REFUSED, 
+    mapped_model.recogniseAndLearn(unlearned_pattern, time),
+    "occurred when checking if a model with a MappedLtm learns"
+  )
+  
+  mapped_ltm = nil
+  mapped_model = nil
+  java.lang.System.gc()
+  File.delete(image_file) rescue nil
+end
+
+################################################################################
+# Checks that a model that does not record its state history learns and 
+# recognises patterns in the same way as a model that does, and that the 
+# histories of its LTM Nodes and STM only retain their latest states (the most
+# recent state and the state it replaced).
+unit_test "learn_without_recording_state_history" do
+  
+  Chrest.class_eval{ field_accessor :_cognitionClock, :_attentionClock }
+  Node.class_eval{ 
+    field_accessor :_childHistory, :_imageHistory, :_semanticLinksHistory, :_productionHistory, :_namedByHistory
+  }
+  Stm.class_eval{ field_accessor :_itemHistory }
+  
+  time = 0
+  model = Chrest.new(time, false)
+  latest_state_model = Chrest.new(time, false)
+  latest_state_model.setStateHistoryRecording(false)
+  assert_true(model.canRecordStateHistory(), "occurred when checking if state history is recorded by default")
+  assert_false(latest_state_model.canRecordStateHistory(), "occurred when checking if state history recording can be disabled")
+  time += 1
+  
+  patterns = []
+  300.times do
+    visual_list_pattern = ListPattern.new(Modality::VISUAL)
+    (rand(5) + 1).times do
+      visual_list_pattern.add(ItemSquarePattern.new(["T","H","O"].sample, rand(5) - 2, rand(5) - 2))
+    end
+    visual_list_pattern.setFinished() if rand < 0.2
+    patterns.push(visual_list_pattern)
+    
+    model.recogniseAndLearn(visual_list_pattern, time)
+    latest_state_model.recogniseAndLearn(visual_list_pattern, time)
+    assert_equal(model._cognitionClock, latest_state_model._cognitionClock, "occurred when checking the cognition clock after learning " + visual_list_pattern.toString())
+    
+    time = [model._cognitionClock, model._attentionClock].max
+  end
+  
+  assert_equal(model.getLtmSize(time), latest_state_model.getLtmSize(time), "occurred when checking the size of LTM")
+  
+  for pattern in patterns
+    assert_equal(
+      model.recognise(pattern, time, false).getReference(), 
+      latest_state_model.recognise(pattern, time, false).getReference(), 
+      "occurred when checking the Node recognised for " + pattern.toString()
+    )
+  end
+  
+  nodes = [latest_state_model.getLtmModalityRootNode(Modality::VISUAL)]
+  nodes_checked = 0
+  until nodes.empty?
+    node = nodes.shift
+    nodes_checked += 1
+    for history in [node._childHistory, node._imageHistory, node._semanticLinksHistory, node._productionHistory, node._namedByHistory]
+      assert_true(history.size() <= 2, "occurred when checking the size of a history for Node " + node.getReference().to_s)
+    end
+    node.getChildren(time).each{|child| nodes.push(child.getChildNode())}
+  end
+  assert_equal(latest_state_model.getLtmModalitySize(Modality::VISUAL, time) + 1, nodes_checked, "occurred when checking the number of Nodes checked")
+  
+  assert_true(latest_state_model.getStm(Modality::VISUAL)._itemHistory.size() <= 2, "occurred when checking the size of visual STM's item history")
+  assert_true(model.getStm(Modality::VISUAL)._itemHistory.size() > 2, "occurred when checking the size of visual STM's item history when state history is recorded")
+end
+
+################################################################################
+# Checks that the LTM metrics a model maintains as its LTM is modified are the
+# same as those calculated by traversing its LTM, both at the time LTM is last
+# modified and at times before this.
+unit_test "ltm_statistics_match_ltm" do
+  time = 0
+  model = Chrest.new(time, false)
+  time += 1
+  
+  checkpoints = []
+  4.times do
+    100.times do
+      visual_list_pattern = ListPattern.new(Modality::VISUAL)
+      (rand(5) + 1).times do
+        visual_list_pattern.add(ItemSquarePattern.new(["T","H","O"].sample, rand(5) - 2, rand(5) - 2))
+      end
+      
+      action_list_pattern = ListPattern.new(Modality::ACTION)
+      action_list_pattern.add(ItemSquarePattern.new(["MV","PU"].sample, rand(3), rand(3)))
+      
+      model.recogniseAndLearn(visual_list_pattern, time)
+      time = model.getCognitionClock() + 1
+      model.recogniseAndLearn(action_list_pattern, time)
+      time = model.getCognitionClock() + 1
+      model.learnProduction(visual_list_pattern, action_list_pattern, time)
+      time = model.getCognitionClock() + 1
+    end
+    
+    model.makeTemplates(time)
+    time += 1
+    checkpoints.push(time)
+  end
+  
+  for checkpoint in checkpoints
+    error_msg = "occurred when checking LTM at time " + checkpoint.to_s
+    
+    content_size_counts = Hash.new(0)
+    image_size_counts = Hash.new(0)
+    semantic_link_counts = Hash.new(0)
+    templates = 0
+    productions = 0
+    
+    for modality in Modality.values()
+      leaf_depths = []
+      nodes = [[model.getLtmModalityRootNode(modality), 0]]
+      until nodes.empty?
+        node, depth = nodes.shift
+        content_size_counts[node.getContents().size()] += 1
+        image_size_counts[node.getImage(checkpoint).size()] += 1 if node.getImage(checkpoint) != nil
+        semantic_links = node.getSemanticLinks(checkpoint)
+        semantic_link_counts[semantic_links.size()] += 1 if semantic_links != nil && !semantic_links.isEmpty()
+        
+        if modality == Modality::VISUAL
+          templates += 1 if node.isTemplate(checkpoint)
+          productions += node.getProductions(checkpoint).size() if node.getProductions(checkpoint) != nil
+        end
+        
+        children = node.getChildren(checkpoint)
+        if children == nil || children.isEmpty()
+          leaf_depths.push(depth) if depth > 0
+        else
+          children.each{|child| nodes.push([child.getChildNode(), depth + 1])}
+        end
+      end
+      
+      expected_average_depth = (leaf_depths.empty? ? 0.0 : leaf_depths.sum.to_f / leaf_depths.size)
+      assert_equal(expected_average_depth, model.getLtmAverageDepth(modality, checkpoint), "occurred when checking the average depth of " + modality.toString() + " LTM at time " + checkpoint.to_s)
+    end
+    
+    assert_equal(content_size_counts, model.getContentSizeCounts(checkpoint).to_h, "occurred when checking content size counts " + error_msg)
+    assert_equal(image_size_counts, model.getImageSizeCounts(checkpoint).to_h, "occurred when checking image size counts " + error_msg)
+    assert_equal(semantic_link_counts, model.getSemanticLinkCountsAndFrequencies(checkpoint).to_h, "occurred when checking semantic link counts " + error_msg)
+    assert_equal(templates, model.countTemplatesInVisualLtm(checkpoint), "occurred when checking the number of templates " + error_msg)
+    assert_equal(productions, model.getProductionCount(checkpoint), "occurred when checking the number of productions " + error_msg)
+  end
+end
+
+################################################################################
+# Checks that, when a model indexes Node images:
+# 
+# - The Nodes returned as having images similar to a ListPattern are the same as
+#   those found by comparing the ListPattern with the image of every Node in 
+#   LTM.
+# - The Node returned as having the most similar image to a ListPattern shares
+#   as many items with the ListPattern as the most similar Node found by 
+#   comparing the ListPattern with the image of every Node in LTM.
+# - Every pair of Nodes with similar images is semantically linked in both 
+#   directions.
+# - Turning indexing on after LTM has been learned gives the same results.
+unit_test "image_index" do
+  random = Random.new(7)
+  time = 0
+  model = Chrest.new(time, false)
+  model.setNodeImageSimilarityThreshold(2)
+  model.setIndexNodeImages(true)
+  assert_true(model.isIndexingNodeImages())
+  time += 1
+  
+  200.times do
+    visual_list_pattern = ListPattern.new(Modality::VISUAL)
+    (random.rand(5) + 1).times do
+      visual_list_pattern.add(ItemSquarePattern.new(["T","H","O"].sample(random: random), random.rand(3) - 1, random.rand(3) - 1))
+    end
+    model.recogniseAndLearn(visual_list_pattern, time)
+    time = model.getCognitionClock() + 1
+  end
+  
+  unindexed_model = Chrest.new(0, false)
+  assert_false(unindexed_model.isIndexingNodeImages())
+  assert_equal(nil, unindexed_model.getNodesWithSimilarImages(ListPattern.new(Modality::VISUAL), time))
+  
+  nodes = []
+  nodes_to_check = [model.getLtmModalityRootNode(Modality::VISUAL)]
+  until nodes_to_check.empty?
+    node = nodes_to_check.shift
+    nodes.push(node) if !node.isRootNode()
+    node.getChildren(time).each{|child| nodes_to_check.push(child.getChildNode())}
+  end
+  
+  for indexing_turned_on_after_learning in [false, true]
+    if indexing_turned_on_after_learning
+      model.setIndexNodeImages(false)
+      assert_false(model.isIndexingNodeImages())
+      model.setIndexNodeImages(true)
+    end
+    
+    for node in nodes
+      image = node.getImage(time)
+      error_msg = "occurred when checking Node " + node.getReference().to_s + 
+        " with image " + image.toString() + (indexing_turned_on_after_learning ? 
+        " after turning indexing on after learning" : "")
+      
+      shared_items = {}
+      nodes.each{|other_node| shared_items[other_node] = PatternSimilarity.new(image).countSharedItems(other_node.getImage(time), 1000)}
+      expected_similar_nodes = nodes.select{|other_node| shared_items[other_node] >= 2}
+      
+      assert_equal(
+        expected_similar_nodes.map{|n| n.getReference()}.sort, 
+        model.getNodesWithSimilarImages(image, time).map{|n| n.getReference()}.sort,
+        "occurred when checking the Nodes with similar images " + error_msg
+      )
+      
+      most_similar_node = model.getNodeWithMostSimilarImage(image, time)
+      if shared_items.values.max == 0
+        assert_equal(nil, most_similar_node, "occurred when checking the Node with the most similar image " + error_msg)
+      else
+        assert_equal(shared_items.values.max, shared_items[most_similar_node], "occurred when checking the Node with the most similar image " + error_msg)
+      end
+      
+      if !indexing_turned_on_after_learning
+        for similar_node in expected_similar_nodes
+          if similar_node != node
+            assert_true(node.getSemanticLinks(time).contains(similar_node), "occurred when checking if Node " + similar_node.getReference().to_s + " is semantically linked to " + error_msg)
+          end
+        end
+        
+        for semantically_linked_node in node.getSemanticLinks(time)
+          assert_true(semantically_linked_node.getSemanticLinks(time).contains(node), "occurred when checking if Node " + semantically_linked_node.getReference().to_s + " is semantically linked back to " + error_msg)
+        end
+      end
+    end
+  end
+end
+
+################################################################################
+# Constructs random networks of semantically linked Nodes whose information 
+# often ties and checks that:
+# 
+# - When the number of Nodes visited is not limited, searching semantic links
+#   returns the same Node as a depth-first search of every path from the Node 
+#   the search starts from, i.e. the original semantic link search algorithm.
+# - When the number of Nodes visited is limited to 1, the Node the search 
+#   starts from is returned.
+# - When the number of Nodes visited is limited to more than 1, the Node 
+#   returned is within the maximum semantic link search distance and is at 
+#   least as informative as the Node the search starts from.
+unit_test "search_semantic_links" do
+  search_semantic_links_method = Chrest.java_class.declared_method(:searchSemanticLinks, Node.java_class, Java::int)
+  search_semantic_links_method.accessible = true
+  
+  depth_first_search = lambda do |node, distance_remaining, time|
+    best_node = node
+    if distance_remaining > 0
+      semantic_links = node.getSemanticLinks(time)
+      if semantic_links != nil
+        for semantic_link in semantic_links
+          best_child = depth_first_search.call(semantic_link, distance_remaining - 1, time)
+          best_node = best_child if best_child.information(time) > best_node.information(time)
+        end
+      end
+    end
+    best_node
+  end
+  
+  within_distance = lambda do |node, target, distance_remaining, time|
+    return true if node == target
+    return false if distance_remaining == 0 || node.getSemanticLinks(time) == nil
+    node.getSemanticLinks(time).any?{|semantic_link| within_distance.call(semantic_link, target, distance_remaining - 1, time)}
+  end
+  
+  20.times do |network|
+    time = 0
+    model = Chrest.new(time, false)
+    time += 1
+    
+    nodes = []
+    25.times do |n|
+      image = ListPattern.new(Modality::VISUAL)
+      rand(4).times{ image.add(ItemSquarePattern.new(["T","H","O"].sample, rand(3), rand(3))) }
+      nodes.push(Node.new(model, ListPattern.new(Modality::VISUAL), image, time))
+    end
+    
+    time += 1
+    for node in nodes
+      semantic_links_to_add = nodes.sample(rand(4)).to_java(Node)
+      node.addSemanticLinks(java.util.Arrays.asList(semantic_links_to_add), time)
+    end
+    time += 1
+    
+    for maximum_distance in 0..4
+      model.setMaximumSemanticLinkSearchDistance(maximum_distance)
+      
+      for node in nodes
+        error_msg = "occurred when searching from node " + nodes.index(node).to_s + 
+          " in network " + network.to_s + " with a maximum distance of " + maximum_distance.to_s
+        
+        model.setMaximumSemanticLinkSearchNodesVisited(java.lang.Integer::MAX_VALUE)
+        assert_equal(
+          nodes.index(depth_first_search.call(node, maximum_distance, time)),
+          nodes.index(search_semantic_links_method.invoke(model, node, time.to_java(:int))),
+          error_msg
+        )
+        
+        model.setMaximumSemanticLinkSearchNodesVisited(1)
+        assert_equal(nodes.index(node), nodes.index(search_semantic_links_method.invoke(model, node, time.to_java(:int))), error_msg + " and 1 node visited")
+        
+        model.setMaximumSemanticLinkSearchNodesVisited(5)
+        result = search_semantic_links_method.invoke(model, node, time.to_java(:int))
+        assert_true(within_distance.call(node, result, maximum_distance, time), error_msg + " and 5 nodes visited")
+        assert_true(result.information(time) >= node.information(time), error_msg + " and 5 nodes visited")
+      end
+    end
+  end
+end
+
+################################################################################
+# Checks that ExperimentRunner runs an experiment on independent models 
+# concurrently by comparing the learning curves produced by many concurrent 
+# runs with those produced by running the experiment on one model at a time.  
+# Also checks that an exception thrown by one run is recorded without affecting 
+# other runs, that a model can not be used by two runs at once and that mean 
+# curves are calculated correctly.
+unit_test "experiment_runner" do
+  
+  # Each parameter set is the number of trials to run.  On each trial, every 
+  # pattern is learned once and the LTM size of the model after the trial is 
+  # recorded.
+  model_factory = lambda do |trials, seed|
+    raise "No trials" if trials == 0
+    Chrest.new(0, false)
+  end
+  
+  experiment = lambda do |model, trials, seed|
+    patterns = ["A B C", "A B D", "E F", "E G H I"].map{|items| Pattern.makeVisualList(items.split(" ").to_java(:String))}
+    time = 0
+    ltm_sizes = ArrayList.new
+    trials.times do
+      for pattern in patterns
+        model.recogniseAndLearn(pattern, time)
+        time += 10000
+      end
+      ltm_sizes.add(model.getLtmSize(time))
+    end
+    ltm_sizes
+  end
+  
+  parameter_sets = [3, 5, 0, 4]
+  runs = ExperimentRunner.new(model_factory, experiment, 4).run(parameter_sets, 8, 12345)
+  sequential_runs = ExperimentRunner.new(model_factory, experiment, 1).run(parameter_sets, 8, 12345)
+  
+  assert_equal(parameter_sets.size * 8, runs.size, "occurred when checking the number of runs")
+  for i in 0...runs.size
+    run = runs[i]
+    sequential_run = sequential_runs[i]
+    error_msg = "occurred when checking run " + i.to_s
+    
+    assert_equal(parameter_sets[i / 8], run.getParameters(), error_msg)
+    assert_equal(sequential_run.getSeed(), run.getSeed(), error_msg)
+    if run.getParameters() == 0
+      assert_false(run.isSuccessful(), error_msg)
+      assert_equal(nil, run.getResult(), error_msg)
+    else
+      assert_true(run.isSuccessful(), error_msg)
+      assert_equal(run.getParameters(), run.getResult().size(), error_msg)
+      assert_equal(sequential_run.getResult().to_a, run.getResult().to_a, error_msg)
+    end
+  end
+  assert_equal(runs.size, runs.map{|run| run.getSeed()}.uniq.size, "occurred when checking that seeds differ")
+  
+  # A model factory that returns the same model for the first two runs.  The
+  # run that acquires the shared model blocks until the third run starts.  The
+  # third run can only start once the other run using the shared model has
+  # finished, i.e. been rejected, since there are only two threads.  The third
+  # run is given its own model so it succeeds.
+  shared_model = Chrest.new(0, false)
+  models_created = java.util.concurrent.atomic.AtomicInteger.new(0)
+  third_run_started = java.util.concurrent.CountDownLatch.new(1)
+  shared_model_runs = ExperimentRunner.new(
+    lambda do |parameters, seed|
+      next shared_model if models_created.incrementAndGet() <= 2
+      third_run_started.countDown()
+      Chrest.new(0, false)
+    end,
+    lambda do |model, parameters, seed|
+      third_run_started.await() if model == shared_model
+      true
+    end,
+    2
+  ).run([1], 3, 1)
+  assert_equal(
+    [false, true, true], 
+    shared_model_runs.map{|run| run.isSuccessful()}.sort_by{|successful| successful ? 1 : 0},
+    "occurred when checking the runs that share a model succeed or fail"
+  )
+  assert_true(
+    shared_model_runs.find{|run| !run.isSuccessful()}.getException().is_a?(java.lang.IllegalStateException),
+    "occurred when checking the exception thrown by the run rejected"
+  )
+  
+  results = ExperimentRunner.getResults(runs)
+  assert_equal(3 * 8, results.size, "occurred when checking the results of successful runs")
+  expected_mean_curve = (0...5).map do |i|
+    values = results.select{|result| result.size > i}.map{|result| result.get(i).to_f}
+    values.sum / values.size
+  end
+  assert_equal(expected_mean_curve, ExperimentRunner.meanCurve(results).to_a, "occurred when checking the mean curve")
+end
+
+################################################################################
+# Checks that ParameterSweep:
+#
+# - Runs every combination of parameter values in a grid search with the 
+#   values applied to the model, the values of the last parameter varying 
+#   fastest.
+# - Chooses the same combinations in a random search when the same seed is 
+#   specified.
+# - Returns results saved by a previous sweep without running their 
+#   configurations again and only runs the configurations whose results are 
+#   not saved.
+# - Pre-trains a model once for each combination of values of the parameters 
+#   that pre-training depends on and runs configurations on models whose LTM 
+#   is restored from the pre-trained model.
+unit_test "parameter_sweep" do
+  cache_directory = java.nio.file.Files.createTempDirectory("chrest-sweep").toFile()
+  
+  begin
+    parameters = [
+      ParameterSweep::Parameter.setter("FamiliarisationTime", [1000, 2000]),
+      ParameterSweep::Parameter.setter("DiscriminationTime", [5000, 10000]),
+      ParameterSweep::Parameter.setter("TemplateConstructionParameters", [[4, 3].to_java]),
+      ParameterSweep::Parameter.stmCapacity(Modality::VISUAL, [2, 4])
+    ]
+    
+    experiments_run = java.util.concurrent.atomic.AtomicInteger.new(0)
+    experiment = lambda do |model, configuration, seed|
+      experiments_run.incrementAndGet()
+      result = ArrayList.new
+      result.add(model.getLtmSize(0))
+      
+      time = 0
+      ["A B C", "A B D", "E F"].each do |items|
+        time = [time, model.getCognitionClock()].max
+        model.recogniseAndLearn(Pattern.makeVisualList(items.split(" ").to_java(:String)), time)
+      end
+      
+      result.add(model.getFamiliarisationTime())
+      result.add(model.getDiscriminationTime())
+      result.add(model.getMinNodeDepthInNetworkToBeTemplate())
+      result.add(model.getMinItemOrPositionOccurrencesToBeSlotValue())
+      result.add(model.getStm(Modality::VISUAL).getCapacity(time))
+      result.add(model.getLtmSize(time))
+      result
+    end
+    
+    sweep = ParameterSweep.new(parameters, experiment, cache_directory)
+    sweep.setParallelism(4)
+    
+    ##### GRID SEARCH #####
+    
+    configurations = sweep.grid(2, 42)
+    assert_equal(2 * 2 * 1 * 2 * 2, configurations.size, "occurred when checking the number of grid configurations")
+    expected_values = []
+    [1000, 2000].each{|f| [5000, 10000].each{|d| [2, 4].each{|c| 2.times{ expected_values << [f, d, c] } } } }
+    for i in 0...configurations.size
+      configuration = configurations[i]
+      assert_equal(expected_values[i], [configuration.get("FamiliarisationTime"), configuration.get("DiscriminationTime"), configuration.get("visualStmCapacity")], "occurred when checking the values of grid configuration " + i.to_s)
+      assert_equal(i % 2, configuration.getRun(), "occurred when checking the run of grid configuration " + i.to_s)
+    end
+    assert_equal(configurations.to_a, sweep.grid(2, 42).to_a, "occurred when checking that the same grid is returned for the same seed")
+    
+    runs = sweep.run(configurations)
+    assert_equal(configurations.size, experiments_run.get(), "occurred when checking the number of experiments run")
+    for i in 0...runs.size
+      run = runs[i]
+      error_msg = "occurred when checking the result of grid configuration " + i.to_s
+      assert_true(run.isSuccessful(), error_msg)
+      assert_true(run.getParameters().equal?(configurations[i]) || run.getParameters() == configurations[i], error_msg)
+      assert_equal(configurations[i].getSeed(), run.getSeed(), error_msg)
+      assert_equal(expected_values[i][0..1] + [4, 3, expected_values[i][2]], run.getResult().to_a[1..5], error_msg)
+    end
+    
+    ##### RESUMING #####
+    
+    # Delete the saved results of some configurations to simulate an 
+    # interrupted sweep.
+    result_files = Dir.glob(File.join(cache_directory.getAbsolutePath(), "*.result")).sort
+    assert_equal(configurations.size, result_files.size, "occurred when checking the number of results saved")
+    result_files.take(3).each{|file| File.delete(file)}
+    
+    experiments_run.set(0)
+    resumed_runs = sweep.run(configurations)
+    assert_equal(3, experiments_run.get(), "occurred when checking the number of experiments run when a sweep is resumed")
+    for i in 0...runs.size
+      assert_equal(runs[i].getResult().to_a, resumed_runs[i].getResult().to_a, "occurred when checking the result of resumed configuration " + i.to_s)
+    end
+    
+    ##### RANDOM SEARCH #####
+    
+    random_configurations = sweep.random(5, 1, 7)
+    assert_equal(5, random_configurations.size, "occurred when checking the number of random configurations")
+    assert_equal(random_configurations.to_a, sweep.random(5, 1, 7).to_a, "occurred when checking that the same random configurations are returned for the same seed")
+    for configuration in random_configurations
+      assert_true([1000, 2000].include?(configuration.get("FamiliarisationTime")), "occurred when checking the values of random configuration " + configuration.toString())
+      assert_true([2, 4].include?(configuration.get("visualStmCapacity")), "occurred when checking the values of random configuration " + configuration.toString())
+    end
+    
+    ##### PRE-TRAINING #####
+    
+    pretraining_run = java.util.concurrent.atomic.AtomicInteger.new(0)
+    pretraining = lambda do |model, configuration, seed|
+      pretraining_run.incrementAndGet()
+      time = 0
+      ["G H I", "J K", "L"].each do |items|
+        time = [time, model.getCognitionClock()].max
+        model.recogniseAndLearn(Pattern.makeVisualList(items.split(" ").to_java(:String)), time)
+      end
+      nil
+    end
+    
+    pretrained_sweep = ParameterSweep.new(parameters, experiment, java.io.File.new(cache_directory, "pretrained"))
+    pretrained_sweep.setPretraining(1, pretraining)
+    pretrained_runs = pretrained_sweep.run(configurations)
+    
+    assert_equal(2, pretraining_run.get(), "occurred when checking the number of models pre-trained")
+    for i in 0...pretrained_runs.size
+      error_msg = "occurred when checking the result of pre-trained configuration " + i.to_s
+      assert_true(pretrained_runs[i].isSuccessful(), error_msg)
+      assert_true(pretrained_runs[i].getResult().get(0) > runs[i].getResult().get(0), error_msg + " (LTM size before the experiment)")
+      assert_equal(runs[i].getResult().to_a[1..5], pretrained_runs[i].getResult().to_a[1..5], error_msg)
+    end
+    
+    pretrained_sweep.run(configurations)
+    assert_equal(2, pretraining_run.get(), "occurred when checking the number of models pre-trained when a sweep is resumed")
+  ensure
+    Dir.glob(File.join(cache_directory.getAbsolutePath(), "**", "*")).sort.reverse.each{|file| File.directory?(file) ? Dir.rmdir(file) : File.delete(file)}
+    Dir.rmdir(cache_directory.getAbsolutePath())
+  end
+end
+
+################################################################################
+# Checks that Chrest.fork() creates an independent model whose LTM has the 
+# state of the original's LTM at the time of forking, that Nodes are copied 
+# lazily and share their images with the original, that parameters are copied
+# and that invalid forks are rejected.
+unit_test "fork" do
+  Chrest.class_eval{
+    field_accessor :_forkedNodes, :_cognitionClock, :_attentionClock
+  }
+  Node.class_eval{
+    field_accessor :_forkedFrom
+  }
+  
+  time = 0
+  model = Chrest.new(time, false)
+  model.setFamiliarisationTime(3000)
+  model.getStm(Modality::VISUAL).setCapacity(6, time + 1)
+  time += 1
+  
+  learn = lambda do |learner, items, t|
+    pattern = Pattern.makeVisualList(items.split(" ").to_java(:String))
+    5.times do
+      learner.recogniseAndLearn(pattern, t)
+      t = [learner._cognitionClock, learner._attentionClock].max + 1
+    end
+    t
+  end
+  
+  for items in ["A B C", "A B D", "E F", "E G H I", "J K"]
+    time = learn.call(model, items, time)
+  end
+  
+  fork_time = time
+  original_ltm_size = model.getLtmSize(fork_time)
+  fork = model.fork(fork_time)
+  
+  assert_equal(3, fork._forkedNodes.size(), "occurred when checking the Nodes copied when forking")
+  assert_equal(original_ltm_size, fork.getLtmSize(fork_time), "occurred when checking the LTM size of the fork")
+  assert_equal(model.getLtmAverageDepth(Modality::VISUAL, fork_time), fork.getLtmAverageDepth(Modality::VISUAL, fork_time), "occurred when checking the LTM depth of the fork")
+  assert_equal(3000, fork.getFamiliarisationTime(), "occurred when checking the familiarisation time of the fork")
+  assert_equal(6, fork.getStm(Modality::VISUAL).getCapacity(fork_time), "occurred when checking the visual STM capacity of the fork")
+  
+  # Recognising a pattern in the fork retrieves a copy of the Node recognised 
+  # in the original that shares its image.
+  pattern = Pattern.makeVisualList(["A", "B", "C"].to_java(:String))
+  node = model.recognise(pattern, fork_time, false)
+  forked_node = fork.recognise(pattern, fork_time, false)
+  assert_equal(node.getReference(), forked_node.getReference(), "occurred when checking the reference of the Node recognised")
+  assert_false(node.equal?(forked_node), "occurred when checking that the Node recognised is a copy")
+  assert_equal(node.getCreationTime(), forked_node.getCreationTime(), "occurred when checking the creation time of the Node recognised")
+  assert_true(forked_node.getCreationTime() < fork_time, "occurred when checking that the creation time of the Node recognised is not the fork time")
+  assert_equal(
+    java.lang.System.identityHashCode(node.getImage(fork_time)),
+    java.lang.System.identityHashCode(forked_node.getImage(fork_time)),
+    "occurred when checking that the image of the Node recognised is shared"
+  )
+  assert_true(
+    fork._forkedNodes.values().count{|n| n._forkedFrom.nil?} < original_ltm_size, 
+    "occurred when checking that only the Nodes accessed are copied"
+  )
+  
+  # The fork and the original diverge when either learns.
+  fork_learning_time = learn.call(fork, "X Y Z", fork_time)
+  assert_equal(original_ltm_size, model.getLtmSize(fork_learning_time), "occurred when checking the LTM size of the original after the fork learns")
+  assert_true(fork.getLtmSize(fork_learning_time) > original_ltm_size, "occurred when checking the LTM size of the fork after it learns")
+  
+  x_y_z = Pattern.makeVisualList(["X", "Y", "Z"].to_java(:String))
+  assert_true(model.recognise(x_y_z, fork_learning_time, false).isRootNode(), "occurred when checking if the original recognises what the fork learned")
+  
+  time = learn.call(model, "P Q R", fork_time)
+  p_q_r = Pattern.makeVisualList(["P", "Q", "R"].to_java(:String))
+  assert_false(model.recognise(p_q_r, time, false).isRootNode(), "occurred when checking if the original recognises what it learned after forking")
+  assert_true(fork.recognise(p_q_r, time, false).isRootNode(), "occurred when checking if the fork recognises what the original learned after forking")
+  
+  # A fork of a model that doesn't record its state history is copied 
+  # immediately (LTM size excludes the modality root Nodes).
+  model.setStateHistoryRecording(false)
+  eager_fork = model.fork(time)
+  assert_equal(model.getLtmSize(time) + 3, eager_fork._forkedNodes.values().count{|n| n._forkedFrom.nil?}, "occurred when checking the Nodes copied when forking a model that doesn't record its state history")
+  learn.call(model, "S T U", time)
+  assert_false(eager_fork.recognise(p_q_r, time, false).isRootNode(), "occurred when checking if a model forked eagerly recognises what the original learned before forking")
+  
+  exception_thrown = false
+  begin
+    model.fork(-1)
+  rescue java.lang.IllegalArgumentException
+    exception_thrown = true
+  end
+  assert_true(exception_thrown, "occurred when checking if a model can be forked before it was created")
+end
+################################################################################
+# Checks that the random choices made by a model are reproducible when the 
+# model is seeded, including by the copies forked from it and when models are
+# run concurrently by an ExperimentRunner, and that they differ when the seed 
+# differs.
+unit_test "random_seed" do
+  Chrest.class_eval{
+    field_accessor :_cognitionClock, :_attentionClock
+  }
+  
+  # Learns some patterns with a 50% chance of learning refusal and returns the
+  # LTM size after each pattern is presented.
+  experiment = lambda do |model, parameters, seed|
+    model.setRho(0.5)
+    patterns = ["A B C", "A B D", "E F", "E G H I", "J K", "L M N O"].map{|items| Pattern.makeVisualList(items.split(" ").to_java(:String))}
+    time = 0
+    ltm_sizes = ArrayList.new
+    4.times do
+      for pattern in patterns
+        model.recogniseAndLearn(pattern, time)
+        time = [model._cognitionClock, model._attentionClock, time].max + 1
+        ltm_sizes.add(model.getLtmSize(time))
+      end
+    end
+    ltm_sizes
+  end
+  
+  seeded_model = lambda do |seed|
+    model = Chrest.new(0, false)
+    model.setRandomSeed(seed)
+    model
+  end
+  
+  first = experiment.call(seeded_model.call(42), nil, 42).to_a
+  assert_equal(first, experiment.call(seeded_model.call(42), nil, 42).to_a, "occurred when checking models with the same seed")
+  assert_false(first == experiment.call(seeded_model.call(43), nil, 43).to_a, "occurred when checking models with different seeds")
+  
+  assert_equal(
+    seeded_model.call(42).fork(0).getRandom().nextLong(),
+    seeded_model.call(42).fork(0).getRandom().nextLong(),
+    "occurred when checking the random choices of models forked from models with the same seed"
+  )
+  
+  model_factory = lambda{|parameters, seed| Chrest.new(0, false)}
+  runs = ExperimentRunner.new(model_factory, experiment, 4).run([nil], 16, 12345)
+  sequential_runs = ExperimentRunner.new(model_factory, experiment, 1).run([nil], 16, 12345)
+  for i in 0...runs.size
+    assert_equal(sequential_runs[i].getResult().to_a, runs[i].getResult().to_a, "occurred when checking run " + i.to_s)
+  end
+end
 
 ################################################################################
 ################################################################################
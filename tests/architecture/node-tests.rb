@@ -727,6 +727,125 @@ process_test "child functionality" do
   )
 end
 
+################################################################################
+# Checks that Node.getChildPassedBy() returns the same Link as checking every 
+# Link returned by Node.getChildren() in order, at any time, when a Node has 
+# few or many children (the Links checked are indexed in the latter case).
+unit_test "get_child_passed_by" do
+  
+  #Node.addChild() needs to be made publicly accessible
+  add_child = Node.java_class.declared_method(:addChild, ListPattern, Node, Java::int, java.lang.String)
+  add_child.accessible = true
+  
+  items = ["A", "B", "C"]
+  make_pattern = lambda do |size, finished|
+    pattern = ListPattern.new(Modality::VISUAL)
+    size.times { pattern.add(StringPattern.create(items.sample)) }
+    pattern.setFinished() if finished
+    pattern
+  end
+  
+  20.times do
+    model = Chrest.new(0, false)
+    parent = Node.new(model, make_pattern.call(1, false), make_pattern.call(1, false), 1)
+    time = 1
+    
+    [rand(1..7), rand(8..40)].sample.times do
+      time += rand(1..3)
+      test = make_pattern.call(rand(0..3), rand < 0.2)
+      child = Node.new(model, test, test, time)
+      add_child.invoke(parent, test, child, time.to_java(:int), "")
+    end
+    
+    100.times do
+      time_to_check = rand(0..(time + 2))
+      pattern = make_pattern.call(rand(0..4), rand < 0.3)
+      
+      expected_link = nil
+      children = parent.getChildren(time_to_check)
+      if children != nil
+        children.each do |link|
+          if link.passes(pattern)
+            expected_link = link
+            break
+          end
+        end
+      end
+      
+      assert_equal(
+        expected_link,
+        parent.getChildPassedBy(pattern, time_to_check),
+        "occurred when checking the Link passed by " + pattern.toString() + 
+        " at time " + time_to_check.to_s
+      )
+    end
+  end
+end
+
+################################################################################
+# Checks that each entry in a Node's child history contains the Links added up
+# to that time, most recent first, without copying the Links of the previous 
+# entry (each entry should be a PrependedList constructed using the previous 
+# entry) whilst supporting access by index, and that entries can not be 
+# modified.  Also checks that prepending to an entry that has already been 
+# prepended to does not modify either entry.
+unit_test "child_history_shares_structure" do
+  
+  Node.class_eval{
+    field_accessor :_childHistory
+  }
+  
+  add_child = Node.java_class.declared_method(:addChild, ListPattern, Node, Java::int, java.lang.String)
+  add_child.accessible = true
+  
+  # The parent must have a different reference to its children.
+  increment_next_node_reference = Chrest.java_class.declared_method(:incrementNextNodeReference)
+  increment_next_node_reference.accessible = true
+  
+  model = Chrest.new(0, false)
+  parent = Node.new(model, ListPattern.new(Modality::VISUAL), ListPattern.new(Modality::VISUAL), 1)
+  increment_next_node_reference.invoke(model)
+  
+  expected_children = ArrayList.new()
+  for time in 2..51
+    test = ListPattern.new(Modality::VISUAL)
+    test.add(NumberPattern.create(time))
+    child = Node.new(model, test, test, time)
+    add_child.invoke(parent, test, child, time.to_java(:int), "")
+    expected_children.add(0, parent.getChildren(time).get(0))
+    
+    children = parent.getChildren(time)
+    assert_true(children.java_kind_of?(PrependedList), "occurred when checking the type of the children at time " + time.to_s)
+    assert_true(children.java_kind_of?(java.util.RandomAccess), "occurred when checking if the children at time " + time.to_s + " can be accessed by index")
+    assert_equal(expected_children, children, "occurred when checking the children at time " + time.to_s)
+    assert_equal(expected_children.to_a, children.to_a, "occurred when iterating through the children at time " + time.to_s)
+    assert_equal(test, children.get(0).getTest(), "occurred when checking the first child at time " + time.to_s)
+    assert_equal(
+      expected_children.get(expected_children.size() - 1), 
+      children.get(children.size() - 1), 
+      "occurred when checking the last child at time " + time.to_s
+    )
+  end
+  
+  assert_equal(51, parent._childHistory.size(), "occurred when checking the number of child history entries")
+  
+  children_at_50 = parent.getChildren(50).to_a
+  children_at_51 = parent.getChildren(51).to_a
+  branch_head = Link.new(ListPattern.new(Modality::VISUAL), parent, 52, "")
+  branch = PrependedList.new(branch_head, parent.getChildren(50))
+  assert_equal([branch_head] + children_at_50, branch.to_a, "occurred when checking an entry prepended to an entry that has already been prepended to")
+  assert_equal(children_at_50, parent.getChildren(50).to_a, "occurred when checking the children at time 50 after a second entry is prepended to them")
+  assert_equal(children_at_51, parent.getChildren(51).to_a, "occurred when checking the children at time 51 after a second entry is prepended to the children at time 50")
+  
+  exception_thrown = false
+  begin
+    parent.getChildren(51).add(parent.getChildren(51).get(0))
+  rescue Java::JavaLang::UnsupportedOperationException
+    exception_thrown = true
+  end
+  assert_true(exception_thrown, "occurred when checking if child history entries can be modified")
+end
+
 ################################################################################
 # Tests functions that are concerned with getting, setting and extending the
 # image of a Node.
@@ -2276,3 +2395,78 @@ unit_test "get_all_information" do
   end
 end
 
+################################################################################
+# Checks that Node.information(), Node.getAllInformation() and 
+# Node.getAllInformationSize() return the values that would be calculated from
+# the image and filled slots of a Node at the time requested when they are 
+# invoked repeatedly at different times, including after the image and filled 
+# slots of the Node change, and that modifying the ListPattern returned by 
+# Node.getAllInformation() does not affect the values returned subsequently.
+unit_test "information_caching" do
+  
+  Node.class_eval{
+    field_accessor :_imageHistory, :_filledItemSlotsHistory, :_filledPositionSlotsHistory
+  }
+  
+  ListPattern.class_eval{
+    field_accessor :_list
+  }
+  
+  # Node.setImage() has private access so, to use it in this test, its 
+  # accessibility must be public.
+  set_image = Node.java_class.declared_method(:setImage, ListPattern, Java::int)
+  set_image.accessible = true
+  
+  20.times do
+    model = Chrest.new(0, [true, false].sample)
+    
+    contents = ListPattern.new(Modality::VISUAL)
+    contents._list.add(ItemSquarePattern.new("A", 3, 3))
+    node = Node.new(model, contents, ListPattern.new(Modality::VISUAL), 5)
+    
+    # The image is a variable number of items, the first of which may be the 
+    # item in the node's contents.
+    image = ListPattern.new(Modality::VISUAL)
+    image._list.add(ItemSquarePattern.new("A", 3, 3)) if [true, false].sample
+    rand(1..4).times{|i| image._list.add(ItemSquarePattern.new("B", i, i))}
+    time_image_updated = 10
+    node._imageHistory.put(time_image_updated.to_java(:int), image)
+    
+    filled_item_slots = ArrayList.new
+    filled_item_slots.add(ItemSquarePattern.new("C", 5, 3))
+    filled_item_slots.add(ItemSquarePattern.new("B", 1, 1))
+    filled_item_slots_history = HistoryTreeMap.new
+    time_item_slots_filled = 15
+    filled_item_slots_history.put(time_item_slots_filled.to_java(:int), filled_item_slots)
+    node._filledItemSlotsHistory = filled_item_slots_history
+    
+    # Each time is checked twice in a random order so that cached and 
+    # calculated values are both checked.  The image is then changed and the
+    # times around the change are checked again.
+    for times, image_changed in [[(5..20).to_a, false], [(15..30).to_a, true]]
+      if image_changed
+        new_image = ListPattern.new(Modality::VISUAL)
+        new_image._list.add(ItemSquarePattern.new("D", 2, 2))
+        time_image_changed = 25
+        assert_true(set_image.invoke(node, new_image, time_image_changed))
+      end
+      
+      for time in (times * 2).shuffle
+        expected_info = ListPattern.new(Modality::VISUAL).append(contents)
+        image_at_time = node.getImage(time)
+        image_remainder = image_at_time.remove(contents)
+        expected_info = expected_info.append(image_remainder)
+        filled_slots = node.getFilledSlots(time)
+        expected_info = expected_info.append(filled_slots.remove(contents).remove(image_remainder)) if filled_slots != nil
+
+        error_msg = "occurred when checking information at time " + time.to_s + (image_changed ? " after the image changed" : "")
+        assert_equal(image_at_time.size, node.information(time), error_msg)
+        assert_equal(expected_info.toString, node.getAllInformation(time).toString, error_msg)
+        assert_equal(expected_info.size, node.getAllInformationSize(time), error_msg)
+
+        node.getAllInformation(time)._list.add(ItemSquarePattern.new("Z", 9, 9))
+        assert_equal(expected_info.toString, node.getAllInformation(time).toString, error_msg + " after modifying the information returned")
+      end
+    end
+  end
+end
@@ -194,10 +194,6 @@ unit_test "add_fixation" do
     field_accessor :_terminus
   }
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   # Need access to private instance variables of Fixation.
   Fixation.class_eval{
     field_accessor :_scene, :_colFixatedOn, :_rowFixatedOn, :_performanceTime, :_performed
@@ -275,11 +271,11 @@ unit_test "add_fixation" do
       scene = Scene.new("", 5, 5, 1, 1, visual_spatial_field)
       
       #Add items using scene-specific coordinates.
-      if [11,12,23,24].include?(scenario) then scene._scene.get(2).set(1, SceneObject.new("0", Scene.getCreatorToken())) end
-      scene._scene.get(2).set(3, SceneObject.new("1", "P"))
-      scene._scene.get(4).set(3, SceneObject.new("2", "K"))
-      scene._scene.get(0).set(2, SceneObject.new("3", "G"))
-      scene._scene.get(3).set(1, SceneObject.new("4", "H"))
+      if [11,12,23,24].include?(scenario) then scene.addObjectToSquare(2, 1, SceneObject.new("0", Scene.getCreatorToken())) end
+      scene.addObjectToSquare(2, 3, SceneObject.new("1", "P"))
+      scene.addObjectToSquare(4, 3, SceneObject.new("2", "K"))
+      scene.addObjectToSquare(0, 2, SceneObject.new("3", "G"))
+      scene.addObjectToSquare(3, 1, SceneObject.new("4", "H"))
 
       ##############################
       ##### CONSTRUCT FIXATION #####
@@ -1170,10 +1166,6 @@ unit_test "learn_from_new_fixatons" do
     field_accessor :_domainSpecifics
   }
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   # Need access to the private, non-final "_fixationToLearnFrom" Perceiver 
   # instance variable so it can be examined during testing.
   Perceiver.class_eval{
@@ -1211,7 +1203,7 @@ unit_test "learn_from_new_fixatons" do
       scene_to_fixate_on = Scene.new("test",13,13,1,1,nil)
 
       # Add the creator to the Scene.  
-      scene_to_fixate_on._scene.get(6).set(6, SceneObject.new("0", Scene.getCreatorToken()))
+      scene_to_fixate_on.addObjectToSquare(6, 6, SceneObject.new("0", Scene.getCreatorToken()))
 
       #########################
       ##### SET FIXATIONS #####
@@ -560,11 +560,9 @@ unit_test "get_as_scene" do
     field_accessor :_timeCreated, :_terminus
   }
   
-  scene_scene_field = Scene.java_class.declared_field("_scene")
   scene_height_field = Scene.java_class.declared_field("_height")
   scene_width_field = Scene.java_class.declared_field("_width")
   scene_visual_spatial_field_represented_field = Scene.java_class.declared_field("_visualSpatialFieldRepresented")
-  scene_scene_field.accessible = true
   scene_height_field.accessible = true
   scene_width_field.accessible = true
   scene_visual_spatial_field_represented_field.accessible = true
@@ -673,7 +671,7 @@ unit_test "get_as_scene" do
     if result != nil
       for col in 0...scene_width_field.value(result)
         for row in 0...scene_height_field.value(result)
-          object = scene_scene_field.value(result).get(col).get(row)
+          object = result.getSquareContents(col, row)
 
           # Since there is a 50% chance SceneObjects on rows 1 and 2 may have 
           # either blind or empty square object types, the variables that store 
@@ -929,6 +927,174 @@ unit_test "get_coordinate_contents" do
   end
 end
 
+################################################################################
+# Checks "getMostRecentObjectAlive()" and "getMostRecentObjectsAlive()" using a 
+# VisualSpatialField with two coordinates: (0, 0) contains three 
+# VisualSpatialFieldObjects whose lifespans overlap and (1, 0) is empty.
+#
+# At each time checked, the VisualSpatialFieldObject returned for (0, 0) should 
+# be the last alive VisualSpatialFieldObject returned by 
+# "getCoordinateContents()", nil should be returned for (1, 0) and for 
+# coordinates not represented and the snapshot should contain the same 
+# VisualSpatialFieldObjects.  Passing the snapshot returned back to the function
+# should reuse it whereas passing an array with the wrong length should not.
+unit_test "get_most_recent_object_alive" do
+  visual_spatial_field_field = VisualSpatialField.java_class.declared_field("_visualSpatialField")
+  visual_spatial_field_field.accessible = true
+  
+  VisualSpatialFieldObject.class_eval{
+    field_accessor :_terminus
+  }
+  
+  time = 0
+  model = Chrest.new(time, true)
+  visual_spatial_field = VisualSpatialField.new("", 2, 1, 0, 0, model, nil, time)
+  
+  obj_1 = VisualSpatialFieldObject.new("obj_1", "A", model, visual_spatial_field, time, false, false)
+  obj_2 = VisualSpatialFieldObject.new("obj_2", "B", model, visual_spatial_field, time, false, false)
+  obj_3 = VisualSpatialFieldObject.new("obj_3", "C", model, visual_spatial_field, time + 50, false, false)
+  obj_1._terminus = time + 100
+  obj_2._terminus = time + 200
+  obj_3._terminus = time + 80
+  
+  coordinate_contents = visual_spatial_field_field.value(visual_spatial_field).get(0).get(0).lastEntry().getValue()
+  coordinate_contents.add(obj_1)
+  coordinate_contents.add(obj_2)
+  coordinate_contents.add(obj_3)
+  
+  expected_results = {
+    time => obj_2,
+    time + 60 => obj_3,
+    time + 90 => obj_2,
+    time + 150 => obj_2,
+    time + 250 => nil
+  }
+  
+  snapshot = nil
+  expected_results.each do |time_to_check, expected_result|
+    alive = visual_spatial_field.getCoordinateContents(0, 0, time_to_check, false).to_a
+    assert_equal((alive.empty? ? nil : alive.last), expected_result, "occurred when checking the expected result at time " + time_to_check.to_s)
+    
+    assert_equal(expected_result, visual_spatial_field.getMostRecentObjectAlive(0, 0, time_to_check), "occurred when checking (0, 0) at time " + time_to_check.to_s)
+    assert_equal(nil, visual_spatial_field.getMostRecentObjectAlive(1, 0, time_to_check), "occurred when checking (1, 0) at time " + time_to_check.to_s)
+    assert_equal(nil, visual_spatial_field.getMostRecentObjectAlive(2, 0, time_to_check), "occurred when checking (2, 0) at time " + time_to_check.to_s)
+    assert_equal(nil, visual_spatial_field.getMostRecentObjectAlive(0, -1, time_to_check), "occurred when checking (0, -1) at time " + time_to_check.to_s)
+    
+    previous_snapshot = snapshot
+    snapshot = visual_spatial_field.getMostRecentObjectsAlive(time_to_check, snapshot)
+    assert_equal([expected_result, nil], snapshot.to_a, "occurred when checking the snapshot at time " + time_to_check.to_s)
+    if previous_snapshot != nil
+      assert_true(snapshot.equal?(previous_snapshot), "occurred when checking if the snapshot is reused at time " + time_to_check.to_s)
+    end
+  end
+  
+  wrong_length_snapshot = VisualSpatialFieldObject[3].new
+  snapshot = visual_spatial_field.getMostRecentObjectsAlive(time, wrong_length_snapshot)
+  assert_false(snapshot.equal?(wrong_length_snapshot), "occurred when checking if a snapshot with the wrong length is reused")
+  assert_equal([obj_2, nil], snapshot.to_a, "occurred when checking a snapshot taken using an array with the wrong length")
+end
+
+################################################################################
+# Checks that changes made to a VisualSpatialField and its 
+# VisualSpatialFieldObjects while a transaction is in progress are undone when
+# the transaction is rolled back and kept when it is committed, both when the 
+# CHREST model associated with the VisualSpatialField records its state history
+# and when it does not.
+#
+# The changes made are: adding a VisualSpatialFieldObject to coordinates that 
+# are empty (so the empty square's terminus is set), adding an empty square to 
+# coordinates that are occupied (so the occupant's terminus is set), adding a
+# VisualSpatialFieldObject at the same time as another and setting the terminus
+# and recognised status of VisualSpatialFieldObjects directly.
+#
+# Also checks that a transaction can not be started when one is already in 
+# progress and can not be committed or rolled back when none is in progress.
+unit_test "transaction" do
+  visual_spatial_field_field = VisualSpatialField.java_class.declared_field("_visualSpatialField")
+  visual_spatial_field_field.accessible = true
+  
+  # Records the history of every coordinate and the state of every 
+  # VisualSpatialFieldObject on the VisualSpatialField specified.
+  record_state = lambda do |visual_spatial_field|
+    state = []
+    vsf = visual_spatial_field_field.value(visual_spatial_field)
+    for col in 0...visual_spatial_field.getWidth()
+      for row in 0...visual_spatial_field.getHeight()
+        vsf.get(col).get(row).entrySet().each do |entry|
+          state.push([col, row, entry.getKey(), entry.getValue().map{|vsfo| 
+            [vsfo.getIdentifier(), vsfo.getTerminus(), (0..300).map{|t| vsfo.isRecognised(t)}]
+          }])
+        end
+      end
+    end
+    state
+  end
+  
+  for record_history in [true, false]
+    for commit in [true, false]
+      time = 0
+      model = Chrest.new(time, false)
+      model.setStateHistoryRecording(record_history)
+      visual_spatial_field = VisualSpatialField.new("", 3, 1, 0, 0, model, nil, time)
+      
+      obj_a = VisualSpatialFieldObject.new("a", "A", model, visual_spatial_field, time + 10, false, true)
+      empty = VisualSpatialFieldObject.new(Scene.getEmptySquareToken(), model, visual_spatial_field, time + 10, false, true)
+      visual_spatial_field.addObjectToCoordinates(0, 0, obj_a, time + 10)
+      visual_spatial_field.addObjectToCoordinates(1, 0, empty, time + 10)
+      
+      state_before_transaction = record_state.call(visual_spatial_field)
+      
+      visual_spatial_field.beginTransaction()
+      assert_true(visual_spatial_field.isTransactionInProgress(), "occurred when checking if a transaction is in progress after beginning one")
+      
+      exception_thrown = false
+      begin
+        visual_spatial_field.beginTransaction()
+      rescue
+        exception_thrown = true
+      end
+      assert_true(exception_thrown, "occurred when checking if an exception is thrown when a transaction is already in progress")
+      
+      obj_b = VisualSpatialFieldObject.new("b", "B", model, visual_spatial_field, time + 20, false, true)
+      visual_spatial_field.addObjectToCoordinates(1, 0, obj_b, time + 20)
+      visual_spatial_field.addObjectToCoordinates(0, 0, VisualSpatialFieldObject.new(Scene.getEmptySquareToken(), model, visual_spatial_field, time + 30, false, true), time + 30)
+      visual_spatial_field.addObjectToCoordinates(2, 0, VisualSpatialFieldObject.new("c", "C", model, visual_spatial_field, time + 30, false, true), time + 30)
+      obj_a.setRecognised(time + 25, true)
+      obj_b.setUnrecognised(time + 20, false)
+      obj_b.setTerminus(time + 40, true)
+      
+      state_after_changes = record_state.call(visual_spatial_field)
+      assert_false(state_before_transaction == state_after_changes, "occurred when checking if the changes made are recorded")
+      
+      if commit
+        visual_spatial_field.commitTransaction()
+        assert_equal(state_after_changes, record_state.call(visual_spatial_field), "occurred when checking the state after committing a transaction")
+      else
+        visual_spatial_field.rollBackTransaction()
+        assert_equal(state_before_transaction, record_state.call(visual_spatial_field), "occurred when checking the state after rolling back a transaction")
+      end
+      assert_false(visual_spatial_field.isTransactionInProgress(), "occurred when checking if a transaction is in progress after it has ended")
+      
+      for function in ["commitTransaction", "rollBackTransaction"]
+        exception_thrown = false
+        begin
+          visual_spatial_field.send(function)
+        rescue
+          exception_thrown = true
+        end
+        assert_true(exception_thrown, "occurred when checking if an exception is thrown when invoking " + function + " with no transaction in progress")
+      end
+      
+      # Changes made after a transaction ends should not be undone by a later 
+      # roll back.
+      obj_a.setTerminus(time + 300, true)
+      visual_spatial_field.beginTransaction()
+      visual_spatial_field.rollBackTransaction()
+      assert_equal(time + 300, obj_a.getTerminus(), "occurred when checking a change made outside of a transaction")
+    end
+  end
+end
+
 ################################################################################
 # Tests "getCreatorDetails()" using three scenarios:
 # 
@@ -0,0 +1,72 @@
+# Chrest tests for running experiments from the command line
+
+################################################################################
+# Checks that Batch runs the experiments described by the sample data files, 
+# writing one record per pattern or stimulus per trial, and reports invalid 
+# arguments and unsupported tasks.
+unit_test "batch" do
+  sample_data = File.expand_path("../examples/sample-data", File.dirname(__FILE__))
+  
+  run = lambda do |args|
+    out = java.io.ByteArrayOutputStream.new
+    err = java.io.ByteArrayOutputStream.new
+    status = Batch.run(args.to_java(:String), java.io.PrintStream.new(out), java.io.PrintStream.new(err))
+    [status, out.toString("UTF-8").lines.map(&:chomp), err.toString("UTF-8")]
+  end
+  
+  ##### recognise-and-learn (CSV)
+  status, lines, err = run.call(["--trials", "3", File.join(sample_data, "demo-1.txt")])
+  assert_equal(0, status, "occurred when checking the status of a recognise-and-learn run (" + err + ")")
+  assert_equal("task,trial,time,pattern,recalled,items,items_recalled,ltm_size", lines[0], "occurred when checking the CSV header")
+  assert_equal(1 + (3 * 8), lines.size, "occurred when checking the number of CSV rows")
+  
+  # Recall should not get worse with more trials.
+  recalled_per_trial = Hash.new(0)
+  lines.drop(1).each{|line| fields = line.split(","); recalled_per_trial[fields[1].to_i] += fields[6].to_i}
+  assert_true(recalled_per_trial[1] <= recalled_per_trial[2] && recalled_per_trial[2] <= recalled_per_trial[3], "occurred when checking the items recalled per trial")
+  
+  ##### paired-associate (JSON)
+  status, lines, err = run.call(["--format", "json", "--trials", "2", "--presentation-time", "100", File.join(sample_data, "paired-associate-1.txt")])
+  assert_equal(0, status, "occurred when checking the status of a paired-associate run (" + err + ")")
+  assert_equal(2 * 3, lines.size, "occurred when checking the number of JSON records")
+  assert_true(lines.all?{|line| line.start_with?('{"task":"paired-associate","trial":') && line.end_with?("}")}, "occurred when checking the JSON records")
+  
+  ##### Seeded runs are reproducible
+  seeded_args = ["--shuffle", "--seed", "7", "--trials", "3", File.join(sample_data, "paired-associate-1.txt")]
+  status, lines, err = run.call(seeded_args)
+  assert_equal(0, status, "occurred when checking the status of a seeded run (" + err + ")")
+  assert_equal(lines, run.call(seeded_args)[1], "occurred when checking the output of seeded runs")
+  
+  ##### Errors
+  assert_equal(1, run.call([File.join(sample_data, "visual-search.txt")])[0], "occurred when checking the status of an unsupported task")
+  assert_equal(1, run.call(["--format", "xml", File.join(sample_data, "demo-1.txt")])[0], "occurred when checking the status of an unknown format")
+  assert_equal(1, run.call(["--trials", "-1", File.join(sample_data, "demo-1.txt")])[0], "occurred when checking the status of an invalid number of trials")
+  assert_equal(1, run.call([])[0], "occurred when checking the status when no data file is specified")
+  assert_equal(1, run.call(["--seed", "x", File.join(sample_data, "demo-1.txt")])[0], "occurred when checking the status of an invalid seed")
+  assert_equal(1, run.call(["--modality", "smell", File.join(sample_data, "demo-1.txt")])[0], "occurred when checking the status of an unknown modality")
+  
+  status, lines, err = run.call(["--trails", "5", File.join(sample_data, "demo-1.txt")])
+  assert_equal(1, status, "occurred when checking the status of an unknown option")
+  assert_true(err.start_with?("Unknown option: --trails\nUsage:"), "occurred when checking the error reported for an unknown option")
+  assert_equal([], lines, "occurred when checking the output of a run with an unknown option")
+  
+  ##### Invalid arguments do not overwrite the output file
+  output_file = java.io.File.createTempFile("batch", ".csv")
+  begin
+    File.write(output_file.getPath(), "previous results\n")
+    for args in [
+      ["--output", output_file.getPath(), "--trials", "x", File.join(sample_data, "demo-1.txt")],
+      ["--trials", "2", "--output", output_file.getPath(), "--format", "xml", File.join(sample_data, "demo-1.txt")],
+      ["--output", output_file.getPath(), File.join(sample_data, "visual-search.txt")],
+      ["--output", output_file.getPath(), File.join(sample_data, "no-such-file.txt")]
+    ]
+      assert_equal(1, run.call(args)[0], "occurred when checking the status of a run with arguments " + args.to_s)
+      assert_equal("previous results\n", File.read(output_file.getPath()), "occurred when checking the output file after a run with arguments " + args.to_s)
+    end
+    
+    assert_equal(0, run.call(["--output", output_file.getPath(), File.join(sample_data, "demo-1.txt")])[0], "occurred when checking the status of a run with an output file")
+    assert_equal("task,trial,time,pattern,recalled,items,items_recalled,ltm_size", File.read(output_file.getPath()).lines.first.chomp, "occurred when checking the output file written")
+  ensure
+    output_file.delete()
+  end
+end
@@ -1979,6 +1979,79 @@ unit_test "get_bishop_moves" do
   end
 end
 
+################################################################################
+# Checks that the moves generated using ChessBitboards, and the number of 
+# squares considered when generating them, are the same as those generated by
+# the ChessDomain move generation functions for every piece on a number of 
+# randomly constructed boards, some of whose squares are blind.  Also checks 
+# that a ChessBoard's bitboards are cached until its contents change.
+unit_test "bitboards" do
+  random = Random.new(11)
+  pieces = ["p", "n", "b", "r", "q", "k", "P", "N", "B", "R", "Q", "K"]
+  
+  for board_number in 1..50
+    board = ChessBoard.new("board")
+    for col in 0...8
+      for row in 0...8
+        object_type = 
+          random.rand < 0.1 ? Scene.getBlindSquareToken() :
+          random.rand < 0.5 ? Scene.getEmptySquareToken() :
+          pieces[random.rand(pieces.length)]
+        board.addObjectToSquare(col, row, ChessObject.new(object_type))
+      end
+    end
+    
+    bitboards = board.getBitboards()
+    for col in 0...8
+      for row in 0...8
+        object_type = board.getSquareContents(col, row).getObjectType()
+        square = ChessBitboards.getSquareIndex(col, row)
+        
+        if !pieces.include?(object_type)
+          exception_thrown = false
+          begin
+            bitboards.getMoves(square)
+          rescue
+            exception_thrown = true
+          end
+          assert_true(exception_thrown, "occurred when checking if an exception is thrown for square (#{col}, #{row}) on board #{board_number}")
+        else
+          expected = 
+            case object_type.downcase
+            when "p" then ChessDomain.getPawnMoves(board, Square.new(col, row))
+            when "n" then ChessDomain.getKnightMoves(board, Square.new(col, row))
+            when "b" then ChessDomain.getBishopMoves(board, Square.new(col, row))
+            when "r" then ChessDomain.getRookMoves(board, Square.new(col, row))
+            when "q" then ChessDomain.getQueenMoves(board, Square.new(col, row))
+            when "k" then ChessDomain.getKingMoves(board, Square.new(col, row))
+            end
+          
+          expected_moves = expected[0].to_a.map{|move| ChessBitboards.getSquareIndex(move.getColumn(), move.getRow())}.sort
+          moves = bitboards.getMoves(square)
+          actual_moves = (0...64).select{|i| (moves >> i) & 1 == 1}
+          
+          assert_equal(expected_moves, actual_moves, "occurred when checking the moves of #{object_type} on (#{col}, #{row}) on board #{board_number}")
+          assert_equal(expected[1], bitboards.getSquaresConsidered(square), "occurred when checking the squares considered by #{object_type} on (#{col}, #{row}) on board #{board_number}")
+          
+          for n in 0...actual_moves.size
+            assert_equal(actual_moves[n], ChessBitboards.getNthSquare(moves, n), "occurred when checking move #{n} of #{object_type} on (#{col}, #{row}) on board #{board_number}")
+          end
+        end
+      end
+    end
+  end
+  
+  # Check caching.
+  board = ChessDomain.constructBoard("......../......../......../......../......../......../......../R.......")
+  bitboards = board.getBitboards()
+  assert_true(bitboards.equal?(board.getBitboards()), "occurred when checking if bitboards are cached")
+  assert_equal(14, java.lang.Long.bitCount(bitboards.getMoves(0)), "occurred when checking the moves of a rook on an empty board")
+  
+  board.addObjectToSquare(0, 1, ChessObject.new("p"))
+  assert_false(bitboards.equal?(board.getBitboards()), "occurred when checking if bitboards are discarded when the board changes")
+  assert_equal(8, java.lang.Long.bitCount(board.getBitboards().getMoves(0)), "occurred when checking the moves of a rook blocked by a pawn")
+end
+
 ################################################################################
 unit_test "constructor" do
   model = Chrest.new(0, false)
@@ -2134,12 +2207,35 @@ unit_test "normalisation" do
     end
   end
 
-  normalised_list_pattern = ChessDomain.new(Chrest.new(0, false), 4, 3, 8, 0, 0).normalise(list_pattern)
+  # Add duplicates and blind, empty and unknown squares: these should be 
+  # removed.
+  list_pattern.add(ItemSquarePattern.new("q", 0, 2))
+  list_pattern.add(ItemSquarePattern.new(Scene.getBlindSquareToken(), 3, 3))
+  list_pattern.add(ItemSquarePattern.new("P", 1, 0))
+  list_pattern.add(ItemSquarePattern.new(Scene.getEmptySquareToken(), 4, 4))
+  list_pattern.add(ItemSquarePattern.new(VisualSpatialFieldObject.getUnknownSquareToken(), 5, 5))
+
+  chess_domain = ChessDomain.new(Chrest.new(0, false), 4, 3, 8, 0, 0)
+  normalised_list_pattern = chess_domain.normalise(list_pattern)
   
   assert_equal(
     normalised_list_pattern.to_s,
     expected_list_pattern.to_s
   )
+  
+  # Coordinates that are too large to pack into the keys sorted should still be
+  # normalised.
+  list_pattern = ListPattern.new
+  list_pattern.add(ItemSquarePattern.new("r", 100000, 1))
+  list_pattern.add(ItemSquarePattern.new("P", 2, -100000))
+  list_pattern.add(ItemSquarePattern.new("r", 100000, 1))
+  list_pattern.add(ItemSquarePattern.new("P", 1, 3))
+  
+  assert_equal(
+    "< [P 1 3] [P 2 -100000] [r 100000 1] >",
+    chess_domain.normalise(list_pattern).to_s,
+    "occurred when checking normalisation of large coordinates"
+  )
 end
 
 ################################################################################
@@ -2173,10 +2269,6 @@ unit_test "get_non_initial_fixation_in_set" do
     field_accessor :_scene, :_performanceTime, :_timeDecidedUpon, :_performed, :_colFixatedOn, :_rowFixatedOn, :_objectSeen
   }
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   # Scene dimensions need to be accessed at times, grant access here.
   scene_width_field = Scene.java_class.declared_field("_width")
   scene_width_field.accessible = true
@@ -2289,7 +2381,7 @@ unit_test "get_non_initial_fixation_in_set" do
       fixation._scene = board
       fixation._colFixatedOn = 0
       fixation._rowFixatedOn = 1
-      fixation._objectSeen = board._scene.get(fixation._colFixatedOn).get(fixation._rowFixatedOn)
+      fixation._objectSeen = board.getSquareContents(fixation._colFixatedOn, fixation._rowFixatedOn)
       # The value that fixation._objectSeen above is a good example of the 
       # nonsensical value setting mentioned in the preamble to this test.
 
@@ -2481,7 +2573,7 @@ unit_test "get_non_initial_fixation_in_set" do
       fixation._scene = board
       fixation._colFixatedOn = rand(0...scene_width_field.value(board))
       fixation._rowFixatedOn =  rand(0...scene_height_field.value(board))
-      fixation._objectSeen = board._scene.get(fixation._colFixatedOn).get(fixation._rowFixatedOn)
+      fixation._objectSeen = board.getSquareContents(fixation._colFixatedOn, fixation._rowFixatedOn)
       # The value that fixation._objectSeen above is a good example of the 
       # nonsensical value setting mentioned in the preamble to this test.
   
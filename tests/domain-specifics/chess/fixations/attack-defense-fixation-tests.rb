@@ -128,10 +128,6 @@ unit_test "constructor" do
     field_accessor :_timeToAccessVisualSpatialField, :_timeToMoveVisualSpatialFieldObject
   }
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   # Need access to all private Fixation instance variables except 
   # "_timeDecidedUpon" so make them all writable from Ruby.
   Fixation.class_eval{ 
@@ -215,7 +211,7 @@ unit_test "constructor" do
       for col in 0...scene_to_make_fixation_in_context_of.getWidth()
         for row in 0...scene_to_make_fixation_in_context_of.getHeight()
           piece = ChessObject.new(Scene.getBlindSquareToken())
-          scene_to_make_fixation_in_context_of._scene.get(col).set(row, piece)
+          scene_to_make_fixation_in_context_of.addObjectToSquare(col, row, piece)
         end
       end 
     end
@@ -236,7 +232,7 @@ unit_test "constructor" do
                 "P" : 
                 "p"
             )
-            scene_to_make_fixation_in_context_of._scene.get(col).set(row, piece)
+            scene_to_make_fixation_in_context_of.addObjectToSquare(col, row, piece)
           end
         end
       end 
@@ -552,10 +548,6 @@ end
 #   - Have the Square to fixate on not be a blind square.
 unit_test "make" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   # Need access to the private AttackDefenseFixation instance variable that 
   # stores the Square to fixate on
   AttackDefenseFixation.class_eval{
@@ -585,7 +577,7 @@ unit_test "make" do
     if scenario == 2
       for col in 0...chess_board_that_fixation_is_to_be_made_in_context_of.getWidth()
         for row in 0...chess_board_that_fixation_is_to_be_made_in_context_of.getHeight()
-          chess_board_that_fixation_is_to_be_made_in_context_of._scene.get(col).set(row, SceneObject.new(Scene.getBlindSquareToken()))
+          chess_board_that_fixation_is_to_be_made_in_context_of.addObjectToSquare(col, row, SceneObject.new(Scene.getBlindSquareToken()))
         end
       end
     end
@@ -628,7 +620,7 @@ unit_test "make" do
         ).getIdentifier())
       end
       
-      chess_board_that_fixation_is_to_be_made_in_context_of._scene.get(square_to_fixate_on.getColumn()).set(
+      chess_board_that_fixation_is_to_be_made_in_context_of.addObjectToSquare(square_to_fixate_on.getColumn(), 
         square_to_fixate_on.getRow(),
         object
       )
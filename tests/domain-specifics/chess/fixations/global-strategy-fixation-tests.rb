@@ -105,10 +105,6 @@ end
 # 
 unit_test "make" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   for performance_time in 1..3
     for scenario in 1..19
       
@@ -150,7 +146,7 @@ unit_test "make" do
       if scenario == 4
         for col in 0...scene.getWidth()
           for row in 0...scene.getHeight()
-            scene._scene.get(col).set(row, SceneObject.new(Scene.getBlindSquareToken()))
+            scene.addObjectToSquare(col, row, SceneObject.new(Scene.getBlindSquareToken()))
           end
         end
       end
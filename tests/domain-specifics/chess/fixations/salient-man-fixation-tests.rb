@@ -82,10 +82,6 @@ end
 #     on
 unit_test "make" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   for invocation_time in 1..3
     for scenario in 1..6
       
@@ -183,7 +179,7 @@ unit_test "make" do
       if scenario == 1
         for col in 0...scene.getWidth()
           for row in 0...scene.getHeight()
-            scene._scene.get(col).set(row, SceneObject.new(Scene.getBlindSquareToken()))
+            scene.addObjectToSquare(col, row, SceneObject.new(Scene.getBlindSquareToken()))
           end
         end
       end
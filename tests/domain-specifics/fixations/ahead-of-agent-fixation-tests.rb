@@ -42,10 +42,6 @@ unit_test "make" do
   ##### SET-UP PRIVATE INSTANCE FIELD ACCESS #####
   ################################################
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   Fixation.class_eval{
     field_accessor :_performanceTime
   }
@@ -61,7 +57,7 @@ unit_test "make" do
     ###########################
     
     scene = Scene.new("", 5, (scenario == 3 ? 3 : 5), 2, 2, nil)
-    if scenario != 2 then scene._scene.get(2).set(2, SceneObject.new(Scene::CREATOR_TOKEN)) end
+    if scenario != 2 then scene.addObjectToSquare(2, 2, SceneObject.new(Scene::CREATOR_TOKEN)) end
   
     ###################################################################
     ##### CONSTRUCT AheadOfAgentFixation AND SET PERFORMANCE TIME #####
@@ -10,10 +10,6 @@ end
 
 unit_test "make" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   time = 0
   fixation = CentralFixation.new(time, 0)
   fixation.setPerformanceTime(fixation.getTimeDecidedUpon() + 100)
@@ -1911,7 +1907,7 @@ def get_scenario_details(scenario)
       end
       
       if !square_should_be_blind
-        scene._scene.get(col).set(row, SceneObject.new(empty))
+        scene.addObjectToSquare(col, row, SceneObject.new(empty))
       end
       
     end
@@ -106,9 +106,6 @@ end
 #   - Previous fixation looked at same Square as that proposed in new fixation
 unit_test "make" do
   
-  scene_field = Scene.java_class.declared_field("_scene")
-  scene_field.accessible = true
-  
   Node.class_eval{
     field_accessor :_childHistory
   }
@@ -163,12 +160,11 @@ unit_test "make" do
       #         4    5    6        4     5    6
       #         0    1    2        0     1    2
       if scenario != 4
-        scene_state = scene_field.value(scene)
-        scene_state.get(0).set(0, SceneObject.new("1", "T"))
+        scene.addObjectToSquare(0, 0, SceneObject.new("1", "T"))
         scenario == 10 ? 
-          scene_state.get(1).set(1, SceneObject.new(Scene::BLIND_SQUARE_TOKEN)) :
-          scene_state.get(1).set(1, SceneObject.new("2", "H"))
-        if repeat == 2 then scene_state.get(0).set(2, SceneObject.new("0", Scene::CREATOR_TOKEN)) end
+          scene.addObjectToSquare(1, 1, SceneObject.new(Scene::BLIND_SQUARE_TOKEN)) :
+          scene.addObjectToSquare(1, 1, SceneObject.new("2", "H"))
+        if repeat == 2 then scene.addObjectToSquare(0, 2, SceneObject.new("0", Scene::CREATOR_TOKEN)) end
       end
 
       ########################
@@ -291,7 +287,7 @@ unit_test "make" do
         prev_fixation._scene = scene 
         prev_fixation._colFixatedOn = 1 
         prev_fixation._rowFixatedOn = 1
-        prev_fixation._objectSeen = scene_field.value(scene).get(1).get(1)
+        prev_fixation._objectSeen = scene.getSquareContents(1, 1)
         
         current_fixations = perceiver_fixations.value(model.getPerceiver())
         fixations = ArrayList.new()
@@ -264,10 +264,6 @@ unit_test "make" do
     field_writer :_performanceTime, :_performed, :_scene, :_colFixatedOn, :_rowFixatedOn
   }
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   for performance_time in 1..3
     for scenario in 1..13
 
@@ -295,7 +291,7 @@ unit_test "make" do
         empty = Scene.getEmptySquareToken()
         for col in 0...first_fixation_scene.getWidth()
           for row in 0...first_fixation_scene.getHeight()
-            first_fixation_scene._scene.get(col).set(row, SceneObject.new(empty))
+            first_fixation_scene.addObjectToSquare(col, row, SceneObject.new(empty))
           end
         end
       end
@@ -389,7 +385,7 @@ unit_test "make" do
           for row in 0...peripheral_item_fixation_scene.getHeight()
 
             if col != 2 and row != 2 
-              peripheral_item_fixation_scene._scene.get(col).set(row, SceneObject.new(object_id.to_s, object_class))
+              peripheral_item_fixation_scene.addObjectToSquare(col, row, SceneObject.new(object_id.to_s, object_class))
             end
 
             object_id+=1
@@ -214,10 +214,6 @@ unit_test "make" do
     field_accessor :_performanceTime, :_performed, :_scene, :_colFixatedOn, :_rowFixatedOn
   }
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   chrest_perceiver_field = Chrest.java_class.declared_field("_perceiver")
   chrest_perceiver_field.accessible = true
   
@@ -262,9 +258,9 @@ unit_test "make" do
         # For scenario 9, first_fixation_scene should remain entirely blind 
         # otherwise, make it entirely empty.
         if scenario != 9
-          for col in 0...(previous_fixation_scene._scene.size())
-            for row in 0...(previous_fixation_scene._scene.get(col).size())
-              previous_fixation_scene._scene.get(col).set(row, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN))
+          for col in 0...(previous_fixation_scene.getWidth())
+            for row in 0...(previous_fixation_scene.getHeight())
+              previous_fixation_scene.addObjectToSquare(col, row, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN))
             end
           end
         end
@@ -272,7 +268,7 @@ unit_test "make" do
         # If the model is learning object locations relative to itself, encode 
         # the creator on the Square appropriately.
         if model_learning_object_locations_relative_to_self
-          previous_fixation_scene._scene.get(2).set(1, SceneObject.new(Scene::CREATOR_TOKEN))
+          previous_fixation_scene.addObjectToSquare(2, 1, SceneObject.new(Scene::CREATOR_TOKEN))
         end
 
         # Construct previous Fixation
@@ -386,13 +382,13 @@ unit_test "make" do
             row = (previous_fixation._rowFixatedOn == nil ? 2 : previous_fixation._rowFixatedOn + 1)
           end
           
-          scene_to_fixate_on._scene.get(col).set(row, scene_object)
+          scene_to_fixate_on.addObjectToSquare(col, row, scene_object)
         end
         
         # Encode the creator on the Scene if the model is learning object 
         # locations relative to itself.
         if model_learning_object_locations_relative_to_self 
-          scene_to_fixate_on._scene.get(2).set(1, SceneObject.new(Scene::CREATOR_TOKEN))
+          scene_to_fixate_on.addObjectToSquare(2, 1, SceneObject.new(Scene::CREATOR_TOKEN))
         end
 
         #################
@@ -5,10 +5,6 @@
 # is entirely blind after construction if no illegal arguments are specified.
 unit_test "constructor" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   scene_height_field = Scene.java_class.declared_field("_height")
   scene_width_field = Scene.java_class.declared_field("_width")
   scene_height_field.accessible = true
@@ -38,7 +34,7 @@ unit_test "constructor" do
     if repeat == 3
       for col in 0...scene_width_field.value(scene)
         for row in 0...scene_height_field.value(scene)
-          object = scene._scene.get(col).get(row)
+          object = scene.getSquareContents(col, row)
           #Can't check identifier since this will be assigned randomly.
           assert_equal(Scene.getBlindSquareToken, object.getObjectType, "occurred when checking the type of the item on col " + col.to_s + " and row " + row.to_s)
         end
@@ -73,10 +69,6 @@ end
 #                 |------|
 #      0      1       2     3      4
 unit_test "add_object_to_square" do
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   scene_height_field = Scene.java_class.declared_field("_height")
   scene_width_field = Scene.java_class.declared_field("_width")
   scene_height_field.accessible = true
@@ -121,7 +113,7 @@ unit_test "add_object_to_square" do
       if col == 3 && row == 2 then expected_identifier, expected_object_type = "3", "b" end
       if col == 4 && row == 2 then expected_object_type = Scene.getEmptySquareToken() end
       
-      scene_object = scene._scene.get(col).get(row)
+      scene_object = scene.getSquareContents(col, row)
       if expected_identifier!= nil
         assert_equal(expected_identifier, scene_object_identifier_field.value(scene_object))
       end
@@ -287,13 +279,9 @@ end
 ################################################################################
 unit_test "get-square-contents" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   scene = Scene.new("test", 2, 2, 0, 0, nil)
-  scene._scene.get(1).set(0, SceneObject.new("0", "a"))
-  scene._scene.get(1).set(1, SceneObject.new(Scene.getEmptySquareToken()))
+  scene.addObjectToSquare(1, 0, SceneObject.new("0", "a"))
+  scene.addObjectToSquare(1, 1, SceneObject.new(Scene.getEmptySquareToken()))
   
   for row in 0..1
     for col in 0..1
@@ -324,14 +312,10 @@ end
 ################################################################################
 unit_test "get-square-contents-as-list-pattern" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   scene = Scene.new("test", 3, 3, 0, 0, nil)
-  scene._scene.get(1).set(0, SceneObject.new("1", "a"))
-  scene._scene.get(1).set(1, SceneObject.new("0", Scene.getCreatorToken()))
-  scene._scene.get(2).set(2, SceneObject.new(Scene.getEmptySquareToken()))
+  scene.addObjectToSquare(1, 0, SceneObject.new("1", "a"))
+  scene.addObjectToSquare(1, 1, SceneObject.new("0", Scene.getCreatorToken()))
+  scene.addObjectToSquare(2, 2, SceneObject.new(Scene.getEmptySquareToken()))
   
   for row in 0..2
     for col in 0..2
@@ -377,21 +361,17 @@ end
 #       have randomly generated identifiers.
 unit_test "get-as-list-pattern" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   scene = Scene.new("test", 5, 3, 0, 0, nil)
   
-  scene._scene.get(2).set(0, SceneObject.new("0", Scene.getCreatorToken))
-  scene._scene.get(1).set(1, SceneObject.new(Scene.getEmptySquareToken))
-  scene._scene.get(2).set(1, SceneObject.new("1", "c"))
-  scene._scene.get(3).set(1, SceneObject.new(Scene.getEmptySquareToken))
-  scene._scene.get(0).set(2, SceneObject.new("2", "a"))
-  scene._scene.get(1).set(2, SceneObject.new(Scene.getEmptySquareToken))
-  scene._scene.get(2).set(2, SceneObject.new(Scene.getEmptySquareToken))
-  scene._scene.get(3).set(2, SceneObject.new("3", "b"))
-  scene._scene.get(4).set(2, SceneObject.new(Scene.getEmptySquareToken))
+  scene.addObjectToSquare(2, 0, SceneObject.new("0", Scene.getCreatorToken))
+  scene.addObjectToSquare(1, 1, SceneObject.new(Scene.getEmptySquareToken))
+  scene.addObjectToSquare(2, 1, SceneObject.new("1", "c"))
+  scene.addObjectToSquare(3, 1, SceneObject.new(Scene.getEmptySquareToken))
+  scene.addObjectToSquare(0, 2, SceneObject.new("2", "a"))
+  scene.addObjectToSquare(1, 2, SceneObject.new(Scene.getEmptySquareToken))
+  scene.addObjectToSquare(2, 2, SceneObject.new(Scene.getEmptySquareToken))
+  scene.addObjectToSquare(3, 2, SceneObject.new("3", "b"))
+  scene.addObjectToSquare(4, 2, SceneObject.new(Scene.getEmptySquareToken))
   
   blind = Scene.getBlindSquareToken
   empty = Scene.getEmptySquareToken
@@ -430,10 +410,6 @@ end
 #    scene when compared against another.
 unit_test "compute-errors-of-commission" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   ######################
   ##### Sub-Test 1 #####
   ######################
@@ -459,10 +435,10 @@ unit_test "compute-errors-of-commission" do
   scene1 = Scene.new("test-scene-1", 2, 2, 0, 0, nil)
   scene2 = Scene.new("test-scene-2", 2, 2, 0, 0, nil)
   
-  scene1._scene.get(0).set(0, SceneObject.new("a"))
+  scene1.addObjectToSquare(0, 0, SceneObject.new("a"))
   
-  scene2._scene.get(0).set(0, SceneObject.new("a"))
-  scene2._scene.get(1).set(0, SceneObject.new("b"))
+  scene2.addObjectToSquare(0, 0, SceneObject.new("a"))
+  scene2.addObjectToSquare(1, 0, SceneObject.new("b"))
   
   assert_equal(0, scene1.computeErrorsOfCommission(scene2), "occurred in sub-test 2.")
   
@@ -537,10 +513,6 @@ end
 #    scene when compared against another.
 unit_test "compute-errors-of-omission" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   ######################
   ##### Sub-Test 1 #####
   ######################
@@ -566,10 +538,10 @@ unit_test "compute-errors-of-omission" do
   scene1 = Scene.new("test-scene-1", 2, 2, 0, 0, nil)
   scene2 = Scene.new("test-scene-2", 2, 2, 0, 0, nil)
   
-  scene1._scene.get(0).set(0, SceneObject.new("a"))
-  scene1._scene.get(1).set(0, SceneObject.new("b"))
+  scene1.addObjectToSquare(0, 0, SceneObject.new("a"))
+  scene1.addObjectToSquare(1, 0, SceneObject.new("b"))
   
-  scene2._scene.get(0).set(0, SceneObject.new("a"))
+  scene2.addObjectToSquare(0, 0, SceneObject.new("a"))
   
   assert_equal(0, scene1.computeErrorsOfOmission(scene2), "occurred in sub-test 2.")
   
@@ -641,10 +613,6 @@ end
 #    their object class.
 unit_test "compute-precision" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   ######################
   ##### Sub-Test 1 #####
   ######################
@@ -652,7 +620,7 @@ unit_test "compute-precision" do
   scene1 = Scene.new("test-scene-1", 5, 3, 0, 0, nil)
   
   scene2 = Scene.new("test-scene-2", 5, 3, 0, 0, nil)
-  scene2._scene.get(0).set(0, SceneObject.new("0", "a"))
+  scene2.addObjectToSquare(0, 0, SceneObject.new("0", "a"))
   
   scene3 = Scene.new("test-scene-3", 5, 3, 0, 0, nil)
   
@@ -752,10 +720,6 @@ end
 #    their object class.
 unit_test "compute-recall" do 
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   ######################
   ##### Sub-Test 1 #####
   ######################
@@ -763,7 +727,7 @@ unit_test "compute-recall" do
   scene1 = Scene.new("test-scene-1", 5, 3, 0, 0, nil)
   
   scene2 = Scene.new("test-scene-2", 5, 3, 0, 0, nil)
-  scene2._scene.get(0).set(0, SceneObject.new("0", "a"))
+  scene2.addObjectToSquare(0, 0, SceneObject.new("0", "a"))
   
   scene3 = Scene.new("test-scene-3", 5, 3, 0, 0, nil)
   
@@ -855,6 +819,57 @@ unit_test "compute-recall" do
   assert_equal(1.0, scene1.computeRecall(scene2), "occurred in sub-test 3.")
 end
 
+################################################################################
+# Checks that comparing two Scenes counts items on the same squares and items in
+# both Scenes irrespective of placement (an item that occurs more than once is 
+# only counted as many times as it occurs in both Scenes) and identifies the 
+# squares that differ.  The comparison is then repeated after changing a square
+# to check that the items cached by each Scene are updated.
+unit_test "compare" do
+  scene1 = Scene.new("test-scene-1", 3, 2, 0, 0, nil)
+  scene2 = Scene.new("test-scene-2", 3, 2, 0, 0, nil)
+  
+  # Scene 1        Scene 2
+  # |---|---|---|  |---|---|---|
+  # | * | b | - |  | a | b | . |
+  # |---|---|---|  |---|---|---|
+  # | a | a | . |  | b | a | . |
+  # |---|---|---|  |---|---|---|
+  scene1.addObjectToSquare(0, 0, SceneObject.new("a"))
+  scene1.addObjectToSquare(1, 0, SceneObject.new("a"))
+  scene1.addObjectToSquare(2, 0, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN))
+  scene1.addObjectToSquare(1, 1, SceneObject.new("b"))
+  scene1.addObjectToSquare(2, 1, SceneObject.new(VisualSpatialFieldObject.getUnknownSquareToken()))
+  
+  scene2.addObjectToSquare(0, 0, SceneObject.new("b"))
+  scene2.addObjectToSquare(1, 0, SceneObject.new("a"))
+  scene2.addObjectToSquare(2, 0, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN))
+  scene2.addObjectToSquare(0, 1, SceneObject.new("a"))
+  scene2.addObjectToSquare(1, 1, SceneObject.new("b"))
+  scene2.addObjectToSquare(2, 1, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN))
+  
+  comparison = scene1.compare(scene2)
+  assert_equal(3, comparison.getNumberItemsInScene(), "occurred when checking the number of items in the scene")
+  assert_equal(4, comparison.getNumberItemsInSceneComparedAgainst(), "occurred when checking the number of items in the scene compared against")
+  assert_equal(2, comparison.getNumberItemsOnSameSquares(), "occurred when checking the number of items on the same squares")
+  assert_equal(3, comparison.getNumberItemsInBothScenes(), "occurred when checking the number of items in both scenes")
+  assert_equal("[(0, 0), (0, 1), (2, 1)]", comparison.getSquaresThatDiffer().to_s, "occurred when checking the squares that differ")
+  assert_equal(scene1.computePrecision(scene2), comparison.getPrecision(), "occurred when checking precision")
+  assert_equal(scene1.computeRecall(scene2), comparison.getRecall(), "occurred when checking recall")
+  assert_equal(0, comparison.getErrorsOfCommission(), "occurred when checking errors of commission")
+  assert_equal(1, comparison.getErrorsOfOmission(), "occurred when checking errors of omission")
+  
+  scene1.addObjectToSquare(0, 1, SceneObject.new("a"))
+  scene1.addObjectToSquare(0, 0, SceneObject.new("b"))
+  assert_equal("< [b 0 0] >", scene1.getSquareContentsAsListPattern(0, 0).to_s, "occurred when checking the pattern of a changed square")
+  
+  comparison = scene1.compare(scene2)
+  assert_equal(4, comparison.getNumberItemsOnSameSquares(), "occurred when checking the number of items on the same squares after changing the scene")
+  assert_equal(4, comparison.getNumberItemsInBothScenes(), "occurred when checking the number of items in both scenes after changing the scene")
+  assert_equal(1, comparison.getNumberSquaresThatDiffer(), "occurred when checking the number of squares that differ after changing the scene")
+  assert_equal(1.0, comparison.getRecall(), "occurred when checking recall after changing the scene")
+end
+
 # Blind square identifier not publicly settable so not possible to test 
 # "getBlindSquareToken" accurately.
 
@@ -884,10 +899,6 @@ end
 # The function should return false for every scenario except 8.
 unit_test "equals" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   for scenario in 1..8
     
     scene = Scene.new("", 5, 5, 4, 4, nil)
@@ -907,9 +918,9 @@ unit_test "equals" do
         )
       )
       
-    scene._scene.get(0).set(0, SceneObject.new("3", "T"))
+    scene.addObjectToSquare(0, 0, SceneObject.new("3", "T"))
     if comparison_scene != nil 
-      comparison_scene._scene.get(scenario == 7 ? 2 : 0).set(0, SceneObject.new("3", "T"))
+      comparison_scene.addObjectToSquare(scenario == 7 ? 2 : 0, 0, SceneObject.new("3", "T"))
     end
       
     assert_equal(
@@ -1038,50 +1049,46 @@ end
 #      0      1      2      3      4      
 unit_test "get_location_of_self" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   blind = Scene.getBlindSquareToken
   empty = Scene.getEmptySquareToken
   
   scene_with_creator = Scene.new("", 5, 5, 0, 0, nil)
-  scene_with_creator._scene.get(1).set(0, SceneObject.new(empty))
-  scene_with_creator._scene.get(2).set(0, SceneObject.new("1", "f"))
-  scene_with_creator._scene.get(3).set(0, SceneObject.new(empty))
-  scene_with_creator._scene.get(0).set(1, SceneObject.new(empty))
-  scene_with_creator._scene.get(2).set(1, SceneObject.new("2", "a"))
-  scene_with_creator._scene.get(4).set(1, SceneObject.new(empty))
-  scene_with_creator._scene.get(0).set(2, SceneObject.new(empty))
-  scene_with_creator._scene.get(1).set(2, SceneObject.new("3", "b"))
-  scene_with_creator._scene.get(2).set(2, SceneObject.new("0", Scene.getCreatorToken()))
-  scene_with_creator._scene.get(3).set(2, SceneObject.new("4", "e"))
-  scene_with_creator._scene.get(4).set(2, SceneObject.new(empty))
-  scene_with_creator._scene.get(0).set(3, SceneObject.new(empty))
-  scene_with_creator._scene.get(2).set(3, SceneObject.new("5", "d"))
-  scene_with_creator._scene.get(4).set(3, SceneObject.new(empty))
-  scene_with_creator._scene.get(1).set(4, SceneObject.new(empty))
-  scene_with_creator._scene.get(2).set(4, SceneObject.new("6", "g"))
-  scene_with_creator._scene.get(3).set(4, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(1, 0, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(2, 0, SceneObject.new("1", "f"))
+  scene_with_creator.addObjectToSquare(3, 0, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(0, 1, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(2, 1, SceneObject.new("2", "a"))
+  scene_with_creator.addObjectToSquare(4, 1, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(0, 2, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(1, 2, SceneObject.new("3", "b"))
+  scene_with_creator.addObjectToSquare(2, 2, SceneObject.new("0", Scene.getCreatorToken()))
+  scene_with_creator.addObjectToSquare(3, 2, SceneObject.new("4", "e"))
+  scene_with_creator.addObjectToSquare(4, 2, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(0, 3, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(2, 3, SceneObject.new("5", "d"))
+  scene_with_creator.addObjectToSquare(4, 3, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(1, 4, SceneObject.new(empty))
+  scene_with_creator.addObjectToSquare(2, 4, SceneObject.new("6", "g"))
+  scene_with_creator.addObjectToSquare(3, 4, SceneObject.new(empty))
   
   scene_without_creator = Scene.new("", 5, 5, 0, 0, nil)
-  scene_without_creator._scene.get(1).set(0, SceneObject.new(empty))
-  scene_without_creator._scene.get(2).set(0, SceneObject.new("1", "f"))
-  scene_without_creator._scene.get(3).set(0, SceneObject.new(empty))
-  scene_without_creator._scene.get(0).set(1, SceneObject.new(empty))
-  scene_without_creator._scene.get(2).set(1, SceneObject.new("2", "a"))
-  scene_without_creator._scene.get(4).set(1, SceneObject.new(empty))
-  scene_without_creator._scene.get(0).set(2, SceneObject.new(empty))
-  scene_without_creator._scene.get(1).set(2, SceneObject.new("3", "b"))
-  scene_without_creator._scene.get(2).set(2, SceneObject.new("0", "c"))
-  scene_without_creator._scene.get(3).set(2, SceneObject.new("4", "e"))
-  scene_without_creator._scene.get(4).set(2, SceneObject.new(empty))
-  scene_without_creator._scene.get(0).set(3, SceneObject.new(empty))
-  scene_without_creator._scene.get(2).set(3, SceneObject.new("5", "d"))
-  scene_without_creator._scene.get(4).set(3, SceneObject.new(empty))
-  scene_without_creator._scene.get(1).set(4, SceneObject.new(empty))
-  scene_without_creator._scene.get(2).set(4, SceneObject.new("6", "g"))
-  scene_without_creator._scene.get(3).set(4, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(1, 0, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(2, 0, SceneObject.new("1", "f"))
+  scene_without_creator.addObjectToSquare(3, 0, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(0, 1, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(2, 1, SceneObject.new("2", "a"))
+  scene_without_creator.addObjectToSquare(4, 1, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(0, 2, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(1, 2, SceneObject.new("3", "b"))
+  scene_without_creator.addObjectToSquare(2, 2, SceneObject.new("0", "c"))
+  scene_without_creator.addObjectToSquare(3, 2, SceneObject.new("4", "e"))
+  scene_without_creator.addObjectToSquare(4, 2, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(0, 3, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(2, 3, SceneObject.new("5", "d"))
+  scene_without_creator.addObjectToSquare(4, 3, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(1, 4, SceneObject.new(empty))
+  scene_without_creator.addObjectToSquare(2, 4, SceneObject.new("6", "g"))
+  scene_without_creator.addObjectToSquare(3, 4, SceneObject.new(empty))
   
   assert_equal(Square.new(2, 2).toString(), scene_with_creator.getLocationOfCreator().toString(), "occurred when scene creator is present in scene.")
   assert_equal(nil, scene_without_creator.getLocationOfCreator(), "occurred when scene creator is not present in scene.")
@@ -1142,14 +1149,6 @@ unit_test "is_blind" do
     # SceneObjects with different types in scenario 3
     scene = Scene.new("", 70, 70, 0, 0, nil)
 
-    # Need access to the private, final "_scene" Scene variable so that other
-    # methods aren't relied upon (if they change this test may break).  So, 
-    # since the variable is final, a "class_eval" construct won't allow access
-    # to the variable so its accessibility must be set manually.
-    scene_field = scene.java_class.declared_field("_scene")
-    scene_field.accessible = true
-    scene_data_structure = scene_field.value(scene)
-
     # Populate a data structure with object types to use when populating the
     # Scene with SceneObjects
     scene_object_types = []
@@ -1163,22 +1162,22 @@ unit_test "is_blind" do
     end
     
     # Populate the Scene with SceneObjects.
-    for col in 0...scene_data_structure.size()
-      for row in 0...scene_data_structure.get(col).size()
-        scene_data_structure.get(col).set(row, SceneObject.new(scene_object_types.sample))
+    for col in 0...scene.getWidth()
+      for row in 0...scene.getHeight()
+        scene.addObjectToSquare(col, row, SceneObject.new(scene_object_types.sample))
       end
     end
     
     # In scenario 2, add 1 creator SceneObject to the Scene.
-    if scenario == 2 then scene_data_structure.get(34).set(34, SceneObject.new(Scene::CREATOR_TOKEN)) end
+    if scenario == 2 then scene.addObjectToSquare(34, 34, SceneObject.new(Scene::CREATOR_TOKEN)) end
     
     # In scenario 3, add 1 creator SceneObject to the Scene and 1 blind 
     # SceneObject to the Scene so that the test can verify that the Scene must 
     # consist *entirely* of blind SceneObjects and a creator SceneObject for 
     # the function to return true.
     if scenario == 3 
-      scene_data_structure.get(0).set(0, SceneObject.new(Scene.getBlindSquareToken))
-      scene_data_structure.get(34).set(34, SceneObject.new(Scene::CREATOR_TOKEN))
+      scene.addObjectToSquare(0, 0, SceneObject.new(Scene.getBlindSquareToken))
+      scene.addObjectToSquare(34, 34, SceneObject.new(Scene::CREATOR_TOKEN))
     end
     
     ################
@@ -1197,30 +1196,26 @@ end
 ################################################################################
 unit_test "is_square_blind" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   empty = Scene.getEmptySquareToken
   
   scene = Scene.new("", 5, 5, 0, 0, nil)
-  scene._scene.get(1).set(0, SceneObject.new(empty))
-  scene._scene.get(2).set(0, SceneObject.new("1", "f"))
-  scene._scene.get(3).set(0, SceneObject.new(empty))
-  scene._scene.get(0).set(1, SceneObject.new(empty))
-  scene._scene.get(2).set(1, SceneObject.new("2", "a"))
-  scene._scene.get(4).set(1, SceneObject.new(empty))
-  scene._scene.get(0).set(2, SceneObject.new(empty))
-  scene._scene.get(1).set(2, SceneObject.new("3", "b"))
-  scene._scene.get(2).set(2, SceneObject.new("0", "c"))
-  scene._scene.get(3).set(2, SceneObject.new("4", "e"))
-  scene._scene.get(4).set(2, SceneObject.new(empty))
-  scene._scene.get(0).set(3, SceneObject.new(empty))
-  scene._scene.get(2).set(3, SceneObject.new("5", "d"))
-  scene._scene.get(4).set(3, SceneObject.new(empty))
-  scene._scene.get(1).set(4, SceneObject.new(empty))
-  scene._scene.get(2).set(4, SceneObject.new("6", "g"))
-  scene._scene.get(3).set(4, SceneObject.new(empty))
+  scene.addObjectToSquare(1, 0, SceneObject.new(empty))
+  scene.addObjectToSquare(2, 0, SceneObject.new("1", "f"))
+  scene.addObjectToSquare(3, 0, SceneObject.new(empty))
+  scene.addObjectToSquare(0, 1, SceneObject.new(empty))
+  scene.addObjectToSquare(2, 1, SceneObject.new("2", "a"))
+  scene.addObjectToSquare(4, 1, SceneObject.new(empty))
+  scene.addObjectToSquare(0, 2, SceneObject.new(empty))
+  scene.addObjectToSquare(1, 2, SceneObject.new("3", "b"))
+  scene.addObjectToSquare(2, 2, SceneObject.new("0", "c"))
+  scene.addObjectToSquare(3, 2, SceneObject.new("4", "e"))
+  scene.addObjectToSquare(4, 2, SceneObject.new(empty))
+  scene.addObjectToSquare(0, 3, SceneObject.new(empty))
+  scene.addObjectToSquare(2, 3, SceneObject.new("5", "d"))
+  scene.addObjectToSquare(4, 3, SceneObject.new(empty))
+  scene.addObjectToSquare(1, 4, SceneObject.new(empty))
+  scene.addObjectToSquare(2, 4, SceneObject.new("6", "g"))
+  scene.addObjectToSquare(3, 4, SceneObject.new(empty))
   
   assert_true(scene.isSquareBlind(0, 0), "occurred when square specified should be blind.")
   assert_false(scene.isSquareBlind(1, 0), "occurred when square specified should be empty.")
@@ -1230,30 +1225,26 @@ end
 ################################################################################
 unit_test "is_square_empty" do
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
-  
   empty = Scene.getEmptySquareToken
   
   scene = Scene.new("", 5, 5, 0, 0, nil)
-  scene._scene.get(1).set(0, SceneObject.new(empty))
-  scene._scene.get(2).set(0, SceneObject.new("1", "f"))
-  scene._scene.get(3).set(0, SceneObject.new(empty))
-  scene._scene.get(0).set(1, SceneObject.new(empty))
-  scene._scene.get(2).set(1, SceneObject.new("2", "a"))
-  scene._scene.get(4).set(1, SceneObject.new(empty))
-  scene._scene.get(0).set(2, SceneObject.new(empty))
-  scene._scene.get(1).set(2, SceneObject.new("3", "b"))
-  scene._scene.get(2).set(2, SceneObject.new("0", "c"))
-  scene._scene.get(3).set(2, SceneObject.new("4", "e"))
-  scene._scene.get(4).set(2, SceneObject.new(empty))
-  scene._scene.get(0).set(3, SceneObject.new(empty))
-  scene._scene.get(2).set(3, SceneObject.new("5", "d"))
-  scene._scene.get(4).set(3, SceneObject.new(empty))
-  scene._scene.get(1).set(4, SceneObject.new(empty))
-  scene._scene.get(2).set(4, SceneObject.new("6", "g"))
-  scene._scene.get(3).set(4, SceneObject.new(empty))
+  scene.addObjectToSquare(1, 0, SceneObject.new(empty))
+  scene.addObjectToSquare(2, 0, SceneObject.new("1", "f"))
+  scene.addObjectToSquare(3, 0, SceneObject.new(empty))
+  scene.addObjectToSquare(0, 1, SceneObject.new(empty))
+  scene.addObjectToSquare(2, 1, SceneObject.new("2", "a"))
+  scene.addObjectToSquare(4, 1, SceneObject.new(empty))
+  scene.addObjectToSquare(0, 2, SceneObject.new(empty))
+  scene.addObjectToSquare(1, 2, SceneObject.new("3", "b"))
+  scene.addObjectToSquare(2, 2, SceneObject.new("0", "c"))
+  scene.addObjectToSquare(3, 2, SceneObject.new("4", "e"))
+  scene.addObjectToSquare(4, 2, SceneObject.new(empty))
+  scene.addObjectToSquare(0, 3, SceneObject.new(empty))
+  scene.addObjectToSquare(2, 3, SceneObject.new("5", "d"))
+  scene.addObjectToSquare(4, 3, SceneObject.new(empty))
+  scene.addObjectToSquare(1, 4, SceneObject.new(empty))
+  scene.addObjectToSquare(2, 4, SceneObject.new("6", "g"))
+  scene.addObjectToSquare(3, 4, SceneObject.new(empty))
   
   assert_false(scene.isSquareEmpty(0, 0), "occurred when square specified should be blind.")
   assert_true(scene.isSquareEmpty(1, 0), "occurred when square specified should be empty.")
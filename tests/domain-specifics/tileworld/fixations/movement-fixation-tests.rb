@@ -221,9 +221,6 @@ unit_test "make" do
     :_objectSeen
   }
   
-  Scene.class_eval{
-    field_accessor :_scene
-  }
   scene_minimum_domain_specific_column_field = Scene.java_class.declared_field("_minimumDomainSpecificColumn")
   scene_minimum_domain_specific_column_field.accessible = true
   scene_minimum_domain_specific_row_field = Scene.java_class.declared_field("_minimumDomainSpecificRow")
@@ -266,7 +263,7 @@ unit_test "make" do
       ##### Construct and place creator
       creator_location = [1,0]
       if scenario >= 19 then creator_location = [] end
-      if !creator_location.empty? then scene._scene.get(creator_location[0]).set(creator_location[1], SceneObject.new(Scene::CREATOR_TOKEN)) end
+      if !creator_location.empty? then scene.addObjectToSquare(creator_location[0], creator_location[1], SceneObject.new(Scene::CREATOR_TOKEN)) end
 
       ##### Construct and place SceneObject to fixate on.
 
@@ -294,7 +291,7 @@ unit_test "make" do
       end
 
       # Construct object to fixate on and place
-      scene._scene.get(object_to_fixate_on_coords[0]).set(object_to_fixate_on_coords[1], SceneObject.new(object_to_fixate_on_type))
+      scene.addObjectToSquare(object_to_fixate_on_coords[0], object_to_fixate_on_coords[1], SceneObject.new(object_to_fixate_on_type))
 
       ##### Construct extra SceneObjects (as required)
       extra_scene_objects = []
@@ -319,7 +316,7 @@ unit_test "make" do
       end
 
       for extra_scene_object in extra_scene_objects
-        scene._scene.get(extra_scene_object[0]).set(extra_scene_object[1], SceneObject.new(extra_scene_object[2]))
+        scene.addObjectToSquare(extra_scene_object[0], extra_scene_object[1], SceneObject.new(extra_scene_object[2]))
       end
 
       ##### Fill in empty Squares
@@ -350,7 +347,7 @@ unit_test "make" do
           # Encode an empty square on the coordinates being processed, if 
           # applicable.
           if encode_empty_square
-            scene._scene.get(col).set(row, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN))
+            scene.addObjectToSquare(col, row, SceneObject.new(Scene::EMPTY_SQUARE_TOKEN))
           end
 
         end
@@ -387,7 +384,7 @@ unit_test "make" do
       # be set to null which is OK since this variable is not used in these
       # scenarios.
       if ![4,5].include?(scenario)
-        previous_fixation._objectSeen = scene._scene.get(previous_fixation._colFixatedOn).get(previous_fixation._rowFixatedOn)
+        previous_fixation._objectSeen = scene.getSquareContents(previous_fixation._colFixatedOn, previous_fixation._rowFixatedOn)
       end
 
       # Advance time so that when the MovementFixation is constructed, the time 
@@ -41,7 +41,6 @@ end
 # - Scenario 3 should return a Fixation whose value can not be predicted but 
 #   will be one of the Squares in the Scene containing a hole/opponent/tile.
 unit_test "make" do
-  Scene.class_eval{field_accessor :_scene}
   scene_width_field = Scene.java_class.declared_field("_width")
   scene_width_field.accessible = true
   scene_height_field = Scene.java_class.declared_field("_height")
@@ -75,7 +74,7 @@ unit_test "make" do
           # Square with cooridnates (0, 0) contain a hole/opponent/tile.
           if scenario == 3 && col == 0 && row == 0 then scene_object_to_encode = potential_scene_objects[rand(3..5)] end
           
-          scene._scene.get(col).set(row, SceneObject.new(scene_object_to_encode))
+          scene.addObjectToSquare(col, row, SceneObject.new(scene_object_to_encode))
           if 
             scene_object_to_encode != Scene::BLIND_SQUARE_TOKEN &&
             scene_object_to_encode != Scene::EMPTY_SQUARE_TOKEN &&
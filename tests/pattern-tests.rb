@@ -138,3 +138,98 @@ process_test "list pattern remove" do
   assert_true pattern.remove(lp3).isEmpty
   assert_true pattern.remove(lp3).isFinished
 end
+
+# Clones of a ListPattern and the results of removing a ListPattern from another
+# share the items of the original.  Check that adding to either the original or
+# the pattern sharing its items does not affect the other and that hash codes 
+# remain consistent with equality after items are added.
+process_test "list patterns sharing items are independent" do
+  original = Pattern.makeVisualList([1,2,3].to_java(:int))
+  clone = original.clone
+  suffix = original.remove(Pattern.makeVisualList([1].to_java(:int)))
+  
+  clone.add(Pattern.makeNumber(4))
+  suffix.add(Pattern.makeNumber(5))
+  
+  assert_true Pattern.makeVisualList([1,2,3].to_java(:int)).equals(original)
+  assert_true Pattern.makeVisualList([1,2,3,4].to_java(:int)).equals(clone)
+  assert_true Pattern.makeVisualList([2,3,5].to_java(:int)).equals(suffix)
+  
+  original.add(Pattern.makeNumber(6))
+  assert_true Pattern.makeVisualList([1,2,3,6].to_java(:int)).equals(original)
+  assert_true Pattern.makeVisualList([1,2,3,4].to_java(:int)).equals(clone)
+  assert_equal(Pattern.makeVisualList([1,2,3,6].to_java(:int)).hashCode, original.hashCode)
+  assert_equal(Pattern.makeVisualList([2,3,5].to_java(:int)).hashCode, suffix.hashCode)
+  
+  sorted = Pattern.makeVisualList([3,1,2].to_java(:int)).sort(
+    java.util.Comparator.comparing{|item| item.getNumber}
+  )
+  assert_true Pattern.makeVisualList([1,2,3].to_java(:int)).equals(sorted)
+end
+
+# Checks that ListPatterns are similar when they share the number of items 
+# specified, that an item occurring more than once is only shared as many times
+# as it occurs in both ListPatterns and that a PatternSimilarity gives the same
+# results when reused to compare one ListPattern with many others.
+process_test "list pattern similarity" do
+  lp1 = Pattern.makeVisualList([1,2,2,3].to_java(:int))
+  lp2 = Pattern.makeVisualList([2,4,2,1,2].to_java(:int))
+  lp3 = Pattern.makeVisualList([5,6].to_java(:int))
+  
+  assert_true lp1.isSimilarTo(lp2, 3)
+  assert_true lp2.isSimilarTo(lp1, 3)
+  assert_false lp1.isSimilarTo(lp2, 4)
+  assert_false lp2.isSimilarTo(lp1, 4)
+  assert_false lp1.isSimilarTo(lp3, 1)
+  assert_true lp1.isSimilarTo(lp3, 0)
+  assert_true ListPattern.new.isSimilarTo(ListPattern.new, 0)
+  assert_false ListPattern.new.isSimilarTo(lp1, 1)
+  
+  similarity = PatternSimilarity.new(lp1)
+  for i in 1..2
+    assert_equal(3, similarity.countSharedItems(lp2, 10), "occurred on comparison " + i.to_s)
+    assert_equal(2, similarity.countSharedItems(lp2, 2), "occurred on comparison " + i.to_s)
+    assert_equal(0, similarity.countSharedItems(lp3, 10), "occurred on comparison " + i.to_s)
+    assert_equal(4, similarity.countSharedItems(lp1, 10), "occurred on comparison " + i.to_s)
+    assert_true(similarity.isSimilarTo(lp2, 3), "occurred on comparison " + i.to_s)
+    assert_false(similarity.isSimilarTo(lp2, 4), "occurred on comparison " + i.to_s)
+  end
+end
+
+# StringPatterns and NumberPatterns are interned so they are equal only if they
+# are the same instance.  Check that this holds when patterns are created by
+# multiple threads concurrently and when patterns are deserialized.
+process_test "string and number patterns are interned" do
+  threads = []
+  patterns_created = java.util.concurrent.ConcurrentLinkedQueue.new
+  8.times do
+    threads << java.lang.Thread.new do
+      1000.times do |i|
+        patterns_created.add(StringPattern.create("interned-" + (i % 50).to_s))
+        patterns_created.add(NumberPattern.create(100000 + (i % 50)))
+      end
+    end
+  end
+  threads.each(&:start)
+  threads.each(&:join)
+
+  for pattern in patterns_created
+    expected_pattern = (pattern.is_a?(StringPattern) ? 
+      StringPattern.create(pattern.getString()) : 
+      NumberPattern.create(pattern.getNumber())
+    )
+    assert_true(
+      java.lang.System.identityHashCode(expected_pattern) == java.lang.System.identityHashCode(pattern),
+      "occurred when checking if " + pattern.toString() + " is interned"
+    )
+  end
+
+  for pattern in [StringPattern.create("abc"), NumberPattern.create(7)]
+    bytes = java.io.ByteArrayOutputStream.new
+    output = java.io.ObjectOutputStream.new(bytes)
+    output.writeObject(pattern)
+    output.close
+    deserialized_pattern = java.io.ObjectInputStream.new(java.io.ByteArrayInputStream.new(bytes.toByteArray())).readObject()
+    assert_true(pattern.equals(deserialized_pattern), "occurred when checking if deserialized " + pattern.toString() + " is interned")
+  end
+end